@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Exception that is thrown when a request is not sent because the concurrency limit of the client was reached and no
+ * permit became free within the maximum wait time. The request can be retried later.
+ *
+ * @since 5.3
+ */
+public class ConcurrencyLimitExceededException extends TransientDataAccessResourceException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int limit;
+
+	public ConcurrencyLimitExceededException(String msg, int limit) {
+		super(msg);
+		this.limit = limit;
+	}
+
+	/**
+	 * @return the concurrency limit at the time the request was rejected
+	 */
+	public int getLimit() {
+		return limit;
+	}
+}
@@ -20,6 +20,8 @@ import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.net.ssl.HostnameVerifier;
@@ -27,6 +29,7 @@ import javax.net.ssl.SSLContext;
 
 import org.springframework.data.elasticsearch.support.HttpHeaders;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Configuration interface exposing common client configuration properties for Elasticsearch clients.
@@ -175,6 +178,160 @@ public interface ClientConfiguration {
 	 */
 	Supplier<HttpHeaders> getHeadersSupplier();
 
+	/**
+	 * @return the HTTP client the Elasticsearch transport is built on.
+	 * @since 5.3
+	 */
+	default TransportType getTransportType() {
+		return TransportType.REST_CLIENT;
+	}
+
+	/**
+	 * @return the format of the bulk request bodies and of the search, get and bulk response bodies.
+	 * @since 5.3
+	 */
+	default ContentFormat getContentFormat() {
+		return ContentFormat.JSON;
+	}
+
+	/**
+	 * @return {@literal true} if request bodies are compressed with gzip and compressed responses are accepted.
+	 * @since 5.3
+	 */
+	default boolean isCompressionEnabled() {
+		return false;
+	}
+
+	/**
+	 * @return the minimum size in bytes of a request body to be compressed when compression is enabled.
+	 * @since 5.3
+	 */
+	default int getCompressionThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @return the maximum number of pooled connections, 0 to use the default of the client.
+	 * @since 5.3
+	 */
+	default int getMaxConnectionsTotal() {
+		return 0;
+	}
+
+	/**
+	 * @return the maximum number of pooled connections to a single node, 0 to use the default of the client.
+	 * @since 5.3
+	 */
+	default int getMaxConnectionsPerRoute() {
+		return 0;
+	}
+
+	/**
+	 * @return the number of IO dispatcher threads, 0 to use the default of the client.
+	 * @since 5.3
+	 */
+	default int getIoThreadCount() {
+		return 0;
+	}
+
+	/**
+	 * @return the maximum time an idle connection is kept alive for reuse, {@literal null} to keep it as long as the
+	 *         server allows.
+	 * @since 5.3
+	 */
+	@Nullable
+	default Duration getKeepAlive() {
+		return null;
+	}
+
+	/**
+	 * @return the time after which idle connections are closed in the background, {@literal null} if idle connections
+	 *         are not evicted.
+	 * @since 5.3
+	 */
+	@Nullable
+	default Duration getMaxIdleTime() {
+		return null;
+	}
+
+	/**
+	 * @return the maximum lifetime of a connection, {@literal null} if connections can be used indefinitely.
+	 * @since 5.3
+	 */
+	@Nullable
+	default Duration getConnectionTimeToLive() {
+		return null;
+	}
+
+	/**
+	 * @return {@literal true} if any of the connection pool options is set.
+	 * @since 5.3
+	 */
+	default boolean isConnectionPoolConfigured() {
+		return getMaxConnectionsTotal() > 0 || getMaxConnectionsPerRoute() > 0 || getIoThreadCount() > 0
+				|| getKeepAlive() != null || getMaxIdleTime() != null || getConnectionTimeToLive() != null;
+	}
+
+	/**
+	 * @return the options of the latency aware node selection, {@link Optional#empty()} if the requests are distributed
+	 *         round-robin over the nodes.
+	 * @since 5.3
+	 */
+	default Optional<LatencyAwareNodeSelection> getLatencyAwareNodeSelection() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the options of the node sniffing, {@link Optional#empty()} if only the configured endpoints are used.
+	 * @since 5.3
+	 */
+	default Optional<NodeSniffing> getNodeSniffing() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the policy for retrying failed requests, {@link Optional#empty()} if failed requests are not retried.
+	 * @since 5.3
+	 */
+	default Optional<RetryPolicy> getRetryPolicy() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the options of the concurrency limit for searches and other reads, {@link Optional#empty()} if their
+	 *         number in flight is not limited.
+	 * @since 5.3
+	 */
+	default Optional<ConcurrencyLimit> getReadConcurrencyLimit() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the options of the concurrency limit for bulk, index and all other requests that are not reads,
+	 *         {@link Optional#empty()} if their number in flight is not limited.
+	 * @since 5.3
+	 */
+	default Optional<ConcurrencyLimit> getWriteConcurrencyLimit() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the options of the hedged reads, {@link Optional#empty()} if reads are sent only once.
+	 * @since 5.3
+	 */
+	default Optional<HedgedReads> getHedgedReads() {
+		return Optional.empty();
+	}
+
+	/**
+	 * @return the metrics that are recorded by the clients created from this configuration,
+	 *         {@link ClientMetrics#noop()} if the configuration does not record metrics.
+	 * @since 5.3
+	 */
+	default ClientMetrics getClientMetrics() {
+		return ClientMetrics.noop();
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 */
@@ -369,6 +526,217 @@ public interface ClientConfiguration {
 		 */
 		TerminalClientConfigurationBuilder withHeaders(Supplier<HttpHeaders> headers);
 
+		/**
+		 * Configure the format of the bodies that are exchanged with Elasticsearch. With a binary format the bodies of bulk
+		 * requests are sent in this format and Elasticsearch is asked to return the responses to search, scroll, get,
+		 * multiget and bulk requests in this format. All other requests and responses use JSON. The binary formats need
+		 * the corresponding Jackson dataformat module on the classpath and a Jackson based {@code JsonpMapper}.
+		 *
+		 * @param contentFormat the format to use, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withContentFormat(ContentFormat contentFormat);
+
+		/**
+		 * Configure the HTTP client the Elasticsearch transport is built on when the clients are created with the
+		 * {@code ElasticsearchClients} factory methods that take a {@link ClientConfiguration}. See {@link TransportType}
+		 * for the options that are supported by the different clients.
+		 *
+		 * @param transportType the HTTP client to use, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withTransportType(TransportType transportType);
+
+		/**
+		 * Enable the gzip compression of all request bodies and ask Elasticsearch to compress the responses.
+		 *
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		default TerminalClientConfigurationBuilder withCompression() {
+			return withCompression(0);
+		}
+
+		/**
+		 * Enable the gzip compression of request bodies and ask Elasticsearch to compress the responses. Request bodies
+		 * that are smaller than the threshold are sent uncompressed as compressing them costs more than it saves. The
+		 * number of compressed bytes is recorded in the {@link ClientMetrics}.
+		 *
+		 * @param threshold the minimum size in bytes of a request body to be compressed, must not be negative
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withCompression(int threshold);
+
+		/**
+		 * Configure the size of the connection pool. The default of the client is 30 connections in total and 10 per node.
+		 * <br/>
+		 * Note: When any of the connection pool options is set, the connection pool is created from this configuration and
+		 * SSL settings made on the {@code HttpAsyncClientBuilder} in a {@link ClientConfigurationCallback} are not used.
+		 * The state of the pool is then available from {@link ClientMetrics#getConnectionPoolStatistics()}.
+		 *
+		 * @param total the maximum number of connections, must be positive
+		 * @param perRoute the maximum number of connections to a single node, must be positive
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withMaxConnections(int total, int perRoute);
+
+		/**
+		 * Configure the number of IO dispatcher threads, the default is the number of available processors. See the note
+		 * at {@link #withMaxConnections(int, int)}.
+		 *
+		 * @param ioThreadCount the number of threads, must be positive
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withIoThreadCount(int ioThreadCount);
+
+		/**
+		 * Configure the maximum time an idle connection is kept for reuse. A shorter keep-alive time sent by the server is
+		 * respected. See the note at {@link #withMaxConnections(int, int)}.
+		 *
+		 * @param keepAlive the keep-alive time, must be positive
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withKeepAlive(Duration keepAlive);
+
+		/**
+		 * Close connections in the background that have been idle for longer than the given time, for example to not
+		 * run into connections that were closed by a load balancer. See the note at {@link #withMaxConnections(int, int)}.
+		 *
+		 * @param maxIdleTime the maximum idle time, must be positive
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withIdleConnectionEviction(Duration maxIdleTime);
+
+		/**
+		 * Configure the maximum lifetime of a connection, after which it is not reused. See the note at
+		 * {@link #withMaxConnections(int, int)}.
+		 *
+		 * @param timeToLive the maximum lifetime, must be positive
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withConnectionTimeToLive(Duration timeToLive);
+
+		/**
+		 * Prefer the nodes with the lowest response times with the {@link LatencyAwareNodeSelection#defaults() default
+		 * options}.
+		 *
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		default TerminalClientConfigurationBuilder withLatencyAwareNodeSelection() {
+			return withLatencyAwareNodeSelection(LatencyAwareNodeSelection.defaults());
+		}
+
+		/**
+		 * Prefer the nodes with the lowest response times instead of distributing the requests round-robin over all
+		 * nodes. A node that is slow, for example because of a garbage collection pause, then gets fewer requests.
+		 * <br/>
+		 * Note: This sets the {@code NodeSelector} and the {@code FailureListener} of the {@code RestClientBuilder},
+		 * setting one of them in a {@link ClientConfigurationCallback} disables or impairs the node selection.
+		 *
+		 * @param nodeSelection the options, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withLatencyAwareNodeSelection(LatencyAwareNodeSelection nodeSelection);
+
+		/**
+		 * Discover the nodes of the cluster with the {@link NodeSniffing#defaults() default options}.
+		 *
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		default TerminalClientConfigurationBuilder withNodeSniffing() {
+			return withNodeSniffing(NodeSniffing.defaults());
+		}
+
+		/**
+		 * Discover the nodes of the cluster with the {@code _nodes/http} API and send the requests to these nodes instead
+		 * of only to the configured endpoints, which are used for the first discovery. The nodes are discovered again
+		 * periodically and after a request to a node failed, so that nodes that join the cluster receive requests and
+		 * nodes that left it no longer do.
+		 * <br/>
+		 * Note: This sets the {@code FailureListener} of the {@code RestClientBuilder}, setting it in a
+		 * {@link ClientConfigurationCallback} disables the discovery after failures.
+		 *
+		 * @param nodeSniffing the options, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withNodeSniffing(NodeSniffing nodeSniffing);
+
+		/**
+		 * Retry requests that failed with a retryable status code or exception after a backoff, as long as they are
+		 * idempotent, see {@link RetryPolicy}. The retries are counted in the {@link ClientMetrics}.
+		 * <br/>
+		 * Note: The {@code RestClient} already sends a request that failed with a 502, 503 or 504 status to the next node
+		 * before the policy is applied.
+		 *
+		 * @param retryPolicy the policy, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withRetryPolicy(RetryPolicy retryPolicy);
+
+		/**
+		 * Limit the number of requests in flight with the {@link ConcurrencyLimit#defaults() default options}, with one
+		 * limit for reads and one for writes.
+		 *
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		default TerminalClientConfigurationBuilder withConcurrencyLimit() {
+			return withConcurrencyLimit(ConcurrencyLimit.defaults(), ConcurrencyLimit.defaults());
+		}
+
+		/**
+		 * Limit the number of requests in flight to a limit that adapts to the response times and errors, so that the
+		 * requests do not pile up in the queues of Elasticsearch when it slows down. Searches, gets and the other reads
+		 * have their own limit, so that bulk requests do not take away the capacity needed for searches. A request that
+		 * does not get a permit within the maximum wait time of the limit fails with a
+		 * {@link org.springframework.data.elasticsearch.ConcurrencyLimitExceededException}. The rejections are counted
+		 * in the {@link ClientMetrics}.
+		 *
+		 * @param readLimit the options for searches and other reads, must not be {@literal null}
+		 * @param writeLimit the options for bulk, index and all other requests, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withConcurrencyLimit(ConcurrencyLimit readLimit, ConcurrencyLimit writeLimit);
+
+		/**
+		 * Send hedged reads with the {@link HedgedReads#defaults() default options}.
+		 *
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		default TerminalClientConfigurationBuilder withHedgedReads() {
+			return withHedgedReads(HedgedReads.defaults());
+		}
+
+		/**
+		 * Send a search, count, get or multi get a second time when there is no response after a delay that is taken from
+		 * a percentile of the response times of the endpoint, and use the response that arrives first. This cuts the
+		 * response times that are caused by a single slow node or shard copy, at the price of more requests. The second
+		 * request goes to the next node and has a {@code preference} of its own, unless the request has one, so that
+		 * other shard copies are likely to be searched. The request that loses is cancelled and its response discarded.
+		 * Searches that open a scroll are not hedged. The hedges and the hedges that won are counted in the
+		 * {@link ClientMetrics}.
+		 *
+		 * @param hedgedReads the options, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 5.3
+		 */
+		TerminalClientConfigurationBuilder withHedgedReads(HedgedReads hedgedReads);
+
 		/**
 		 * Build the {@link ClientConfiguration} object.
 		 *
@@ -377,6 +745,206 @@ public interface ClientConfiguration {
 		ClientConfiguration build();
 	}
 
+	/**
+	 * The HTTP clients the Elasticsearch transport can be built on.
+	 *
+	 * @since 5.3
+	 */
+	enum TransportType {
+		/**
+		 * The Elasticsearch low level {@code RestClient} based on the Apache HttpAsyncClient, the default. Supports all
+		 * options.
+		 */
+		REST_CLIENT,
+		/**
+		 * The Reactor Netty {@code HttpClient}, needs {@code io.projectreactor.netty:reactor-netty-http}. Requests are
+		 * sent and responses are read and decoded on the Netty event loop without blocking a thread. The configuration
+		 * callbacks for the {@code RestClient}, the latency aware node selection, the node sniffing and the connection
+		 * pool statistics are not supported; the maximum number of connections per route is applied to each node.
+		 */
+		REACTOR_NETTY,
+		/**
+		 * The JDK {@code java.net.http.HttpClient}, which multiplexes the requests to a node over a single HTTP/2
+		 * connection when the server supports it and uses virtual threads when the JDK has them. The configuration
+		 * callbacks for the {@code RestClient}, a {@code HostnameVerifier}, the latency aware node selection, the node
+		 * sniffing and the connection pool options are not supported.
+		 */
+		JDK_HTTP_CLIENT
+	}
+
+	/**
+	 * The formats that can be used for the bodies exchanged with Elasticsearch.
+	 *
+	 * @since 5.3
+	 */
+	enum ContentFormat {
+		/**
+		 * JSON text, the default.
+		 */
+		JSON,
+		/**
+		 * Smile binary JSON, needs {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile}.
+		 */
+		SMILE,
+		/**
+		 * CBOR, needs {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor}. Bulk request bodies are sent as
+		 * NDJSON, as Elasticsearch does not support stream parsing for CBOR.
+		 */
+		CBOR
+	}
+
+	/**
+	 * The options of the latency aware node selection. For each node an exponentially weighted moving average of the
+	 * response times is kept. A node's score is this average multiplied by the number of its requests in flight plus
+	 * one, and each request goes to one of the nodes whose score is at most 1.5 times the lowest score, differences of
+	 * less than a millisecond are ignored. Nodes without response times yet are preferred so that every node is
+	 * measured.
+	 *
+	 * @param smoothingFactor the weight of a new response time in the moving average, between 0 (exclusive) and 1
+	 * @param explorationRate the fraction of requests that may go to any node, so that the response times of nodes that
+	 *          are avoided are updated, between 0 and 1
+	 * @since 5.3
+	 */
+	record LatencyAwareNodeSelection(double smoothingFactor, double explorationRate) {
+
+		public LatencyAwareNodeSelection {
+			Assert.isTrue(smoothingFactor > 0 && smoothingFactor <= 1, "smoothingFactor must be in (0, 1]");
+			Assert.isTrue(explorationRate >= 0 && explorationRate <= 1, "explorationRate must be in [0, 1]");
+		}
+
+		/**
+		 * @return options with a smoothing factor of 0.3 and an exploration rate of 0.05
+		 */
+		public static LatencyAwareNodeSelection defaults() {
+			return new LatencyAwareNodeSelection(0.3, 0.05);
+		}
+	}
+
+	/**
+	 * The options of the node sniffing. The first discovery is done when the client is created, the following ones
+	 * every {@code interval}. After a request to a node failed, the nodes are discovered right away and then again after
+	 * {@code intervalAfterFailure}, discoveries triggered by failures are done at most once per second.
+	 *
+	 * @param interval the time between two discoveries, must be positive
+	 * @param intervalAfterFailure the time between a discovery triggered by a failure and the next one, must be
+	 *          positive
+	 * @param nodeFilter decides by the roles of a node, for example {@code data} or {@code ingest}, whether requests are
+	 *          sent to it, must not be {@literal null}
+	 * @since 5.3
+	 */
+	record NodeSniffing(Duration interval, Duration intervalAfterFailure, Predicate<Set<String>> nodeFilter) {
+
+		/**
+		 * Accepts all nodes.
+		 */
+		public static final Predicate<Set<String>> ALL_NODES = roles -> true;
+
+		/**
+		 * Accepts all nodes except the master eligible nodes that neither hold data nor are ingest nodes.
+		 */
+		public static final Predicate<Set<String>> SKIP_DEDICATED_MASTERS = roles -> !roles.contains("master")
+				|| roles.contains("ingest") || roles.stream().anyMatch(role -> role.startsWith("data"));
+
+		public NodeSniffing {
+			Assert.notNull(interval, "interval must not be null");
+			Assert.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be positive");
+			Assert.notNull(intervalAfterFailure, "intervalAfterFailure must not be null");
+			Assert.isTrue(!intervalAfterFailure.isNegative() && !intervalAfterFailure.isZero(),
+					"intervalAfterFailure must be positive");
+			Assert.notNull(nodeFilter, "nodeFilter must not be null");
+		}
+
+		/**
+		 * @return options with an interval of 5 minutes, an interval of 1 minute after failures and skipping dedicated
+		 *         master nodes
+		 */
+		public static NodeSniffing defaults() {
+			return new NodeSniffing(Duration.ofMinutes(5), Duration.ofMinutes(1), SKIP_DEDICATED_MASTERS);
+		}
+	}
+
+	/**
+	 * The options of an adaptive concurrency limit. The limit starts at {@code initialLimit} and is adapted after each
+	 * response by the {@link LimitAlgorithm}, staying between {@code minLimit} and {@code maxLimit}. A response with the
+	 * status 429 or a 5xx status, and a request that failed without a response, count as overload.
+	 *
+	 * @param algorithm the algorithm that adapts the limit, must not be {@literal null}
+	 * @param initialLimit the limit before the first response, between {@code minLimit} and {@code maxLimit}
+	 * @param minLimit the smallest limit, at least 1
+	 * @param maxLimit the largest limit, at least {@code minLimit}
+	 * @param maxWait the time a request waits for a permit before it is rejected, {@link Duration#ZERO} to reject it
+	 *          right away, must not be negative
+	 * @since 5.3
+	 */
+	record ConcurrencyLimit(LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit, Duration maxWait) {
+
+		public ConcurrencyLimit {
+			Assert.notNull(algorithm, "algorithm must not be null");
+			Assert.isTrue(minLimit >= 1, "minLimit must be at least 1");
+			Assert.isTrue(maxLimit >= minLimit, "maxLimit must not be less than minLimit");
+			Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+					"initialLimit must be between minLimit and maxLimit");
+			Assert.notNull(maxWait, "maxWait must not be null");
+			Assert.isTrue(!maxWait.isNegative(), "maxWait must not be negative");
+		}
+
+		/**
+		 * @return options with the {@link LimitAlgorithm#VEGAS} algorithm, an initial limit of 20, limits between 1 and
+		 *         200 and no waiting for a permit
+		 */
+		public static ConcurrencyLimit defaults() {
+			return new ConcurrencyLimit(LimitAlgorithm.VEGAS, 20, 1, 200, Duration.ZERO);
+		}
+	}
+
+	/**
+	 * The options of the hedged reads. Reads are only hedged after 100 response times of their endpoint were measured.
+	 * To keep the number of hedges within the budget, every read adds {@code budget} to an account that can hold up to
+	 * 10 hedges, and every hedge takes one from it.
+	 *
+	 * @param percentile the percentile of the recent response times of an endpoint after which a read is hedged, between
+	 *          0 (exclusive) and 1 (exclusive)
+	 * @param minDelay the shortest time after which a read is hedged, must not be negative
+	 * @param budget the largest fraction of the reads that are hedged, between 0 (exclusive) and 1
+	 * @since 5.3
+	 */
+	record HedgedReads(double percentile, Duration minDelay, double budget) {
+
+		public HedgedReads {
+			Assert.isTrue(percentile > 0 && percentile < 1, "percentile must be in (0, 1)");
+			Assert.notNull(minDelay, "minDelay must not be null");
+			Assert.isTrue(!minDelay.isNegative(), "minDelay must not be negative");
+			Assert.isTrue(budget > 0 && budget <= 1, "budget must be in (0, 1]");
+		}
+
+		/**
+		 * @return options that hedge after the 95th percentile, but not before 10 milliseconds, and at most 5 percent of
+		 *         the reads
+		 */
+		public static HedgedReads defaults() {
+			return new HedgedReads(0.95, Duration.ofMillis(10), 0.05);
+		}
+	}
+
+	/**
+	 * The algorithms that adapt a {@link ConcurrencyLimit}.
+	 *
+	 * @since 5.3
+	 */
+	enum LimitAlgorithm {
+		/**
+		 * Additive increase, multiplicative decrease: the limit grows by one with each response that was received while
+		 * at least half of the limit was in use and is cut by 10 percent on overload. Reacts to errors only.
+		 */
+		AIMD,
+		/**
+		 * TCP Vegas: the limit is compared to the number of requests that are queued, estimated from the ratio of the
+		 * lowest response time seen to the current one. The limit grows while the estimated queue is short and shrinks
+		 * when it gets long or on overload, so that it is reduced before Elasticsearch rejects requests.
+		 */
+		VEGAS
+	}
+
 	/**
 	 * Callback to be executed to configure a client.
 	 *
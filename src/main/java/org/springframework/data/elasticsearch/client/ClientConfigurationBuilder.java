@@ -58,6 +58,22 @@ class ClientConfigurationBuilder
 	@Nullable private String pathPrefix;
 	@Nullable private String proxy;
 	private Supplier<HttpHeaders> headersSupplier = HttpHeaders::new;
+	private ClientConfiguration.ContentFormat contentFormat = ClientConfiguration.ContentFormat.JSON;
+	private boolean compressionEnabled;
+	private int compressionThreshold;
+	private int maxConnectionsTotal;
+	private int maxConnectionsPerRoute;
+	private int ioThreadCount;
+	@Nullable private Duration keepAlive;
+	@Nullable private Duration maxIdleTime;
+	@Nullable private Duration connectionTimeToLive;
+	@Nullable private ClientConfiguration.LatencyAwareNodeSelection latencyAwareNodeSelection;
+	@Nullable private ClientConfiguration.NodeSniffing nodeSniffing;
+	private ClientConfiguration.TransportType transportType = ClientConfiguration.TransportType.REST_CLIENT;
+	@Nullable private RetryPolicy retryPolicy;
+	@Nullable private ClientConfiguration.ConcurrencyLimit readConcurrencyLimit;
+	@Nullable private ClientConfiguration.ConcurrencyLimit writeConcurrencyLimit;
+	@Nullable private ClientConfiguration.HedgedReads hedgedReads;
 	private final List<ClientConfiguration.ClientConfigurationCallback<?>> clientConfigurers = new ArrayList<>();
 
 	/*
@@ -231,6 +247,133 @@ class ClientConfigurationBuilder
 		return this;
 	}
 
+	@Override
+	public TerminalClientConfigurationBuilder withContentFormat(ClientConfiguration.ContentFormat contentFormat) {
+
+		Assert.notNull(contentFormat, "contentFormat must not be null");
+
+		this.contentFormat = contentFormat;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withCompression(int threshold) {
+
+		Assert.isTrue(threshold >= 0, "threshold must not be negative");
+
+		this.compressionEnabled = true;
+		this.compressionThreshold = threshold;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withMaxConnections(int total, int perRoute) {
+
+		Assert.isTrue(total > 0, "total must be positive");
+		Assert.isTrue(perRoute > 0, "perRoute must be positive");
+
+		this.maxConnectionsTotal = total;
+		this.maxConnectionsPerRoute = perRoute;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withIoThreadCount(int ioThreadCount) {
+
+		Assert.isTrue(ioThreadCount > 0, "ioThreadCount must be positive");
+
+		this.ioThreadCount = ioThreadCount;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withKeepAlive(Duration keepAlive) {
+
+		Assert.notNull(keepAlive, "keepAlive must not be null");
+		Assert.isTrue(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+
+		this.keepAlive = keepAlive;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withIdleConnectionEviction(Duration maxIdleTime) {
+
+		Assert.notNull(maxIdleTime, "maxIdleTime must not be null");
+		Assert.isTrue(!maxIdleTime.isNegative() && !maxIdleTime.isZero(), "maxIdleTime must be positive");
+
+		this.maxIdleTime = maxIdleTime;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withConnectionTimeToLive(Duration timeToLive) {
+
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+
+		this.connectionTimeToLive = timeToLive;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withLatencyAwareNodeSelection(
+			ClientConfiguration.LatencyAwareNodeSelection nodeSelection) {
+
+		Assert.notNull(nodeSelection, "nodeSelection must not be null");
+
+		this.latencyAwareNodeSelection = nodeSelection;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withTransportType(ClientConfiguration.TransportType transportType) {
+
+		Assert.notNull(transportType, "transportType must not be null");
+
+		this.transportType = transportType;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withNodeSniffing(ClientConfiguration.NodeSniffing nodeSniffing) {
+
+		Assert.notNull(nodeSniffing, "nodeSniffing must not be null");
+
+		this.nodeSniffing = nodeSniffing;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withRetryPolicy(RetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "retryPolicy must not be null");
+
+		this.retryPolicy = retryPolicy;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withConcurrencyLimit(ClientConfiguration.ConcurrencyLimit readLimit,
+			ClientConfiguration.ConcurrencyLimit writeLimit) {
+
+		Assert.notNull(readLimit, "readLimit must not be null");
+		Assert.notNull(writeLimit, "writeLimit must not be null");
+
+		this.readConcurrencyLimit = readLimit;
+		this.writeConcurrencyLimit = writeLimit;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withHedgedReads(ClientConfiguration.HedgedReads hedgedReads) {
+
+		Assert.notNull(hedgedReads, "hedgedReads must not be null");
+
+		this.hedgedReads = hedgedReads;
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.elasticsearch.client.ClientConfiguration.ClientConfigurationBuilderWithOptionalDefaultHeaders#build()
@@ -247,7 +390,11 @@ class ClientConfigurationBuilder
 		}
 
 		return new DefaultClientConfiguration(hosts, headers, useSsl, sslContext, caFingerprint, soTimeout, connectTimeout,
-				pathPrefix, hostnameVerifier, proxy, clientConfigurers, headersSupplier);
+				pathPrefix, hostnameVerifier, proxy, clientConfigurers, headersSupplier, contentFormat,
+				compressionEnabled, compressionThreshold, maxConnectionsTotal, maxConnectionsPerRoute, ioThreadCount, keepAlive,
+				maxIdleTime, connectionTimeToLive, latencyAwareNodeSelection, nodeSniffing,
+				transportType, retryPolicy, readConcurrencyLimit, writeConcurrencyLimit,
+				hedgedReads);
 	}
 
 	private static InetSocketAddress parse(String hostAndPort) {
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.elasticsearch.client.ConnectionPoolStatistics.PoolStatistics;
+import org.springframework.lang.Nullable;
+
+/**
+ * Counters that are updated by the clients created from a {@link ClientConfiguration}. The values are cumulative
+ * since the creation of the configuration and are shared by all clients that are created from it. The
+ * {@code record...} methods are called by the client implementations.
+ *
+ * @since 5.3
+ */
+public final class ClientMetrics {
+
+	private static final ClientMetrics NOOP = new ClientMetrics(false);
+
+	private final boolean recording;
+
+	private final LongAdder compressedRequests = new LongAdder();
+	private final LongAdder uncompressedRequests = new LongAdder();
+	// the size of the compressed bodies before and after compression
+	private final LongAdder compressedRequestRawBytes = new LongAdder();
+	private final LongAdder compressedRequestBytes = new LongAdder();
+	private final LongAdder uncompressedRequestBytes = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder retriesExhausted = new LongAdder();
+	private final LongAdder concurrencyLimitRejections = new LongAdder();
+	private final LongAdder hedgeableReads = new LongAdder();
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+	// the suppliers return null when their pool is shut down
+	private final CopyOnWriteArrayList<Supplier<ConnectionPoolStatistics>> connectionPools = new CopyOnWriteArrayList<>();
+
+	public ClientMetrics() {
+		this(true);
+	}
+
+	private ClientMetrics(boolean recording) {
+		this.recording = recording;
+	}
+
+	/**
+	 * Returns metrics that ignore everything that is recorded, all values stay 0. This is returned by
+	 * {@link ClientConfiguration} implementations that do not provide their own metrics.
+	 *
+	 * @return the shared no-op metrics
+	 */
+	public static ClientMetrics noop() {
+		return NOOP;
+	}
+
+	/**
+	 * Records a request body that was compressed before it was sent.
+	 *
+	 * @param rawBytes the size of the body before compression
+	 * @param compressedBytes the size of the compressed body
+	 */
+	public void recordCompressedRequest(long rawBytes, long compressedBytes) {
+
+		if (!recording) {
+			return;
+		}
+
+		compressedRequests.increment();
+		compressedRequestRawBytes.add(rawBytes);
+		compressedRequestBytes.add(compressedBytes);
+	}
+
+	/**
+	 * Records a request body that was sent uncompressed as it was smaller than the compression threshold.
+	 *
+	 * @param bytes the size of the body
+	 */
+	public void recordUncompressedRequest(long bytes) {
+
+		if (!recording) {
+			return;
+		}
+
+		uncompressedRequests.increment();
+		uncompressedRequestBytes.add(bytes);
+	}
+
+	/**
+	 * @return the number of request bodies that were compressed
+	 */
+	public long getCompressedRequests() {
+		return compressedRequests.sum();
+	}
+
+	/**
+	 * @return the number of request bodies that were sent uncompressed as they were below the compression threshold
+	 */
+	public long getUncompressedRequests() {
+		return uncompressedRequests.sum();
+	}
+
+	/**
+	 * @return the size of all request bodies before compression
+	 */
+	public long getRawRequestBytes() {
+		return compressedRequestRawBytes.sum() + uncompressedRequestBytes.sum();
+	}
+
+	/**
+	 * @return the size of all request bodies as they were sent
+	 */
+	public long getSentRequestBytes() {
+		return compressedRequestBytes.sum() + uncompressedRequestBytes.sum();
+	}
+
+	/**
+	 * Records that a failed request is sent again.
+	 */
+	public void recordRetry() {
+
+		if (!recording) {
+			return;
+		}
+
+		retries.increment();
+	}
+
+	/**
+	 * Records that a request failed with a retryable error after the maximum number of attempts.
+	 */
+	public void recordRetriesExhausted() {
+
+		if (!recording) {
+			return;
+		}
+
+		retriesExhausted.increment();
+	}
+
+	/**
+	 * @return the number of requests that were sent again after they failed
+	 */
+	public long getRetries() {
+		return retries.sum();
+	}
+
+	/**
+	 * @return the number of requests that failed with a retryable error after the maximum number of attempts
+	 */
+	public long getRetriesExhausted() {
+		return retriesExhausted.sum();
+	}
+
+	/**
+	 * Records a request that was rejected because the concurrency limit was reached.
+	 */
+	public void recordConcurrencyLimitRejection() {
+
+		if (!recording) {
+			return;
+		}
+
+		concurrencyLimitRejections.increment();
+	}
+
+	/**
+	 * @return the number of requests that were rejected because the concurrency limit was reached
+	 */
+	public long getConcurrencyLimitRejections() {
+		return concurrencyLimitRejections.sum();
+	}
+
+	/**
+	 * Records a read that is hedged if there is no response in time.
+	 */
+	public void recordHedgeableRead() {
+
+		if (!recording) {
+			return;
+		}
+
+		hedgeableReads.increment();
+	}
+
+	/**
+	 * Records that a read was sent a second time as there was no response in time.
+	 */
+	public void recordHedge() {
+
+		if (!recording) {
+			return;
+		}
+
+		hedges.increment();
+	}
+
+	/**
+	 * Records that the response to the second request of a hedged read arrived first.
+	 */
+	public void recordHedgeWin() {
+
+		if (!recording) {
+			return;
+		}
+
+		hedgeWins.increment();
+	}
+
+	/**
+	 * @return the number of reads that are hedged if there is no response in time
+	 */
+	public long getHedgeableReads() {
+		return hedgeableReads.sum();
+	}
+
+	/**
+	 * @return the number of reads that were sent a second time, the hedge rate is this divided by
+	 *         {@link #getHedgeableReads()}
+	 */
+	public long getHedges() {
+		return hedges.sum();
+	}
+
+	/**
+	 * @return the number of hedged reads where the response to the second request arrived first
+	 */
+	public long getHedgeWins() {
+		return hedgeWins.sum();
+	}
+
+	/**
+	 * Registers the connection pool of a client. The supplier is dropped once it returns {@literal null}, which it must
+	 * do after the pool was shut down.
+	 *
+	 * @param statistics supplier of the current statistics of the pool, must not be {@literal null}
+	 */
+	public void registerConnectionPool(Supplier<ConnectionPoolStatistics> statistics) {
+
+		if (!recording) {
+			return;
+		}
+
+		connectionPools.add(statistics);
+	}
+
+	/**
+	 * Returns the current state of the connection pools of the clients created from the configuration. Connection pools
+	 * are only registered when the pool is configured with the {@link ClientConfiguration}, for example with
+	 * {@link ClientConfiguration.TerminalClientConfigurationBuilder#withMaxConnections(int, int)}.
+	 *
+	 * @return the statistics summed up over all live pools, {@literal null} if there are none
+	 */
+	@Nullable
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+
+		PoolStatistics total = null;
+		Map<String, PoolStatistics> routes = new TreeMap<>();
+
+		for (Supplier<ConnectionPoolStatistics> connectionPool : connectionPools) {
+			ConnectionPoolStatistics statistics = connectionPool.get();
+
+			if (statistics == null) {
+				connectionPools.remove(connectionPool);
+				continue;
+			}
+
+			total = total == null ? statistics.total() : total.plus(statistics.total());
+			statistics.routes().forEach((route, routeStatistics) -> routes.merge(route, routeStatistics, PoolStatistics::plus));
+		}
+
+		return total != null ? new ConnectionPoolStatistics(total, routes) : null;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.util.Map;
+
+/**
+ * A snapshot of the state of the HTTP connection pools of the clients created from a {@link ClientConfiguration}.
+ *
+ * @param total the statistics over all routes
+ * @param routes the statistics per route, keyed by the route's target host, for example {@code http://localhost:9200}
+ * @since 5.3
+ */
+public record ConnectionPoolStatistics(PoolStatistics total, Map<String, PoolStatistics> routes) {
+
+	/**
+	 * The statistics of a connection pool or of a route within it.
+	 *
+	 * @param leased the number of connections that are in use
+	 * @param pending the number of requests that are waiting for a connection
+	 * @param available the number of idle connections
+	 * @param max the maximum number of connections
+	 */
+	public record PoolStatistics(int leased, int pending, int available, int max) {
+
+		/**
+		 * @param other the statistics to add
+		 * @return the sum of these and the other statistics
+		 */
+		public PoolStatistics plus(PoolStatistics other) {
+			return new PoolStatistics(leased + other.leased, pending + other.pending, available + other.available,
+					max + other.max);
+		}
+	}
+}
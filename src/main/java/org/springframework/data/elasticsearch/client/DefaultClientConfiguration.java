@@ -51,11 +51,34 @@ class DefaultClientConfiguration implements ClientConfiguration {
 	@Nullable private final String proxy;
 	private final Supplier<HttpHeaders> headersSupplier;
 	private final List<ClientConfigurationCallback<?>> clientConfigurers;
+	private final ContentFormat contentFormat;
+	private final boolean compressionEnabled;
+	private final int compressionThreshold;
+	private final int maxConnectionsTotal;
+	private final int maxConnectionsPerRoute;
+	private final int ioThreadCount;
+	@Nullable private final Duration keepAlive;
+	@Nullable private final Duration maxIdleTime;
+	@Nullable private final Duration connectionTimeToLive;
+	@Nullable private final LatencyAwareNodeSelection latencyAwareNodeSelection;
+	@Nullable private final NodeSniffing nodeSniffing;
+	private final TransportType transportType;
+	@Nullable private final RetryPolicy retryPolicy;
+	@Nullable private final ConcurrencyLimit readConcurrencyLimit;
+	@Nullable private final ConcurrencyLimit writeConcurrencyLimit;
+	@Nullable private final HedgedReads hedgedReads;
+	private final ClientMetrics clientMetrics = new ClientMetrics();
 
 	DefaultClientConfiguration(List<InetSocketAddress> hosts, HttpHeaders headers, boolean useSsl,
 			@Nullable SSLContext sslContext, @Nullable String caFingerprint, Duration soTimeout, Duration connectTimeout,
 			@Nullable String pathPrefix, @Nullable HostnameVerifier hostnameVerifier, @Nullable String proxy,
-			List<ClientConfigurationCallback<?>> clientConfigurers, Supplier<HttpHeaders> headersSupplier) {
+			List<ClientConfigurationCallback<?>> clientConfigurers, Supplier<HttpHeaders> headersSupplier,
+			ContentFormat contentFormat, boolean compressionEnabled, int compressionThreshold, int maxConnectionsTotal,
+			int maxConnectionsPerRoute, int ioThreadCount, @Nullable Duration keepAlive, @Nullable Duration maxIdleTime,
+			@Nullable Duration connectionTimeToLive, @Nullable LatencyAwareNodeSelection latencyAwareNodeSelection,
+			@Nullable NodeSniffing nodeSniffing, TransportType transportType, @Nullable RetryPolicy retryPolicy,
+			@Nullable ConcurrencyLimit readConcurrencyLimit, @Nullable ConcurrencyLimit writeConcurrencyLimit,
+			@Nullable HedgedReads hedgedReads) {
 
 		this.hosts = List.copyOf(hosts);
 		this.headers = headers;
@@ -69,6 +92,22 @@ class DefaultClientConfiguration implements ClientConfiguration {
 		this.proxy = proxy;
 		this.clientConfigurers = clientConfigurers;
 		this.headersSupplier = headersSupplier;
+		this.contentFormat = contentFormat;
+		this.compressionEnabled = compressionEnabled;
+		this.compressionThreshold = compressionThreshold;
+		this.maxConnectionsTotal = maxConnectionsTotal;
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		this.ioThreadCount = ioThreadCount;
+		this.keepAlive = keepAlive;
+		this.maxIdleTime = maxIdleTime;
+		this.connectionTimeToLive = connectionTimeToLive;
+		this.latencyAwareNodeSelection = latencyAwareNodeSelection;
+		this.nodeSniffing = nodeSniffing;
+		this.transportType = transportType;
+		this.retryPolicy = retryPolicy;
+		this.readConcurrencyLimit = readConcurrencyLimit;
+		this.writeConcurrencyLimit = writeConcurrencyLimit;
+		this.hedgedReads = hedgedReads;
 	}
 
 	@Override
@@ -131,4 +170,92 @@ class DefaultClientConfiguration implements ClientConfiguration {
 	public Supplier<HttpHeaders> getHeadersSupplier() {
 		return headersSupplier;
 	}
+
+	@Override
+	public ContentFormat getContentFormat() {
+		return contentFormat;
+	}
+
+	@Override
+	public boolean isCompressionEnabled() {
+		return compressionEnabled;
+	}
+
+	@Override
+	public int getCompressionThreshold() {
+		return compressionThreshold;
+	}
+
+	@Override
+	public int getMaxConnectionsTotal() {
+		return maxConnectionsTotal;
+	}
+
+	@Override
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	@Override
+	public int getIoThreadCount() {
+		return ioThreadCount;
+	}
+
+	@Nullable
+	@Override
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	@Nullable
+	@Override
+	public Duration getMaxIdleTime() {
+		return maxIdleTime;
+	}
+
+	@Nullable
+	@Override
+	public Duration getConnectionTimeToLive() {
+		return connectionTimeToLive;
+	}
+
+	@Override
+	public Optional<LatencyAwareNodeSelection> getLatencyAwareNodeSelection() {
+		return Optional.ofNullable(latencyAwareNodeSelection);
+	}
+
+	@Override
+	public TransportType getTransportType() {
+		return transportType;
+	}
+
+	@Override
+	public Optional<NodeSniffing> getNodeSniffing() {
+		return Optional.ofNullable(nodeSniffing);
+	}
+
+	@Override
+	public Optional<RetryPolicy> getRetryPolicy() {
+		return Optional.ofNullable(retryPolicy);
+	}
+
+	@Override
+	public Optional<ConcurrencyLimit> getReadConcurrencyLimit() {
+		return Optional.ofNullable(readConcurrencyLimit);
+	}
+
+	@Override
+	public Optional<ConcurrencyLimit> getWriteConcurrencyLimit() {
+		return Optional.ofNullable(writeConcurrencyLimit);
+	}
+
+	@Override
+	public Optional<HedgedReads> getHedgedReads() {
+		return Optional.ofNullable(hedgedReads);
+	}
+
+	@Override
+	public ClientMetrics getClientMetrics() {
+		return clientMetrics;
+	}
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * Defines which failed requests are sent again and how long to wait before. A request is retried when the response
+ * has one of the retryable status codes, by default 429 (too many requests) and 503 (service unavailable), or when it
+ * failed with one of the retryable exceptions, by default any {@link IOException}, and when it is idempotent:
+ * <ul>
+ * <li>all {@code GET} and {@code HEAD} requests,</li>
+ * <li>searches, counts, multi gets and scrolls, which are sent as {@code POST},</li>
+ * <li>index and create requests with an explicit id, which are sent as {@code PUT},</li>
+ * <li>requests to the endpoints added with {@link RetryPolicyBuilder#withIdempotentEndpoints(String...)}.</li>
+ * </ul>
+ * The time to wait grows exponentially from the initial backoff up to the maximum backoff. The jitter randomly
+ * shortens each wait by up to the given fraction so that clients that failed at the same time do not retry at the same
+ * time.
+ * <p>
+ * Use {@link RetryPolicy#builder()} to obtain a builder, then set the desired properties and call
+ * {@link RetryPolicyBuilder#build()} to get the RetryPolicy object.
+ *
+ * @since 5.3
+ */
+public final class RetryPolicy {
+
+	// endpoints that do not change data although they are sent with POST
+	private static final Set<String> IDEMPOTENT_POST_ENDPOINTS = Set.of("es/search", "es/msearch", "es/search_template",
+			"es/msearch_template", "es/count", "es/mget", "es/scroll", "es/field_caps", "es/terms_enum", "es/knn_search",
+			"es/termvectors", "es/mtermvectors", "es/explain");
+	// endpoints that are only idempotent with an explicit id, in which case they are sent with PUT
+	private static final Set<String> IDEMPOTENT_PUT_ENDPOINTS = Set.of("es/index", "es/create");
+
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final double multiplier;
+	private final double jitter;
+	private final Set<Integer> retryableStatusCodes;
+	private final List<Class<? extends Throwable>> retryableExceptions;
+	private final Set<String> idempotentEndpoints;
+
+	private RetryPolicy(RetryPolicyBuilder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.initialBackoff = builder.initialBackoff;
+		this.maxBackoff = builder.maxBackoff;
+		this.multiplier = builder.multiplier;
+		this.jitter = builder.jitter;
+		this.retryableStatusCodes = builder.retryableStatusCodes;
+		this.retryableExceptions = builder.retryableExceptions;
+		this.idempotentEndpoints = builder.idempotentEndpoints;
+	}
+
+	public static RetryPolicyBuilder builder() {
+		return new RetryPolicyBuilder();
+	}
+
+	/**
+	 * @return the maximum number of attempts including the first one
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	public double getMultiplier() {
+		return multiplier;
+	}
+
+	public double getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * @param statusCode the status code of a response
+	 * @return {@literal true} if a request with this response should be retried
+	 */
+	public boolean isRetryableStatusCode(int statusCode) {
+		return retryableStatusCodes.contains(statusCode);
+	}
+
+	/**
+	 * @param exception the exception a request failed with
+	 * @return {@literal true} if a request that failed with this exception should be retried
+	 */
+	public boolean isRetryableException(Throwable exception) {
+		return retryableExceptions.stream().anyMatch(type -> type.isInstance(exception));
+	}
+
+	/**
+	 * @param endpointId the id of the endpoint of the Elasticsearch client, for example {@code es/search}
+	 * @param method the HTTP method of the request
+	 * @return {@literal true} if sending the request more than once has the same effect as sending it once
+	 */
+	public boolean isIdempotent(String endpointId, String method) {
+		return "GET".equals(method) || "HEAD".equals(method)
+				|| ("POST".equals(method) && IDEMPOTENT_POST_ENDPOINTS.contains(endpointId))
+				|| ("PUT".equals(method) && IDEMPOTENT_PUT_ENDPOINTS.contains(endpointId))
+				|| idempotentEndpoints.contains(endpointId);
+	}
+
+	/**
+	 * @param retry the number of the retry, starting with 1
+	 * @return the time to wait before the retry
+	 */
+	public Duration getBackoff(int retry) {
+
+		double backoff = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() * Math.pow(multiplier, retry - 1));
+		double jittered = backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble());
+		return Duration.ofMillis(Math.round(jittered));
+	}
+
+	/**
+	 * Builder for {@link RetryPolicy}. The defaults are 3 attempts, an initial backoff of 100 milliseconds that is
+	 * doubled up to 5 seconds, a jitter of 0.5, the status codes 429 and 503 and {@link IOException}.
+	 */
+	public static class RetryPolicyBuilder {
+
+		private int maxAttempts = 3;
+		private Duration initialBackoff = Duration.ofMillis(100);
+		private Duration maxBackoff = Duration.ofSeconds(5);
+		private double multiplier = 2;
+		private double jitter = 0.5;
+		private Set<Integer> retryableStatusCodes = Set.of(429, 503);
+		private List<Class<? extends Throwable>> retryableExceptions = List.of(IOException.class);
+		private Set<String> idempotentEndpoints = Set.of();
+
+		private RetryPolicyBuilder() {}
+
+		/**
+		 * @param maxAttempts the maximum number of attempts including the first one, at least 1
+		 */
+		public RetryPolicyBuilder withMaxAttempts(int maxAttempts) {
+
+			Assert.isTrue(maxAttempts >= 1, "maxAttempts must be at least 1");
+
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * @param initialBackoff the time to wait before the first retry, must not be negative
+		 * @param maxBackoff the maximum time to wait before a retry, must not be less than the initial backoff
+		 * @param multiplier the factor the backoff grows by with each retry, at least 1
+		 */
+		public RetryPolicyBuilder withBackoff(Duration initialBackoff, Duration maxBackoff, double multiplier) {
+
+			Assert.notNull(initialBackoff, "initialBackoff must not be null");
+			Assert.notNull(maxBackoff, "maxBackoff must not be null");
+			Assert.isTrue(!initialBackoff.isNegative(), "initialBackoff must not be negative");
+			Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "maxBackoff must not be less than initialBackoff");
+			Assert.isTrue(multiplier >= 1, "multiplier must be at least 1");
+
+			this.initialBackoff = initialBackoff;
+			this.maxBackoff = maxBackoff;
+			this.multiplier = multiplier;
+			return this;
+		}
+
+		/**
+		 * @param jitter the maximum fraction a backoff is randomly shortened by, between 0 and 1
+		 */
+		public RetryPolicyBuilder withJitter(double jitter) {
+
+			Assert.isTrue(jitter >= 0 && jitter <= 1, "jitter must be in [0, 1]");
+
+			this.jitter = jitter;
+			return this;
+		}
+
+		/**
+		 * @param statusCodes the status codes of responses that are retried, replacing the defaults
+		 */
+		public RetryPolicyBuilder withRetryableStatusCodes(Integer... statusCodes) {
+
+			Assert.notNull(statusCodes, "statusCodes must not be null");
+
+			this.retryableStatusCodes = Set.copyOf(Arrays.asList(statusCodes));
+			return this;
+		}
+
+		/**
+		 * @param exceptions the types of the exceptions that are retried, replacing the defaults
+		 */
+		@SafeVarargs
+		public final RetryPolicyBuilder withRetryableExceptions(Class<? extends Throwable>... exceptions) {
+
+			Assert.isTrue(exceptions != null, "exceptions must not be null");
+
+			List<Class<? extends Throwable>> exceptionTypes = new ArrayList<>(exceptions.length);
+			for (Class<? extends Throwable> exception : exceptions) {
+				exceptionTypes.add(exception);
+			}
+
+			this.retryableExceptions = List.copyOf(exceptionTypes);
+			return this;
+		}
+
+		/**
+		 * @param endpointIds the ids of endpoints of the Elasticsearch client whose requests are retried regardless of
+		 *          their method, for example {@code es/bulk} when all bulk operations have explicit ids
+		 */
+		public RetryPolicyBuilder withIdempotentEndpoints(String... endpointIds) {
+
+			Assert.notNull(endpointIds, "endpointIds must not be null");
+
+			this.idempotentEndpoints = Set.copyOf(Arrays.asList(endpointIds));
+			return this;
+		}
+
+		public RetryPolicy build() {
+			return new RetryPolicy(this);
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.elasticsearch.ConcurrencyLimitExceededException;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.ConcurrencyLimit;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.LimitAlgorithm;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+
+/**
+ * Hands out permits for requests up to a limit that is adapted with the {@link LimitAlgorithm} of a
+ * {@link ConcurrencyLimit} after each request. Requests that do not get a permit right away wait in FIFO order up to
+ * the maximum wait time of the options and are then rejected with a {@link ConcurrencyLimitExceededException}.
+ *
+ * @since 5.3
+ */
+final class AdaptiveConcurrencyLimiter {
+
+	private static final Log LOGGER = LogFactory.getLog(AdaptiveConcurrencyLimiter.class);
+
+	// the lowest response time is measured again after this number of responses, so that it follows the cluster
+	private static final int NO_LOAD_RTT_SAMPLES = 1000;
+	private static final double AIMD_BACKOFF_RATIO = 0.9;
+
+	private final String name;
+	private final ConcurrencyLimit options;
+	private final ClientMetrics clientMetrics;
+
+	// all fields below are guarded by this
+	private final Deque<CompletableFuture<Permit>> waiting = new ArrayDeque<>();
+	private double limit;
+	private int inFlight;
+	private long noLoadRttNanos = Long.MAX_VALUE;
+	private int noLoadRttSamples;
+
+	/**
+	 * @param name the name of the limit used in messages
+	 */
+	AdaptiveConcurrencyLimiter(String name, ConcurrencyLimit options, ClientMetrics clientMetrics) {
+		this.name = name;
+		this.options = options;
+		this.clientMetrics = clientMetrics;
+		this.limit = options.initialLimit();
+	}
+
+	/**
+	 * @return the current limit
+	 */
+	synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	/**
+	 * @return the number of permits in use
+	 */
+	synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * Returns a future that completes with a permit as soon as one is free, or fails with a
+	 * {@link ConcurrencyLimitExceededException} when none became free within the maximum wait time.
+	 */
+	CompletableFuture<Permit> acquire() {
+
+		CompletableFuture<Permit> future;
+
+		synchronized (this) {
+			if (waiting.isEmpty() && inFlight < (int) limit) {
+				inFlight++;
+				return CompletableFuture.completedFuture(new Permit());
+			}
+
+			if (options.maxWait().isZero()) {
+				return CompletableFuture.failedFuture(rejection());
+			}
+
+			future = new CompletableFuture<>();
+			waiting.add(future);
+		}
+
+		CompletableFuture.delayedExecutor(options.maxWait().toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+
+			boolean timedOut;
+			synchronized (this) {
+				timedOut = waiting.remove(future);
+			}
+
+			if (timedOut) {
+				future.completeExceptionally(rejection());
+			}
+		});
+
+		return future;
+	}
+
+	private ConcurrencyLimitExceededException rejection() {
+
+		clientMetrics.recordConcurrencyLimitRejection();
+
+		int currentLimit = getLimit();
+		return new ConcurrencyLimitExceededException(
+				String.format("The %s concurrency limit of %d requests in flight is reached", name, currentLimit), currentLimit);
+	}
+
+	private void release(Duration rtt, boolean overload) {
+
+		synchronized (this) {
+			int previousLimit = (int) limit;
+			limit = Math.min(options.maxLimit(), Math.max(options.minLimit(), nextLimit(rtt.toNanos(), overload)));
+
+			if (LOGGER.isDebugEnabled() && (int) limit != previousLimit) {
+				LOGGER.debug(String.format("Changed the %s concurrency limit from %d to %d", name, previousLimit, (int) limit));
+			}
+		}
+
+		returnPermit();
+	}
+
+	private void returnPermit() {
+
+		List<CompletableFuture<Permit>> granted = new ArrayList<>();
+
+		synchronized (this) {
+			inFlight--;
+
+			while (!waiting.isEmpty() && inFlight < (int) limit) {
+				inFlight++;
+				granted.add(waiting.poll());
+			}
+		}
+
+		// completed outside of the lock as the completion runs the dependent stages
+		for (CompletableFuture<Permit> future : granted) {
+			if (!future.complete(new Permit())) {
+				// cancelled by the caller
+				returnPermit();
+			}
+		}
+	}
+
+	private double nextLimit(long rttNanos, boolean overload) {
+
+		return switch (options.algorithm()) {
+			case AIMD -> nextAimdLimit(overload);
+			case VEGAS -> nextVegasLimit(rttNanos, overload);
+		};
+	}
+
+	private double nextAimdLimit(boolean overload) {
+
+		if (overload) {
+			return limit * AIMD_BACKOFF_RATIO;
+		}
+
+		// only grow when the limit is actually used
+		return inFlight * 2 >= limit ? limit + 1 : limit;
+	}
+
+	private double nextVegasLimit(long rttNanos, boolean overload) {
+
+		double step = Math.max(1, Math.log10(limit));
+
+		if (overload) {
+			return limit - step;
+		}
+
+		if (++noLoadRttSamples > NO_LOAD_RTT_SAMPLES) {
+			noLoadRttSamples = 0;
+			noLoadRttNanos = rttNanos;
+		} else {
+			noLoadRttNanos = Math.min(noLoadRttNanos, Math.max(1, rttNanos));
+		}
+
+		if (inFlight * 2 < limit) {
+			return limit;
+		}
+
+		// the number of requests that wait in the queues of Elasticsearch
+		double queued = Math.ceil(limit * (1 - (double) noLoadRttNanos / Math.max(1, rttNanos)));
+		double alpha = 3 * step;
+		double beta = 6 * step;
+
+		if (queued <= step) {
+			return limit + beta;
+		} else if (queued < alpha) {
+			return limit + step;
+		} else if (queued > beta) {
+			return limit - step;
+		}
+		return limit;
+	}
+
+	/**
+	 * A permit for one request, which must be released exactly once when the response is received or the request
+	 * failed.
+	 */
+	final class Permit {
+
+		private final long start = System.nanoTime();
+		private boolean released;
+
+		/**
+		 * @param overload {@literal true} if the request failed in a way that indicates that Elasticsearch is overloaded
+		 */
+		void release(boolean overload) {
+			release(Duration.ofNanos(System.nanoTime() - start), overload);
+		}
+
+		private void release(Duration rtt, boolean overload) {
+
+			synchronized (this) {
+				if (released) {
+					return;
+				}
+				released = true;
+			}
+
+			AdaptiveConcurrencyLimiter.this.release(rtt, overload);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link TransportHttpClient} that compresses request bodies with gzip when they are at least as large as a
+ * threshold, and that asks Elasticsearch to compress the responses, which are decompressed by the
+ * {@link org.elasticsearch.client.RestClient}. The sizes of the request bodies are recorded in the
+ * {@link ClientMetrics}.
+ *
+ * @since 5.3
+ */
+final class CompressingHttpClient implements TransportHttpClient {
+
+	private static final String CONTENT_ENCODING = "Content-Encoding";
+	private static final String ACCEPT_ENCODING = "Accept-Encoding";
+	private static final String GZIP = "gzip";
+
+	private final TransportHttpClient delegate;
+	private final int threshold;
+	private final ClientMetrics clientMetrics;
+
+	CompressingHttpClient(TransportHttpClient delegate, int threshold, ClientMetrics clientMetrics) {
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.clientMetrics = clientMetrics;
+	}
+
+	@Override
+	public TransportOptions createOptions(@Nullable TransportOptions options) {
+		return delegate.createOptions(options);
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+		return delegate.performRequest(endpointId, node, compress(request), options);
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		Request compressedRequest;
+
+		try {
+			compressedRequest = compress(request);
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		return delegate.performRequestAsync(endpointId, node, compressedRequest, options);
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private Request compress(Request request) throws IOException {
+
+		Map<String, String> headers = new HashMap<>(request.headers());
+		headers.put(ACCEPT_ENCODING, GZIP);
+
+		Iterable<ByteBuffer> body = request.body();
+
+		if (body == null || headers.containsKey(CONTENT_ENCODING)) {
+			return new Request(request.method(), request.path(), request.queryParams(), headers, body);
+		}
+
+		long size = 0;
+		for (ByteBuffer buffer : body) {
+			size += buffer.remaining();
+		}
+
+		if (size < threshold) {
+			clientMetrics.recordUncompressedRequest(size);
+			return new Request(request.method(), request.path(), request.queryParams(), headers, body);
+		}
+
+		// gzip typically reduces the JSON sent to Elasticsearch to less than a quarter of its size
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8, size / 4 + 64));
+
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			WritableByteChannel channel = Channels.newChannel(gzipOutputStream);
+			for (ByteBuffer buffer : body) {
+				channel.write(buffer.duplicate());
+			}
+		}
+
+		byte[] compressed = outputStream.toByteArray();
+		clientMetrics.recordCompressedRequest(size, compressed.length);
+		headers.put(CONTENT_ENCODING, GZIP);
+
+		return new Request(request.method(), request.path(), request.queryParams(), headers,
+				Collections.singletonList(ByteBuffer.wrap(compressed)));
+	}
+}
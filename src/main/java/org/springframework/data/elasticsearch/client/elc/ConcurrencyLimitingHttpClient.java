@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.elasticsearch.client.ResponseException;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link TransportHttpClient} that limits the number of requests in flight with one
+ * {@link AdaptiveConcurrencyLimiter} for reads and one for all other requests. Requests without a permit fail with a
+ * {@link org.springframework.data.elasticsearch.ConcurrencyLimitExceededException}.
+ *
+ * @since 5.3
+ */
+final class ConcurrencyLimitingHttpClient implements TransportHttpClient {
+
+	// endpoints that read although they are sent with POST
+	private static final Set<String> READ_POST_ENDPOINTS = Set.of("es/search", "es/msearch", "es/search_template",
+			"es/msearch_template", "es/count", "es/mget", "es/scroll", "es/field_caps", "es/terms_enum", "es/knn_search",
+			"es/termvectors", "es/mtermvectors", "es/explain", "es/open_point_in_time");
+
+	private final TransportHttpClient delegate;
+	@Nullable private final AdaptiveConcurrencyLimiter readLimiter;
+	@Nullable private final AdaptiveConcurrencyLimiter writeLimiter;
+
+	/**
+	 * @param readLimiter the limiter for reads, {@literal null} if they are not limited
+	 * @param writeLimiter the limiter for all other requests, {@literal null} if they are not limited
+	 */
+	ConcurrencyLimitingHttpClient(TransportHttpClient delegate, @Nullable AdaptiveConcurrencyLimiter readLimiter,
+			@Nullable AdaptiveConcurrencyLimiter writeLimiter) {
+		this.delegate = delegate;
+		this.readLimiter = readLimiter;
+		this.writeLimiter = writeLimiter;
+	}
+
+	@Override
+	public TransportOptions createOptions(@Nullable TransportOptions options) {
+		return delegate.createOptions(options);
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(endpointId, request);
+
+		if (limiter == null) {
+			return delegate.performRequest(endpointId, node, request, options);
+		}
+
+		AdaptiveConcurrencyLimiter.Permit permit = acquire(limiter);
+
+		try {
+			Response response = delegate.performRequest(endpointId, node, request, options);
+			permit.release(isOverload(response.statusCode()));
+			return response;
+		} catch (IOException | RuntimeException e) {
+			permit.release(isOverload(e));
+			throw e;
+		}
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(endpointId, request);
+
+		if (limiter == null) {
+			return delegate.performRequestAsync(endpointId, node, request, options);
+		}
+
+		return limiter.acquire().thenCompose(permit -> {
+
+			CompletableFuture<Response> future;
+
+			try {
+				future = delegate.performRequestAsync(endpointId, node, request, options);
+			} catch (RuntimeException e) {
+				permit.release(true);
+				throw e;
+			}
+
+			return future.whenComplete((response, throwable) -> permit
+					.release(throwable != null ? isOverload(unwrap(throwable)) : isOverload(response.statusCode())));
+		});
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	@Nullable
+	private AdaptiveConcurrencyLimiter limiter(String endpointId, Request request) {
+
+		String method = request.method();
+		boolean read = "GET".equals(method) || "HEAD".equals(method)
+				|| ("POST".equals(method) && READ_POST_ENDPOINTS.contains(endpointId));
+
+		return read ? readLimiter : writeLimiter;
+	}
+
+	private static AdaptiveConcurrencyLimiter.Permit acquire(AdaptiveConcurrencyLimiter limiter)
+			throws InterruptedIOException {
+
+		CompletableFuture<AdaptiveConcurrencyLimiter.Permit> future = limiter.acquire();
+
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			// the limiter only fails with the unchecked ConcurrencyLimitExceededException
+			throw (RuntimeException) e.getCause();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+			if (!future.cancel(false) && !future.isCompletedExceptionally()) {
+				future.join().release(false);
+			}
+
+			InterruptedIOException interruptedIOException = new InterruptedIOException(
+					"interrupted while waiting for a concurrency limit permit");
+			interruptedIOException.initCause(e);
+			throw interruptedIOException;
+		}
+	}
+
+	/**
+	 * Rejections and server errors mean that Elasticsearch is overloaded.
+	 */
+	private static boolean isOverload(int statusCode) {
+		return statusCode == 429 || statusCode >= 500;
+	}
+
+	private static boolean isOverload(Throwable throwable) {
+		return !(throwable instanceof ResponseException responseException)
+				|| isOverload(responseException.getResponse().getStatusLine().getStatusCode());
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+
+		while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+				&& throwable.getCause() != null) {
+			throwable = throwable.getCause();
+		}
+		return throwable;
+	}
+}
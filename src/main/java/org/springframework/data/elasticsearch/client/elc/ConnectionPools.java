@@ -0,0 +1,213 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportUtils;
+
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.nio.reactor.IOReactorStatus;
+import org.apache.http.pool.PoolStats;
+import org.elasticsearch.client.RestClientBuilder;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ConnectionPoolStatistics;
+import org.springframework.data.elasticsearch.client.ConnectionPoolStatistics.PoolStatistics;
+import org.springframework.lang.Nullable;
+
+/**
+ * Creates the connection pool of the {@link org.elasticsearch.client.RestClient} from the connection pool options of
+ * a {@link ClientConfiguration}, registers its statistics in the {@link org.springframework.data.elasticsearch.client.ClientMetrics}
+ * and evicts idle connections in the background.
+ *
+ * @since 5.3
+ */
+final class ConnectionPools {
+
+	// shared by all clients, the tasks of a pool cancel themselves when the pool is shut down
+	@Nullable private static volatile ScheduledExecutorService evictionExecutor;
+
+	private ConnectionPools() {}
+
+	/**
+	 * Configures a connection manager built from the client configuration on the builder.
+	 *
+	 * @param clientBuilder the builder to configure
+	 * @param clientConfiguration the configuration, {@link ClientConfiguration#isConnectionPoolConfigured()} must be
+	 *          {@literal true}
+	 */
+	static void configure(HttpAsyncClientBuilder clientBuilder, ClientConfiguration clientConfiguration) {
+
+		IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+
+		if (clientConfiguration.getIoThreadCount() > 0) {
+			ioReactorConfig.setIoThreadCount(clientConfiguration.getIoThreadCount());
+		}
+
+		DefaultConnectingIOReactor ioReactor;
+
+		try {
+			ioReactor = new DefaultConnectingIOReactor(ioReactorConfig.build());
+		} catch (IOReactorException e) {
+			throw new IllegalStateException("Unable to create the IO reactor", e);
+		}
+
+		Duration timeToLive = clientConfiguration.getConnectionTimeToLive();
+		PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(ioReactor, null,
+				sessionStrategies(clientConfiguration), null, null, timeToLive != null ? timeToLive.toMillis() : -1,
+				TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(clientConfiguration.getMaxConnectionsTotal() > 0
+				? clientConfiguration.getMaxConnectionsTotal()
+				: RestClientBuilder.DEFAULT_MAX_CONN_TOTAL);
+		connectionManager.setDefaultMaxPerRoute(clientConfiguration.getMaxConnectionsPerRoute() > 0
+				? clientConfiguration.getMaxConnectionsPerRoute()
+				: RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE);
+		clientBuilder.setConnectionManager(connectionManager);
+
+		Duration keepAlive = clientConfiguration.getKeepAlive();
+
+		if (keepAlive != null) {
+			long maxKeepAlive = keepAlive.toMillis();
+			clientBuilder.setKeepAliveStrategy((response, context) -> {
+				long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+				return serverKeepAlive > 0 ? Math.min(serverKeepAlive, maxKeepAlive) : maxKeepAlive;
+			});
+		}
+
+		Duration maxIdleTime = clientConfiguration.getMaxIdleTime();
+
+		if (maxIdleTime != null) {
+			scheduleEviction(ioReactor, connectionManager, maxIdleTime);
+		}
+
+		clientConfiguration.getClientMetrics()
+				.registerConnectionPool(() -> isShutDown(ioReactor) ? null : statistics(connectionManager));
+	}
+
+	private static Registry<SchemeIOSessionStrategy> sessionStrategies(ClientConfiguration clientConfiguration) {
+
+		SSLContext sslContext;
+
+		if (clientConfiguration.getCaFingerprint().isPresent()) {
+			sslContext = TransportUtils.sslContextFromCaFingerprint(clientConfiguration.getCaFingerprint().get());
+		} else if (clientConfiguration.getSslContext().isPresent()) {
+			sslContext = clientConfiguration.getSslContext().get();
+		} else {
+			try {
+				sslContext = SSLContext.getDefault();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("could not create the default ssl context", e);
+			}
+		}
+
+		HostnameVerifier hostnameVerifier = clientConfiguration.getHostNameVerifier()
+				.orElseGet(SSLIOSessionStrategy::getDefaultHostnameVerifier);
+
+		return RegistryBuilder.<SchemeIOSessionStrategy> create() //
+				.register("http", NoopIOSessionStrategy.INSTANCE) //
+				.register("https", new SSLIOSessionStrategy(sslContext, null, null, hostnameVerifier)) //
+				.build();
+	}
+
+	private static void scheduleEviction(DefaultConnectingIOReactor ioReactor,
+			PoolingNHttpClientConnectionManager connectionManager, Duration maxIdleTime) {
+
+		long maxIdleMillis = maxIdleTime.toMillis();
+		// check often enough that no connection stays idle much longer than allowed
+		long period = Math.max(100, Math.min(maxIdleMillis / 2, 5_000));
+		AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+
+		task.set(evictionExecutor().scheduleWithFixedDelay(() -> {
+			if (isShutDown(ioReactor)) {
+				ScheduledFuture<?> future = task.get();
+
+				if (future != null) {
+					future.cancel(false);
+				}
+				return;
+			}
+
+			connectionManager.closeExpiredConnections();
+			connectionManager.closeIdleConnections(maxIdleMillis, TimeUnit.MILLISECONDS);
+		}, period, period, TimeUnit.MILLISECONDS));
+	}
+
+	private static ScheduledExecutorService evictionExecutor() {
+
+		ScheduledExecutorService executor = evictionExecutor;
+
+		if (executor == null) {
+			synchronized (ConnectionPools.class) {
+				executor = evictionExecutor;
+
+				if (executor == null) {
+					executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+						Thread thread = new Thread(runnable, "elasticsearch-connection-evictor");
+						thread.setDaemon(true);
+						return thread;
+					});
+					evictionExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	private static boolean isShutDown(DefaultConnectingIOReactor ioReactor) {
+
+		IOReactorStatus status = ioReactor.getStatus();
+		return status == IOReactorStatus.SHUTTING_DOWN || status == IOReactorStatus.SHUT_DOWN;
+	}
+
+	private static ConnectionPoolStatistics statistics(PoolingNHttpClientConnectionManager connectionManager) {
+
+		Map<String, PoolStatistics> routes = new HashMap<>();
+
+		for (HttpRoute route : connectionManager.getRoutes()) {
+			routes.put(route.getTargetHost().toURI(), statistics(connectionManager.getStats(route)));
+		}
+
+		return new ConnectionPoolStatistics(statistics(connectionManager.getTotalStats()), routes);
+	}
+
+	private static PoolStatistics statistics(PoolStats poolStats) {
+		return new PoolStatistics(poolStats.getLeased(), poolStats.getPending(), poolStats.getAvailable(),
+				poolStats.getMax());
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.Version;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
+import co.elastic.clients.util.BinaryData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.elasticsearch.client.RequestOptions;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.ContentFormat;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * A {@link TransportHttpClient} that exchanges some of the request and response bodies in a binary
+ * {@link ContentFormat}. The Elasticsearch client only produces and accepts JSON, so the NDJSON bodies of bulk requests
+ * are transcoded into the binary format before they are sent, and the binary responses are handed to a
+ * {@link ContentFormatJsonpMapper} which parses them without converting them to JSON first. Requests to other endpoints
+ * are passed on unchanged.
+ * <p>
+ * Elasticsearch does not support stream parsing for {@link ContentFormat#CBOR}, so with CBOR the bulk request bodies
+ * are kept as NDJSON and only the responses are exchanged in the binary format.
+ *
+ * @since 5.3
+ */
+final class ContentFormatHttpClient implements TransportHttpClient {
+
+	// the endpoints whose request bodies are sent in the binary formats that support stream parsing
+	private static final Set<String> BINARY_REQUEST_ENDPOINTS = Set.of("es/bulk");
+	// the endpoints whose responses are requested in the binary format
+	private static final Set<String> BINARY_RESPONSE_ENDPOINTS = Set.of("es/bulk", "es/search", "es/scroll", "es/get",
+			"es/mget", "es/msearch", "es/search_template");
+	private static final String JSON_CONTENT_TYPE = "application/json";
+	// the separator of the documents in bulk bodies in binary formats
+	private static final int BINARY_STREAM_SEPARATOR = 0xFF;
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final TransportHttpClient delegate;
+	private final ContentFormat contentFormat;
+	private final JsonFactory binaryFactory;
+	private final String mediaType;
+	private final boolean binaryRequests;
+
+	ContentFormatHttpClient(TransportHttpClient delegate, ContentFormat contentFormat) {
+		this.delegate = delegate;
+		this.contentFormat = contentFormat;
+		this.binaryFactory = createJsonFactory(contentFormat);
+		this.mediaType = mediaType(contentFormat);
+		this.binaryRequests = contentFormat == ContentFormat.SMILE;
+	}
+
+	/**
+	 * Creates the Jackson {@link JsonFactory} for a binary format.
+	 *
+	 * @param contentFormat the binary format
+	 * @return the factory
+	 * @throws IllegalStateException if the Jackson module for the format is not on the classpath
+	 */
+	static JsonFactory createJsonFactory(ContentFormat contentFormat) {
+
+		ClassLoader classLoader = ContentFormatHttpClient.class.getClassLoader();
+
+		return switch (contentFormat) {
+			case SMILE -> {
+				Assert.state(ClassUtils.isPresent("com.fasterxml.jackson.dataformat.smile.SmileFactory", classLoader),
+						"jackson-dataformat-smile must be on the classpath to use the SMILE content format");
+				yield SmileSupport.createFactory();
+			}
+			case CBOR -> {
+				Assert.state(ClassUtils.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory", classLoader),
+						"jackson-dataformat-cbor must be on the classpath to use the CBOR content format");
+				yield CborSupport.createFactory();
+			}
+			case JSON -> throw new IllegalArgumentException("JSON is not a binary content format");
+		};
+	}
+
+	private static String mediaType(ContentFormat contentFormat) {
+
+		String subtype = contentFormat.name().toLowerCase();
+		return Version.VERSION == null ? "application/" + subtype
+				: "application/vnd.elasticsearch+" + subtype + "; compatible-with=" + Version.VERSION.major();
+	}
+
+	// the factories are created in separate classes so that the optional modules are only loaded when used
+	private static class SmileSupport {
+		static JsonFactory createFactory() {
+			return new SmileFactory();
+		}
+	}
+
+	private static class CborSupport {
+		static JsonFactory createFactory() {
+			return new CBORFactory();
+		}
+	}
+
+	@Override
+	public TransportOptions createOptions(@Nullable TransportOptions options) {
+		return delegate.createOptions(options);
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+
+		if (!BINARY_RESPONSE_ENDPOINTS.contains(endpointId)) {
+			return delegate.performRequest(endpointId, node, request, options);
+		}
+
+		boolean binaryRequest = isBinaryRequest(endpointId, request);
+		Response response = delegate.performRequest(endpointId, node, binaryRequest ? transcode(request) : request,
+				withMediaTypeHeaders(options, binaryRequest));
+		return new ContentFormatResponse(response);
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		if (!BINARY_RESPONSE_ENDPOINTS.contains(endpointId)) {
+			return delegate.performRequestAsync(endpointId, node, request, options);
+		}
+
+		boolean binaryRequest = isBinaryRequest(endpointId, request);
+		Request requestToSend;
+
+		try {
+			requestToSend = binaryRequest ? transcode(request) : request;
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		return delegate
+				.performRequestAsync(endpointId, node, requestToSend, withMediaTypeHeaders(options, binaryRequest))
+				.thenApply(ContentFormatResponse::new);
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private boolean isBinaryRequest(String endpointId, Request request) {
+		return binaryRequests && BINARY_REQUEST_ENDPOINTS.contains(endpointId) && request.body() != null;
+	}
+
+	private TransportOptions withMediaTypeHeaders(@Nullable TransportOptions options, boolean binaryRequest) {
+
+		TransportOptions.Builder builder = options != null ? options.toBuilder()
+				: new RestClientOptions(RequestOptions.DEFAULT).toBuilder();
+		builder.setHeader("Accept", mediaType);
+
+		if (binaryRequest) {
+			builder.setHeader("Content-Type", mediaType);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Transcodes the NDJSON body of the request into the binary format. Each line is written as a separate document,
+	 * as Elasticsearch parses them one by one, followed by the stream separator of the binary formats.
+	 */
+	private Request transcode(Request request) throws IOException {
+
+		int size = 0;
+		for (ByteBuffer buffer : request.body()) {
+			size += buffer.remaining();
+		}
+
+		byte[] json = new byte[size];
+		int offset = 0;
+		for (ByteBuffer buffer : request.body()) {
+			int length = buffer.remaining();
+			buffer.duplicate().get(json, offset, length);
+			offset += length;
+		}
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(size);
+
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			while (parser.nextToken() != null) {
+				try (JsonGenerator generator = binaryFactory.createGenerator(outputStream)) {
+					generator.copyCurrentStructure(parser);
+				}
+				outputStream.write(BINARY_STREAM_SEPARATOR);
+			}
+		}
+
+		Map<String, String> headers = new HashMap<>(request.headers());
+		headers.put("Content-Type", mediaType);
+
+		return new Request(request.method(), request.path(), request.queryParams(), headers,
+				Collections.singletonList(ByteBuffer.wrap(outputStream.toByteArray())));
+	}
+
+	/**
+	 * A response whose body is marked for the {@link ContentFormatJsonpMapper} when it is in the binary format.
+	 */
+	private class ContentFormatResponse implements Response {
+
+		private final Response delegate;
+
+		ContentFormatResponse(Response delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Node node() {
+			return delegate.node();
+		}
+
+		@Override
+		public int statusCode() {
+			return delegate.statusCode();
+		}
+
+		@Nullable
+		@Override
+		public String header(String name) {
+			return delegate.header(name);
+		}
+
+		@Override
+		public List<String> headers(String name) {
+			return delegate.headers(name);
+		}
+
+		@Nullable
+		@Override
+		public BinaryData body() throws IOException {
+
+			BinaryData body = delegate.body();
+
+			if (body != null && isBinary(body.contentType())) {
+				return new BinaryContentData(body);
+			}
+
+			return body;
+		}
+
+		@Nullable
+		@Override
+		public Object originalResponse() {
+			return delegate.originalResponse();
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+		private boolean isBinary(@Nullable String contentType) {
+
+			if (contentType == null) {
+				return false;
+			}
+
+			String subtype = contentFormat.name().toLowerCase();
+			return contentType.startsWith("application/" + subtype)
+					|| contentType.startsWith("application/vnd.elasticsearch+" + subtype);
+		}
+	}
+
+	/**
+	 * A binary body that reports a JSON content type, as the transport only accepts JSON responses, and marks its
+	 * content for the {@link ContentFormatJsonpMapper}.
+	 */
+	private record BinaryContentData(BinaryData delegate) implements BinaryData {
+
+		@Override
+		public String contentType() {
+			return JSON_CONTENT_TYPE;
+		}
+
+		@Override
+		public void writeTo(OutputStream out) throws IOException {
+			delegate.writeTo(out);
+		}
+
+		@Override
+		public ByteBuffer asByteBuffer() throws IOException {
+			return delegate.asByteBuffer();
+		}
+
+		@Override
+		public InputStream asInputStream() throws IOException {
+			return new ContentFormatJsonpMapper.BinaryContentInputStream(delegate.asInputStream());
+		}
+
+		@Override
+		public boolean isRepeatable() {
+			return delegate.isRepeatable();
+		}
+
+		@Override
+		public long size() {
+			return delegate.size();
+		}
+	}
+}
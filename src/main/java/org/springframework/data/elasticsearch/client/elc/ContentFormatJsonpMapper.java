@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonProvider;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpParser;
+import jakarta.json.JsonException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A {@link JacksonJsonpMapper} that parses response bodies which are marked as binary by wrapping them into a
+ * {@link BinaryContentInputStream} with the Jackson {@link JsonFactory} of the binary format. All other input, and all
+ * output, is handled as JSON. The parsers for binary content use the {@link ObjectMapper} of this mapper as codec.
+ *
+ * @since 5.3
+ */
+final class ContentFormatJsonpMapper extends JacksonJsonpMapper {
+
+	private final JsonFactory binaryFactory;
+	private final JsonProvider provider;
+
+	ContentFormatJsonpMapper(ObjectMapper objectMapper, JsonFactory binaryFactory) {
+
+		super(objectMapper);
+
+		Assert.notNull(binaryFactory, "binaryFactory must not be null");
+
+		this.binaryFactory = binaryFactory;
+		this.provider = new ContentFormatJsonProvider(this);
+	}
+
+	@Override
+	public JsonProvider jsonProvider() {
+		return provider;
+	}
+
+	@Override
+	public <T> JsonpMapper withAttribute(String name, T value) {
+		return new ContentFormatJsonpMapper(objectMapper(), binaryFactory).addAttribute(name, value);
+	}
+
+	/**
+	 * Marks an {@link InputStream} as containing content in the binary format of the mapper.
+	 */
+	static class BinaryContentInputStream extends FilterInputStream {
+
+		BinaryContentInputStream(InputStream in) {
+			super(in);
+		}
+	}
+
+	private static class ContentFormatJsonProvider extends JacksonJsonProvider {
+
+		private final ContentFormatJsonpMapper mapper;
+
+		ContentFormatJsonProvider(ContentFormatJsonpMapper mapper) {
+			super(mapper);
+			this.mapper = mapper;
+		}
+
+		@Override
+		public JsonParser createParser(InputStream in) {
+
+			if (in instanceof BinaryContentInputStream) {
+				try {
+					com.fasterxml.jackson.core.JsonParser parser = new BinaryParser(mapper.binaryFactory.createParser(in));
+					parser.setCodec(mapper.objectMapper());
+					return new JacksonJsonpParser(parser, mapper);
+				} catch (IOException e) {
+					throw new JsonException(e.getMessage(), e);
+				}
+			}
+
+			return super.createParser(in);
+		}
+	}
+
+	/**
+	 * The {@link JacksonJsonpParser} reads field names with {@code getValueAsString()}, which the parsers of the binary
+	 * formats only support for scalar values.
+	 */
+	private static class BinaryParser extends JsonParserDelegate {
+
+		BinaryParser(com.fasterxml.jackson.core.JsonParser parser) {
+			super(parser);
+		}
+
+		@Override
+		public String getValueAsString() throws IOException {
+			return hasToken(JsonToken.FIELD_NAME) ? currentName() : super.getValueAsString();
+		}
+	}
+}
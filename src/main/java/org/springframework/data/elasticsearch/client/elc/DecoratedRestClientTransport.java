@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransportBase;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
+
+import org.elasticsearch.client.RestClient;
+
+/**
+ * An {@link co.elastic.clients.transport.ElasticsearchTransport} using a {@link RestClient} whose requests pass through
+ * a chain of {@link TransportHttpClient} decorators that implement the features of the {@link
+ * org.springframework.data.elasticsearch.client.ClientConfiguration} the Elasticsearch client does not provide.
+ *
+ * @since 5.3
+ */
+final class DecoratedRestClientTransport extends ElasticsearchTransportBase {
+
+	private final RestClient restClient;
+
+	DecoratedRestClientTransport(RestClient restClient, TransportHttpClient httpClient, RestClientOptions options,
+			JsonpMapper jsonpMapper) {
+
+		super(httpClient, options, jsonpMapper);
+
+		this.restClient = restClient;
+	}
+
+	public RestClient restClient() {
+		return restClient;
+	}
+}
@@ -24,12 +24,18 @@ import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.NestedIdentity;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.JsonpMapper;
-
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -41,6 +47,7 @@ import org.springframework.data.elasticsearch.core.document.NestedMetaData;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentAdapter;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+import org.springframework.data.elasticsearch.support.CompactMap;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -84,40 +91,13 @@ final class DocumentAdapters {
 
 		List<String> matchedQueries = hit.matchedQueries();
 
-		Function<Map<String, JsonData>, EntityAsMap> fromFields = fields -> {
-			StringBuilder sb = new StringBuilder("{");
-			final boolean[] firstField = { true };
-			hit.fields().forEach((key, jsonData) -> {
-				if (!firstField[0]) {
-					sb.append(',');
-				}
-				sb.append('"').append(key).append("\":") //
-						.append(jsonData.toJson(jsonpMapper).toString());
-				firstField[0] = false;
-			});
-			sb.append('}');
-			return new EntityAsMap().fromJson(sb.toString());
-		};
-
-		EntityAsMap hitFieldsAsMap = fromFields.apply(hit.fields());
-
-		Map<String, List<Object>> documentFields = new LinkedHashMap<>();
-		hitFieldsAsMap.forEach((key, value) -> {
-			if (value instanceof List) {
-				// noinspection unchecked
-				documentFields.put(key, (List<Object>) value);
-			} else {
-				documentFields.put(key, Collections.singletonList(value));
-			}
-		});
-
 		Document document;
 		Object source = hit.source();
 		if (source == null) {
-			document = Document.from(hitFieldsAsMap);
+			document = Document.create();
 		} else {
 			if (source instanceof EntityAsMap entityAsMap) {
-				document = Document.from(entityAsMap);
+				document = from(entityAsMap);
 			} else if (source instanceof JsonData jsonData) {
 				document = Document.from(jsonData.to(EntityAsMap.class));
 			} else {
@@ -128,6 +108,26 @@ final class DocumentAdapters {
 				document = Document.create();
 			}
 		}
+
+		Map<String, JsonData> hitFields = hit.fields();
+		Map<String, List<Object>> documentFields = hitFields.isEmpty() ? Collections.emptyMap()
+				: new CompactMap<>(hitFields.size());
+
+		for (Map.Entry<String, JsonData> hitField : hitFields.entrySet()) {
+			Object value = toObject(hitField.getValue().toJson(jsonpMapper));
+
+			if (source == null) {
+				document.put(hitField.getKey(), value);
+			}
+
+			if (value instanceof List) {
+				// noinspection unchecked
+				documentFields.put(hitField.getKey(), (List<Object>) value);
+			} else {
+				documentFields.put(hitField.getKey(), Collections.singletonList(value));
+			}
+		}
+
 		document.setIndex(hit.index());
 		document.setId(hit.id());
 
@@ -143,9 +143,70 @@ final class DocumentAdapters {
 				documentFields, highlightFields, innerHits, nestedMetaData, explanation, matchedQueries, hit.routing());
 	}
 
+	/**
+	 * Converts a {@link JsonValue} to the objects that Jackson would create when reading it into a {@link Map}.
+	 */
+	@Nullable
+	private static Object toObject(JsonValue jsonValue) {
+
+		return switch (jsonValue.getValueType()) {
+			case OBJECT -> {
+				JsonObject jsonObject = jsonValue.asJsonObject();
+				Map<String, Object> map = new CompactMap<>(jsonObject.size());
+				jsonObject.forEach((key, value) -> map.put(key, toObject(value)));
+				yield map;
+			}
+			case ARRAY -> {
+				JsonArray jsonArray = jsonValue.asJsonArray();
+				List<Object> list = new ArrayList<>(jsonArray.size());
+				jsonArray.forEach(value -> list.add(toObject(value)));
+				yield list;
+			}
+			case STRING -> ((JsonString) jsonValue).getString();
+			case NUMBER -> toObject((JsonNumber) jsonValue);
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case NULL -> null;
+		};
+	}
+
+	private static Object toObject(JsonNumber jsonNumber) {
+
+		Number number = jsonNumber.numberValue();
+
+		if (number instanceof Integer || number instanceof Double) {
+			return number;
+		}
+
+		if (!jsonNumber.isIntegral()) {
+			return jsonNumber.doubleValue();
+		}
+
+		if (number instanceof Long longValue) {
+
+			if (longValue == longValue.intValue()) {
+				return longValue.intValue();
+			}
+
+			return longValue;
+		}
+
+		BigInteger bigInteger = jsonNumber.bigIntegerValue();
+
+		if (bigInteger.bitLength() < Integer.SIZE) {
+			return bigInteger.intValue();
+		}
+
+		if (bigInteger.bitLength() < Long.SIZE) {
+			return bigInteger.longValue();
+		}
+
+		return bigInteger;
+	}
+
 	public static SearchDocument from(CompletionSuggestOption<EntityAsMap> completionSuggestOption) {
 
-		Document document = completionSuggestOption.source() != null ? Document.from(completionSuggestOption.source())
+		Document document = completionSuggestOption.source() != null ? from(completionSuggestOption.source())
 				: Document.create();
 		document.setIndex(completionSuggestOption.index());
 
@@ -158,6 +219,13 @@ final class DocumentAdapters {
 				Collections.emptyMap(), null, null, null, completionSuggestOption.routing());
 	}
 
+	private static Document from(EntityAsMap entityAsMap) {
+
+		Document document = Document.from(entityAsMap);
+		document.setRawSource(entityAsMap.getRawSource());
+		return document;
+	}
+
 	@Nullable
 	private static Explanation from(@Nullable co.elastic.clients.elasticsearch.core.explain.Explanation explanation) {
 
@@ -201,7 +269,7 @@ final class DocumentAdapters {
 			return null;
 		}
 
-		Document document = getResponse.source() != null ? Document.from(getResponse.source()) : Document.create();
+		Document document = getResponse.source() != null ? from(getResponse.source()) : Document.create();
 		document.setIndex(getResponse.index());
 		document.setId(getResponse.id());
 
@@ -18,15 +18,19 @@ package org.springframework.data.elasticsearch.client.elc;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.DefaultTransportOptions;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.TransportOptions;
 import co.elastic.clients.transport.TransportUtils;
 import co.elastic.clients.transport.Version;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.rest_client.RestClientHttpClient;
 import co.elastic.clients.transport.rest_client.RestClientOptions;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 
 import java.net.InetSocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
@@ -43,13 +47,21 @@ import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.Node;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.ConcurrencyLimit;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.ContentFormat;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.HedgedReads;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.TransportType;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
 import org.springframework.data.elasticsearch.support.HttpHeaders;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Utility class to create the different Elasticsearch clients
@@ -79,7 +91,7 @@ public final class ElasticsearchClients {
 
 		Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
 
-		return createReactive(getRestClient(clientConfiguration), null, DEFAULT_JSONP_MAPPER);
+		return createReactive(clientConfiguration, null, DEFAULT_JSONP_MAPPER);
 	}
 
 	/**
@@ -94,7 +106,7 @@ public final class ElasticsearchClients {
 
 		Assert.notNull(clientConfiguration, "ClientConfiguration must not be null!");
 
-		return createReactive(getRestClient(clientConfiguration), transportOptions, DEFAULT_JSONP_MAPPER);
+		return createReactive(clientConfiguration, transportOptions, DEFAULT_JSONP_MAPPER);
 	}
 
 	/**
@@ -111,7 +123,8 @@ public final class ElasticsearchClients {
 		Assert.notNull(clientConfiguration, "ClientConfiguration must not be null!");
 		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
 
-		return createReactive(getRestClient(clientConfiguration), transportOptions, jsonpMapper);
+		return createReactive(
+				getElasticsearchTransport(clientConfiguration, REACTIVE_CLIENT, transportOptions, jsonpMapper));
 	}
 
 	/**
@@ -162,7 +175,7 @@ public final class ElasticsearchClients {
 	 * @return the {@link ElasticsearchClient}
 	 */
 	public static ElasticsearchClient createImperative(ClientConfiguration clientConfiguration) {
-		return createImperative(getRestClient(clientConfiguration), null, DEFAULT_JSONP_MAPPER);
+		return createImperative(clientConfiguration, null);
 	}
 
 	/**
@@ -173,8 +186,9 @@ public final class ElasticsearchClients {
 	 * @return the {@link ElasticsearchClient}
 	 */
 	public static ElasticsearchClient createImperative(ClientConfiguration clientConfiguration,
-			TransportOptions transportOptions) {
-		return createImperative(getRestClient(clientConfiguration), transportOptions, DEFAULT_JSONP_MAPPER);
+			@Nullable TransportOptions transportOptions) {
+		return createImperative(
+				getElasticsearchTransport(clientConfiguration, IMPERATIVE_CLIENT, transportOptions, DEFAULT_JSONP_MAPPER));
 	}
 
 	/**
@@ -245,10 +259,20 @@ public final class ElasticsearchClients {
 	 * @return the {@link RestClient}
 	 */
 	public static RestClient getRestClient(ClientConfiguration clientConfiguration) {
-		return getRestClientBuilder(clientConfiguration).build();
+
+		NodeSniffer nodeSniffer = clientConfiguration.getNodeSniffing()
+				.map(nodeSniffing -> new NodeSniffer(nodeSniffing, clientConfiguration.useSsl())).orElse(null);
+		RestClient restClient = getRestClientBuilder(clientConfiguration, nodeSniffer).build();
+
+		if (nodeSniffer != null) {
+			nodeSniffer.start(restClient);
+		}
+
+		return restClient;
 	}
 
-	private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration) {
+	private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration,
+			@Nullable NodeSniffer nodeSniffer) {
 		HttpHost[] httpHosts = formattedHosts(clientConfiguration.getEndpoints(), clientConfiguration.useSsl()).stream()
 				.map(HttpHost::create).toArray(HttpHost[]::new);
 		RestClientBuilder builder = RestClient.builder(httpHosts);
@@ -263,6 +287,29 @@ public final class ElasticsearchClients {
 			builder.setDefaultHeaders(toHeaderArray(headers));
 		}
 
+		LatencyAwareNodeSelector nodeSelector = clientConfiguration.getLatencyAwareNodeSelection()
+				.map(LatencyAwareNodeSelector::new).orElse(null);
+
+		List<RestClient.FailureListener> failureListeners = new ArrayList<>();
+
+		if (nodeSelector != null) {
+			builder.setNodeSelector(nodeSelector);
+			failureListeners.add(nodeSelector.failureListener());
+		}
+
+		if (nodeSniffer != null) {
+			failureListeners.add(nodeSniffer.failureListener());
+		}
+
+		if (!failureListeners.isEmpty()) {
+			builder.setFailureListener(new RestClient.FailureListener() {
+				@Override
+				public void onFailure(Node node) {
+					failureListeners.forEach(failureListener -> failureListener.onFailure(node));
+				}
+			});
+		}
+
 		builder.setHttpClientConfigCallback(clientBuilder -> {
 			if (clientConfiguration.getCaFingerprint().isPresent()) {
 				clientBuilder
@@ -290,6 +337,15 @@ public final class ElasticsearchClients {
 
 			clientConfiguration.getProxy().map(HttpHost::create).ifPresent(clientBuilder::setProxy);
 
+			if (clientConfiguration.isConnectionPoolConfigured()) {
+				ConnectionPools.configure(clientBuilder, clientConfiguration);
+			}
+
+			if (nodeSelector != null) {
+				clientBuilder.addInterceptorFirst(nodeSelector.requestInterceptor());
+				clientBuilder.addInterceptorFirst(nodeSelector.responseInterceptor());
+			}
+
 			for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
 					.getClientConfigurers()) {
 				if (clientConfigurer instanceof ElasticsearchHttpClientConfigurationCallback restClientConfigurationCallback) {
@@ -323,6 +379,26 @@ public final class ElasticsearchClients {
 	 */
 	public static ElasticsearchTransport getElasticsearchTransport(RestClient restClient, String clientType,
 			@Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper) {
+		return getElasticsearchTransport(restClient, clientType, transportOptions, jsonpMapper, null);
+	}
+
+	/**
+	 * Creates an {@link ElasticsearchTransport} that will use the given client that additionally is customized with a
+	 * header to contain the clientType. The features of the given {@link ClientConfiguration} that are implemented on
+	 * the transport level, like the {@link ClientConfiguration#getContentFormat() content format} and the
+	 * {@link ClientConfiguration#isCompressionEnabled() compression} of request bodies, are applied to the transport.
+	 *
+	 * @param restClient the client to use
+	 * @param clientType the client type to pass in each request as header
+	 * @param transportOptions options for the transport
+	 * @param jsonpMapper mapper for the transport, must be a {@link JacksonJsonpMapper} for binary content formats
+	 * @param clientConfiguration the configuration the client was created from, may be {@literal null}
+	 * @return ElasticsearchTransport
+	 * @since 5.3
+	 */
+	public static ElasticsearchTransport getElasticsearchTransport(RestClient restClient, String clientType,
+			@Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper,
+			@Nullable ClientConfiguration clientConfiguration) {
 
 		Assert.notNull(restClient, "restClient must not be null");
 		Assert.notNull(clientType, "clientType must not be null");
@@ -332,26 +408,148 @@ public final class ElasticsearchClients {
 				: new RestClientOptions(RequestOptions.DEFAULT).toBuilder();
 
 		RestClientOptions.Builder restClientOptionsBuilder = getRestClientOptionsBuilder(transportOptions);
+		addDefaultHeaders(restClientOptionsBuilder, transportOptions, clientType);
+
+		if (clientConfiguration == null || !needsDecoratedTransport(clientConfiguration)) {
+			return new RestClientTransport(restClient, jsonpMapper, restClientOptionsBuilder.build());
+		}
+
+		return new DecoratedRestClientTransport(restClient,
+				decorate(new RestClientHttpClient(restClient), clientConfiguration), restClientOptionsBuilder.build(),
+				decorate(jsonpMapper, clientConfiguration));
+	}
+
+	/**
+	 * Creates an {@link ElasticsearchTransport} on the HTTP client selected with the
+	 * {@link ClientConfiguration#getTransportType() transport type} of the given configuration. For the
+	 * {@link TransportType#REST_CLIENT} this is the same as passing a {@link RestClient} created with
+	 * {@link #getRestClient(ClientConfiguration)} to
+	 * {@link #getElasticsearchTransport(RestClient, String, TransportOptions, JsonpMapper, ClientConfiguration)}.
+	 *
+	 * @param clientConfiguration the configuration to create the client from, must not be {@literal null}
+	 * @param clientType the client type to pass in each request as header
+	 * @param transportOptions options for the transport
+	 * @param jsonpMapper mapper for the transport, must be a {@link JacksonJsonpMapper} for binary content formats
+	 * @return ElasticsearchTransport
+	 * @since 5.3
+	 */
+	public static ElasticsearchTransport getElasticsearchTransport(ClientConfiguration clientConfiguration,
+			String clientType, @Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper) {
+
+		Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
+		Assert.notNull(clientType, "clientType must not be null");
+		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+
+		TransportType transportType = clientConfiguration.getTransportType();
+
+		if (transportType == TransportType.REST_CLIENT) {
+			return getElasticsearchTransport(getRestClient(clientConfiguration), clientType, transportOptions, jsonpMapper,
+					clientConfiguration);
+		}
+
+		TransportOptions.Builder transportOptionsBuilder = transportOptions != null ? transportOptions.toBuilder()
+				: new DefaultTransportOptions.Builder();
+		addDefaultHeaders(transportOptionsBuilder, transportOptions, clientType);
+
+		TransportHttpClient httpClient = switch (transportType) {
+			case REACTOR_NETTY -> {
+				Assert.state(ClassUtils.isPresent("reactor.netty.http.client.HttpClient", null),
+						"reactor-netty-http must be on the classpath to use the REACTOR_NETTY transport type");
+				yield new ReactorNettyHttpClient(clientConfiguration);
+			}
+			case JDK_HTTP_CLIENT -> new JdkHttpClient(clientConfiguration);
+			case REST_CLIENT -> throw new IllegalStateException("the RestClient transport is created above");
+		};
+
+		return new HttpClientTransport(decorate(httpClient, clientConfiguration), transportOptionsBuilder.build(),
+				decorate(jsonpMapper, clientConfiguration));
+	}
+
+	private static void addDefaultHeaders(TransportOptions.Builder transportOptionsBuilder,
+			@Nullable TransportOptions transportOptions, String clientType) {
 
 		ContentType jsonContentType = Version.VERSION == null ? ContentType.APPLICATION_JSON
 				: ContentType.create("application/vnd.elasticsearch+json",
 						new BasicNameValuePair("compatible-with", String.valueOf(Version.VERSION.major())));
 
 		Consumer<String> setHeaderIfNotPresent = header -> {
-			if (restClientOptionsBuilder.build().headers().stream() //
+			if (transportOptions == null || transportOptions.headers().stream() //
 					.noneMatch((h) -> h.getKey().equalsIgnoreCase(header))) {
 				// need to add the compatibility header, this is only done automatically when not passing in custom options.
 				// code copied from RestClientTransport as it is not available outside the package
-				restClientOptionsBuilder.addHeader(header, jsonContentType.toString());
+				transportOptionsBuilder.addHeader(header, jsonContentType.toString());
 			}
 		};
 
 		setHeaderIfNotPresent.accept("Content-Type");
 		setHeaderIfNotPresent.accept("Accept");
 
-		restClientOptionsBuilder.addHeader(X_SPRING_DATA_ELASTICSEARCH_CLIENT, clientType);
+		transportOptionsBuilder.addHeader(X_SPRING_DATA_ELASTICSEARCH_CLIENT, clientType);
+	}
+
+	private static boolean needsDecoratedTransport(ClientConfiguration clientConfiguration) {
+		return clientConfiguration.getContentFormat() != ContentFormat.JSON || clientConfiguration.isCompressionEnabled()
+				|| clientConfiguration.getRetryPolicy().isPresent() || clientConfiguration.getReadConcurrencyLimit().isPresent()
+				|| clientConfiguration.getWriteConcurrencyLimit().isPresent()
+				|| clientConfiguration.getHedgedReads().isPresent();
+	}
+
+	/**
+	 * Wraps the given client into the decorators for the transport level features of the configuration.
+	 */
+	private static TransportHttpClient decorate(TransportHttpClient httpClient, ClientConfiguration clientConfiguration) {
+
+		// innermost, so that cancelling the request that lost reaches the client
+		HedgedReads hedgedReads = clientConfiguration.getHedgedReads().orElse(null);
+		if (hedgedReads != null) {
+			httpClient = new HedgingHttpClient(httpClient, hedgedReads, clientConfiguration.getClientMetrics());
+		}
+
+		// inside the retries, so that each attempt of a retried request needs a permit and is measured on its own
+		ConcurrencyLimit readLimit = clientConfiguration.getReadConcurrencyLimit().orElse(null);
+		ConcurrencyLimit writeLimit = clientConfiguration.getWriteConcurrencyLimit().orElse(null);
+		if (readLimit != null || writeLimit != null) {
+			ClientMetrics clientMetrics = clientConfiguration.getClientMetrics();
+			httpClient = new ConcurrencyLimitingHttpClient(httpClient,
+					readLimit != null ? new AdaptiveConcurrencyLimiter("read", readLimit, clientMetrics) : null,
+					writeLimit != null ? new AdaptiveConcurrencyLimiter("write", writeLimit, clientMetrics) : null);
+		}
+
+		// inside the compression, so that a retried request is not compressed again
+		RetryPolicy retryPolicy = clientConfiguration.getRetryPolicy().orElse(null);
+		if (retryPolicy != null) {
+			httpClient = new RetryingHttpClient(httpClient, retryPolicy, clientConfiguration.getClientMetrics());
+		}
+
+		if (clientConfiguration.isCompressionEnabled()) {
+			httpClient = new CompressingHttpClient(httpClient, clientConfiguration.getCompressionThreshold(),
+					clientConfiguration.getClientMetrics());
+		}
+
+		if (clientConfiguration.getContentFormat() != ContentFormat.JSON) {
+			httpClient = new ContentFormatHttpClient(httpClient, clientConfiguration.getContentFormat());
+		}
+
+		return httpClient;
+	}
+
+	/**
+	 * Returns the mapper that matches the client returned from {@link #decorate(TransportHttpClient,
+	 * ClientConfiguration)}.
+	 */
+	private static JsonpMapper decorate(JsonpMapper jsonpMapper, ClientConfiguration clientConfiguration) {
+
+		ContentFormat contentFormat = clientConfiguration.getContentFormat();
+
+		if (contentFormat == ContentFormat.JSON) {
+			return jsonpMapper;
+		}
+
+		Assert.isInstanceOf(JacksonJsonpMapper.class, jsonpMapper,
+				"the " + contentFormat + " content format needs a JacksonJsonpMapper");
 
-		return new RestClientTransport(restClient, jsonpMapper, restClientOptionsBuilder.build());
+		return new ContentFormatJsonpMapper(((JacksonJsonpMapper) jsonpMapper).objectMapper(),
+				ContentFormatHttpClient.createJsonFactory(contentFormat));
 	}
 	// endregion
 
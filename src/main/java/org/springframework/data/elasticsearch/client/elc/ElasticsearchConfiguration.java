@@ -29,6 +29,7 @@ import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.data.elasticsearch.config.ElasticsearchConfigurationSupport;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -45,6 +46,8 @@ import com.fasterxml.jackson.databind.SerializationFeature;
  */
 public abstract class ElasticsearchConfiguration extends ElasticsearchConfigurationSupport {
 
+	@Nullable private ClientConfiguration restClientConfiguration;
+
 	/**
 	 * Must be implemented by deriving classes to provide the {@link ClientConfiguration}.
 	 *
@@ -64,12 +67,17 @@ public abstract class ElasticsearchConfiguration extends ElasticsearchConfigurat
 
 		Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
 
+		restClientConfiguration = clientConfiguration;
+
 		return ElasticsearchClients.getRestClient(clientConfiguration);
 	}
 
 	/**
 	 * Provides the Elasticsearch transport to be used. The default implementation uses the {@link RestClient} bean and
-	 * the {@link JsonpMapper} bean provided in this class.
+	 * the {@link JsonpMapper} bean provided in this class, and applies the transport level features of the
+	 * {@link ClientConfiguration} the {@link RestClient} bean was created from. When the configuration selects another
+	 * {@link ClientConfiguration#getTransportType() transport type}, the transport is built on that HTTP client instead
+	 * and the {@link RestClient} is not used.
 	 *
 	 * @return the {@link ElasticsearchTransport}
 	 * @since 5.2
@@ -80,8 +88,18 @@ public abstract class ElasticsearchConfiguration extends ElasticsearchConfigurat
 		Assert.notNull(restClient, "restClient must not be null");
 		Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
 
+		// the configuration the RestClient bean was created from; calling clientConfiguration() again would create a
+		// second instance when the configuration class does not proxy its bean methods
+		ClientConfiguration clientConfiguration = restClientConfiguration != null ? restClientConfiguration
+				: clientConfiguration();
+
+		if (clientConfiguration.getTransportType() != ClientConfiguration.TransportType.REST_CLIENT) {
+			return ElasticsearchClients.getElasticsearchTransport(clientConfiguration, ElasticsearchClients.IMPERATIVE_CLIENT,
+					transportOptions(), jsonpMapper);
+		}
+
 		return ElasticsearchClients.getElasticsearchTransport(restClient, ElasticsearchClients.IMPERATIVE_CLIENT,
-				transportOptions(), jsonpMapper);
+				transportOptions(), jsonpMapper, clientConfiguration);
 	}
 
 	/**
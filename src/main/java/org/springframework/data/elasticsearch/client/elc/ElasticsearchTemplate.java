@@ -18,12 +18,15 @@ package org.springframework.data.elasticsearch.client.elc;
 import static org.springframework.data.elasticsearch.client.elc.TypeUtils.*;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
 import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.json.JsonpDeserializer;
 import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.Endpoint;
 import co.elastic.clients.transport.Version;
 
 import java.io.IOException;
@@ -34,6 +37,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -41,6 +45,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.BulkItemResult;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
@@ -105,7 +110,21 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 	@Override
 	protected AbstractElasticsearchTemplate doCopy() {
-		return new ElasticsearchTemplate(client, elasticsearchConverter);
+		ElasticsearchTemplate copy = new ElasticsearchTemplate(client, elasticsearchConverter);
+		copy.setStreamingEntityWrites(requestConverter.isStreamingEntityWrites());
+		return copy;
+	}
+
+	/**
+	 * Sets whether entities are written directly to the request body when indexing. This avoids creating an
+	 * intermediate {@link org.springframework.data.elasticsearch.core.document.Document} for every entity, the written
+	 * JSON is the same. Defaults to {@literal false}.
+	 *
+	 * @param streamingEntityWrites if {@literal true} entities are streamed
+	 * @since 5.3
+	 */
+	public void setStreamingEntityWrites(boolean streamingEntityWrites) {
+		requestConverter.setStreamingEntityWrites(streamingEntityWrites);
 	}
 	// endregion
 
@@ -137,7 +156,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
 				routingResolver.getRouting(), index);
-		GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
+		GetResponse<EntityAsMap> getResponse = executeForSources(getRequest, clazz, GetRequest::createGetEndpoint,
+				client -> client.get(getRequest, EntityAsMap.class));
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		return callback.doWith(DocumentAdapters.from(getResponse));
@@ -150,7 +170,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(clazz, "clazz must not be null");
 
 		MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
-		MgetResponse<EntityAsMap> result = execute(client -> client.mget(request, EntityAsMap.class));
+		MgetResponse<EntityAsMap> result = executeForSources(request, clazz, MgetRequest::createMgetEndpoint,
+				client -> client.mget(request, EntityAsMap.class));
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 
@@ -304,11 +325,24 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	public List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index) {
 
-		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
-		BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
-		List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
-		updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
-		return indexedObjectInformationList;
+		return doInBulkChunks(queries, bulkOptions, chunk -> {
+			BulkRequest bulkRequest = requestConverter.documentBulkRequest(chunk, bulkOptions, index, refreshPolicy);
+			BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+			List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
+			updateIndexedObjectsWithQueries(chunk, indexedObjectInformationList);
+			return indexedObjectInformationList;
+		});
+	}
+
+	@Override
+	protected List<BulkItemResult> doBulkOperationWithItemResults(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		return doInBulkChunks(queries, bulkOptions, chunk -> {
+			BulkRequest bulkRequest = requestConverter.documentBulkRequest(chunk, bulkOptions, index, refreshPolicy);
+			BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+			return responseConverter.bulkItemResults(bulkResponse);
+		});
 	}
 
 	// endregion
@@ -360,12 +394,14 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	protected <T> SearchHits<T> doSearch(Query query, Class<T> clazz, IndexCoordinates index) {
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				false);
-		SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+		SearchResponse<EntityAsMap> searchResponse = executeForSources(searchRequest, clazz,
+				SearchRequest::createSearchEndpoint, client -> client.search(searchRequest, EntityAsMap.class));
 
 		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
-		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				query);
 
 		return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
 	}
@@ -377,7 +413,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
-		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				query);
 
 		return callback.doWith(SearchDocumentResponseBuilder.from(searchTemplateResponse, entityCreator, jsonpMapper));
 	}
@@ -404,29 +441,37 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		SearchRequest request = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false,
 				scrollTimeInMillis);
-		SearchResponse<EntityAsMap> response = execute(client -> client.search(request, EntityAsMap.class));
+		SearchResponse<EntityAsMap> response = executeForSources(request, clazz, SearchRequest::createSearchEndpoint,
+				client -> client.search(request, EntityAsMap.class));
 
-		return getSearchScrollHits(clazz, index, response);
+		return getSearchScrollHits(clazz, index, query, response);
 	}
 
 	@Override
 	public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
 			IndexCoordinates index) {
+		return searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index, null);
+	}
+
+	@Override
+	public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
+			IndexCoordinates index, @Nullable Query query) {
 
 		Assert.notNull(scrollId, "scrollId must not be null");
 
 		ScrollRequest request = ScrollRequest
 				.of(sr -> sr.scrollId(scrollId).scroll(Time.of(t -> t.time(scrollTimeInMillis + "ms"))));
-		ScrollResponse<EntityAsMap> response = execute(client -> client.scroll(request, EntityAsMap.class));
+		ScrollResponse<EntityAsMap> response = executeForSources(request, clazz, ScrollRequest::createScrollEndpoint,
+				client -> client.scroll(request, EntityAsMap.class));
 
-		return getSearchScrollHits(clazz, index, response);
+		return getSearchScrollHits(clazz, index, query, response);
 	}
 
-	private <T> SearchScrollHits<T> getSearchScrollHits(Class<T> clazz, IndexCoordinates index,
+	private <T> SearchScrollHits<T> getSearchScrollHits(Class<T> clazz, IndexCoordinates index, @Nullable Query query,
 			ResponseBody<EntityAsMap> response) {
 		ReadDocumentCallback<T> documentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponseCallback<SearchScrollHits<T>> callback = new ReadSearchScrollDocumentResponseCallback<>(clazz,
-				index);
+				index, query);
 
 		return callback
 				.doWith(SearchDocumentResponseBuilder.from(response, getEntityCreator(documentCallback), jsonpMapper));
@@ -685,6 +730,26 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			throw exceptionTranslator.translateException(e);
 		}
 	}
+
+	/**
+	 * Executes a request whose response contains document sources that are read as entities of the given class. When no
+	 * callbacks need the complete documents, the sources are deserialized with an {@link EntityAsMapDeserializer},
+	 * otherwise the given callback is executed.
+	 *
+	 * @since 5.3
+	 */
+	private <Req, Res> Res executeForSources(Req request, Class<?> clazz,
+			Function<JsonpDeserializer<EntityAsMap>, Endpoint<Req, Res, ErrorResponse>> endpointFactory,
+			ElasticsearchTemplate.ClientCallback<Res> callback) {
+
+		if (hasDocumentReadCallbacks()) {
+			return execute(callback);
+		}
+
+		Endpoint<Req, Res, ErrorResponse> endpoint = endpointFactory
+				.apply(new EntityAsMapDeserializer(elasticsearchConverter, clazz));
+		return execute(client -> client._transport().performRequest(request, endpoint, client._transportOptions()));
+	}
 	// endregion
 
 	// region helper methods
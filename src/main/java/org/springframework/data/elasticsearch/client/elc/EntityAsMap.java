@@ -15,7 +15,9 @@
  */
 package org.springframework.data.elasticsearch.client.elc;
 
+import org.springframework.data.elasticsearch.core.document.RawJson;
 import org.springframework.data.elasticsearch.support.DefaultStringObjectMap;
+import org.springframework.lang.Nullable;
 
 /**
  * A Map&lt;String,Object> to represent any entity as it's returned from Elasticsearch and before it is converted to a
@@ -24,4 +26,19 @@ import org.springframework.data.elasticsearch.support.DefaultStringObjectMap;
  * @author Peter-Josef Meisch
  * @since 4.4
  */
-public class EntityAsMap extends DefaultStringObjectMap<EntityAsMap> {}
+public class EntityAsMap extends DefaultStringObjectMap<EntityAsMap> {
+
+	/**
+	 * the unparsed source, only set when the source is read as {@link RawJson}.
+	 */
+	@Nullable private RawJson rawSource;
+
+	@Nullable
+	RawJson getRawSource() {
+		return rawSource;
+	}
+
+	void setRawSource(@Nullable RawJson rawSource) {
+		this.rawSource = rawSource;
+	}
+}
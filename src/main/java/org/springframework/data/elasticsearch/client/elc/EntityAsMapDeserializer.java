@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.json.JsonpDeserializer;
+import co.elastic.clients.json.JsonpDeserializerBase;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpParser;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.RawJson;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+
+/**
+ * Deserializes the document sources returned by Elasticsearch into {@link EntityAsMap} objects. When the client uses
+ * Jackson, the source is read directly from the underlying Jackson parser by
+ * {@link ElasticsearchConverter#readSource(Class, com.fasterxml.jackson.core.JsonParser, java.util.Map)}, which omits
+ * the values that are not needed to create an entity of the given type. When the type is {@link RawJson}, the source is
+ * copied as it is into a byte array and kept in the {@link EntityAsMap} without being parsed into a map.
+ *
+ * @since 5.3
+ */
+final class EntityAsMapDeserializer extends JsonpDeserializerBase<EntityAsMap> {
+
+	private static final JsonpDeserializer<EntityAsMap> DEFAULT_DESERIALIZER = JsonpDeserializer.of(EntityAsMap.class);
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final int SOURCE_BUFFER_SIZE = 512;
+
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final Class<?> type;
+
+	EntityAsMapDeserializer(ElasticsearchConverter elasticsearchConverter, Class<?> type) {
+
+		super(EnumSet.allOf(JsonParser.Event.class));
+
+		Assert.notNull(elasticsearchConverter, "elasticsearchConverter must not be null");
+		Assert.notNull(type, "type must not be null");
+
+		this.elasticsearchConverter = elasticsearchConverter;
+		this.type = type;
+	}
+
+	@Override
+	public EntityAsMap deserialize(JsonParser parser, JsonpMapper mapper, JsonParser.Event event) {
+
+		if (type == RawJson.class && event == JsonParser.Event.START_OBJECT
+				&& parser instanceof JacksonJsonpParser jacksonJsonpParser) {
+
+			EntityAsMap entityAsMap = new EntityAsMap();
+
+			try {
+				entityAsMap.setRawSource(copySource(jacksonJsonpParser.jacksonParser()));
+			} catch (IOException e) {
+				throw new JsonException(e.getMessage(), e);
+			}
+
+			return entityAsMap;
+		}
+
+		if (event == JsonParser.Event.START_OBJECT && parser instanceof JacksonJsonpParser jacksonJsonpParser
+				&& jacksonJsonpParser.jacksonParser().getCodec() != null) {
+
+			EntityAsMap entityAsMap = new EntityAsMap();
+
+			try {
+				elasticsearchConverter.readSource(type, jacksonJsonpParser.jacksonParser(), entityAsMap);
+			} catch (IOException e) {
+				throw new JsonException(e.getMessage(), e);
+			}
+
+			return entityAsMap;
+		}
+
+		return DEFAULT_DESERIALIZER.deserialize(parser, mapper, event);
+	}
+
+	/**
+	 * Copies the tokens of the object the parser is positioned at into a byte array without creating objects for the
+	 * values.
+	 */
+	private static RawJson copySource(com.fasterxml.jackson.core.JsonParser parser) throws IOException {
+
+		ObjectCodec codec = parser.getCodec();
+		JsonFactory jsonFactory = codec != null ? codec.getFactory() : JSON_FACTORY;
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(SOURCE_BUFFER_SIZE);
+
+		try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+			generator.copyCurrentStructure(parser);
+		}
+
+		return RawJson.of(outputStream.toByteArray());
+	}
+}
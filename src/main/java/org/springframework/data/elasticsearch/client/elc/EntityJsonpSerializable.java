@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.JsonpSerializable;
+import co.elastic.clients.json.jackson.JacksonJsonpGenerator;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.IOException;
+
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Wraps an entity that is sent as document source to Elasticsearch. When the client uses a {@link JacksonJsonpMapper},
+ * the entity is written directly to the underlying Jackson generator by
+ * {@link ElasticsearchConverter#write(Object, com.fasterxml.jackson.core.JsonGenerator)}, otherwise it is mapped to a
+ * {@link org.springframework.data.elasticsearch.core.document.Document} which is then serialized by the mapper.
+ *
+ * @since 5.3
+ */
+final class EntityJsonpSerializable implements JsonpSerializable {
+
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final Object entity;
+
+	EntityJsonpSerializable(ElasticsearchConverter elasticsearchConverter, Object entity) {
+
+		Assert.notNull(elasticsearchConverter, "elasticsearchConverter must not be null");
+		Assert.notNull(entity, "entity must not be null");
+
+		this.elasticsearchConverter = elasticsearchConverter;
+		this.entity = entity;
+	}
+
+	@Override
+	public void serialize(JsonGenerator generator, JsonpMapper mapper) {
+
+		if (mapper instanceof JacksonJsonpMapper jacksonJsonpMapper
+				&& generator instanceof JacksonJsonpGenerator jacksonJsonpGenerator
+				&& jacksonJsonpGenerator.jacksonGenerator().getCodec() == jacksonJsonpMapper.objectMapper()) {
+
+			try {
+				elasticsearchConverter.write(entity, jacksonJsonpGenerator.jacksonGenerator());
+			} catch (IOException e) {
+				throw new JsonException(e.getMessage(), e);
+			}
+		} else {
+			mapper.serialize(elasticsearchConverter.mapObject(entity), generator);
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.HedgedReads;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link TransportHttpClient} that sends a read a second time when there is no response after a percentile of the
+ * recent response times of its endpoint, and completes with the response that arrives first. The other request is
+ * cancelled, which aborts it for the {@link org.elasticsearch.client.RestClient}, and its response is closed. The
+ * number of hedges is limited by the budget of the {@link HedgedReads}.
+ *
+ * @since 5.3
+ */
+final class HedgingHttpClient implements TransportHttpClient {
+
+	private static final Log LOGGER = LogFactory.getLog(HedgingHttpClient.class);
+
+	private static final Set<String> HEDGED_ENDPOINTS = Set.of("es/search", "es/msearch", "es/count", "es/get",
+			"es/mget");
+	// the multi search has no preference parameter of its own
+	private static final Set<String> PREFERENCE_ENDPOINTS = Set.of("es/search", "es/count", "es/get", "es/mget");
+	private static final String PREFERENCE = "preference";
+	private static final String SCROLL = "scroll";
+	private static final double MAX_BUDGET_BALANCE = 10;
+
+	private final TransportHttpClient delegate;
+	private final HedgedReads hedgedReads;
+	private final ClientMetrics clientMetrics;
+	private final Map<String, ResponseTimes> responseTimes = new ConcurrentHashMap<>();
+	private double budgetBalance; // guarded by this
+
+	HedgingHttpClient(TransportHttpClient delegate, HedgedReads hedgedReads, ClientMetrics clientMetrics) {
+		this.delegate = delegate;
+		this.hedgedReads = hedgedReads;
+		this.clientMetrics = clientMetrics;
+	}
+
+	@Override
+	public TransportOptions createOptions(@Nullable TransportOptions options) {
+		return delegate.createOptions(options);
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+
+		if (!isHedgeable(endpointId, request)) {
+			return delegate.performRequest(endpointId, node, request, options);
+		}
+
+		CompletableFuture<Response> future = performRequestAsync(endpointId, node, request, options);
+
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			} else if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IOException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			InterruptedIOException interruptedIOException = new InterruptedIOException("interrupted during hedged read");
+			interruptedIOException.initCause(e);
+			throw interruptedIOException;
+		}
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		if (!isHedgeable(endpointId, request)) {
+			return delegate.performRequestAsync(endpointId, node, request, options);
+		}
+
+		clientMetrics.recordHedgeableRead();
+		ResponseTimes endpointResponseTimes = responseTimes.computeIfAbsent(endpointId, id -> new ResponseTimes());
+		long hedgeDelayNanos = endpointResponseTimes.percentileNanos(hedgedReads.percentile());
+		boolean budgetAvailable = addToBudget();
+		boolean mayHedge = hedgeDelayNanos >= 0 && budgetAvailable;
+
+		HedgedRead hedgedRead = new HedgedRead(endpointResponseTimes);
+		hedgedRead.send(false, delegate, endpointId, node, request, options);
+
+		if (mayHedge) {
+			long delayNanos = Math.max(hedgeDelayNanos, hedgedReads.minDelay().toNanos());
+			CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+				if (!hedgedRead.isDone() && takeFromBudget()) {
+					clientMetrics.recordHedge();
+					LOGGER.debug(String.format("Hedging %s request after %d ms", endpointId,
+							TimeUnit.NANOSECONDS.toMillis(delayNanos)));
+					hedgedRead.send(true, delegate, endpointId, node, hedge(endpointId, request), options);
+				}
+			});
+		}
+
+		return hedgedRead.result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private static boolean isHedgeable(String endpointId, Request request) {
+		return HEDGED_ENDPOINTS.contains(endpointId) && !request.queryParams().containsKey(SCROLL);
+	}
+
+	/**
+	 * @return {@literal true} if there is enough budget for a hedge
+	 */
+	private synchronized boolean addToBudget() {
+		budgetBalance = Math.min(MAX_BUDGET_BALANCE, budgetBalance + hedgedReads.budget());
+		return budgetBalance >= 1;
+	}
+
+	private synchronized boolean takeFromBudget() {
+
+		if (budgetBalance < 1) {
+			return false;
+		}
+
+		budgetBalance -= 1;
+		return true;
+	}
+
+	/**
+	 * Returns the request for the hedge, which has a preference of its own, so that other shard copies are likely to be
+	 * searched, and its own views of the body buffers.
+	 */
+	private static Request hedge(String endpointId, Request request) {
+
+		Map<String, String> queryParams = request.queryParams();
+
+		if (PREFERENCE_ENDPOINTS.contains(endpointId) && !queryParams.containsKey(PREFERENCE)) {
+			queryParams = new HashMap<>(queryParams);
+			// custom preferences must not start with an underscore
+			queryParams.put(PREFERENCE, "hedge-" + Integer.toHexString(ThreadLocalRandom.current().nextInt()));
+		}
+
+		List<ByteBuffer> body = null;
+
+		if (request.body() != null) {
+			body = new ArrayList<>();
+			for (ByteBuffer buffer : request.body()) {
+				body.add(buffer.duplicate());
+			}
+		}
+
+		return new Request(request.method(), request.path(), queryParams, request.headers(), body);
+	}
+
+	/**
+	 * The requests of one read. The result completes with the first response, or with the first failure when all
+	 * requests failed.
+	 */
+	private final class HedgedRead {
+
+		private final ResponseTimes responseTimes;
+		private final CompletableFuture<Response> result = new CompletableFuture<>();
+		private final List<CompletableFuture<Response>> requests = new ArrayList<>(2); // guarded by this
+		private final AtomicInteger pending = new AtomicInteger();
+		@Nullable private volatile Throwable firstFailure;
+
+		HedgedRead(ResponseTimes responseTimes) {
+			this.responseTimes = responseTimes;
+			result.whenComplete((response, throwable) -> cancelRequests());
+		}
+
+		boolean isDone() {
+			return result.isDone();
+		}
+
+		void send(boolean hedge, TransportHttpClient client, String endpointId, @Nullable Node node, Request request,
+				TransportOptions options) {
+
+			long start = System.nanoTime();
+			pending.incrementAndGet();
+			CompletableFuture<Response> future;
+
+			try {
+				future = client.performRequestAsync(endpointId, node, request, options);
+			} catch (RuntimeException e) {
+				future = CompletableFuture.failedFuture(e);
+			}
+
+			synchronized (this) {
+				requests.add(future);
+			}
+
+			future.whenComplete((response, throwable) -> {
+
+				if (throwable == null) {
+					if (result.complete(response)) {
+						responseTimes.add(System.nanoTime() - start);
+						if (hedge) {
+							clientMetrics.recordHedgeWin();
+						}
+					} else {
+						close(response);
+					}
+					return;
+				}
+
+				if (firstFailure == null) {
+					firstFailure = unwrap(throwable);
+				}
+
+				if (pending.decrementAndGet() == 0 && !isDone()) {
+					result.completeExceptionally(firstFailure);
+				}
+			});
+
+			if (isDone()) {
+				cancelRequests();
+			}
+		}
+
+		private void cancelRequests() {
+
+			List<CompletableFuture<Response>> toCancel;
+
+			synchronized (this) {
+				toCancel = new ArrayList<>(requests);
+			}
+
+			for (CompletableFuture<Response> request : toCancel) {
+				if (!request.isDone()) {
+					request.cancel(true);
+				}
+			}
+		}
+
+		private void close(@Nullable Response response) {
+
+			if (response == null) {
+				return;
+			}
+
+			try {
+				response.close();
+			} catch (IOException e) {
+				LOGGER.debug("Could not close the response of a hedged read", e);
+			}
+		}
+	}
+
+	/**
+	 * The recent response times of an endpoint.
+	 */
+	private static final class ResponseTimes {
+
+		private static final int SIZE = 1024;
+		private static final int MIN_SAMPLES = 100;
+		// the percentile is computed again after this number of new response times
+		private static final int RECOMPUTE_INTERVAL = 64;
+
+		private final long[] samples = new long[SIZE]; // all fields are guarded by this
+		private long count;
+		private int sinceComputed;
+		private double computedPercentile = Double.NaN;
+		private long percentileNanos = -1;
+
+		synchronized void add(long nanos) {
+			samples[(int) (count++ % SIZE)] = nanos;
+			sinceComputed++;
+		}
+
+		/**
+		 * @return the percentile of the recent response times, {@literal -1} if there are not enough of them
+		 */
+		synchronized long percentileNanos(double percentile) {
+
+			if (count < MIN_SAMPLES) {
+				return -1;
+			}
+
+			if (sinceComputed >= RECOMPUTE_INTERVAL || percentile != computedPercentile) {
+				long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, SIZE));
+				Arrays.sort(sorted);
+				percentileNanos = sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))];
+				computedPercentile = percentile;
+				sinceComputed = 0;
+			}
+
+			return percentileNanos;
+		}
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+
+		while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+				&& throwable.getCause() != null) {
+			throwable = throwable.getCause();
+		}
+		return throwable;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient.Request;
+
+import java.net.InetSocketAddress;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.support.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+/**
+ * Functions shared by the {@link co.elastic.clients.transport.http.TransportHttpClient} implementations that are built
+ * on other HTTP clients than the {@code RestClient} and do what the {@code RestClient} does for its requests.
+ *
+ * @since 5.3
+ */
+final class HttpClientSupport {
+
+	private HttpClientSupport() {}
+
+	/**
+	 * @return the URLs of the endpoints of the configuration including the path prefix, without trailing slash
+	 */
+	static List<String> baseUrls(ClientConfiguration clientConfiguration) {
+
+		String scheme = clientConfiguration.useSsl() ? "https" : "http";
+		String pathPrefix = clientConfiguration.getPathPrefix();
+		String path = "";
+
+		if (StringUtils.hasText(pathPrefix)) {
+			path = (pathPrefix.startsWith("/") ? "" : "/") + StringUtils.trimTrailingCharacter(pathPrefix, '/');
+		}
+
+		List<String> baseUrls = new ArrayList<>();
+
+		for (InetSocketAddress endpoint : clientConfiguration.getEndpoints()) {
+			baseUrls.add(scheme + "://" + endpoint.getHostString() + ':' + endpoint.getPort() + path);
+		}
+
+		return baseUrls;
+	}
+
+	/**
+	 * @return the query string with the parameters of the options and the request, starting with {@code ?}, or the
+	 *         empty string if there are no parameters
+	 */
+	static String queryString(Request request, TransportOptions options) {
+
+		StringBuilder queryString = new StringBuilder();
+
+		for (Map<String, String> parameters : List.of(options.queryParameters(), request.queryParams())) {
+			parameters.forEach((name, value) -> queryString.append(queryString.isEmpty() ? '?' : '&') //
+					.append(URLEncoder.encode(name, StandardCharsets.UTF_8)) //
+					.append('=') //
+					.append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+		}
+
+		return queryString.toString();
+	}
+
+	/**
+	 * Collects the headers to send like the {@code RestClient}: the headers of the options replace those of the
+	 * request, the headers of the supplier are added, and the default headers are added if not present.
+	 *
+	 * @return the headers by case-insensitive name
+	 */
+	static Map<String, List<String>> headers(Request request, TransportOptions options, HttpHeaders defaultHeaders,
+			@org.springframework.lang.Nullable HttpHeaders suppliedHeaders) {
+
+		Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+		request.headers().forEach((name, value) -> headers.put(name, new ArrayList<>(List.of(value))));
+		options.headers().forEach(header -> headers.put(header.getKey(), new ArrayList<>(List.of(header.getValue()))));
+
+		if (suppliedHeaders != null) {
+			suppliedHeaders.forEach((name, values) -> headers.computeIfAbsent(name, key -> new ArrayList<>()).addAll(values));
+		}
+
+		defaultHeaders.forEach((name, values) -> headers.putIfAbsent(name, new ArrayList<>(values)));
+
+		return headers;
+	}
+}
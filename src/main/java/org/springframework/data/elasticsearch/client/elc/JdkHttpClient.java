@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.TransportUtils;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ByteArrayBinaryData;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import javax.net.ssl.SSLContext;
+
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link TransportHttpClient} on the JDK {@link HttpClient}. The client negotiates HTTP/2 with servers that support
+ * it, so that concurrent requests are multiplexed over a single connection per node, and falls back to HTTP/1.1
+ * otherwise. TLS sessions are reused by the client. On a JDK with virtual threads the responses are handled on virtual
+ * threads. The requests are distributed round-robin over the endpoints of the {@link ClientConfiguration}, a request
+ * that cannot connect to a node is sent to the next one.
+ *
+ * @since 5.3
+ */
+final class JdkHttpClient implements TransportHttpClient {
+
+	// headers the JDK client does not allow to be set
+	private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		RESTRICTED_HEADERS.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+	}
+
+	private final HttpClient httpClient;
+	@Nullable private final ExecutorService executor;
+	private final List<String> baseUrls;
+	@Nullable private final Duration requestTimeout;
+	private final org.springframework.data.elasticsearch.support.HttpHeaders defaultHeaders;
+	private final Supplier<org.springframework.data.elasticsearch.support.HttpHeaders> headersSupplier;
+	private final AtomicInteger nextNode = new AtomicInteger();
+
+	JdkHttpClient(ClientConfiguration clientConfiguration) {
+
+		Assert.isTrue(clientConfiguration.getHostNameVerifier().isEmpty(),
+				"a HostnameVerifier is not supported by the JDK_HTTP_CLIENT transport type");
+
+		this.executor = virtualThreadExecutor();
+
+		HttpClient.Builder builder = HttpClient.newBuilder() //
+				.version(HttpClient.Version.HTTP_2) //
+				.followRedirects(HttpClient.Redirect.NEVER);
+
+		if (executor != null) {
+			builder.executor(executor);
+		}
+
+		Duration connectTimeout = clientConfiguration.getConnectTimeout();
+
+		if (!connectTimeout.isNegative() && !connectTimeout.isZero()) {
+			builder.connectTimeout(connectTimeout);
+		}
+
+		clientConfiguration.getProxy().ifPresent(proxy -> {
+			org.apache.http.HttpHost proxyHost = org.apache.http.HttpHost.create(proxy);
+			builder.proxy(
+					ProxySelector.of(InetSocketAddress.createUnresolved(proxyHost.getHostName(), proxyHost.getPort())));
+		});
+
+		if (clientConfiguration.useSsl()) {
+			builder.sslContext(clientConfiguration.getCaFingerprint() //
+					.map(TransportUtils::sslContextFromCaFingerprint) //
+					.or(clientConfiguration::getSslContext) //
+					.orElseGet(JdkHttpClient::defaultSslContext));
+		}
+
+		Duration socketTimeout = clientConfiguration.getSocketTimeout();
+
+		this.httpClient = builder.build();
+		this.baseUrls = HttpClientSupport.baseUrls(clientConfiguration);
+		this.requestTimeout = !socketTimeout.isNegative() && !socketTimeout.isZero() ? socketTimeout : null;
+		this.defaultHeaders = clientConfiguration.getDefaultHeaders();
+		this.headersSupplier = clientConfiguration.getHeadersSupplier();
+	}
+
+	/**
+	 * @return an executor that starts a virtual thread per task, {@literal null} if the JDK has no virtual threads
+	 */
+	@Nullable
+	private static ExecutorService virtualThreadExecutor() {
+
+		var method = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+		return method != null ? (ExecutorService) ReflectionUtils.invokeMethod(method, null) : null;
+	}
+
+	private static SSLContext defaultSslContext() {
+
+		try {
+			return SSLContext.getDefault();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("could not get the default SSLContext", e);
+		}
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+
+		try {
+			return performRequestAsync(endpointId, node, request, options).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while waiting for the response", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		if (node != null) {
+			return send(StringUtils.trimTrailingCharacter(node.uri().toString(), '/'), request, options);
+		}
+
+		int first = Math.floorMod(nextNode.getAndIncrement(), baseUrls.size());
+		return send(request, options, first, 0);
+	}
+
+	private CompletableFuture<Response> send(Request request, TransportOptions options, int first, int attempt) {
+
+		CompletableFuture<Response> response = send(baseUrls.get((first + attempt) % baseUrls.size()), request, options);
+
+		if (attempt + 1 < baseUrls.size()) {
+			response = response.exceptionallyCompose(e -> {
+				Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+				return cause instanceof ConnectException ? send(request, options, first, attempt + 1)
+						: CompletableFuture.failedFuture(cause);
+			});
+		}
+
+		return response;
+	}
+
+	private CompletableFuture<Response> send(String baseUrl, Request request, TransportOptions options) {
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder() //
+				.uri(URI.create(baseUrl + request.path() + HttpClientSupport.queryString(request, options))) //
+				.method(request.method(), bodyPublisher(request));
+
+		if (requestTimeout != null) {
+			builder.timeout(requestTimeout);
+		}
+
+		HttpClientSupport.headers(request, options, defaultHeaders, headersSupplier.get()).forEach((name, values) -> {
+			if (!RESTRICTED_HEADERS.contains(name)) {
+				values.forEach(value -> builder.header(name, value));
+			}
+		});
+
+		Node node = new Node(baseUrl);
+		return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+				.thenApply(response -> new JdkResponse(node, response.statusCode(), response.headers(), content(response)));
+	}
+
+	private static HttpRequest.BodyPublisher bodyPublisher(Request request) {
+
+		Iterable<ByteBuffer> body = request.body();
+
+		if (body == null) {
+			return HttpRequest.BodyPublishers.noBody();
+		}
+
+		List<byte[]> arrays = new ArrayList<>();
+
+		for (ByteBuffer buffer : body) {
+			// the buffers of the Elasticsearch client usually wrap a complete array, which is then sent without copying
+			if (buffer.hasArray() && buffer.arrayOffset() + buffer.position() == 0
+					&& buffer.remaining() == buffer.array().length) {
+				arrays.add(buffer.array());
+			} else {
+				byte[] bytes = new byte[buffer.remaining()];
+				buffer.duplicate().get(bytes);
+				arrays.add(bytes);
+			}
+		}
+
+		if (arrays.size() == 1) {
+			return HttpRequest.BodyPublishers.ofByteArray(arrays.get(0));
+		}
+
+		// with a known length the body is not sent chunked
+		long contentLength = arrays.stream().mapToLong(bytes -> bytes.length).sum();
+		return HttpRequest.BodyPublishers.fromPublisher(HttpRequest.BodyPublishers.ofByteArrays(arrays), contentLength);
+	}
+
+	/**
+	 * Returns the body of the response, decompressed if necessary as the JDK client does not decompress responses.
+	 */
+	@Nullable
+	private static byte[] content(HttpResponse<byte[]> response) {
+
+		byte[] body = response.body();
+
+		if (body == null || body.length == 0) {
+			return null;
+		}
+
+		if ("gzip".equalsIgnoreCase(response.headers().firstValue("Content-Encoding").orElse(null))) {
+			try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+				return inputStream.readAllBytes();
+			} catch (IOException e) {
+				throw new UncheckedIOException("could not decompress the response body", e);
+			}
+		}
+
+		return body;
+	}
+
+	@Override
+	public void close() {
+
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private record JdkResponse(Node node, int statusCode, HttpHeaders headers, @Nullable byte[] content)
+			implements Response {
+
+		@Nullable
+		@Override
+		public String header(String name) {
+			return headers.firstValue(name).orElse(null);
+		}
+
+		@Override
+		public List<String> headers(String name) {
+			return headers.allValues(name);
+		}
+
+		@Nullable
+		@Override
+		public BinaryData body() {
+			return content != null ? new ByteArrayBinaryData(content, header("Content-Type")) : null;
+		}
+
+		@Override
+		public Object originalResponse() {
+			return this;
+		}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.methods.AbstractExecutionAwareRequest;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+import org.elasticsearch.client.RestClient;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.LatencyAwareNodeSelection;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link NodeSelector} that prefers the nodes with the lowest response times, see {@link LatencyAwareNodeSelection}
+ * for the algorithm. The response times and the requests in flight are recorded by the interceptors returned from
+ * {@link #requestInterceptor()} and {@link #responseInterceptor()} which must be added to the HTTP client.
+ * <p>
+ * Requests that end without passing the response interceptor are found by a periodic sweep over the requests in flight
+ * of a node, which the {@link #failureListener()} triggers immediately: a request whose connection was released
+ * without a response failed and its duration is recorded, a request that was aborted, for example because its
+ * {@link org.elasticsearch.client.Cancellable} was cancelled, is dropped without recording, and a request that is in
+ * flight for longer than {@link #STALE_REQUEST_NANOS} is dropped as well.
+ *
+ * @since 5.3
+ */
+final class LatencyAwareNodeSelector implements NodeSelector {
+
+	// nodes with a score of up to this factor times the lowest score are selected
+	private static final double SCORE_TOLERANCE = 1.5;
+	// differences below this are noise and do not exclude a node
+	private static final double MIN_SCORE_DIFFERENCE_NANOS = 1_000_000;
+	private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+	static final long STALE_REQUEST_NANOS = TimeUnit.MINUTES.toNanos(5);
+	private static final long NO_REQUEST = Long.MAX_VALUE;
+	private static final String REQUEST_ATTRIBUTE = LatencyAwareNodeSelector.class.getName() + ".request";
+
+	private final double smoothingFactor;
+	private final double explorationRate;
+	private final Map<HttpHost, NodeStatistics> nodeStatistics = new ConcurrentHashMap<>();
+
+	LatencyAwareNodeSelector(LatencyAwareNodeSelection options) {
+		this.smoothingFactor = options.smoothingFactor();
+		this.explorationRate = options.explorationRate();
+	}
+
+	@Override
+	public void select(Iterable<Node> nodes) {
+
+		if (explorationRate > 0 && ThreadLocalRandom.current().nextDouble() < explorationRate) {
+			return;
+		}
+
+		double lowestScore = Double.MAX_VALUE;
+		int count = 0;
+
+		for (Node node : nodes) {
+			lowestScore = Math.min(lowestScore, score(node.getHost()));
+			count++;
+		}
+
+		if (count < 2) {
+			return;
+		}
+
+		double maxScore = lowestScore * SCORE_TOLERANCE + MIN_SCORE_DIFFERENCE_NANOS;
+
+		for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+			if (score(iterator.next().getHost()) > maxScore) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns the score of a node. The age of the oldest request in flight is used instead of the average response time
+	 * when it is larger, so that a node which stopped responding is avoided before its requests time out. The oldest
+	 * request is determined by the sweep, so its age may be up to one sweep interval out of date.
+	 *
+	 * @param host the node's host
+	 * @return the moving average of the response times multiplied by the requests in flight plus one, 0 if nothing was
+	 *         sent to the node yet
+	 */
+	double score(HttpHost host) {
+
+		NodeStatistics statistics = nodeStatistics.get(host);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		long now = System.nanoTime();
+
+		if (statistics.isSweepDue(now)) {
+			sweep(statistics, now);
+		}
+
+		double responseNanos = statistics.averageNanos();
+		int inFlight = statistics.inFlightCount.get();
+		long oldestStartNanos = statistics.oldestStartNanos.get();
+
+		if (inFlight > 0 && oldestStartNanos != NO_REQUEST) {
+			responseNanos = Math.max(responseNanos, now - oldestStartNanos);
+		}
+
+		return responseNanos * (inFlight + 1);
+	}
+
+	/**
+	 * @return the number of requests in flight to the node
+	 */
+	int inFlight(HttpHost host) {
+
+		NodeStatistics statistics = nodeStatistics.get(host);
+		return statistics != null ? statistics.inFlightCount.get() : 0;
+	}
+
+	HttpRequestInterceptor requestInterceptor() {
+		return (request, context) -> {
+			HttpHost host = targetHost(context);
+
+			if (host != null) {
+				NodeStatistics statistics = nodeStatistics.computeIfAbsent(host, h -> new NodeStatistics());
+				Object original = request instanceof HttpRequestWrapper wrapper ? wrapper.getOriginal() : request;
+				InFlightRequest inFlightRequest = new InFlightRequest(statistics, System.nanoTime(),
+						original instanceof AbstractExecutionAwareRequest abortable ? abortable : null, context);
+				statistics.add(inFlightRequest);
+				context.setAttribute(REQUEST_ATTRIBUTE, inFlightRequest);
+			}
+		};
+	}
+
+	HttpResponseInterceptor responseInterceptor() {
+		return (response, context) -> {
+			if (context.getAttribute(REQUEST_ATTRIBUTE) instanceof InFlightRequest inFlightRequest) {
+				int status = response.getStatusLine().getStatusCode();
+
+				// responses with these status codes are failures, they are recorded by the sweep
+				if (status != 502 && status != 503 && status != 504) {
+					complete(inFlightRequest, true);
+				}
+			}
+		};
+	}
+
+	RestClient.FailureListener failureListener() {
+		return new RestClient.FailureListener() {
+			@Override
+			public void onFailure(Node node) {
+				NodeStatistics statistics = nodeStatistics.get(node.getHost());
+
+				if (statistics != null) {
+					sweep(statistics, System.nanoTime());
+				}
+			}
+		};
+	}
+
+	/**
+	 * Removes the requests of a node that ended without a response or are stale and determines the oldest remaining one.
+	 */
+	private void sweep(NodeStatistics statistics, long now) {
+
+		long oldestStartNanos = NO_REQUEST;
+
+		for (InFlightRequest inFlightRequest : statistics.inFlight) {
+
+			if (inFlightRequest.isAborted()) {
+				complete(inFlightRequest, false);
+			} else if (inFlightRequest.isConnectionReleased()) {
+				complete(inFlightRequest, true);
+			} else if (now - inFlightRequest.startNanos > STALE_REQUEST_NANOS) {
+				complete(inFlightRequest, false);
+			} else {
+				oldestStartNanos = Math.min(oldestStartNanos, inFlightRequest.startNanos);
+			}
+		}
+
+		statistics.oldestStartNanos.set(oldestStartNanos);
+	}
+
+	private void complete(InFlightRequest inFlightRequest, boolean recordResponseTime) {
+
+		if (inFlightRequest.completed.compareAndSet(false, true)) {
+			NodeStatistics statistics = inFlightRequest.statistics;
+			statistics.remove(inFlightRequest);
+
+			if (recordResponseTime) {
+				statistics.record(System.nanoTime() - inFlightRequest.startNanos, smoothingFactor);
+			}
+		}
+	}
+
+	@Nullable
+	private static HttpHost targetHost(HttpContext context) {
+
+		HttpClientContext clientContext = HttpClientContext.adapt(context);
+		HttpHost host = clientContext.getTargetHost();
+
+		if (host == null && clientContext.getHttpRoute() != null) {
+			host = clientContext.getHttpRoute().getTargetHost();
+		}
+
+		return host;
+	}
+
+	private static class NodeStatistics {
+
+		private final Set<InFlightRequest> inFlight = ConcurrentHashMap.newKeySet();
+		private final AtomicInteger inFlightCount = new AtomicInteger();
+		private final AtomicLong oldestStartNanos = new AtomicLong(NO_REQUEST);
+		private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+		private double averageNanos;
+		private boolean hasSamples;
+
+		void add(InFlightRequest inFlightRequest) {
+			inFlight.add(inFlightRequest);
+			inFlightCount.incrementAndGet();
+			oldestStartNanos.compareAndSet(NO_REQUEST, inFlightRequest.startNanos);
+		}
+
+		void remove(InFlightRequest inFlightRequest) {
+			inFlight.remove(inFlightRequest);
+			inFlightCount.decrementAndGet();
+		}
+
+		/**
+		 * @return {@literal true} for one caller per sweep interval
+		 */
+		boolean isSweepDue(long now) {
+
+			long lastSweep = lastSweepNanos.get();
+			return now - lastSweep >= SWEEP_INTERVAL_NANOS && lastSweepNanos.compareAndSet(lastSweep, now);
+		}
+
+		synchronized double averageNanos() {
+			return averageNanos;
+		}
+
+		synchronized void record(long nanos, double smoothingFactor) {
+
+			if (hasSamples) {
+				averageNanos += smoothingFactor * (nanos - averageNanos);
+			} else {
+				averageNanos = nanos;
+				hasSamples = true;
+			}
+		}
+	}
+
+	private static final class InFlightRequest {
+
+		private final NodeStatistics statistics;
+		private final long startNanos;
+		@Nullable private final AbstractExecutionAwareRequest request;
+		private final HttpContext context;
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		InFlightRequest(NodeStatistics statistics, long startNanos, @Nullable AbstractExecutionAwareRequest request,
+				HttpContext context) {
+			this.statistics = statistics;
+			this.startNanos = startNanos;
+			this.request = request;
+			this.context = context;
+		}
+
+		/**
+		 * @return {@literal true} if the request was cancelled
+		 */
+		boolean isAborted() {
+			return request != null && request.isAborted();
+		}
+
+		/**
+		 * @return {@literal true} if the HTTP client released the connection of the request, which happens after a
+		 *         response and when the request failed
+		 */
+		boolean isConnectionReleased() {
+			return context.getAttribute(HttpCoreContext.HTTP_CONNECTION) instanceof HttpConnection connection
+					&& !connection.isOpen();
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.NodeSniffing;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Discovers the nodes of the cluster with the {@code _nodes/http} API and sets them on a {@link RestClient}. The
+ * discovery runs asynchronously, periodically and after a request to a node failed, see {@link NodeSniffing}. It stops
+ * once the {@link RestClient} is closed. When a discovery fails or finds no node that passes the filter, the nodes of
+ * the client are not changed.
+ *
+ * @since 5.3
+ */
+final class NodeSniffer {
+
+	private static final Log LOGGER = LogFactory.getLog(NodeSniffer.class);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final long MIN_FAILURE_SNIFF_SPACING_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	@Nullable private static volatile ScheduledExecutorService sniffExecutor;
+
+	private final NodeSniffing options;
+	private final String scheme;
+	private final AtomicBoolean sniffing = new AtomicBoolean();
+	private final Object monitor = new Object();
+
+	@Nullable private volatile RestClient restClient;
+	@Nullable private ScheduledFuture<?> nextSniff;
+	private long lastSniffNanos;
+	private boolean sniffAfterFailurePending;
+
+	NodeSniffer(NodeSniffing options, boolean useSsl) {
+
+		Assert.notNull(options, "options must not be null");
+
+		this.options = options;
+		this.scheme = useSsl ? "https" : "http";
+	}
+
+	/**
+	 * @return a listener that triggers a discovery when a request to a node failed
+	 */
+	RestClient.FailureListener failureListener() {
+		return new RestClient.FailureListener() {
+			@Override
+			public void onFailure(Node node) {
+				sniffAfterFailure();
+			}
+		};
+	}
+
+	/**
+	 * Starts the discovery for the given client, the first one is done right away.
+	 *
+	 * @param restClient the client to set the nodes on, must not be {@literal null}
+	 */
+	void start(RestClient restClient) {
+
+		Assert.notNull(restClient, "restClient must not be null");
+
+		synchronized (monitor) {
+			lastSniffNanos = System.nanoTime();
+		}
+
+		this.restClient = restClient;
+		schedule(0, options.interval().toMillis());
+	}
+
+	private void sniffAfterFailure() {
+
+		// failures of the discovery itself do not trigger another one
+		if (restClient == null || sniffing.get()) {
+			return;
+		}
+
+		synchronized (monitor) {
+			if (sniffAfterFailurePending) {
+				return;
+			}
+
+			long delayNanos = Math.max(0, MIN_FAILURE_SNIFF_SPACING_NANOS - (System.nanoTime() - lastSniffNanos));
+			sniffAfterFailurePending = true;
+			schedule(TimeUnit.NANOSECONDS.toMillis(delayNanos), options.intervalAfterFailure().toMillis());
+		}
+	}
+
+	private void schedule(long delayMillis, long nextDelayMillis) {
+
+		synchronized (monitor) {
+			if (nextSniff != null) {
+				nextSniff.cancel(false);
+			}
+
+			nextSniff = sniffExecutor().schedule(() -> sniff(nextDelayMillis), delayMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void sniff(long nextDelayMillis) {
+
+		RestClient restClient = this.restClient;
+
+		synchronized (monitor) {
+			sniffAfterFailurePending = false;
+		}
+
+		if (restClient == null || !restClient.isRunning() || !sniffing.compareAndSet(false, true)) {
+			return;
+		}
+
+		synchronized (monitor) {
+			lastSniffNanos = System.nanoTime();
+		}
+
+		restClient.performRequestAsync(new Request("GET", "/_nodes/http"), new ResponseListener() {
+			@Override
+			public void onSuccess(Response response) {
+
+				try (InputStream content = response.getEntity().getContent()) {
+					List<Node> nodes = readNodes(content, scheme, options);
+
+					if (nodes.isEmpty()) {
+						LOGGER.warn("Node sniffing found no nodes, keeping the current nodes " + restClient.getNodes());
+					} else {
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Node sniffing found the nodes " + nodes);
+						}
+						restClient.setNodes(nodes);
+					}
+				} catch (Exception e) {
+					LOGGER.warn("Could not read the nodes from the response of the node sniffing", e);
+				} finally {
+					sniffed(restClient, nextDelayMillis);
+				}
+			}
+
+			@Override
+			public void onFailure(Exception exception) {
+				LOGGER.warn("Node sniffing failed", exception);
+				sniffed(restClient, nextDelayMillis);
+			}
+		});
+	}
+
+	private void sniffed(RestClient restClient, long nextDelayMillis) {
+
+		sniffing.set(false);
+
+		if (restClient.isRunning()) {
+			schedule(nextDelayMillis, options.interval().toMillis());
+		}
+	}
+
+	/**
+	 * Reads the nodes that have an HTTP publish address and pass the node filter from a {@code _nodes/http} response.
+	 */
+	static List<Node> readNodes(InputStream content, String scheme, NodeSniffing options) throws IOException {
+
+		List<Node> nodes = new ArrayList<>();
+
+		for (Iterator<JsonNode> iterator = OBJECT_MAPPER.readTree(content).path("nodes").elements(); iterator
+				.hasNext();) {
+			JsonNode node = iterator.next();
+			String publishAddress = node.path("http").path("publish_address").asText(null);
+
+			// nodes with HTTP disabled have no publish address
+			if (publishAddress == null) {
+				continue;
+			}
+
+			Set<String> roles = new HashSet<>();
+			node.path("roles").forEach(role -> roles.add(role.asText()));
+
+			if (options.nodeFilter().test(roles)) {
+				nodes.add(new Node(toHttpHost(publishAddress, scheme), null, node.path("name").asText(null),
+						node.path("version").asText(null), new Node.Roles(roles), null));
+			}
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Converts a publish address in the format {@code hostname/ip:port} or {@code ip:port} to a {@link HttpHost}, the
+	 * hostname is used when it is present.
+	 */
+	static HttpHost toHttpHost(String publishAddress, String scheme) {
+
+		String address = publishAddress;
+		int slash = publishAddress.indexOf('/');
+
+		if (slash > 0) {
+			address = publishAddress.substring(0, slash) + publishAddress.substring(publishAddress.lastIndexOf(':'));
+		} else if (slash == 0) {
+			address = publishAddress.substring(1);
+		}
+
+		return HttpHost.create(scheme + "://" + address);
+	}
+
+	private static ScheduledExecutorService sniffExecutor() {
+
+		ScheduledExecutorService executor = sniffExecutor;
+
+		if (executor == null) {
+			synchronized (NodeSniffer.class) {
+				executor = sniffExecutor;
+
+				if (executor == null) {
+					executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+						Thread thread = new Thread(runnable, "elasticsearch-node-sniffer");
+						thread.setDaemon(true);
+						return thread;
+					});
+					sniffExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+}
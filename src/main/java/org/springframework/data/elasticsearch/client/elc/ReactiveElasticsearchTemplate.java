@@ -18,11 +18,14 @@ package org.springframework.data.elasticsearch.client.elc;
 import static co.elastic.clients.util.ApiTypeHelper.*;
 import static org.springframework.data.elasticsearch.client.elc.TypeUtils.*;
 
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
 import co.elastic.clients.elasticsearch._types.Result;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.json.JsonpDeserializer;
 import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.Endpoint;
 import co.elastic.clients.transport.Version;
 import co.elastic.clients.transport.endpoints.BooleanResponse;
 import reactor.core.publisher.Flux;
@@ -30,6 +33,7 @@ import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -45,9 +49,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.NoSuchIndexException;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractReactiveElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.AggregationContainer;
+import org.springframework.data.elasticsearch.core.BulkItemResult;
 import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.ReactiveIndexOperations;
@@ -62,6 +68,7 @@ import org.springframework.data.elasticsearch.core.query.BaseQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.SearchTemplateQuery;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
@@ -200,7 +207,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		GetRequest getRequest = requestConverter.documentGetRequest(id, routingResolver.getRouting(), index);
 
 		Mono<GetResponse<EntityAsMap>> getResponse = Mono
-				.from(execute(client -> client.get(getRequest, EntityAsMap.class)));
+				.from(executeForSources(getRequest, entityType, GetRequest::createGetEndpoint,
+						client -> client.get(getRequest, EntityAsMap.class)));
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
 		return getResponse.flatMap(response -> callback.toEntity(DocumentAdapters.from(response)));
@@ -264,6 +272,103 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return doBulkOperation(queries, bulkOptions, index).then();
 	}
 
+	@Override
+	public Flux<BulkItemResult> bulkIndexWithItemResults(List<IndexQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		Assert.notNull(queries, "List of IndexQuery must not be null");
+		Assert.notNull(bulkOptions, "BulkOptions must not be null");
+		Assert.notNull(index, "Index must not be null");
+
+		return doBulkOperationWithItemResults(queries, bulkOptions, index);
+	}
+
+	@Override
+	public Flux<BulkItemResult> bulkUpdateWithItemResults(List<UpdateQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		Assert.notNull(queries, "List of UpdateQuery must not be null");
+		Assert.notNull(bulkOptions, "BulkOptions must not be null");
+		Assert.notNull(index, "Index must not be null");
+
+		return doBulkOperationWithItemResults(queries, bulkOptions, index);
+	}
+
+	private Flux<BulkItemResult> doBulkOperationWithItemResults(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		return maybeCallbackBeforeConvertWithQueries(queries, index) //
+				.then(sendBulkRequestWithItemResults(queries, bulkOptions, index)) //
+				.flatMap(results -> retryFailedItems(queries, results, bulkOptions, index, 1)) //
+				.flatMap(results -> {
+					List<Object> succeededQueries = new ArrayList<>();
+					List<IndexedObjectInformation> indexedObjectInformationList = new ArrayList<>();
+
+					for (int i = 0; i < queries.size(); i++) {
+						if (!results.get(i).isFailed()) {
+							succeededQueries.add(queries.get(i));
+							indexedObjectInformationList.add(results.get(i).indexedObjectInformation());
+						}
+					}
+
+					updateIndexedObjectsWithQueries(succeededQueries, indexedObjectInformationList);
+					return maybeCallbackAfterSaveWithQueries(succeededQueries, index).thenReturn(results);
+				}) //
+				.flatMapMany(Flux::fromIterable);
+	}
+
+	private Mono<List<BulkItemResult>> sendBulkRequestWithItemResults(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		return Mono.defer(() -> {
+			BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
+			return client.bulk(bulkRequest)
+					.onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
+					.map(responseConverter::bulkItemResults);
+		});
+	}
+
+	/**
+	 * Sends the operations that failed with a retryable status again until they succeed, fail with another status or the
+	 * maximum number of attempts is reached.
+	 *
+	 * @return the results with the outcome of the last attempt at the position of each query
+	 */
+	private Mono<List<BulkItemResult>> retryFailedItems(List<?> queries, List<BulkItemResult> results,
+			BulkOptions bulkOptions, IndexCoordinates index, int retry) {
+
+		RetryPolicy retryPolicy = bulkOptions.getItemRetryPolicy();
+
+		if (retryPolicy == null || retry >= retryPolicy.getMaxAttempts()) {
+			return Mono.just(results);
+		}
+
+		List<Integer> positions = new ArrayList<>();
+		for (int i = 0; i < results.size(); i++) {
+			if (results.get(i).isRetryable(retryPolicy)) {
+				positions.add(i);
+			}
+		}
+
+		if (positions.isEmpty()) {
+			return Mono.just(results);
+		}
+
+		List<?> retryQueries = positions.stream().map(queries::get).toList();
+
+		return Mono.delay(retryPolicy.getBackoff(retry)) //
+				.then(sendBulkRequestWithItemResults(retryQueries, bulkOptions, index)) //
+				.flatMap(retryResults -> {
+					List<BulkItemResult> finalResults = new ArrayList<>(results);
+
+					for (int i = 0; i < positions.size(); i++) {
+						finalResults.set(positions.get(i), retryResults.get(i));
+					}
+
+					return retryFailedItems(queries, finalResults, bulkOptions, index, retry + 1);
+				});
+	}
+
 	private Flux<BulkResponseItem> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
 		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
@@ -328,7 +433,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, clazz, index);
 
-		Publisher<MgetResponse<EntityAsMap>> response = execute(client -> client.mget(request, EntityAsMap.class));
+		Publisher<MgetResponse<EntityAsMap>> response = executeForSources(request, clazz, MgetRequest::createMgetEndpoint,
+				client -> client.mget(request, EntityAsMap.class));
 
 		return Mono.from(response)//
 				.flatMapMany(it -> Flux.fromIterable(DocumentAdapters.from(it))) //
@@ -346,7 +452,21 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	@Override
 	protected ReactiveElasticsearchTemplate doCopy() {
-		return new ReactiveElasticsearchTemplate(client, converter);
+		ReactiveElasticsearchTemplate copy = new ReactiveElasticsearchTemplate(client, converter);
+		copy.setStreamingEntityWrites(requestConverter.isStreamingEntityWrites());
+		return copy;
+	}
+
+	/**
+	 * Sets whether entities are written directly to the request body when indexing. This avoids creating an
+	 * intermediate {@link org.springframework.data.elasticsearch.core.document.Document} for every entity, the written
+	 * JSON is the same. Defaults to {@literal false}.
+	 *
+	 * @param streamingEntityWrites if {@literal true} entities are streamed
+	 * @since 5.3
+	 */
+	public void setStreamingEntityWrites(boolean streamingEntityWrites) {
+		requestConverter.setStreamingEntityWrites(streamingEntityWrites);
 	}
 
 	// region search operations
@@ -399,7 +519,9 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				SearchRequest firstSearchRequest = requestConverter.searchRequest(baseQuery, routingResolver.getRouting(),
 						clazz, index, false, true);
 
-				return Mono.from(execute(client -> client.search(firstSearchRequest, EntityAsMap.class)))
+				return Mono
+						.from(executeForSources(firstSearchRequest, clazz, SearchRequest::createSearchEndpoint,
+								client -> client.search(firstSearchRequest, EntityAsMap.class)))
 						.expand(entityAsMapSearchResponse -> {
 
 							var hits = entityAsMapSearchResponse.hits().hits();
@@ -412,7 +534,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 							baseQuery.setSearchAfter(sortOptions);
 							SearchRequest followSearchRequest = requestConverter.searchRequest(baseQuery,
 									routingResolver.getRouting(), clazz, index, false, true);
-							return Mono.from(execute(client -> client.search(followSearchRequest, EntityAsMap.class)));
+							return Mono.from(executeForSources(followSearchRequest, clazz, SearchRequest::createSearchEndpoint,
+									client -> client.search(followSearchRequest, EntityAsMap.class)));
 						});
 
 			};
@@ -478,7 +601,9 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				false, false);
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))) //
+		return Mono
+				.from(executeForSources(searchRequest, clazz, SearchRequest::createSearchEndpoint,
+						client -> client.search(searchRequest, EntityAsMap.class))) //
 				.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
 				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
 	}
@@ -506,7 +631,9 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchDocumentResponse.EntityCreator<T> entityCreator = searchDocument -> callback.toEntity(searchDocument)
 				.toFuture();
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+		return Mono
+				.from(executeForSources(searchRequest, clazz, SearchRequest::createSearchEndpoint,
+						client -> client.search(searchRequest, EntityAsMap.class)))
 				.map(searchResponse -> SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
 	}
 
@@ -647,6 +774,26 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return Flux.defer(() -> callback.doWithClient(client)).onErrorMap(this::translateException);
 	}
 
+	/**
+	 * Executes a request whose response contains document sources that are read as entities of the given class. When no
+	 * callbacks need the complete documents, the sources are deserialized with an {@link EntityAsMapDeserializer},
+	 * otherwise the given callback is executed.
+	 *
+	 * @since 5.3
+	 */
+	private <Req, Res extends R, R> Publisher<R> executeForSources(Req request, Class<?> clazz,
+			Function<JsonpDeserializer<EntityAsMap>, Endpoint<Req, Res, ErrorResponse>> endpointFactory,
+			ReactiveElasticsearchTemplate.ClientCallback<Publisher<R>> callback) {
+
+		if (hasDocumentReadCallbacks()) {
+			return execute(callback);
+		}
+
+		Endpoint<Req, Res, ErrorResponse> endpoint = endpointFactory.apply(new EntityAsMapDeserializer(converter, clazz));
+		return execute(client -> Mono
+				.<R> fromFuture(client._transport().performRequestAsync(request, endpoint, client._transportOptions())));
+	}
+
 	/**
 	 * translates an Exception if possible. Exceptions that are no {@link RuntimeException}s are wrapped in a
 	 * RuntimeException
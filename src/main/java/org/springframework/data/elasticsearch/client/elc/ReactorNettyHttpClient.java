@@ -0,0 +1,301 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.TransportUtils;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ByteArrayBinaryData;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.ProxyProvider;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link TransportHttpClient} on the Reactor Netty {@link HttpClient}. Request bodies are sent from the buffers of the
+ * request without copying them, responses are read on the Netty event loop and the returned futures are completed
+ * there, so the decoding of the response by the transport does not need another thread. The requests are distributed
+ * round-robin over the endpoints of the {@link ClientConfiguration}, a request that cannot connect to a node is sent
+ * to the next one.
+ *
+ * @since 5.3
+ */
+final class ReactorNettyHttpClient implements TransportHttpClient {
+
+	private final HttpClient httpClient;
+	private final ConnectionProvider connectionProvider;
+	private final List<String> baseUrls;
+	private final org.springframework.data.elasticsearch.support.HttpHeaders defaultHeaders;
+	private final Supplier<org.springframework.data.elasticsearch.support.HttpHeaders> headersSupplier;
+	private final AtomicInteger nextNode = new AtomicInteger();
+
+	ReactorNettyHttpClient(ClientConfiguration clientConfiguration) {
+
+		this.connectionProvider = createConnectionProvider(clientConfiguration);
+		this.httpClient = createHttpClient(connectionProvider, clientConfiguration);
+		this.baseUrls = HttpClientSupport.baseUrls(clientConfiguration);
+		this.defaultHeaders = clientConfiguration.getDefaultHeaders();
+		this.headersSupplier = clientConfiguration.getHeadersSupplier();
+	}
+
+	private static ConnectionProvider createConnectionProvider(ClientConfiguration clientConfiguration) {
+
+		ConnectionProvider.Builder builder = ConnectionProvider.builder("elasticsearch") //
+				// like the RestClient, queue the requests when all connections are in use
+				.pendingAcquireMaxCount(-1);
+
+		if (clientConfiguration.getMaxConnectionsPerRoute() > 0) {
+			builder.maxConnections(clientConfiguration.getMaxConnectionsPerRoute());
+		}
+
+		Duration maxIdleTime = clientConfiguration.getMaxIdleTime();
+
+		if (maxIdleTime != null) {
+			builder.maxIdleTime(maxIdleTime).evictInBackground(maxIdleTime);
+		}
+
+		Duration connectionTimeToLive = clientConfiguration.getConnectionTimeToLive();
+
+		if (connectionTimeToLive != null) {
+			builder.maxLifeTime(connectionTimeToLive);
+		}
+
+		return builder.build();
+	}
+
+	private static HttpClient createHttpClient(ConnectionProvider connectionProvider,
+			ClientConfiguration clientConfiguration) {
+
+		HttpClient httpClient = HttpClient.create(connectionProvider) //
+				// responses are decompressed when compression is enabled, see CompressingHttpClient
+				.compress(clientConfiguration.isCompressionEnabled());
+
+		Duration connectTimeout = clientConfiguration.getConnectTimeout();
+
+		if (!connectTimeout.isNegative()) {
+			httpClient = httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+					Math.toIntExact(connectTimeout.toMillis()));
+		}
+
+		Duration socketTimeout = clientConfiguration.getSocketTimeout();
+
+		if (!socketTimeout.isNegative() && !socketTimeout.isZero()) {
+			httpClient = httpClient.responseTimeout(socketTimeout);
+		}
+
+		Optional<String> proxy = clientConfiguration.getProxy();
+
+		if (proxy.isPresent()) {
+			org.apache.http.HttpHost proxyHost = org.apache.http.HttpHost.create(proxy.get());
+			httpClient = httpClient.proxy(spec -> spec.type(ProxyProvider.Proxy.HTTP) //
+					.host(proxyHost.getHostName()) //
+					.port(proxyHost.getPort()));
+		}
+
+		if (clientConfiguration.useSsl()) {
+			SSLContext sslContext = clientConfiguration.getCaFingerprint()
+					.map(TransportUtils::sslContextFromCaFingerprint)
+					.or(clientConfiguration::getSslContext)
+					.orElseGet(ReactorNettyHttpClient::defaultSslContext);
+			HostnameVerifier hostnameVerifier = clientConfiguration.getHostNameVerifier().orElse(null);
+
+			httpClient = httpClient.secure(spec -> {
+				var builder = spec.sslContext(new JdkSslContext(sslContext, true, null,
+						IdentityCipherSuiteFilter.INSTANCE, ApplicationProtocolConfig.DISABLED, ClientAuth.NONE, null, false));
+
+				if (hostnameVerifier != null) {
+					builder.handlerConfigurator(handler -> verifyHostname(handler, hostnameVerifier));
+				}
+			});
+		}
+
+		return httpClient;
+	}
+
+	private static SSLContext defaultSslContext() {
+
+		try {
+			return SSLContext.getDefault();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("could not get the default SSLContext", e);
+		}
+	}
+
+	/**
+	 * Replaces the hostname verification of the {@link SSLEngine} with the given verifier, which is called when the
+	 * handshake is completed and before the request is sent.
+	 */
+	private static void verifyHostname(SslHandler handler, HostnameVerifier hostnameVerifier) {
+
+		SSLEngine engine = handler.engine();
+		SSLParameters parameters = engine.getSSLParameters();
+		parameters.setEndpointIdentificationAlgorithm(null);
+		engine.setSSLParameters(parameters);
+
+		handler.handshakeFuture().addListener(future -> {
+			if (future.isSuccess() && !hostnameVerifier.verify(engine.getPeerHost(), engine.getSession())) {
+				((Channel) future.getNow()).close();
+			}
+		});
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+
+		try {
+			return performRequestAsync(endpointId, node, request, options).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while waiting for the response", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		if (node != null) {
+			return send(StringUtils.trimTrailingCharacter(node.uri().toString(), '/'), request, options).toFuture();
+		}
+
+		int first = Math.floorMod(nextNode.getAndIncrement(), baseUrls.size());
+		return send(request, options, first, 0).toFuture();
+	}
+
+	private Mono<Response> send(Request request, TransportOptions options, int first, int attempt) {
+
+		Mono<Response> response = send(baseUrls.get((first + attempt) % baseUrls.size()), request, options);
+
+		if (attempt + 1 < baseUrls.size()) {
+			response = response.onErrorResume(ConnectException.class, e -> send(request, options, first, attempt + 1));
+		}
+
+		return response;
+	}
+
+	private Mono<Response> send(String baseUrl, Request request, TransportOptions options) {
+
+		return httpClient //
+				.request(HttpMethod.valueOf(request.method())) //
+				.uri(baseUrl + request.path() + HttpClientSupport.queryString(request, options)) //
+				.send((httpRequest, outbound) -> {
+					HttpHeaders headers = httpRequest.requestHeaders();
+					HttpClientSupport.headers(request, options, defaultHeaders, headersSupplier.get()).forEach(headers::set);
+
+					Iterable<ByteBuffer> body = request.body();
+
+					if (body == null) {
+						return outbound;
+					}
+
+					long contentLength = 0;
+					for (ByteBuffer buffer : body) {
+						contentLength += buffer.remaining();
+					}
+					headers.set(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+
+					Flux<ByteBuf> content = Flux.fromIterable(body).map(Unpooled::wrappedBuffer);
+					return outbound.send(content);
+				}) //
+				.responseSingle((httpResponse, content) -> content.asByteArray() //
+						.map(Optional::of) //
+						.defaultIfEmpty(Optional.empty()) //
+						.map(bytes -> new NettyResponse(new Node(baseUrl), httpResponse.status().code(),
+								httpResponse.responseHeaders(), bytes.orElse(null))));
+	}
+
+	@Override
+	public void close() {
+		connectionProvider.dispose();
+	}
+
+	private record NettyResponse(Node node, int statusCode, HttpHeaders headers, @Nullable byte[] content)
+			implements Response {
+
+		@Nullable
+		@Override
+		public String header(String name) {
+			return headers.get(name);
+		}
+
+		@Override
+		public List<String> headers(String name) {
+			return headers.getAll(name);
+		}
+
+		@Nullable
+		@Override
+		public BinaryData body() {
+			return content != null ? new ByteArrayBinaryData(content, headers.get(HttpHeaderNames.CONTENT_TYPE)) : null;
+		}
+
+		@Override
+		public Object originalResponse() {
+			return this;
+		}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -111,7 +111,6 @@ import org.springframework.util.StringUtils;
  * @author Haibo Liu
  * @since 4.4
  */
-@SuppressWarnings("ClassCanBeRecord")
 class RequestConverter extends AbstractQueryProcessor {
 
 	private static final Log LOGGER = LogFactory.getLog(RequestConverter.class);
@@ -121,6 +120,7 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	protected final JsonpMapper jsonpMapper;
 	protected final ElasticsearchConverter elasticsearchConverter;
+	private boolean streamingEntityWrites = false;
 
 	public RequestConverter(ElasticsearchConverter elasticsearchConverter, JsonpMapper jsonpMapper) {
 		this.elasticsearchConverter = elasticsearchConverter;
@@ -130,6 +130,22 @@ class RequestConverter extends AbstractQueryProcessor {
 		this.jsonpMapper = jsonpMapper;
 	}
 
+	/**
+	 * @param streamingEntityWrites if {@literal true}, entities are written directly to the request body instead of
+	 *          creating an intermediate {@link org.springframework.data.elasticsearch.core.document.Document} first.
+	 * @since 5.3
+	 */
+	public void setStreamingEntityWrites(boolean streamingEntityWrites) {
+		this.streamingEntityWrites = streamingEntityWrites;
+	}
+
+	/**
+	 * @since 5.3
+	 */
+	public boolean isStreamingEntityWrites() {
+		return streamingEntityWrites;
+	}
+
 	// region Cluster client
 	public co.elastic.clients.elasticsearch.cluster.HealthRequest clusterHealthRequest() {
 		return new HealthRequest.Builder().build();
@@ -529,6 +545,11 @@ class RequestConverter extends AbstractQueryProcessor {
 	 * so the code needs to be duplicated.
 	 */
 
+	private Object documentSource(Object entity) {
+		return streamingEntityWrites ? new EntityJsonpSerializable(elasticsearchConverter, entity)
+				: elasticsearchConverter.mapObject(entity);
+	}
+
 	public IndexRequest<?> documentIndexRequest(IndexQuery query, IndexCoordinates indexCoordinates,
 			@Nullable RefreshPolicy refreshPolicy) {
 
@@ -544,7 +565,7 @@ class RequestConverter extends AbstractQueryProcessor {
 		if (queryObject != null) {
 			builder
 					.id(StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject))
-					.document(elasticsearchConverter.mapObject(queryObject));
+					.document(documentSource(queryObject));
 		} else if (query.getSource() != null) {
 			builder
 					.id(query.getId())
@@ -595,7 +616,7 @@ class RequestConverter extends AbstractQueryProcessor {
 		if (queryObject != null) {
 			builder
 					.id(StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject))
-					.document(elasticsearchConverter.mapObject(queryObject));
+					.document(documentSource(queryObject));
 		} else if (query.getSource() != null) {
 			builder
 					.id(query.getId())
@@ -637,7 +658,7 @@ class RequestConverter extends AbstractQueryProcessor {
 		if (queryObject != null) {
 			builder
 					.id(StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject))
-					.document(elasticsearchConverter.mapObject(queryObject));
+					.document(documentSource(queryObject));
 		} else if (query.getSource() != null) {
 			builder
 					.id(query.getId())
@@ -25,6 +25,7 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.cluster.ComponentTemplateSummary;
 import co.elastic.clients.elasticsearch.cluster.GetComponentTemplateResponse;
 import co.elastic.clients.elasticsearch.cluster.HealthResponse;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
 import co.elastic.clients.elasticsearch.core.GetScriptResponse;
 import co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
@@ -47,7 +48,9 @@ import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.data.elasticsearch.ElasticsearchErrorCause;
+import org.springframework.data.elasticsearch.core.BulkItemResult;
 import org.springframework.data.elasticsearch.core.IndexInformation;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.cluster.ClusterHealth;
 import org.springframework.data.elasticsearch.core.document.Document;
@@ -472,6 +475,20 @@ class ResponseConverter {
 		return builder.build();
 	}
 
+	/**
+	 * @return the outcome of each operation of the bulk response in the order of the operations
+	 * @since 5.3
+	 */
+	public List<BulkItemResult> bulkItemResults(BulkResponse response) {
+
+		Assert.notNull(response, "response must not be null");
+
+		return response.items().stream().map(item -> new BulkItemResult( //
+				new IndexedObjectInformation(item.id(), item.index(), item.seqNo(), item.primaryTerm(), item.version()), //
+				item.status(), //
+				toErrorCause(item.error()))).toList();
+	}
+
 	public ByQueryResponse byQueryResponse(UpdateByQueryResponse response) {
 		// the code for the methods taking a DeleteByQueryResponse or a UpdateByQueryResponse is duplicated because the
 		// Elasticsearch responses do not share a common class
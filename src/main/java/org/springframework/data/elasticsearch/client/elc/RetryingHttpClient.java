@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.elasticsearch.client.ResponseException;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link TransportHttpClient} that sends idempotent requests again when they failed with a retryable status code or
+ * exception of a {@link RetryPolicy}. The {@link org.elasticsearch.client.RestClient} returns responses with an error
+ * status as {@link ResponseException}, the other clients return them as {@link Response}. The retries are recorded in
+ * the {@link ClientMetrics}.
+ *
+ * @since 5.3
+ */
+final class RetryingHttpClient implements TransportHttpClient {
+
+	private static final Log LOGGER = LogFactory.getLog(RetryingHttpClient.class);
+
+	private final TransportHttpClient delegate;
+	private final RetryPolicy retryPolicy;
+	private final ClientMetrics clientMetrics;
+
+	RetryingHttpClient(TransportHttpClient delegate, RetryPolicy retryPolicy, ClientMetrics clientMetrics) {
+		this.delegate = delegate;
+		this.retryPolicy = retryPolicy;
+		this.clientMetrics = clientMetrics;
+	}
+
+	@Override
+	public TransportOptions createOptions(@Nullable TransportOptions options) {
+		return delegate.createOptions(options);
+	}
+
+	@Override
+	public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options)
+			throws IOException {
+
+		if (!isRetryable(endpointId, request)) {
+			return delegate.performRequest(endpointId, node, request, options);
+		}
+
+		for (int attempt = 1;; attempt++) {
+			Response response;
+
+			try {
+				response = delegate.performRequest(endpointId, node, copy(request), options);
+			} catch (IOException | RuntimeException e) {
+				if (!shouldRetry(e, attempt)) {
+					throw e;
+				}
+				backoff(endpointId, attempt, e);
+				continue;
+			}
+
+			if (!shouldRetry(response, attempt)) {
+				return response;
+			}
+			response.close();
+			backoff(endpointId, attempt, null);
+		}
+	}
+
+	@Override
+	public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options) {
+
+		if (!isRetryable(endpointId, request)) {
+			return delegate.performRequestAsync(endpointId, node, request, options);
+		}
+
+		return performRequestAsync(endpointId, node, request, options, 1);
+	}
+
+	private CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+			TransportOptions options, int attempt) {
+
+		CompletableFuture<Response> future;
+
+		try {
+			future = delegate.performRequestAsync(endpointId, node, copy(request), options);
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		return future.handle((response, throwable) -> {
+
+			Throwable cause = unwrap(throwable);
+
+			if (cause != null && !shouldRetry(cause, attempt)) {
+				return CompletableFuture.<Response> failedFuture(cause);
+			}
+
+			if (cause == null && !shouldRetry(response, attempt)) {
+				return CompletableFuture.completedFuture(response);
+			}
+
+			if (response != null) {
+				try {
+					response.close();
+				} catch (IOException e) {
+					LOGGER.debug("Could not close the response of a retried request", e);
+				}
+			}
+
+			Duration backoff = recordRetry(endpointId, attempt, cause);
+			Executor delayed = CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS);
+			return CompletableFuture.supplyAsync(() -> attempt + 1, delayed)
+					.thenCompose(nextAttempt -> performRequestAsync(endpointId, node, request, options, nextAttempt));
+		}).thenCompose(f -> f);
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private boolean isRetryable(String endpointId, Request request) {
+		return retryPolicy.getMaxAttempts() > 1 && retryPolicy.isIdempotent(endpointId, request.method());
+	}
+
+	private boolean shouldRetry(Response response, int attempt) {
+		return isRetryable(response.statusCode(), attempt);
+	}
+
+	private boolean shouldRetry(Throwable throwable, int attempt) {
+
+		boolean retryable = throwable instanceof ResponseException responseException
+				? retryPolicy.isRetryableStatusCode(responseException.getResponse().getStatusLine().getStatusCode())
+				: retryPolicy.isRetryableException(throwable);
+
+		return retryable && isRetryable(attempt);
+	}
+
+	private boolean isRetryable(int statusCode, int attempt) {
+		return retryPolicy.isRetryableStatusCode(statusCode) && isRetryable(attempt);
+	}
+
+	private boolean isRetryable(int attempt) {
+
+		if (attempt < retryPolicy.getMaxAttempts()) {
+			return true;
+		}
+
+		clientMetrics.recordRetriesExhausted();
+		return false;
+	}
+
+	private void backoff(String endpointId, int attempt, @Nullable Throwable cause) throws InterruptedIOException {
+
+		try {
+			Thread.sleep(recordRetry(endpointId, attempt, cause).toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException interruptedIOException = new InterruptedIOException("interrupted during retry backoff");
+			interruptedIOException.initCause(e);
+			throw interruptedIOException;
+		}
+	}
+
+	private Duration recordRetry(String endpointId, int attempt, @Nullable Throwable cause) {
+
+		Duration backoff = retryPolicy.getBackoff(attempt);
+		clientMetrics.recordRetry();
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Retrying %s request in %d ms after attempt %d failed%s", endpointId,
+					backoff.toMillis(), attempt, cause != null ? ": " + cause.getMessage() : ""));
+		}
+
+		return backoff;
+	}
+
+	@Nullable
+	private static Throwable unwrap(@Nullable Throwable throwable) {
+
+		while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+				&& throwable.getCause() != null) {
+			throwable = throwable.getCause();
+		}
+		return throwable;
+	}
+
+	/**
+	 * Returns a request with its own views of the body buffers, so that every attempt sends the complete body.
+	 */
+	private static Request copy(Request request) {
+
+		Iterable<ByteBuffer> body = request.body();
+
+		if (body == null) {
+			return request;
+		}
+
+		List<ByteBuffer> buffers = new ArrayList<>();
+		for (ByteBuffer buffer : body) {
+			buffers.add(buffer.duplicate());
+		}
+
+		return new Request(request.method(), request.path(), request.queryParams(), request.headers(), buffers);
+	}
+}
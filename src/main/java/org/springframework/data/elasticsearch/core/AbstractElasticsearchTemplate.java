@@ -16,22 +16,36 @@
 package org.springframework.data.elasticsearch.core;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.convert.EntityReader;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
 import org.springframework.data.elasticsearch.client.UnsupportedClientOperationException;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
 import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
 import org.springframework.data.elasticsearch.core.event.AfterLoadCallback;
@@ -41,8 +55,11 @@ import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersiste
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ChunkedSaveOptions;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.MoreLikeThisQuery;
@@ -80,11 +97,25 @@ import org.springframework.util.StringUtils;
  */
 public abstract class AbstractElasticsearchTemplate implements ElasticsearchOperations, ApplicationContextAware {
 
+	/**
+	 * @since 5.3
+	 */
+	public static final int DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD = 1000;
+	// number of search documents that are converted in one task when converting in parallel
+	private static final int PARALLEL_ENTITY_CONVERSION_BATCH_SIZE = 250;
+
 	protected ElasticsearchConverter elasticsearchConverter;
 	protected EntityOperations entityOperations;
 	@Nullable protected EntityCallbacks entityCallbacks;
 	@Nullable protected RefreshPolicy refreshPolicy;
 	protected RoutingResolver routingResolver;
+	// false if it is known that no callbacks are registered that get the Document read from Elasticsearch
+	private boolean documentReadCallbacks = false;
+	private boolean parallelEntityConversion = false;
+	private boolean lazyEntityConversion = false;
+	private int parallelEntityConversionThreshold = DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD;
+	private Executor entityConversionExecutor = ForkJoinPool.commonPool();
+	private Executor bulkRequestExecutor = ForkJoinPool.commonPool();
 
 	public AbstractElasticsearchTemplate() {
 		this(null);
@@ -113,10 +144,16 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 
 		if (entityCallbacks != null) {
 			copy.setEntityCallbacks(entityCallbacks);
+			copy.documentReadCallbacks = documentReadCallbacks;
 		}
 
 		copy.setRoutingResolver(routingResolver);
 		copy.setRefreshPolicy(refreshPolicy);
+		copy.setParallelEntityConversion(parallelEntityConversion);
+		copy.setParallelEntityConversionThreshold(parallelEntityConversionThreshold);
+		copy.setEntityConversionExecutor(entityConversionExecutor);
+		copy.setBulkRequestExecutor(bulkRequestExecutor);
+		copy.setLazyEntityConversion(lazyEntityConversion);
 
 		return copy;
 	}
@@ -139,6 +176,8 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(EntityCallbacks.create(applicationContext));
+			documentReadCallbacks = applicationContext.getBeanNamesForType(AfterLoadCallback.class).length > 0
+					|| applicationContext.getBeanNamesForType(AfterConvertCallback.class).length > 0;
 		}
 
 		if (elasticsearchConverter instanceof ApplicationContextAware contextAware) {
@@ -160,6 +199,21 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		Assert.notNull(entityCallbacks, "entityCallbacks must not be null");
 
 		this.entityCallbacks = entityCallbacks;
+		// the registered callbacks cannot be inspected
+		this.documentReadCallbacks = true;
+	}
+
+	/**
+	 * Returns if there may be entity callbacks that get the {@link Document} read from Elasticsearch, these are
+	 * {@link AfterLoadCallback} and {@link AfterConvertCallback}. If there are none, implementations may read only the
+	 * parts of a document source that are needed to create the entity, see
+	 * {@link ElasticsearchConverter#readSource(Class, com.fasterxml.jackson.core.JsonParser, java.util.Map)}.
+	 *
+	 * @return {@literal false} if it is known that no such callbacks are registered.
+	 * @since 5.3
+	 */
+	protected boolean hasDocumentReadCallbacks() {
+		return documentReadCallbacks;
 	}
 
 	public void setRefreshPolicy(@Nullable RefreshPolicy refreshPolicy) {
@@ -171,6 +225,93 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return refreshPolicy;
 	}
 
+	/**
+	 * Sets whether the hits of a search response are converted into entities in parallel when the response contains at
+	 * least {@link #setParallelEntityConversionThreshold(int) threshold} hits. The order of the hits is kept. The entity
+	 * callbacks are then invoked on the threads of the {@link #setEntityConversionExecutor(Executor) executor} and must be
+	 * thread-safe. This can be overridden for a single query with {@link BaseQuery#setParallelEntityConversion(Boolean)}.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param parallelEntityConversion if {@literal true} large search responses are converted in parallel
+	 * @since 5.3
+	 */
+	public void setParallelEntityConversion(boolean parallelEntityConversion) {
+		this.parallelEntityConversion = parallelEntityConversion;
+	}
+
+	/**
+	 * @since 5.3
+	 */
+	public boolean isParallelEntityConversion() {
+		return parallelEntityConversion;
+	}
+
+	/**
+	 * Sets whether the entities of the hits of a search response are only created when {@link SearchHit#getContent()} is
+	 * called. Each entity is then created at most once, on the thread that first accesses the content, and hits whose
+	 * content is never accessed are not converted at all. The documents of the response are kept until the content is
+	 * created. This applies to inner hits as well and takes precedence over parallel conversion. This can be overridden
+	 * for a single query with {@link BaseQuery#setLazyEntityConversion(Boolean)}. Defaults to {@literal false}.
+	 *
+	 * @param lazyEntityConversion if {@literal true} the entities are created on first access
+	 * @since 5.3
+	 */
+	public void setLazyEntityConversion(boolean lazyEntityConversion) {
+		this.lazyEntityConversion = lazyEntityConversion;
+	}
+
+	/**
+	 * @since 5.3
+	 */
+	public boolean isLazyEntityConversion() {
+		return lazyEntityConversion;
+	}
+
+	/**
+	 * Sets the minimum number of hits a search response must contain to be converted in parallel. Defaults to
+	 * {@link #DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD}.
+	 *
+	 * @param parallelEntityConversionThreshold must be greater than 0
+	 * @since 5.3
+	 */
+	public void setParallelEntityConversionThreshold(int parallelEntityConversionThreshold) {
+
+		Assert.isTrue(parallelEntityConversionThreshold > 0, "parallelEntityConversionThreshold must be greater than 0");
+
+		this.parallelEntityConversionThreshold = parallelEntityConversionThreshold;
+	}
+
+	/**
+	 * Sets the {@link Executor} that is used for the parallel conversion of search hits, for example a
+	 * {@link ForkJoinPool} or an executor using virtual threads. The calling thread converts a part of the hits as well.
+	 * Defaults to {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param entityConversionExecutor must not be {@literal null}
+	 * @since 5.3
+	 */
+	public void setEntityConversionExecutor(Executor entityConversionExecutor) {
+
+		Assert.notNull(entityConversionExecutor, "entityConversionExecutor must not be null");
+
+		this.entityConversionExecutor = entityConversionExecutor;
+	}
+
+	/**
+	 * Sets the {@link Executor} that is used to send the requests of a bulk operation that is split into several
+	 * requests, when more than one of them may be in flight, see {@link BulkOptions#getMaxConcurrentRequests()}. The
+	 * calling thread sends requests as well. The tasks block while waiting for the responses, so an executor using
+	 * virtual threads or a dedicated pool is preferable. Defaults to {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param bulkRequestExecutor must not be {@literal null}
+	 * @since 5.3
+	 */
+	public void setBulkRequestExecutor(Executor bulkRequestExecutor) {
+
+		Assert.notNull(bulkRequestExecutor, "bulkRequestExecutor must not be null");
+
+		this.bulkRequestExecutor = bulkRequestExecutor;
+	}
+
 	/**
 	 * logs the versions of the different Elasticsearch components.
 	 *
@@ -202,8 +343,9 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		IndexQuery query = getIndexQuery(entityAfterBeforeConvert);
 		doIndex(query, index);
 
-		// noinspection unchecked
-		return (T) maybeCallbackAfterSave(Objects.requireNonNull(query.getObject()), index);
+		@SuppressWarnings("unchecked")
+		T savedEntity = (T) maybeCallbackAfterSave(Objects.requireNonNull(query.getObject()), index);
+		return savedEntity;
 	}
 
 	@Override
@@ -246,6 +388,43 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 				.collect(Collectors.toList()); //
 	}
 
+	@Override
+	public <T> Iterable<T> save(Stream<T> entities, IndexCoordinates index, ChunkedSaveOptions options) {
+
+		Assert.notNull(entities, "entities must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		List<T> savedEntities = new ArrayList<>();
+		List<IndexQuery> chunk = new ArrayList<>(options.getChunkSize());
+		Iterator<T> iterator = entities.iterator();
+
+		while (iterator.hasNext()) {
+			chunk.add(getIndexQuery(iterator.next()));
+
+			if (chunk.size() == options.getChunkSize() || !iterator.hasNext()) {
+				List<IndexedObjectInformation> indexedObjectInformationList = bulkIndex(chunk, options.getBulkOptions(),
+						index);
+
+				if (options.isReturnSavedEntities()) {
+					for (int i = 0; i < chunk.size(); i++) {
+						@SuppressWarnings("unchecked")
+						T savedEntity = (T) entityOperations.updateIndexedObject(
+								Objects.requireNonNull(chunk.get(i).getObject()),
+								indexedObjectInformationList.get(i),
+								elasticsearchConverter,
+								routingResolver);
+						savedEntities.add(savedEntity);
+					}
+				}
+
+				chunk = new ArrayList<>(options.getChunkSize());
+			}
+		}
+
+		return savedEntities;
+	}
+
 	@SafeVarargs
 	@Override
 	public final <T> Iterable<T> save(T... entities) {
@@ -366,6 +545,228 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	public abstract List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index);
 
+	@Override
+	public BulkIngester bulkIngester(IndexCoordinates index, BulkIngesterOptions options) {
+
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		return new BulkIngester(this, index, options);
+	}
+
+	@Override
+	public List<BulkItemResult> bulkIndexWithItemResults(List<IndexQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		Assert.notNull(queries, "List of IndexQuery must not be null");
+		Assert.notNull(bulkOptions, "BulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return bulkOperationWithItemResults(queries, bulkOptions, index);
+	}
+
+	@Override
+	public List<BulkItemResult> bulkUpdateWithItemResults(List<UpdateQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		Assert.notNull(queries, "List of UpdateQuery must not be null");
+		Assert.notNull(bulkOptions, "BulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return bulkOperationWithItemResults(queries, bulkOptions, index);
+	}
+
+	/**
+	 * Like {@link #bulkOperation(List, BulkOptions, IndexCoordinates)}, but returns the outcome of each operation
+	 * instead of throwing a {@link org.springframework.data.elasticsearch.BulkFailureException} when operations failed.
+	 * Operations that failed with a status that the {@link BulkOptions#getItemRetryPolicy() item retry policy} retries
+	 * are sent again. Only the objects of the successful operations are updated and passed to the after save callbacks.
+	 *
+	 * @since 5.3
+	 */
+	List<BulkItemResult> bulkOperationWithItemResults(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		maybeCallbackBeforeConvertWithQueries(queries, index);
+
+		List<BulkItemResult> results = retryFailedItems(queries,
+				doBulkOperationWithItemResults(queries, bulkOptions, index), bulkOptions, index);
+
+		List<Object> succeededQueries = new ArrayList<>();
+		List<IndexedObjectInformation> indexedObjectInformationList = new ArrayList<>();
+
+		for (int i = 0; i < queries.size(); i++) {
+			if (!results.get(i).isFailed()) {
+				succeededQueries.add(queries.get(i));
+				indexedObjectInformationList.add(results.get(i).indexedObjectInformation());
+			}
+		}
+
+		updateIndexedObjectsWithQueries(succeededQueries, indexedObjectInformationList);
+		maybeCallbackAfterSaveWithQueries(succeededQueries, index);
+
+		return results;
+	}
+
+	/**
+	 * Sends the operations that failed with a retryable status again until they succeed, fail with another status or the
+	 * maximum number of attempts is reached. Stops retrying when the thread is interrupted while waiting.
+	 *
+	 * @return the results with the outcome of the last attempt at the position of each query
+	 */
+	private List<BulkItemResult> retryFailedItems(List<?> queries, List<BulkItemResult> results,
+			BulkOptions bulkOptions, IndexCoordinates index) {
+
+		RetryPolicy retryPolicy = bulkOptions.getItemRetryPolicy();
+
+		if (retryPolicy == null) {
+			return results;
+		}
+
+		List<BulkItemResult> finalResults = new ArrayList<>(results);
+
+		for (int retry = 1; retry < retryPolicy.getMaxAttempts(); retry++) {
+
+			List<Integer> positions = new ArrayList<>();
+			for (int i = 0; i < finalResults.size(); i++) {
+				if (finalResults.get(i).isRetryable(retryPolicy)) {
+					positions.add(i);
+				}
+			}
+
+			if (positions.isEmpty()) {
+				break;
+			}
+
+			try {
+				Thread.sleep(retryPolicy.getBackoff(retry).toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			List<BulkItemResult> retryResults = doBulkOperationWithItemResults(
+					positions.stream().map(queries::get).toList(), bulkOptions, index);
+
+			for (int i = 0; i < positions.size(); i++) {
+				finalResults.set(positions.get(i), retryResults.get(i));
+			}
+		}
+
+		return finalResults;
+	}
+
+	/**
+	 * Sends the queries in bulk requests and returns the outcome of each of them in the order of the queries.
+	 *
+	 * @since 5.3
+	 */
+	protected abstract List<BulkItemResult> doBulkOperationWithItemResults(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index);
+
+	/**
+	 * Applies the bulk operation to chunks of the queries as limited by {@link BulkOptions#getMaxOperations()} and
+	 * {@link BulkOptions#getMaxBytes()} and returns the concatenated results in the order of the queries. Up to
+	 * {@link BulkOptions#getMaxConcurrentRequests()} chunks are processed at the same time by the calling thread and
+	 * tasks on the {@link #setBulkRequestExecutor(Executor) bulk request executor}. When chunks fail with a
+	 * {@link BulkFailureException} the remaining ones are still processed and a single exception with all failed
+	 * documents is thrown, any other exception stops the processing of further chunks and is rethrown.
+	 *
+	 * @param queries the queries of the bulk operation
+	 * @param bulkOptions the options containing the limits
+	 * @param bulkOperation sends one chunk of the queries in one bulk request
+	 * @return the results of all chunks
+	 * @since 5.3
+	 */
+	protected <R> List<R> doInBulkChunks(List<?> queries, BulkOptions bulkOptions,
+			Function<List<?>, List<R>> bulkOperation) {
+
+		List<List<?>> chunks = splitIntoChunks(queries, bulkOptions);
+
+		if (chunks.size() == 1) {
+			return bulkOperation.apply(chunks.get(0));
+		}
+
+		AtomicReferenceArray<List<R>> results = new AtomicReferenceArray<>(chunks.size());
+		AtomicInteger nextChunk = new AtomicInteger();
+		AtomicReference<RuntimeException> error = new AtomicReference<>();
+		Map<String, BulkFailureException.FailureDetails> failedDocuments = new HashMap<>();
+
+		Runnable sender = () -> {
+			int chunk;
+			while (error.get() == null && (chunk = nextChunk.getAndIncrement()) < chunks.size()) {
+				try {
+					results.set(chunk, bulkOperation.apply(chunks.get(chunk)));
+				} catch (BulkFailureException e) {
+					synchronized (failedDocuments) {
+						failedDocuments.putAll(e.getFailedDocuments());
+					}
+				} catch (RuntimeException e) {
+					error.compareAndSet(null, e);
+				}
+			}
+		};
+
+		// the calling thread is one of the senders
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 1; i < Math.min(bulkOptions.getMaxConcurrentRequests(), chunks.size()); i++) {
+			futures.add(CompletableFuture.runAsync(sender, bulkRequestExecutor));
+		}
+		sender.run();
+		futures.forEach(CompletableFuture::join);
+
+		if (error.get() != null) {
+			throw error.get();
+		}
+
+		if (!failedDocuments.isEmpty()) {
+			throw new BulkFailureException(
+					"Bulk operation has failures. Use ElasticsearchException.getFailedDocuments() for detailed messages ["
+							+ failedDocuments + ']',
+					failedDocuments);
+		}
+
+		List<R> combined = new ArrayList<>(queries.size());
+		for (int i = 0; i < results.length(); i++) {
+			combined.addAll(results.get(i));
+		}
+		return combined;
+	}
+
+	/**
+	 * Splits the queries into consecutive chunks, a single query exceeding the byte limit makes up a chunk of its own.
+	 */
+	private List<List<?>> splitIntoChunks(List<?> queries, BulkOptions bulkOptions) {
+
+		Integer maxOperations = bulkOptions.getMaxOperations();
+		Long maxBytes = bulkOptions.getMaxBytes();
+
+		if (maxBytes == null && (maxOperations == null || queries.size() <= maxOperations)) {
+			return List.of(queries);
+		}
+
+		BulkPayloadEstimator payloadEstimator = maxBytes != null ? new BulkPayloadEstimator(elasticsearchConverter) : null;
+		List<List<?>> chunks = new ArrayList<>();
+		int from = 0;
+		long bytes = 0;
+
+		for (int i = 0; i < queries.size(); i++) {
+			long size = payloadEstimator != null ? payloadEstimator.estimate(queries.get(i)) : 0;
+
+			if ((maxOperations != null && i - from == maxOperations)
+					|| (maxBytes != null && i > from && bytes + size > maxBytes)) {
+				chunks.add(queries.subList(from, i));
+				from = i;
+				bytes = 0;
+			}
+
+			bytes += size;
+		}
+
+		chunks.add(queries.subList(from, queries.size()));
+		return chunks;
+	}
+
 	@Override
 	public <T> UpdateResponse update(T entity) {
 
@@ -424,7 +825,7 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return StreamQueries.streamResults( //
 				maxCount, //
 				searchScrollStart(scrollTimeInMillis, query, clazz, index), //
-				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index), //
+				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index, query), //
 				this::searchScrollClear);
 	}
 
@@ -459,6 +860,18 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	abstract public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
 			IndexCoordinates index);
 
+	/**
+	 * Continues a scroll and converts the hits with the entity conversion settings of the query that started it. The
+	 * default implementation ignores the query.
+	 *
+	 * @param query the query that started the scroll, may be {@literal null}
+	 * @since 5.3
+	 */
+	public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
+			IndexCoordinates index, @Nullable Query query) {
+		return searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index);
+	}
+
 	public void searchScrollClear(String scrollId) {
 		searchScrollClear(Collections.singletonList(scrollId));
 	}
@@ -541,7 +954,7 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return adaptableEntity.hasSeqNoPrimaryTerm() ? adaptableEntity.getSeqNoPrimaryTerm() : null;
 	}
 
-	private <T> IndexQuery getIndexQuery(T entity) {
+	<T> IndexQuery getIndexQuery(T entity) {
 
 		String id = getEntityId(entity);
 
@@ -577,6 +990,72 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return searchDocument -> CompletableFuture.completedFuture(documentCallback.doWith(searchDocument));
 	}
 
+	/**
+	 * @param query the query that is executed, may be {@literal null}
+	 * @return if the hits returned for the query should be converted in parallel
+	 * @since 5.3
+	 */
+	protected boolean isParallelEntityConversion(@Nullable Query query) {
+
+		Boolean queryParallelEntityConversion = query != null ? query.getParallelEntityConversion() : null;
+		return queryParallelEntityConversion != null ? queryParallelEntityConversion : parallelEntityConversion;
+	}
+
+	/**
+	 * @param query the query that is executed, may be {@literal null}
+	 * @return if the entities for the hits returned for the query should be created on first access
+	 * @since 5.3
+	 */
+	protected boolean isLazyEntityConversion(@Nullable Query query) {
+
+		Boolean queryLazyEntityConversion = query != null ? query.getLazyEntityConversion() : null;
+		return queryLazyEntityConversion != null ? queryLazyEntityConversion : lazyEntityConversion;
+	}
+
+	/**
+	 * Converts the search documents into entities. If requested and the number of documents reaches the threshold, the
+	 * documents are split into batches that are converted on the entity conversion executor and by the calling thread.
+	 */
+	private <T> List<T> convertSearchDocuments(List<SearchDocument> searchDocuments, DocumentCallback<T> documentCallback,
+			boolean parallel) {
+
+		int size = searchDocuments.size();
+
+		if (!parallel || size < parallelEntityConversionThreshold || size <= PARALLEL_ENTITY_CONVERSION_BATCH_SIZE) {
+			return searchDocuments.stream().map(documentCallback::doWith).collect(Collectors.toList());
+		}
+
+		Function<List<SearchDocument>, List<T>> convertBatch = batch -> batch.stream().map(documentCallback::doWith)
+				.collect(Collectors.toList());
+
+		List<CompletableFuture<List<T>>> futures = new ArrayList<>();
+		List<T> entities = new ArrayList<>(size);
+
+		try {
+			for (int from = PARALLEL_ENTITY_CONVERSION_BATCH_SIZE; from < size; from += PARALLEL_ENTITY_CONVERSION_BATCH_SIZE) {
+				List<SearchDocument> batch = searchDocuments.subList(from,
+						Math.min(from + PARALLEL_ENTITY_CONVERSION_BATCH_SIZE, size));
+				futures.add(CompletableFuture.supplyAsync(() -> convertBatch.apply(batch), entityConversionExecutor));
+			}
+
+			// the first batch is converted by the calling thread
+			entities.addAll(convertBatch.apply(searchDocuments.subList(0, PARALLEL_ENTITY_CONVERSION_BATCH_SIZE)));
+
+			for (CompletableFuture<List<T>> future : futures) {
+				entities.addAll(future.join());
+			}
+		} catch (CompletionException e) {
+			futures.forEach(future -> future.cancel(false));
+			throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+		} catch (RuntimeException e) {
+			// includes a RejectedExecutionException of the executor, the batches submitted before are cancelled
+			futures.forEach(future -> future.cancel(false));
+			throw e;
+		}
+
+		return entities;
+	}
+
 	/**
 	 * tries to extract the version of the Elasticsearch cluster
 	 *
@@ -785,18 +1264,34 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	protected class ReadSearchDocumentResponseCallback<T> implements SearchDocumentResponseCallback<SearchHits<T>> {
 		private final DocumentCallback<T> delegate;
 		private final Class<T> type;
+		private final boolean parallelEntityConversion;
+		private final boolean lazyEntityConversion;
 
 		public ReadSearchDocumentResponseCallback(Class<T> type, IndexCoordinates index) {
+			this(type, index, null);
+		}
+
+		/**
+		 * @since 5.3
+		 */
+		public ReadSearchDocumentResponseCallback(Class<T> type, IndexCoordinates index, @Nullable Query query) {
 
 			Assert.notNull(type, "type is null");
 
 			this.delegate = new ReadDocumentCallback<>(elasticsearchConverter, type, index);
 			this.type = type;
+			this.parallelEntityConversion = isParallelEntityConversion(query);
+			this.lazyEntityConversion = isLazyEntityConversion(query);
 		}
 
 		@Override
 		public SearchHits<T> doWith(SearchDocumentResponse response) {
-			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
+
+			if (lazyEntityConversion) {
+				return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapHitsLazily(response, delegate::doWith);
+			}
+
+			List<T> entities = convertSearchDocuments(response.getSearchDocuments(), delegate, parallelEntityConversion);
 			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapHits(response, entities);
 		}
 	}
@@ -805,18 +1300,35 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 			implements SearchDocumentResponseCallback<SearchScrollHits<T>> {
 		private final DocumentCallback<T> delegate;
 		private final Class<T> type;
+		private final boolean parallelEntityConversion;
+		private final boolean lazyEntityConversion;
 
 		public ReadSearchScrollDocumentResponseCallback(Class<T> type, IndexCoordinates index) {
+			this(type, index, null);
+		}
+
+		/**
+		 * @since 5.3
+		 */
+		public ReadSearchScrollDocumentResponseCallback(Class<T> type, IndexCoordinates index, @Nullable Query query) {
 
 			Assert.notNull(type, "type is null");
 
 			this.delegate = new ReadDocumentCallback<>(elasticsearchConverter, type, index);
 			this.type = type;
+			this.parallelEntityConversion = isParallelEntityConversion(query);
+			this.lazyEntityConversion = isLazyEntityConversion(query);
 		}
 
 		@Override
 		public SearchScrollHits<T> doWith(SearchDocumentResponse response) {
-			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
+
+			if (lazyEntityConversion) {
+				return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapScrollHitsLazily(response,
+						delegate::doWith);
+			}
+
+			List<T> entities = convertSearchDocuments(response.getSearchDocuments(), delegate, parallelEntityConversion);
 			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapScrollHits(response, entities);
 		}
 	}
@@ -17,17 +17,13 @@ package org.springframework.data.elasticsearch.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 import reactor.util.function.Tuple2;
 
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -47,6 +43,7 @@ import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.FluxSaveOptions;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
@@ -77,6 +74,8 @@ abstract public class AbstractReactiveElasticsearchTemplate
 	protected RoutingResolver routingResolver;
 
 	protected @Nullable ReactiveEntityCallbacks entityCallbacks;
+	// false if it is known that no callbacks are registered that get the Document read from Elasticsearch
+	private boolean documentReadCallbacks = false;
 
 	// region Initialization
 	protected AbstractReactiveElasticsearchTemplate(@Nullable ElasticsearchConverter converter) {
@@ -106,6 +105,7 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 		if (entityCallbacks != null) {
 			copy.setEntityCallbacks(entityCallbacks);
+			copy.documentReadCallbacks = documentReadCallbacks;
 		}
 
 		copy.setRoutingResolver(routingResolver);
@@ -126,6 +126,8 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
+			documentReadCallbacks = applicationContext.getBeanNamesForType(ReactiveAfterLoadCallback.class).length > 0
+					|| applicationContext.getBeanNamesForType(ReactiveAfterConvertCallback.class).length > 0;
 		}
 	}
 
@@ -160,6 +162,21 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null!");
 
 		this.entityCallbacks = entityCallbacks;
+		// the registered callbacks cannot be inspected
+		this.documentReadCallbacks = true;
+	}
+
+	/**
+	 * Returns if there may be entity callbacks that get the {@link Document} read from Elasticsearch, these are
+	 * {@link ReactiveAfterLoadCallback} and {@link ReactiveAfterConvertCallback}. If there are none, implementations may
+	 * read only the parts of a document source that are needed to create the entity, see
+	 * {@link ElasticsearchConverter#readSource(Class, com.fasterxml.jackson.core.JsonParser, java.util.Map)}.
+	 *
+	 * @return {@literal false} if it is known that no such callbacks are registered.
+	 * @since 5.3
+	 */
+	protected boolean hasDocumentReadCallbacks() {
+		return documentReadCallbacks;
 	}
 
 	/**
@@ -218,60 +235,32 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		return save(entities, getIndexCoordinatesFor(clazz), bulkSize);
 	}
 
+	@Override
+	public <T> Flux<T> save(Flux<T> entities, Class<?> clazz, FluxSaveOptions options) {
+		return save(entities, getIndexCoordinatesFor(clazz), options);
+	}
+
 	@Override
 	public <T> Flux<T> save(Flux<T> entities, IndexCoordinates index, int bulkSize) {
 
+		Assert.isTrue(bulkSize > 0, "bulkSize must be greater than 0");
+
+		return save(entities, index, FluxSaveOptions.builder().withBulkSize(bulkSize).build());
+	}
+
+	@Override
+	public <T> Flux<T> save(Flux<T> entities, IndexCoordinates index, FluxSaveOptions options) {
+
 		Assert.notNull(entities, "entities must not be null");
 		Assert.notNull(index, "index must not be null");
-		Assert.isTrue(bulkSize > 0, "bulkSize must be greater than 0");
+		Assert.notNull(options, "options must not be null");
 
-		return Flux.defer(() -> {
-			Sinks.Many<T> sink = Sinks.many().unicast().onBackpressureBuffer();
-			// noinspection ReactiveStreamsSubscriberImplementation
-			entities
-					.bufferTimeout(bulkSize, Duration.ofMillis(200), true)
-					.subscribe(new Subscriber<>() {
-						@Nullable private Subscription subscription = null;
-						private final AtomicBoolean upstreamComplete = new AtomicBoolean(false);
-
-						@Override
-						public void onSubscribe(Subscription subscription) {
-							this.subscription = subscription;
-							subscription.request(1);
-						}
-
-						@Override
-						public void onNext(List<T> entityList) {
-							saveAll(entityList, index)
-									.map(sink::tryEmitNext)
-									.doOnComplete(() -> {
-										if (!upstreamComplete.get()) {
-											if (subscription == null) {
-												throw new IllegalStateException("no subscription");
-											}
-											subscription.request(1);
-										} else {
-											sink.tryEmitComplete();
-										}
-									}).subscribe();
-						}
-
-						@Override
-						public void onError(Throwable throwable) {
-							if (subscription != null) {
-								subscription.cancel();
-							}
-							sink.tryEmitError(throwable);
-						}
-
-						@Override
-						public void onComplete() {
-							upstreamComplete.set(true);
-						}
-					});
-			return sink.asFlux();
-		});
+		Flux<List<T>> batches = entities.bufferTimeout(options.getBulkSize(), options.getFlushInterval(), true);
 
+		// both operators request at most maxInFlightBulks batches and cancel the pending ones on cancellation or error
+		return options.isOrdered()
+				? batches.flatMapSequential(batch -> saveAll(batch, index), options.getMaxInFlightBulks())
+				: batches.flatMap(batch -> saveAll(batch, index), options.getMaxInFlightBulks());
 	}
 
 	@Override
@@ -531,6 +520,26 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 	// endregion
 
+	protected void updateIndexedObjectsWithQueries(List<?> queries,
+			List<IndexedObjectInformation> indexedObjectInformationList) {
+
+		for (int i = 0; i < queries.size(); i++) {
+			Object query = queries.get(i);
+
+			if (query instanceof IndexQuery indexQuery) {
+				Object queryObject = indexQuery.getObject();
+
+				if (queryObject != null) {
+					indexQuery.setObject(entityOperations.updateIndexedObject(
+							queryObject,
+							indexedObjectInformationList.get(i),
+							converter,
+							routingResolver));
+				}
+			}
+		}
+	}
+
 	// region callbacks
 
 	protected <T> Mono<T> maybeCallbackBeforeConvert(T entity, IndexCoordinates index) {
@@ -542,6 +551,37 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		return Mono.just(entity);
 	}
 
+	protected Mono<Void> maybeCallbackBeforeConvertWithQuery(Object query, IndexCoordinates index) {
+
+		if (query instanceof IndexQuery indexQuery && indexQuery.getObject() != null) {
+			return maybeCallbackBeforeConvert(indexQuery.getObject(), index).doOnNext(queryObject -> {
+				indexQuery.setObject(queryObject);
+				// the callback might have set some values relevant for the IndexQuery
+				IndexQuery newQuery = getIndexQuery(queryObject);
+
+				if (indexQuery.getRouting() == null && newQuery.getRouting() != null) {
+					indexQuery.setRouting(newQuery.getRouting());
+				}
+
+				if (indexQuery.getSeqNo() == null && newQuery.getSeqNo() != null) {
+					indexQuery.setSeqNo(newQuery.getSeqNo());
+				}
+
+				if (indexQuery.getPrimaryTerm() == null && newQuery.getPrimaryTerm() != null) {
+					indexQuery.setPrimaryTerm(newQuery.getPrimaryTerm());
+				}
+			}).then();
+		}
+
+		return Mono.empty();
+	}
+
+	// this can be called with either a List<IndexQuery> or a List<UpdateQuery>; these query classes
+	// don't have a common base class, therefore the List<?> argument
+	protected Mono<Void> maybeCallbackBeforeConvertWithQueries(List<?> queries, IndexCoordinates index) {
+		return Flux.fromIterable(queries).concatMap(query -> maybeCallbackBeforeConvertWithQuery(query, index)).then();
+	}
+
 	protected <T> Mono<T> maybeCallbackAfterSave(T entity, IndexCoordinates index) {
 
 		if (null != entityCallbacks) {
@@ -551,6 +591,21 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		return Mono.just(entity);
 	}
 
+	protected Mono<Void> maybeCallbackAfterSaveWithQuery(Object query, IndexCoordinates index) {
+
+		if (query instanceof IndexQuery indexQuery && indexQuery.getObject() != null) {
+			return maybeCallbackAfterSave(indexQuery.getObject(), index).doOnNext(indexQuery::setObject).then();
+		}
+
+		return Mono.empty();
+	}
+
+	// this can be called with either a List<IndexQuery> or a List<UpdateQuery>; these query classes
+	// don't have a common base class, therefore the List<?> argument
+	protected Mono<Void> maybeCallbackAfterSaveWithQueries(List<?> queries, IndexCoordinates index) {
+		return Flux.fromIterable(queries).concatMap(query -> maybeCallbackAfterSaveWithQuery(query, index)).then();
+	}
+
 	protected <T> Mono<T> maybeCallbackAfterConvert(T entity, Document document, IndexCoordinates index) {
 
 		if (null != entityCallbacks) {
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Collects index and update operations and sends them in bulk requests to one index. The operations are sent when
+ * the maximum number of operations or the maximum estimated size of the {@link BulkIngesterOptions} is reached, at the
+ * flush interval and on {@link #flush()} and {@link #close()}. Up to {@code maxConcurrentRequests} bulk requests are
+ * sent at the same time on threads of the ingester; when that many are in flight, sending another one blocks the
+ * thread that adds an operation until one of them finished.
+ * <p>
+ * The outcome of each operation is passed to the {@link Listener} of the options. The listener is called on the
+ * threads of the ingester and must not block them for long; it may add operations and close the ingester, in which case
+ * {@link #close()} does not wait for the requests in flight. Failed operations do not throw an exception.
+ * <p>
+ * Instances are created with
+ * {@link DocumentOperations#bulkIngester(IndexCoordinates, BulkIngesterOptions)}, are thread-safe and must be closed
+ * to send the last operations and to stop the threads.
+ *
+ * @since 5.3
+ */
+public final class BulkIngester implements AutoCloseable {
+
+	private static final Log LOGGER = LogFactory.getLog(BulkIngester.class);
+	private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	private final AbstractElasticsearchTemplate template;
+	private final IndexCoordinates index;
+	private final BulkIngesterOptions options;
+	private final BulkPayloadEstimator payloadEstimator;
+	private final Semaphore requestPermits;
+	private final ExecutorService requestExecutor;
+	private final Set<Thread> requestThreads = ConcurrentHashMap.newKeySet();
+	// one party for the ingester until it is closed and one for each batch until its listeners were called
+	private final Phaser pendingBatches;
+	@Nullable private final ScheduledExecutorService flushScheduler;
+
+	// guarded by this
+	private List<Operation> operations = new ArrayList<>();
+	private long bytes;
+	private boolean closed;
+
+	BulkIngester(AbstractElasticsearchTemplate template, IndexCoordinates index, BulkIngesterOptions options) {
+
+		this.template = template;
+		this.index = index;
+		this.options = options;
+		this.payloadEstimator = new BulkPayloadEstimator(template.getElasticsearchConverter());
+		this.requestPermits = new Semaphore(options.getMaxConcurrentRequests());
+
+		String threadName = "bulk-ingester-" + INSTANCES.incrementAndGet();
+		AtomicInteger threads = new AtomicInteger();
+		// the number of requests is limited by the permits, not by the threads: a batch that got a permit must not wait
+		// for a thread that calls a listener, which may itself be blocked adding an operation
+		this.requestExecutor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = daemon(() -> {
+				try {
+					runnable.run();
+				} finally {
+					requestThreads.remove(Thread.currentThread());
+				}
+			}, threadName + '-' + threads.incrementAndGet());
+			requestThreads.add(thread);
+			return thread;
+		});
+		this.pendingBatches = new Phaser(1) {
+			@Override
+			protected boolean onAdvance(int phase, int registeredParties) {
+				// the ingester is closed and the last batch is done
+				requestExecutor.shutdown();
+				return true;
+			}
+		};
+
+		Duration flushInterval = options.getFlushInterval();
+
+		if (flushInterval != null) {
+			this.flushScheduler = Executors
+					.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, threadName + "-flush"));
+			flushScheduler.scheduleWithFixedDelay(this::flush, flushInterval.toNanos(), flushInterval.toNanos(),
+					TimeUnit.NANOSECONDS);
+		} else {
+			this.flushScheduler = null;
+		}
+	}
+
+	/**
+	 * Adds an operation, which is sent when one of the limits is reached.
+	 *
+	 * @param operation an {@link IndexQuery}, an {@link UpdateQuery} or an entity, which is indexed, must not be
+	 *          {@literal null}
+	 * @throws IllegalStateException if the ingester is closed
+	 */
+	public void add(Object operation) {
+
+		Assert.notNull(operation, "operation must not be null");
+
+		Object query = operation instanceof IndexQuery || operation instanceof UpdateQuery ? operation
+				: template.getIndexQuery(operation);
+		long size = payloadEstimator.estimate(query);
+		List<Operation> batch = null;
+
+		synchronized (this) {
+			Assert.state(!closed, "the BulkIngester is closed");
+
+			operations.add(new Operation(operation, query));
+			bytes += size;
+
+			if (operations.size() >= options.getMaxOperations() || bytes >= options.getMaxBytes()) {
+				batch = takeBatch();
+			}
+		}
+
+		send(batch);
+	}
+
+	/**
+	 * Sends the buffered operations, blocking while the maximum number of requests is in flight. Does not wait for the
+	 * response.
+	 */
+	public void flush() {
+
+		List<Operation> batch;
+
+		synchronized (this) {
+			batch = closed ? null : takeBatch();
+		}
+
+		send(batch);
+	}
+
+	/**
+	 * Sends the buffered operations and waits until all requests are finished and their outcome was passed to the
+	 * listener. When called from the listener, the ingester is closed without waiting.
+	 */
+	@Override
+	public void close() {
+
+		List<Operation> batch;
+
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			batch = takeBatch();
+			closed = true;
+		}
+
+		send(batch);
+
+		if (flushScheduler != null) {
+			flushScheduler.shutdownNow();
+		}
+
+		int phase = pendingBatches.arrive();
+
+		if (!requestThreads.contains(Thread.currentThread())) {
+			pendingBatches.awaitAdvance(phase);
+		}
+	}
+
+	/**
+	 * Swaps the buffered operations for an empty buffer, must be called while holding the lock.
+	 *
+	 * @return the buffered operations, {@literal null} if there are none
+	 */
+	@Nullable
+	private List<Operation> takeBatch() {
+
+		if (operations.isEmpty()) {
+			return null;
+		}
+
+		List<Operation> batch = operations;
+		operations = new ArrayList<>();
+		bytes = 0;
+		pendingBatches.register();
+
+		return batch;
+	}
+
+	/**
+	 * Sends a batch taken from the buffer, must be called without holding the lock as it blocks while the maximum number
+	 * of requests is in flight.
+	 */
+	private void send(@Nullable List<Operation> batch) {
+
+		if (batch == null) {
+			return;
+		}
+
+		requestPermits.acquireUninterruptibly();
+
+		try {
+			requestExecutor.execute(() -> {
+				try {
+					execute(batch);
+				} finally {
+					pendingBatches.arriveAndDeregister();
+				}
+			});
+		} catch (RuntimeException e) {
+			requestPermits.release();
+			pendingBatches.arriveAndDeregister();
+			throw e;
+		}
+	}
+
+	private void execute(List<Operation> batch) {
+
+		List<Object> queries = batch.stream().map(Operation::query).toList();
+		List<BulkItemResult> results = null;
+		Exception failure = null;
+
+		try {
+			results = template.bulkOperationWithItemResults(queries, options.getBulkOptions(), index);
+		} catch (Exception e) {
+			failure = e;
+		} finally {
+			// the listener may add operations, so the permit is released before it is called
+			requestPermits.release();
+		}
+
+		if (failure != null) {
+			Exception e = failure;
+			LOGGER.debug("Bulk request of the BulkIngester failed", e);
+			notifyListener(() -> options.getListener().onBulkFailure(batch.stream().map(Operation::result).toList(), e));
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			Object operation = batch.get(i).result();
+			BulkItemResult result = results.get(i);
+
+			if (result.isFailed()) {
+				notifyListener(() -> options.getListener().onItemFailure(operation, result));
+			} else {
+				notifyListener(() -> options.getListener().onItemSuccess(operation, result.indexedObjectInformation()));
+			}
+		}
+	}
+
+	private static void notifyListener(Runnable notification) {
+
+		try {
+			notification.run();
+		} catch (RuntimeException e) {
+			LOGGER.warn("BulkIngester listener failed", e);
+		}
+	}
+
+	private static Thread daemon(Runnable runnable, String name) {
+
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	/**
+	 * An operation as it was added and as query.
+	 */
+	private record Operation(Object added, Object query) {
+
+		/**
+		 * @return the operation as it was added, for an entity the entity that was updated from the response
+		 */
+		Object result() {
+			return added == query ? query : ((IndexQuery) query).getObject();
+		}
+	}
+
+	/**
+	 * Receives the outcome of the operations of a {@link BulkIngester}. The operations are passed as they were added,
+	 * entities as returned by the {@link org.springframework.data.elasticsearch.core.event.AfterSaveCallback}s with
+	 * the id, sequence number, primary term and version of the response set.
+	 */
+	public interface Listener {
+
+		/**
+		 * Called for each operation that succeeded.
+		 *
+		 * @param operation the operation
+		 * @param indexedObjectInformation the information about the indexed document
+		 */
+		default void onItemSuccess(Object operation, IndexedObjectInformation indexedObjectInformation) {}
+
+		/**
+		 * Called for each operation that failed.
+		 *
+		 * @param operation the operation
+		 * @param result the status and error of the operation
+		 */
+		default void onItemFailure(Object operation, BulkItemResult result) {}
+
+		/**
+		 * Called when a bulk request failed as a whole, for example because Elasticsearch could not be reached.
+		 *
+		 * @param operations the operations of the request
+		 * @param exception the exception the request failed with
+		 */
+		default void onBulkFailure(List<Object> operations, Exception exception) {}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.springframework.data.elasticsearch.ElasticsearchErrorCause;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
+import org.springframework.lang.Nullable;
+
+/**
+ * The outcome of one operation of a bulk request.
+ *
+ * @param indexedObjectInformation the id, index, sequence number, primary term and version of the document
+ * @param status the HTTP status of the operation
+ * @param failure the error of a failed operation, {@literal null} if it succeeded
+ * @since 5.3
+ */
+public record BulkItemResult(IndexedObjectInformation indexedObjectInformation, int status,
+		@Nullable ElasticsearchErrorCause failure) {
+
+	public boolean isFailed() {
+		return failure != null;
+	}
+
+	/**
+	 * @param retryPolicy the policy defining the retryable status codes
+	 * @return {@literal true} if the operation failed with a status that the policy retries
+	 */
+	public boolean isRetryable(RetryPolicy retryPolicy) {
+		return isFailed() && retryPolicy.isRetryableStatusCode(status);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+/**
+ * Estimates the number of bytes an {@link IndexQuery} or {@link UpdateQuery} adds to the body of a bulk request. A
+ * source given as string is measured exactly. As converting an entity or document to JSON costs as much as sending it,
+ * only the first ones and then every hundredth are converted, the others are estimated with the average size of the
+ * converted ones.
+ *
+ * @since 5.3
+ */
+final class BulkPayloadEstimator {
+
+	// the action and metadata line of an operation
+	private static final int OPERATION_OVERHEAD = 100;
+	private static final int FIRST_SAMPLES = 10;
+	private static final int SAMPLE_INTERVAL = 100;
+
+	private final ElasticsearchConverter elasticsearchConverter;
+
+	// guarded by this
+	private long count;
+	private long samples;
+	private long sampledBytes;
+
+	BulkPayloadEstimator(ElasticsearchConverter elasticsearchConverter) {
+		this.elasticsearchConverter = elasticsearchConverter;
+	}
+
+	/**
+	 * @param query an {@link IndexQuery} or {@link UpdateQuery}
+	 * @return the estimated number of bytes
+	 */
+	long estimate(Object query) {
+
+		if (query instanceof IndexQuery indexQuery) {
+
+			if (indexQuery.getSource() != null) {
+				return OPERATION_OVERHEAD + indexQuery.getSource().length();
+			}
+
+			Object object = indexQuery.getObject();
+			return OPERATION_OVERHEAD + (object != null ? sampled(object) : 0);
+		}
+
+		if (query instanceof UpdateQuery updateQuery) {
+
+			long size = OPERATION_OVERHEAD;
+
+			if (updateQuery.getDocument() != null) {
+				size += sampled(updateQuery.getDocument());
+			}
+
+			if (updateQuery.getUpsert() != null) {
+				size += sampled(updateQuery.getUpsert());
+			}
+
+			if (updateQuery.getScript() != null) {
+				size += updateQuery.getScript().length();
+			}
+
+			return size;
+		}
+
+		return OPERATION_OVERHEAD;
+	}
+
+	private long sampled(Object object) {
+
+		long current;
+
+		synchronized (this) {
+			current = ++count;
+
+			if (samples > 0 && current > FIRST_SAMPLES && current % SAMPLE_INTERVAL != 0) {
+				return sampledBytes / samples;
+			}
+		}
+
+		Document document = object instanceof Document doc ? doc : elasticsearchConverter.mapObject(object);
+		long size = document.toJson().length();
+
+		synchronized (this) {
+			samples++;
+			sampledBytes += size;
+		}
+
+		return size;
+	}
+}
@@ -17,10 +17,14 @@ package org.springframework.data.elasticsearch.core;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ChunkedSaveOptions;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
@@ -71,7 +75,8 @@ public interface DocumentOperations {
 	<T> Iterable<T> save(Iterable<T> entities);
 
 	/**
-	 * saves the given entities to the given index
+	 * saves the given entities to the given index in a single bulk operation. Use
+	 * {@link #save(Iterable, IndexCoordinates, ChunkedSaveOptions)} to send them in chunks instead.
 	 *
 	 * @param entities must not be {@literal null}
 	 * @param index the index to save the entities in, must not be {@literal null}
@@ -80,6 +85,53 @@ public interface DocumentOperations {
 	 */
 	<T> Iterable<T> save(Iterable<T> entities, IndexCoordinates index);
 
+	/**
+	 * saves the given entities to the given index in chunks as described for
+	 * {@link #save(Stream, IndexCoordinates, ChunkedSaveOptions)}.
+	 *
+	 * @param entities must not be {@literal null}
+	 * @param index the index to save the entities in, must not be {@literal null}
+	 * @param options the chunk size, whether to return the saved entities and the bulk options, must not be
+	 *          {@literal null}
+	 * @param <T> the entity type
+	 * @return the saved entities, an empty list if they are not returned
+	 * @since 5.3
+	 */
+	default <T> Iterable<T> save(Iterable<T> entities, IndexCoordinates index, ChunkedSaveOptions options) {
+		return save(StreamSupport.stream(entities.spliterator(), false), index, options);
+	}
+
+	/**
+	 * saves the entities of the given stream to the given index in chunks with the
+	 * {@link ChunkedSaveOptions#defaultOptions() default options}.
+	 *
+	 * @param entities must not be {@literal null}
+	 * @param index the index to save the entities in, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return the saved entities
+	 * @since 5.3
+	 */
+	default <T> Iterable<T> save(Stream<T> entities, IndexCoordinates index) {
+		return save(entities, index, ChunkedSaveOptions.defaultOptions());
+	}
+
+	/**
+	 * saves the entities of the given stream to the given index in chunks. The entities are consumed from the stream
+	 * lazily, one chunk of {@link ChunkedSaveOptions#getChunkSize()} entities is converted and sent in a bulk operation
+	 * before the next one is read, so that a stream of any length can be saved when the saved entities are not returned.
+	 * When a bulk operation fails, the chunks sent before stay saved and the remaining entities are not read. The stream
+	 * is not closed.
+	 *
+	 * @param entities must not be {@literal null}
+	 * @param index the index to save the entities in, must not be {@literal null}
+	 * @param options the chunk size, whether to return the saved entities and the bulk options, must not be
+	 *          {@literal null}
+	 * @param <T> the entity type
+	 * @return the saved entities, an empty list if they are not returned
+	 * @since 5.3
+	 */
+	<T> Iterable<T> save(Stream<T> entities, IndexCoordinates index, ChunkedSaveOptions options);
+
 	/**
 	 * saves the given entities to the index retrieved from the entities' Document annotation
 	 *
@@ -237,6 +289,47 @@ public interface DocumentOperations {
 	 */
 	void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
 
+	/**
+	 * Bulk index all objects and return the outcome of each operation instead of throwing a
+	 * {@link org.springframework.data.elasticsearch.BulkFailureException} when operations failed. If the bulk options
+	 * contain an {@link BulkOptions#getItemRetryPolicy() item retry policy}, only the operations that failed with a
+	 * retryable status are sent again, after the backoff of the policy. Only the objects of the successful operations are
+	 * updated with the indexed information.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to write to
+	 * @return the final outcome of each operation at the position of its query
+	 * @since 5.3
+	 */
+	List<BulkItemResult> bulkIndexWithItemResults(List<IndexQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index);
+
+	/**
+	 * Bulk update all objects and return the outcome of each operation instead of throwing a
+	 * {@link org.springframework.data.elasticsearch.BulkFailureException} when operations failed, retrying them as
+	 * described for {@link #bulkIndexWithItemResults(List, BulkOptions, IndexCoordinates)}.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to write to
+	 * @return the final outcome of each operation at the position of its query
+	 * @since 5.3
+	 */
+	List<BulkItemResult> bulkUpdateWithItemResults(List<UpdateQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index);
+
+	/**
+	 * Creates a {@link BulkIngester} that collects index and update operations and sends them in bulk requests to the
+	 * given index. The ingester must be closed to send the last operations.
+	 *
+	 * @param index the index to send the operations to, must not be {@literal null}
+	 * @param options the options of the ingester, must not be {@literal null}
+	 * @return the new ingester
+	 * @since 5.3
+	 */
+	BulkIngester bulkIngester(IndexCoordinates index, BulkIngesterOptions options);
+
 	/**
 	 * Delete the one object with provided id.
 	 *
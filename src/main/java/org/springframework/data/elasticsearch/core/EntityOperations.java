@@ -16,9 +16,11 @@
 package org.springframework.data.elasticsearch.core;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.RawJson;
 import org.springframework.data.elasticsearch.core.join.JoinField;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
@@ -46,6 +48,7 @@ public class EntityOperations {
 	private static final String ID_FIELD = "id";
 
 	private final MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> context;
+	private final Map<ElasticsearchPersistentEntity<?>, IndexedObjectProperties> indexedObjectProperties = new ConcurrentHashMap<>();
 
 	public EntityOperations(
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> context) {
@@ -118,39 +121,31 @@ public class EntityOperations {
 				.getPersistentEntity(entity.getClass());
 
 		if (persistentEntity != null) {
+			IndexedObjectProperties properties = indexedObjectProperties.computeIfAbsent(persistentEntity,
+					IndexedObjectProperties::of);
 			PersistentPropertyAccessor<Object> propertyAccessor = persistentEntity.getPropertyAccessor(entity);
-			ElasticsearchPersistentProperty idProperty = persistentEntity.getIdProperty();
 
-			// Only deal with text because ES generated Ids are strings!
-			if (indexedObjectInformation.id() != null && idProperty != null
-					// isReadable from the base class is false in case of records
-					&& (idProperty.isReadable() || idProperty.getOwner().getType().isRecord())
-					&& idProperty.getType().isAssignableFrom(String.class)) {
-				propertyAccessor.setProperty(idProperty, indexedObjectInformation.id());
+			if (indexedObjectInformation.id() != null && properties.idProperty() != null) {
+				propertyAccessor.setProperty(properties.idProperty(), indexedObjectInformation.id());
 			}
 
 			if (indexedObjectInformation.seqNo() != null && indexedObjectInformation.primaryTerm() != null
-					&& persistentEntity.hasSeqNoPrimaryTermProperty()) {
-				ElasticsearchPersistentProperty seqNoPrimaryTermProperty = persistentEntity.getSeqNoPrimaryTermProperty();
-				// noinspection ConstantConditions
-				propertyAccessor.setProperty(seqNoPrimaryTermProperty,
+					&& properties.seqNoPrimaryTermProperty() != null) {
+				propertyAccessor.setProperty(properties.seqNoPrimaryTermProperty(),
 						new SeqNoPrimaryTerm(indexedObjectInformation.seqNo(), indexedObjectInformation.primaryTerm()));
 			}
 
-			if (indexedObjectInformation.version() != null && persistentEntity.hasVersionProperty()) {
-				ElasticsearchPersistentProperty versionProperty = persistentEntity.getVersionProperty();
-				// noinspection ConstantConditions
-				propertyAccessor.setProperty(versionProperty, indexedObjectInformation.version());
+			if (indexedObjectInformation.version() != null && properties.versionProperty() != null) {
+				propertyAccessor.setProperty(properties.versionProperty(), indexedObjectInformation.version());
 			}
 
-			var indexedIndexNameProperty = persistentEntity.getIndexedIndexNameProperty();
-			if (indexedIndexNameProperty != null) {
-				propertyAccessor.setProperty(indexedIndexNameProperty, indexedObjectInformation.index());
+			if (properties.indexedIndexNameProperty() != null) {
+				propertyAccessor.setProperty(properties.indexedIndexNameProperty(), indexedObjectInformation.index());
 			}
 
 			// noinspection unchecked
 			return (T) propertyAccessor.getBean();
-		} else {
+		} else if (!(entity instanceof RawJson)) {
 			EntityOperations.AdaptableEntity<T> adaptableEntity = forEntity(entity,
 					elasticsearchConverter.getConversionService(), routingResolver);
 			adaptableEntity.populateIdIfNecessary(indexedObjectInformation.id());
@@ -158,6 +153,36 @@ public class EntityOperations {
 		return entity;
 	}
 
+	/**
+	 * The properties of an entity that are updated after the entity was stored in Elasticsearch, {@literal null} if the
+	 * entity does not have such a property. Computed once per entity.
+	 *
+	 * @since 5.3
+	 */
+	private record IndexedObjectProperties(@Nullable ElasticsearchPersistentProperty idProperty,
+			@Nullable ElasticsearchPersistentProperty seqNoPrimaryTermProperty,
+			@Nullable ElasticsearchPersistentProperty versionProperty,
+			@Nullable ElasticsearchPersistentProperty indexedIndexNameProperty) {
+
+		static IndexedObjectProperties of(ElasticsearchPersistentEntity<?> persistentEntity) {
+
+			ElasticsearchPersistentProperty idProperty = persistentEntity.getIdProperty();
+
+			// Only deal with text because ES generated Ids are strings!
+			if (idProperty != null
+					// isReadable from the base class is false in case of records
+					&& !((idProperty.isReadable() || idProperty.getOwner().getType().isRecord())
+							&& idProperty.getType().isAssignableFrom(String.class))) {
+				idProperty = null;
+			}
+
+			return new IndexedObjectProperties(idProperty,
+					persistentEntity.hasSeqNoPrimaryTermProperty() ? persistentEntity.getSeqNoPrimaryTermProperty() : null,
+					persistentEntity.hasVersionProperty() ? persistentEntity.getVersionProperty() : null,
+					persistentEntity.getIndexedIndexNameProperty());
+		}
+	}
+
 	/**
 	 * Determine index name and type name from {@link Entity} with {@code index} and {@code type} overrides. Allows using
 	 * preferred values for index and type if provided, otherwise fall back to index and type defined on entity level.
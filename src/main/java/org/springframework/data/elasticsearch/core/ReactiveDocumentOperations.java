@@ -26,6 +26,8 @@ import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.FluxSaveOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.data.elasticsearch.core.query.UpdateResponse;
@@ -125,6 +127,19 @@ public interface ReactiveDocumentOperations {
 	 */
 	<T> Flux<T> save(Flux<T> entities, Class<?> clazz, int bulkSize);
 
+	/**
+	 * Indexes the entities into the index extracted from entity metadata. The entities are collected into batches and
+	 * sent in bulk operations to Elasticsearch as configured by the given {@link FluxSaveOptions}.
+	 *
+	 * @param entities
+	 * @param clazz the class to get the index name from
+	 * @param options the batch size, flush interval, number of concurrent bulk requests and emission order
+	 * @param <T> entity type
+	 * @return a Flux emitting the saved entities
+	 * @since 5.3
+	 */
+	<T> Flux<T> save(Flux<T> entities, Class<?> clazz, FluxSaveOptions options);
+
 	/**
 	 * Indexes the entities into the given index.
 	 *
@@ -152,6 +167,22 @@ public interface ReactiveDocumentOperations {
 	 */
 	<T> Flux<T> save(Flux<T> entities, IndexCoordinates index, int bulkSize);
 
+	/**
+	 * Indexes the entities into the given index. The entities are collected into batches of
+	 * {@link FluxSaveOptions#getBulkSize()} with a maximal timeout of {@link FluxSaveOptions#getFlushInterval()} and sent
+	 * in bulk operations to Elasticsearch, with up to {@link FluxSaveOptions#getMaxInFlightBulks()} requests in flight.
+	 * Cancelling the returned Flux cancels the subscription to the entities and the pending bulk requests, an error of
+	 * the entities or of a bulk request terminates the returned Flux.
+	 *
+	 * @param entities the entities to save
+	 * @param index the index to save to
+	 * @param options the batch size, flush interval, number of concurrent bulk requests and emission order
+	 * @param <T> entity type
+	 * @return a Flux emitting the saved entities
+	 * @since 5.3
+	 */
+	<T> Flux<T> save(Flux<T> entities, IndexCoordinates index, FluxSaveOptions options);
+
 	/**
 	 * Index entities the index extracted from entity metadata.
 	 *
@@ -251,6 +282,35 @@ public interface ReactiveDocumentOperations {
 	 */
 	Mono<Void> bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
 
+	/**
+	 * Bulk index all objects and emit the outcome of each operation instead of failing with a
+	 * {@link org.springframework.data.elasticsearch.BulkFailureException} when operations failed. If the bulk options
+	 * contain an {@link BulkOptions#getItemRetryPolicy() item retry policy}, only the operations that failed with a
+	 * retryable status are sent again, after the backoff of the policy.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to write to
+	 * @return a {@link Flux} emitting the final outcome of each operation in the order of the queries
+	 * @since 5.3
+	 */
+	Flux<BulkItemResult> bulkIndexWithItemResults(List<IndexQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index);
+
+	/**
+	 * Bulk update all objects and emit the outcome of each operation instead of failing with a
+	 * {@link org.springframework.data.elasticsearch.BulkFailureException} when operations failed, retrying them as
+	 * described for {@link #bulkIndexWithItemResults(List, BulkOptions, IndexCoordinates)}.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to write to
+	 * @return a {@link Flux} emitting the final outcome of each operation in the order of the queries
+	 * @since 5.3
+	 */
+	Flux<BulkItemResult> bulkUpdateWithItemResults(List<UpdateQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index);
+
 	/**
 	 * Find the document with the given {@literal id} mapped onto the given {@literal entityType}.
 	 *
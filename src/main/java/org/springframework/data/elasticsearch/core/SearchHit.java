@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.data.elasticsearch.core.document.Explanation;
@@ -43,6 +44,8 @@ public class SearchHit<T> {
 	private final float score;
 	private final List<Object> sortValues;
 	private final T content;
+	// only set for lazily converted hits, the content field is null for those
+	@Nullable private final LazyContent<T> lazyContent;
 	private final Map<String, List<String>> highlightFields = new LinkedHashMap<>();
 	private final Map<String, SearchHits<?>> innerHits = new LinkedHashMap<>();
 	@Nullable private final NestedMetaData nestedMetaData;
@@ -54,6 +57,30 @@ public class SearchHit<T> {
 			@Nullable Object[] sortValues, @Nullable Map<String, List<String>> highlightFields,
 			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
 			@Nullable Explanation explanation, @Nullable List<String> matchedQueries, T content) {
+		this(index, id, routing, score, sortValues, highlightFields, innerHits, nestedMetaData, explanation, matchedQueries,
+				content, null);
+	}
+
+	/**
+	 * Creates a {@link SearchHit} whose content is created by the given supplier when it is accessed for the first time.
+	 * The supplier is called at most once, even when the content is accessed concurrently, unless it throws an exception.
+	 *
+	 * @param contentSupplier supplies the content, must not be {@literal null}
+	 * @since 5.3
+	 */
+	public SearchHit(@Nullable String index, @Nullable String id, @Nullable String routing, float score,
+			@Nullable Object[] sortValues, @Nullable Map<String, List<String>> highlightFields,
+			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
+			@Nullable Explanation explanation, @Nullable List<String> matchedQueries, Supplier<? extends T> contentSupplier) {
+		this(index, id, routing, score, sortValues, highlightFields, innerHits, nestedMetaData, explanation, matchedQueries,
+				null, new LazyContent<>(contentSupplier));
+	}
+
+	private SearchHit(@Nullable String index, @Nullable String id, @Nullable String routing, float score,
+			@Nullable Object[] sortValues, @Nullable Map<String, List<String>> highlightFields,
+			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
+			@Nullable Explanation explanation, @Nullable List<String> matchedQueries, T content,
+			@Nullable LazyContent<T> lazyContent) {
 		this.index = index;
 		this.id = id;
 		this.routing = routing;
@@ -71,6 +98,7 @@ public class SearchHit<T> {
 		this.nestedMetaData = nestedMetaData;
 		this.explanation = explanation;
 		this.content = content;
+		this.lazyContent = lazyContent;
 
 		if (matchedQueries != null) {
 			this.matchedQueries.addAll(matchedQueries);
@@ -102,7 +130,16 @@ public class SearchHit<T> {
 	 * @return the object data from the search.
 	 */
 	public T getContent() {
-		return content;
+		return lazyContent != null ? lazyContent.get() : content;
+	}
+
+	/**
+	 * @return {@literal true} if the content of this hit has been created, this is always the case for hits that are not
+	 *         converted lazily
+	 * @since 5.3
+	 */
+	public boolean isContentResolved() {
+		return lazyContent == null || lazyContent.isResolved();
 	}
 
 	/**
@@ -168,8 +205,9 @@ public class SearchHit<T> {
 
 	@Override
 	public String toString() {
+		// does not trigger the conversion of a lazily converted hit
 		return "SearchHit{" + "id='" + id + '\'' + ", score=" + score + ", sortValues=" + sortValues + ", content="
-				+ content + ", highlightFields=" + highlightFields + '}';
+				+ (isContentResolved() ? getContent() : "<not converted>") + ", highlightFields=" + highlightFields + '}';
 	}
 
 	/**
@@ -197,4 +235,42 @@ public class SearchHit<T> {
 	public List<String> getMatchedQueries() {
 		return matchedQueries;
 	}
+
+	/**
+	 * Holds the content of a lazily converted hit, so that the content of eagerly created hits stays in a final field.
+	 * The volatile write that clears the supplier publishes the created content.
+	 */
+	private static final class LazyContent<T> {
+
+		@Nullable private volatile Supplier<? extends T> supplier;
+		@Nullable private T content;
+
+		LazyContent(Supplier<? extends T> supplier) {
+
+			Assert.notNull(supplier, "contentSupplier must not be null");
+
+			this.supplier = supplier;
+		}
+
+		@SuppressWarnings("ConstantConditions")
+		T get() {
+
+			if (supplier != null) {
+				synchronized (this) {
+					Supplier<? extends T> currentSupplier = supplier;
+
+					if (currentSupplier != null) {
+						content = currentSupplier.get();
+						supplier = null;
+					}
+				}
+			}
+
+			return content;
+		}
+
+		boolean isResolved() {
+			return supplier == null;
+		}
+	}
 }
@@ -20,6 +20,8 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
@@ -76,6 +78,26 @@ public class SearchHitMapping<T> {
 		return mapHitsFromResponse(searchDocumentResponse, contents);
 	}
 
+	/**
+	 * Maps the documents of the response to {@link SearchHit}s whose content is read with the given reader when it is
+	 * accessed for the first time, see {@link SearchHit#getContent()}. The contents of inner hits are read lazily as
+	 * well.
+	 *
+	 * @param searchDocumentResponse the response to map
+	 * @param contentReader reads the content of a hit from its document, must be thread-safe
+	 * @return the mapped {@link SearchHits}
+	 * @since 5.3
+	 */
+	public SearchHits<T> mapHitsLazily(SearchDocumentResponse searchDocumentResponse,
+			Function<SearchDocument, ? extends T> contentReader) {
+		return mapHitsFromResponseLazily(searchDocumentResponse, contentReader);
+	}
+
+	SearchScrollHits<T> mapScrollHitsLazily(SearchDocumentResponse searchDocumentResponse,
+			Function<SearchDocument, ? extends T> contentReader) {
+		return mapHitsFromResponseLazily(searchDocumentResponse, contentReader);
+	}
+
 	private SearchHitsImpl<T> mapHitsFromResponse(SearchDocumentResponse searchDocumentResponse, List<T> contents) {
 
 		Assert.notNull(searchDocumentResponse, "searchDocumentResponse is null");
@@ -84,12 +106,6 @@ public class SearchHitMapping<T> {
 		Assert.isTrue(searchDocumentResponse.getSearchDocuments().size() == contents.size(),
 				"Count of documents must match the count of entities");
 
-		long totalHits = searchDocumentResponse.getTotalHits();
-		SearchShardStatistics shardStatistics = searchDocumentResponse.getSearchShardStatistics();
-		float maxScore = searchDocumentResponse.getMaxScore();
-		String scrollId = searchDocumentResponse.getScrollId();
-		String pointInTimeId = searchDocumentResponse.getPointInTimeId();
-
 		List<SearchHit<T>> searchHits = new ArrayList<>();
 		List<SearchDocument> searchDocuments = searchDocumentResponse.getSearchDocuments();
 		for (int i = 0; i < searchDocuments.size(); i++) {
@@ -98,6 +114,33 @@ public class SearchHitMapping<T> {
 			SearchHit<T> hit = mapHit(document, content);
 			searchHits.add(hit);
 		}
+
+		return createSearchHits(searchDocumentResponse, searchHits);
+	}
+
+	private SearchHitsImpl<T> mapHitsFromResponseLazily(SearchDocumentResponse searchDocumentResponse,
+			Function<SearchDocument, ? extends T> contentReader) {
+
+		Assert.notNull(searchDocumentResponse, "searchDocumentResponse is null");
+		Assert.notNull(contentReader, "contentReader is null");
+
+		List<SearchHit<T>> searchHits = new ArrayList<>();
+		for (SearchDocument document : searchDocumentResponse.getSearchDocuments()) {
+			searchHits.add(mapHit(document, null, () -> contentReader.apply(document)));
+		}
+
+		return createSearchHits(searchDocumentResponse, searchHits);
+	}
+
+	private SearchHitsImpl<T> createSearchHits(SearchDocumentResponse searchDocumentResponse,
+			List<SearchHit<T>> searchHits) {
+
+		long totalHits = searchDocumentResponse.getTotalHits();
+		SearchShardStatistics shardStatistics = searchDocumentResponse.getSearchShardStatistics();
+		float maxScore = searchDocumentResponse.getMaxScore();
+		String scrollId = searchDocumentResponse.getScrollId();
+		String pointInTimeId = searchDocumentResponse.getPointInTimeId();
+
 		AggregationsContainer<?> aggregations = searchDocumentResponse.getAggregations();
 		TotalHitsRelation totalHitsRelation = TotalHitsRelation.valueOf(searchDocumentResponse.getTotalHitsRelation());
 
@@ -130,13 +173,37 @@ public class SearchHitMapping<T> {
 		Assert.notNull(searchDocument, "searchDocument is null");
 		Assert.notNull(content, "content is null");
 
+		return mapHit(searchDocument, content, null);
+	}
+
+	private SearchHit<T> mapHit(SearchDocument searchDocument, @Nullable T content,
+			@Nullable Supplier<? extends T> contentSupplier) {
+
+		String id = searchDocument.hasId() ? searchDocument.getId() : null;
+		Map<String, List<String>> highlightFields = getHighlightsAndRemapFieldNames(searchDocument);
+		Map<String, SearchHits<?>> innerHits = mapInnerHits(searchDocument, contentSupplier != null);
+
+		if (contentSupplier != null) {
+			return new SearchHit<>(searchDocument.getIndex(), //
+					id, //
+					searchDocument.getRouting(), //
+					searchDocument.getScore(), //
+					searchDocument.getSortValues(), //
+					highlightFields, //
+					innerHits, //
+					searchDocument.getNestedMetaData(), //
+					searchDocument.getExplanation(), //
+					searchDocument.getMatchedQueries(), //
+					contentSupplier); //
+		}
+
 		return new SearchHit<>(searchDocument.getIndex(), //
-				searchDocument.hasId() ? searchDocument.getId() : null, //
+				id, //
 				searchDocument.getRouting(), //
 				searchDocument.getScore(), //
 				searchDocument.getSortValues(), //
-				getHighlightsAndRemapFieldNames(searchDocument), //
-				mapInnerHits(searchDocument), //
+				highlightFields, //
+				innerHits, //
 				searchDocument.getNestedMetaData(), //
 				searchDocument.getExplanation(), //
 				searchDocument.getMatchedQueries(), //
@@ -162,7 +229,7 @@ public class SearchHitMapping<T> {
 		}, Map.Entry::getValue));
 	}
 
-	private Map<String, SearchHits<?>> mapInnerHits(SearchDocument searchDocument) {
+	private Map<String, SearchHits<?>> mapInnerHits(SearchDocument searchDocument, boolean lazy) {
 
 		Map<String, SearchHits<?>> innerHits = new LinkedHashMap<>();
 		Map<String, SearchDocumentResponse> documentInnerHits = searchDocument.getInnerHits();
@@ -179,7 +246,7 @@ public class SearchHitMapping<T> {
 						.mapHitsFromResponse(searchDocumentResponse, searchDocumentResponse.getSearchDocuments());
 
 				// map Documents to real objects
-				SearchHits<?> mappedSearchHits = mapInnerDocuments(searchHits, type);
+				SearchHits<?> mappedSearchHits = mapInnerDocuments(searchHits, type, lazy);
 
 				innerHits.put(entry.getKey(), mappedSearchHits);
 			}
@@ -193,9 +260,10 @@ public class SearchHitMapping<T> {
 	 *
 	 * @param searchHits {@link SearchHits} containing {@link Document} instances
 	 * @param type the class of the containing class
+	 * @param lazy if the objects should be created when the content of a hit is accessed
 	 * @return a new {@link SearchHits} instance containing the mapped objects or the original inout if any error occurs
 	 */
-	private SearchHits<?> mapInnerDocuments(SearchHits<SearchDocument> searchHits, Class<T> type) {
+	private SearchHits<?> mapInnerDocuments(SearchHits<SearchDocument> searchHits, Class<T> type, boolean lazy) {
 
 		if (searchHits.isEmpty()) {
 			return searchHits;
@@ -214,20 +282,35 @@ public class SearchHitMapping<T> {
 				// convert the list of SearchHit<SearchDocument> to list of SearchHit<Object>
 				searchHits.getSearchHits().forEach(searchHit -> {
 					SearchDocument searchDocument = searchHit.getContent();
-
-					Object targetObject = converter.read(targetType, searchDocument);
-					convertedSearchHits.add(new SearchHit<>(searchDocument.getIndex(), //
-							searchDocument.getId(), //
-							searchDocument.getRouting(), //
-							searchDocument.getScore(), //
-							searchDocument.getSortValues(), //
-							searchDocument.getHighlightFields(), //
-							searchHit.getInnerHits(), //
-							getPersistentEntity(persistentEntityForType, //
-									searchHit.getContent().getNestedMetaData()).nestedMetaData, //
-							searchHit.getExplanation(), //
-							searchHit.getMatchedQueries(), //
-							targetObject));
+					NestedMetaData mappedNestedMetaData = getPersistentEntity(persistentEntityForType, //
+							searchDocument.getNestedMetaData()).nestedMetaData;
+
+					if (lazy) {
+						convertedSearchHits.add(new SearchHit<>(searchDocument.getIndex(), //
+								searchDocument.getId(), //
+								searchDocument.getRouting(), //
+								searchDocument.getScore(), //
+								searchDocument.getSortValues(), //
+								searchDocument.getHighlightFields(), //
+								searchHit.getInnerHits(), //
+								mappedNestedMetaData, //
+								searchHit.getExplanation(), //
+								searchHit.getMatchedQueries(), //
+								() -> readInnerDocument(targetType, searchDocument)));
+					} else {
+						Object targetObject = converter.read(targetType, searchDocument);
+						convertedSearchHits.add(new SearchHit<>(searchDocument.getIndex(), //
+								searchDocument.getId(), //
+								searchDocument.getRouting(), //
+								searchDocument.getScore(), //
+								searchDocument.getSortValues(), //
+								searchDocument.getHighlightFields(), //
+								searchHit.getInnerHits(), //
+								mappedNestedMetaData, //
+								searchHit.getExplanation(), //
+								searchHit.getMatchedQueries(), //
+								targetObject));
+					}
 				});
 
 				String scrollId = null;
@@ -252,6 +335,15 @@ public class SearchHitMapping<T> {
 		return searchHits;
 	}
 
+	private Object readInnerDocument(Class<?> targetType, SearchDocument searchDocument) {
+
+		try {
+			return converter.read(targetType, searchDocument);
+		} catch (Exception e) {
+			throw new UncategorizedElasticsearchException("Unable to convert inner hits.", e);
+		}
+	}
+
 	/**
 	 * find a {@link ElasticsearchPersistentEntity} following the property chain defined by the nested metadata
 	 *
@@ -41,4 +41,17 @@ public interface DateFormatter {
 	 * @return the parsed instance
 	 */
 	<T extends TemporalAccessor> T parse(String input, Class<T> type);
+
+	/**
+	 * Checks by inspecting the input if it possibly can be parsed by this formatter. This is used to skip formatters when
+	 * multiple formats are configured for a property. Implementations must only return {@literal false} when parsing
+	 * the input would fail for sure.
+	 *
+	 * @param input the String to check, must not be {@literal null}
+	 * @return {@literal false} if the input cannot be parsed by this formatter
+	 * @since 5.3
+	 */
+	default boolean mayParse(String input) {
+		return true;
+	}
 }
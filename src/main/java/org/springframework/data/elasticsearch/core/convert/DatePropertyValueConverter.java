@@ -44,6 +44,12 @@ public class DatePropertyValueConverter extends AbstractPropertyValueConverter {
 		String s = value.toString();
 
 		for (ElasticsearchDateConverter dateConverter : dateConverters) {
+
+			// skip the formats that cannot match without trying them
+			if (!dateConverter.mayParse(s)) {
+				continue;
+			}
+
 			try {
 				return dateConverter.parse(s);
 			} catch (Exception e) {
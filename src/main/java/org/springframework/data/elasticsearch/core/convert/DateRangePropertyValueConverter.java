@@ -48,6 +48,12 @@ public class DateRangePropertyValueConverter extends AbstractRangePropertyValueC
 	protected Date parse(String value) {
 
 		for (ElasticsearchDateConverter converters : dateConverters) {
+
+			// skip the formats that cannot match without trying them
+			if (!converters.mayParse(value)) {
+				continue;
+			}
+
 			try {
 				return converters.parse(value);
 			} catch (Exception e) {
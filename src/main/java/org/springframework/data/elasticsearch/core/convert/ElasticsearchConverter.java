@@ -15,6 +15,9 @@
  */
 package org.springframework.data.elasticsearch.core.convert;
 
+import java.io.IOException;
+import java.util.Map;
+
 import org.springframework.data.convert.EntityConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
@@ -26,6 +29,9 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 /**
  * @author Rizwan Idrees
  * @author Mohsin Husen
@@ -47,6 +53,32 @@ public interface ElasticsearchConverter
 		return new SpelAwareProxyProjectionFactory();
 	}
 
+	// region read
+	/**
+	 * Reads the source of a document that will be converted into an object of the given type into the given sink. The
+	 * parser must be positioned on the {@link com.fasterxml.jackson.core.JsonToken#START_OBJECT} of the source, after
+	 * reading it is positioned on the matching {@link com.fasterxml.jackson.core.JsonToken#END_OBJECT}. The default
+	 * implementation reads the complete source, implementations may omit values that are not needed to read an object of
+	 * the given type.
+	 *
+	 * @param type the type the source will be converted to, must not be {@literal null}
+	 * @param parser the parser to read from, must not be {@literal null} and must have a codec
+	 * @param sink the map to put the read values in, must not be {@literal null}
+	 * @throws IOException when reading from the parser fails
+	 * @since 5.3
+	 */
+	@SuppressWarnings("unchecked")
+	default void readSource(Class<?> type, JsonParser parser, Map<String, Object> sink) throws IOException {
+
+		Assert.notNull(type, "type must not be null");
+		Assert.notNull(parser, "parser must not be null");
+		Assert.notNull(sink, "sink must not be null");
+		Assert.state(parser.getCodec() != null, "parser must have a codec");
+
+		sink.putAll(parser.getCodec().readValue(parser, Map.class));
+	}
+	// endregion
+
 	// region write
 	/**
 	 * Convert a given {@literal idValue} to its {@link String} representation taking potentially registered
@@ -88,6 +120,25 @@ public interface ElasticsearchConverter
 		}
 		return target;
 	}
+
+	/**
+	 * Writes an object as JSON to the given {@link JsonGenerator}. The generated JSON must be the same as the one that
+	 * is produced when the {@link Document} returned by {@link #mapObject(Object)} is written by the generator's codec.
+	 * The default implementation does exactly this, implementations may write the object without creating the
+	 * intermediate {@link Document}.
+	 *
+	 * @param source the object to write, must not be {@literal null}
+	 * @param generator the generator to write to, must not be {@literal null}
+	 * @throws IOException when writing to the generator fails
+	 * @since 5.3
+	 */
+	default void write(Object source, JsonGenerator generator) throws IOException {
+
+		Assert.notNull(source, "source must not be null");
+		Assert.notNull(generator, "generator must not be null");
+
+		generator.writeObject(mapObject(source));
+	}
 	// endregion
 
 	// region query
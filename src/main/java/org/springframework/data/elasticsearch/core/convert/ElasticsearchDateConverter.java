@@ -18,7 +18,10 @@ package org.springframework.data.elasticsearch.core.convert;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -30,6 +33,7 @@ import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -88,6 +92,11 @@ final public class ElasticsearchDateConverter {
 		Assert.notNull(accessor, "accessor must not be null");
 
 		if (accessor instanceof Instant instant) {
+
+			if (dateFormatter instanceof EpochMilliFormatter epochMilliFormatter) {
+				return epochMilliFormatter.formatEpochMilli(instant.toEpochMilli());
+			}
+
 			ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, ZoneId.of("UTC"));
 			return dateFormatter.format(zonedDateTime);
 		}
@@ -105,6 +114,10 @@ final public class ElasticsearchDateConverter {
 
 		Assert.notNull(date, "accessor must not be null");
 
+		if (dateFormatter instanceof EpochMilliFormatter epochMilliFormatter) {
+			return epochMilliFormatter.formatEpochMilli(date.getTime());
+		}
+
 		return dateFormatter.format(Instant.ofEpochMilli(date.getTime()));
 	}
 
@@ -127,9 +140,29 @@ final public class ElasticsearchDateConverter {
 	 * @return the new created object
 	 */
 	public Date parse(String input) {
+
+		if (dateFormatter instanceof EpochMilliFormatter epochMilliFormatter) {
+			return new Date(epochMilliFormatter.parseEpochMilli(input));
+		}
+
 		return new Date(dateFormatter.parse(input, Instant.class).toEpochMilli());
 	}
 
+	/**
+	 * Checks by inspecting the input if it possibly can be parsed by this converter. When multiple formats are
+	 * configured, this is used to pick the converters to try without trying the ones that would fail anyway.
+	 *
+	 * @param input the String to check, must not be {@literal null}.
+	 * @return {@literal false} if the input cannot be parsed by this converter
+	 * @since 5.3
+	 */
+	public boolean mayParse(String input) {
+
+		Assert.notNull(input, "input must not be null");
+
+		return dateFormatter.mayParse(input);
+	}
+
 	/**
 	 * Creates a {@link DateFormatter} for a given pattern. The pattern can be the name of a {@link DateFormat} enum value
 	 * or a literal pattern.
@@ -165,6 +198,15 @@ final public class ElasticsearchDateConverter {
 			}
 		}
 
+		if (DateFormat.date_optional_time.getPattern().equals(resolvedPattern)
+				|| DateFormat.strict_date_optional_time.getPattern().equals(resolvedPattern)) {
+			return new IsoDateFormatter(resolvedPattern, false);
+		}
+
+		if (DateFormat.basic_date_time.getPattern().equals(resolvedPattern)) {
+			return new IsoDateFormatter(resolvedPattern, true);
+		}
+
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(resolvedPattern);
 		return new PatternDateFormatter(dateTimeFormatter);
 	}
@@ -252,7 +294,7 @@ final public class ElasticsearchDateConverter {
 	/**
 	 * a DateFormatter to convert epoch milliseconds
 	 */
-	static class EpochMillisDateFormatter implements DateFormatter {
+	static class EpochMillisDateFormatter implements DateFormatter, EpochMilliFormatter {
 
 		@Override
 		public String format(TemporalAccessor accessor) {
@@ -272,19 +314,56 @@ final public class ElasticsearchDateConverter {
 			TemporalQuery<T> query = getTemporalQuery(type);
 			return query.queryFrom(instant);
 		}
+
+		@Override
+		public boolean mayParse(String input) {
+
+			// Long.parseLong accepts an optional sign followed by digits
+			int start = !input.isEmpty() && (input.charAt(0) == '-' || input.charAt(0) == '+') ? 1 : 0;
+
+			if (input.length() == start) {
+				return false;
+			}
+
+			for (int i = start; i < input.length(); i++) {
+				char c = input.charAt(i);
+				if (c < '0' || c > '9') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public long parseEpochMilli(String input) {
+
+			Assert.notNull(input, "input must not be null");
+
+			return Long.parseLong(input);
+		}
+
+		@Override
+		public String formatEpochMilli(long epochMilli) {
+			return Long.toString(epochMilli);
+		}
 	}
 
 	/**
 	 * a DateFormatter to convert epoch seconds. Elasticsearch's formatter uses double values, so do we
 	 */
-	static class EpochSecondDateFormatter implements DateFormatter {
+	static class EpochSecondDateFormatter implements DateFormatter, EpochMilliFormatter {
 
 		@Override
 		public String format(TemporalAccessor accessor) {
 
 			Assert.notNull(accessor, "accessor must not be null");
 
-			long epochMilli = Instant.from(accessor).toEpochMilli();
+			return formatEpochMilli(Instant.from(accessor).toEpochMilli());
+		}
+
+		@Override
+		public String formatEpochMilli(long epochMilli) {
+
 			long fraction = epochMilli % 1_000;
 			if (fraction == 0) {
 				return Long.toString(epochMilli / 1_000);
@@ -300,11 +379,416 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(input, "input must not be null");
 			Assert.notNull(type, "type must not be null");
 
-			Double epochMilli = Double.parseDouble(input) * 1_000;
-			Instant instant = Instant.ofEpochMilli(epochMilli.longValue());
+			Instant instant = Instant.ofEpochMilli(parseEpochMilli(input));
 			TemporalQuery<T> query = getTemporalQuery(type);
 			return query.queryFrom(instant);
 		}
+
+		@Override
+		public long parseEpochMilli(String input) {
+
+			Assert.notNull(input, "input must not be null");
+
+			Double epochMilli = Double.parseDouble(input) * 1_000;
+			return epochMilli.longValue();
+		}
+
+		@Override
+		public boolean mayParse(String input) {
+
+			// a double value contains no ':', 'T' or 'Z' and a '-' only as sign of the number or of the exponent
+			for (int i = 0; i < input.length(); i++) {
+				char c = input.charAt(i);
+
+				if (c == ':' || c == 'T' || c == 'Z') {
+					return false;
+				}
+
+				if (c == '-' && i > 0 && "eEpP".indexOf(input.charAt(i - 1)) < 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Implemented by the {@link DateFormatter}s that can convert between Strings and epoch milliseconds without creating
+	 * {@link TemporalAccessor} instances, used for {@link Date} properties.
+	 */
+	interface EpochMilliFormatter {
+
+		long parseEpochMilli(String input);
+
+		String formatEpochMilli(long epochMilli);
+	}
+
+	/**
+	 * A hand-written {@link DateFormatter} for the patterns of {@link DateFormat#date_optional_time},
+	 * {@link DateFormat#strict_date_optional_time} and {@link DateFormat#basic_date_time}. Inputs and values that it does
+	 * not handle itself, for example years with more than 4 digits, offsets with seconds or other target types, are
+	 * passed to a {@link PatternDateFormatter} for the same pattern, so the results are the same.
+	 */
+	static class IsoDateFormatter implements DateFormatter, EpochMilliFormatter {
+
+		private static final long MILLIS_PER_DAY = 86_400_000L;
+
+		// 'd' stands for a digit, every other character must match literally
+		private final String dateLayout;
+		private final String timeLayout;
+		// the time is optional in the extended format
+		private final boolean timeOptional;
+		private final PatternDateFormatter fallback;
+
+		IsoDateFormatter(String pattern, boolean basic) {
+			this.dateLayout = basic ? "dddddddd" : "dddd-dd-dd";
+			this.timeLayout = basic ? "Tdddddd.ddd" : "Tdd:dd:dd.ddd";
+			this.timeOptional = !basic;
+			this.fallback = new PatternDateFormatter(DateTimeFormatter.ofPattern(pattern));
+		}
+
+		@Override
+		public boolean mayParse(String input) {
+			// the extended format needs a '-' after the year, the basic format the 'T' before the time
+			return timeOptional ? input.indexOf('-', 1) > 0 : input.indexOf('T') > 0;
+		}
+
+		// region parse
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T extends TemporalAccessor> T parse(String input, Class<T> type) {
+
+			Assert.notNull(input, "input must not be null");
+			Assert.notNull(type, "type must not be null");
+
+			if (isValidDate(input)) {
+				int year = year(input);
+				int month = month(input);
+				int day = day(input);
+
+				if (!hasTime(input)) {
+					if (type == LocalDate.class) {
+						return (T) LocalDate.of(year, month, day);
+					}
+				} else if (isValidTime(input)) {
+					int hour = hour(input);
+					int minute = minute(input);
+					int second = second(input);
+					int nanos = millis(input) * 1_000_000;
+
+					if (type == Instant.class) {
+						return (T) Instant.ofEpochMilli(epochMilli(input));
+					} else if (type == LocalDate.class) {
+						return (T) LocalDate.of(year, month, day);
+					} else if (type == LocalDateTime.class) {
+						return (T) LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+					} else if (type == OffsetDateTime.class) {
+						return (T) OffsetDateTime.of(year, month, day, hour, minute, second, nanos,
+								ZoneOffset.ofTotalSeconds(offsetSeconds(input)));
+					} else if (type == ZonedDateTime.class) {
+						return (T) ZonedDateTime.of(year, month, day, hour, minute, second, nanos,
+								ZoneOffset.ofTotalSeconds(offsetSeconds(input)));
+					}
+				}
+			}
+
+			return fallback.parse(input, type);
+		}
+
+		@Override
+		public long parseEpochMilli(String input) {
+
+			Assert.notNull(input, "input must not be null");
+
+			if (isValidDate(input) && hasTime(input) && isValidTime(input)) {
+				return epochMilli(input);
+			}
+
+			return fallback.parse(input, Instant.class).toEpochMilli();
+		}
+
+		private long epochMilli(String input) {
+			return epochDay(year(input), month(input), day(input)) * MILLIS_PER_DAY //
+					+ hour(input) * 3_600_000L //
+					+ minute(input) * 60_000L //
+					+ second(input) * 1_000L //
+					+ millis(input) //
+					- offsetSeconds(input) * 1_000L;
+		}
+
+		private boolean hasTime(String input) {
+			return input.length() > dateLayout.length();
+		}
+
+		/**
+		 * @return {@literal true} if the input starts with a valid date and is either the date only when the time is
+		 *         optional or continues with a time.
+		 */
+		private boolean isValidDate(String input) {
+
+			if (!matches(input, 0, dateLayout)) {
+				return false;
+			}
+
+			if (!hasTime(input) && !timeOptional) {
+				return false;
+			}
+
+			int month = month(input);
+			return month >= 1 && month <= 12 && day(input) >= 1 && day(input) <= lengthOfMonth(year(input), month);
+		}
+
+		/**
+		 * @return {@literal true} if the date is followed by a valid time and an offset in the form 'Z' or '+HH:MM'.
+		 */
+		private boolean isValidTime(String input) {
+
+			int offsetStart = dateLayout.length() + timeLayout.length();
+
+			if (!matches(input, dateLayout.length(), timeLayout) || hour(input) > 23 || minute(input) > 59
+					|| second(input) > 59) {
+				return false;
+			}
+
+			if (input.length() == offsetStart + 1) {
+				return input.charAt(offsetStart) == 'Z';
+			}
+
+			if (input.length() == offsetStart + 6) {
+				char sign = input.charAt(offsetStart);
+				return (sign == '+' || sign == '-') && matches(input, offsetStart + 1, "dd:dd")
+						&& digits(input, offsetStart + 1, 2) <= 18 && digits(input, offsetStart + 4, 2) <= 59
+						&& Math.abs(offsetSeconds(input)) <= 18 * 3600;
+			}
+
+			return false;
+		}
+
+		private static boolean matches(String input, int start, String layout) {
+
+			if (input.length() < start + layout.length()) {
+				return false;
+			}
+
+			for (int i = 0; i < layout.length(); i++) {
+				char c = input.charAt(start + i);
+				char expected = layout.charAt(i);
+
+				if (expected == 'd' ? (c < '0' || c > '9') : c != expected) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static int digits(String input, int start, int count) {
+
+			int value = 0;
+			for (int i = start; i < start + count; i++) {
+				value = value * 10 + (input.charAt(i) - '0');
+			}
+			return value;
+		}
+
+		private int year(String input) {
+			return digits(input, 0, 4);
+		}
+
+		private int month(String input) {
+			return digits(input, timeOptional ? 5 : 4, 2);
+		}
+
+		private int day(String input) {
+			return digits(input, timeOptional ? 8 : 6, 2);
+		}
+
+		private int hour(String input) {
+			return digits(input, dateLayout.length() + 1, 2);
+		}
+
+		private int minute(String input) {
+			return digits(input, dateLayout.length() + (timeOptional ? 4 : 3), 2);
+		}
+
+		private int second(String input) {
+			return digits(input, dateLayout.length() + (timeOptional ? 7 : 5), 2);
+		}
+
+		private int millis(String input) {
+			return digits(input, dateLayout.length() + timeLayout.length() - 3, 3);
+		}
+
+		private int offsetSeconds(String input) {
+
+			int offsetStart = dateLayout.length() + timeLayout.length();
+
+			if (input.charAt(offsetStart) == 'Z') {
+				return 0;
+			}
+
+			int seconds = digits(input, offsetStart + 1, 2) * 3600 + digits(input, offsetStart + 4, 2) * 60;
+			return input.charAt(offsetStart) == '-' ? -seconds : seconds;
+		}
+		// endregion
+
+		// region format
+		@Override
+		public String format(TemporalAccessor accessor) {
+
+			Assert.notNull(accessor, "accessor must not be null");
+
+			if (accessor instanceof Instant instant) {
+				return formatEpochMilli(instant.toEpochMilli());
+			}
+
+			if (accessor instanceof OffsetDateTime offsetDateTime) {
+				String formatted = format(offsetDateTime.toLocalDateTime(), offsetDateTime.getOffset().getTotalSeconds());
+				if (formatted != null) {
+					return formatted;
+				}
+			} else if (accessor instanceof ZonedDateTime zonedDateTime) {
+				String formatted = format(zonedDateTime.toLocalDateTime(), zonedDateTime.getOffset().getTotalSeconds());
+				if (formatted != null) {
+					return formatted;
+				}
+			} else if (timeOptional && accessor instanceof LocalDate localDate && isFormattableYear(localDate.getYear())) {
+				// without an offset the optional time part is not written
+				return formatDate(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+			} else if (timeOptional && accessor instanceof LocalDateTime localDateTime
+					&& isFormattableYear(localDateTime.getYear())) {
+				return formatDate(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth());
+			}
+
+			return fallback.format(accessor);
+		}
+
+		@Override
+		public String formatEpochMilli(long epochMilli) {
+
+			long epochDay = Math.floorDiv(epochMilli, MILLIS_PER_DAY);
+			int millisOfDay = (int) Math.floorMod(epochMilli, MILLIS_PER_DAY);
+
+			// civil date from the epoch day, see http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+			long z = epochDay + 719_468;
+			long era = Math.floorDiv(z, 146_097);
+			long dayOfEra = z - era * 146_097;
+			long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+			long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+			long mp = (5 * dayOfYear + 2) / 153;
+			int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+			int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+			long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+			if (!isFormattableYear(year)) {
+				return fallback.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC));
+			}
+
+			return formatDateTime((int) year, month, day, millisOfDay / 3_600_000, millisOfDay / 60_000 % 60,
+					millisOfDay / 1_000 % 60, millisOfDay % 1_000, 0);
+		}
+
+		@Nullable
+		private String format(LocalDateTime localDateTime, int offsetSeconds) {
+
+			if (!isFormattableYear(localDateTime.getYear()) || offsetSeconds % 60 != 0) {
+				return null;
+			}
+
+			return formatDateTime(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+					localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+					localDateTime.getNano() / 1_000_000, offsetSeconds);
+		}
+
+		private String formatDate(int year, int month, int day) {
+
+			char[] chars = new char[dateLayout.length()];
+			writeDate(chars, year, month, day);
+			return new String(chars);
+		}
+
+		private String formatDateTime(int year, int month, int day, int hour, int minute, int second, int millis,
+				int offsetSeconds) {
+
+			int offsetStart = dateLayout.length() + timeLayout.length();
+			char[] chars = new char[offsetStart + (offsetSeconds == 0 ? 1 : 6)];
+
+			writeDate(chars, year, month, day);
+
+			int pos = dateLayout.length();
+			chars[pos++] = 'T';
+			pos = writeDigits(chars, pos, hour, 2);
+			if (timeOptional) {
+				chars[pos++] = ':';
+			}
+			pos = writeDigits(chars, pos, minute, 2);
+			if (timeOptional) {
+				chars[pos++] = ':';
+			}
+			pos = writeDigits(chars, pos, second, 2);
+			chars[pos++] = '.';
+			pos = writeDigits(chars, pos, millis, 3);
+
+			if (offsetSeconds == 0) {
+				chars[pos] = 'Z';
+			} else {
+				int absOffsetMinutes = Math.abs(offsetSeconds) / 60;
+				chars[pos++] = offsetSeconds < 0 ? '-' : '+';
+				pos = writeDigits(chars, pos, absOffsetMinutes / 60, 2);
+				chars[pos++] = ':';
+				writeDigits(chars, pos, absOffsetMinutes % 60, 2);
+			}
+
+			return new String(chars);
+		}
+
+		private void writeDate(char[] chars, int year, int month, int day) {
+
+			int pos = writeDigits(chars, 0, year, 4);
+			if (timeOptional) {
+				chars[pos++] = '-';
+			}
+			pos = writeDigits(chars, pos, month, 2);
+			if (timeOptional) {
+				chars[pos++] = '-';
+			}
+			writeDigits(chars, pos, day, 2);
+		}
+
+		private static int writeDigits(char[] chars, int pos, int value, int count) {
+
+			for (int i = pos + count - 1; i >= pos; i--) {
+				chars[i] = (char) ('0' + value % 10);
+				value /= 10;
+			}
+			return pos + count;
+		}
+
+		/**
+		 * years outside of this range are written with a sign by the pattern
+		 */
+		private static boolean isFormattableYear(long year) {
+			return year >= 0 && year <= 9999;
+		}
+		// endregion
+
+		private static long epochDay(int year, int month, int day) {
+
+			// see http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+			int y = month <= 2 ? year - 1 : year;
+			int era = Math.floorDiv(y, 400);
+			int yearOfEra = y - era * 400;
+			int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+			int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+			return era * 146_097L + dayOfEra - 719_468;
+		}
+
+		private static int lengthOfMonth(int year, int month) {
+			return switch (month) {
+				case 2 -> Year.isLeap(year) ? 29 : 28;
+				case 4, 6, 9, 11 -> 30;
+				default -> 31;
+			};
+		}
 	}
 
 	static class PatternDateFormatter implements DateFormatter {
@@ -15,10 +15,13 @@
  */
 package org.springframework.data.elasticsearch.core.convert;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.time.temporal.TemporalAccessor;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -41,6 +44,7 @@ import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.ScriptedField;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.RawJson;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
@@ -53,6 +57,7 @@ import org.springframework.data.elasticsearch.core.query.Field;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
 import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.data.elasticsearch.support.CompactMap;
 import org.springframework.data.mapping.InstanceCreatorMetadata;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.Parameter;
@@ -67,8 +72,25 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+
 /**
  * Elasticsearch specific {@link org.springframework.data.convert.EntityConverter} implementation based on domain type
  * {@link ElasticsearchPersistentEntity metadata}.
@@ -109,6 +131,10 @@ public class MappingElasticsearchConverter
 	private final EntityInstantiators instantiators = new EntityInstantiators();
 	private final ElasticsearchTypeMapper typeMapper;
 
+	private final Map<ObjectCodec, Optional<JsonWriteSettings>> jsonWriteSettings = new ConcurrentReferenceHashMap<>();
+	private final Map<ElasticsearchPersistentEntity<?>, ConversionPlan> conversionPlans = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<SourceReadPlan>> sourceReadPlans = new ConcurrentHashMap<>();
+
 	public MappingElasticsearchConverter(
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext) {
 		this(mappingContext, null);
@@ -179,20 +205,97 @@ public class MappingElasticsearchConverter
 	@Override
 	public <R> R read(Class<R> type, Document source) {
 
-		Reader reader = new Reader(mappingContext, conversionService, conversions, typeMapper, expressionEvaluatorFactory,
-				instantiators);
+		if (type == RawJson.class) {
+			RawJson rawSource = source.getRawSource();
+			return type.cast(rawSource != null ? rawSource : RawJson.of(source.toJson()));
+		}
+
+		Reader reader = new Reader(mappingContext, conversionService, conversions, typeMapper, this::getConversionPlan,
+				expressionEvaluatorFactory, instantiators);
 		return reader.read(type, source);
 	}
 
+	/**
+	 * Reads only the values of the source that are needed to read an object of the given type. Values that are not
+	 * mapped to a property of the entity are skipped if the type of the entity to create is known when they are read.
+	 * Entities using value expressions or custom converters from {@link Map} are read completely.
+	 *
+	 * @since 5.3
+	 */
+	@Override
+	public void readSource(Class<?> type, JsonParser parser, Map<String, Object> sink) throws IOException {
+
+		Assert.notNull(type, "type must not be null");
+		Assert.notNull(parser, "parser must not be null");
+		Assert.notNull(sink, "sink must not be null");
+
+		SourceReader sourceReader = new SourceReader(parser, typeMapper, this::getSourceReadPlan);
+		sourceReader.read(getSourceReadPlan(ClassUtils.getUserClass(type)), sink);
+	}
+
+	@Nullable
+	private SourceReadPlan getSourceReadPlan(Class<?> type) {
+
+		Optional<SourceReadPlan> sourceReadPlan = sourceReadPlans.get(type);
+
+		if (sourceReadPlan == null) {
+			// not using computeIfAbsent, creating the plan may need the plans of other types
+			sourceReadPlan = Optional.ofNullable(SourceReadPlan.of(type, mappingContext, conversions));
+			sourceReadPlans.putIfAbsent(type, sourceReadPlan);
+		}
+
+		return sourceReadPlan.orElse(null);
+	}
+
 	@Override
 	public void write(Object source, Document sink) {
 
 		Assert.notNull(source, "source to map must not be null");
 
-		Writer writer = new Writer(mappingContext, conversionService, conversions, typeMapper);
+		Writer writer = new Writer(mappingContext, conversionService, conversions, typeMapper, this::getConversionPlan);
 		writer.write(source, sink);
 	}
 
+	/**
+	 * Writes the given object directly to the generator without creating the intermediate {@link Document}. This is only
+	 * possible if the generator's codec is an {@link ObjectMapper} that renders a {@link Document} in a way the
+	 * {@link StreamingWriter} can reproduce, otherwise the {@link Document} is created and written by the codec.
+	 *
+	 * @since 5.3
+	 */
+	@Override
+	public void write(Object source, JsonGenerator generator) throws IOException {
+
+		Assert.notNull(source, "source to map must not be null");
+		Assert.notNull(generator, "generator must not be null");
+
+		JsonWriteSettings settings = getJsonWriteSettings(generator.getCodec());
+
+		if (settings == null) {
+			ElasticsearchConverter.super.write(source, generator);
+			return;
+		}
+
+		StreamingWriter writer = new StreamingWriter(mappingContext, conversionService, conversions, typeMapper,
+				this::getConversionPlan, settings, generator);
+		writer.write(source);
+	}
+
+	@Nullable
+	private JsonWriteSettings getJsonWriteSettings(@Nullable ObjectCodec codec) {
+
+		if (!(codec instanceof ObjectMapper objectMapper)) {
+			return null;
+		}
+
+		return jsonWriteSettings.computeIfAbsent(codec, key -> Optional.ofNullable(JsonWriteSettings.of(objectMapper)))
+				.orElse(null);
+	}
+
+	private ConversionPlan getConversionPlan(ElasticsearchPersistentEntity<?> entity) {
+		return conversionPlans.computeIfAbsent(entity, key -> ConversionPlan.of(key, typeMapper.getTypeKey()));
+	}
+
 	/**
 	 * base class for {@link Reader} and {@link Writer} keeping the common properties
 	 */
@@ -203,14 +306,21 @@ public class MappingElasticsearchConverter
 		protected final GenericConversionService conversionService;
 		protected final CustomConversions conversions;
 		protected final ConcurrentHashMap<String, Integer> propertyWarnings = new ConcurrentHashMap<>();
+		private final Function<ElasticsearchPersistentEntity<?>, ConversionPlan> conversionPlans;
 
 		private Base(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
-				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper) {
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				Function<ElasticsearchPersistentEntity<?>, ConversionPlan> conversionPlans) {
 			this.mappingContext = mappingContext;
 			this.conversionService = conversionService;
 			this.conversions = conversions;
 			this.typeMapper = typeMapper;
+			this.conversionPlans = conversionPlans;
+		}
+
+		ConversionPlan getConversionPlan(ElasticsearchPersistentEntity<?> entity) {
+			return conversionPlans.apply(entity);
 		}
 	}
 
@@ -226,9 +336,10 @@ public class MappingElasticsearchConverter
 		public Reader(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
 				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				Function<ElasticsearchPersistentEntity<?>, ConversionPlan> conversionPlans,
 				CachingValueExpressionEvaluatorFactory expressionEvaluatorFactory, EntityInstantiators instantiators) {
 
-			super(mappingContext, conversionService, conversions, typeMapper);
+			super(mappingContext, conversionService, conversions, typeMapper, conversionPlans);
 			this.expressionEvaluatorFactory = expressionEvaluatorFactory;
 			this.instantiators = instantiators;
 		}
@@ -427,16 +538,11 @@ public class MappingElasticsearchConverter
 			PersistentPropertyAccessor<R> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance),
 					conversionService);
 
-			for (ElasticsearchPersistentProperty property : entity) {
+			for (PropertyPlan propertyPlan : getConversionPlan(entity).readProperties()) {
 
-				if (entity.isCreatorArgument(property) || !property.isReadable() || property.isSeqNoPrimaryTermProperty()
-						|| property.isIndexedIndexNameProperty()) {
-					continue;
-				}
-
-				Object value = valueProvider.getPropertyValue(property);
+				Object value = valueProvider.getPropertyValue(propertyPlan);
 				if (value != null) {
-					accessor.setProperty(property, value);
+					accessor.setProperty(propertyPlan.property(), value);
 				}
 			}
 
@@ -455,26 +561,50 @@ public class MappingElasticsearchConverter
 
 			if (property.hasPropertyValueConverter()) {
 				// noinspection unchecked
-				return (R) propertyConverterRead(property, value);
+				return (R) propertyConverterRead(Objects.requireNonNull(property.getPropertyValueConverter()), value);
 			} else if (TemporalAccessor.class.isAssignableFrom(property.getType())
 					&& !conversions.hasCustomReadTarget(value.getClass(), rawType)) {
-
-				// log at most 5 times
-				String propertyName = property.getOwner().getType().getSimpleName() + '.' + property.getName();
-				String key = propertyName + "-read";
-				int count = propertyWarnings.computeIfAbsent(key, k -> 0);
-				if (count < 5) {
-					LOGGER.warn(String.format(
-							"Type %s of property %s is a TemporalAccessor class but has neither a @Field annotation defining the date type nor a registered converter for reading!"
-									+ " It cannot be mapped from a complex object in Elasticsearch!",
-							property.getType().getSimpleName(), propertyName));
-					propertyWarnings.put(key, count + 1);
-				}
+				logUnconvertedTemporalAccessor(property);
 			}
 
 			return readValue(value, type);
 		}
 
+		/**
+		 * Variant of {@link #readValue(Object, ElasticsearchPersistentProperty, TypeInformation)} using the information
+		 * precomputed in the {@link PropertyPlan}.
+		 */
+		@Nullable
+		private <R> R readValue(Object value, PropertyPlan propertyPlan) {
+
+			PropertyValueConverter propertyValueConverter = propertyPlan.propertyValueConverter();
+
+			if (propertyValueConverter != null) {
+				// noinspection unchecked
+				return (R) propertyConverterRead(propertyValueConverter, value);
+			} else if (propertyPlan.temporalAccessor()
+					&& !conversions.hasCustomReadTarget(value.getClass(), propertyPlan.typeInformation().getType())) {
+				logUnconvertedTemporalAccessor(propertyPlan.property());
+			}
+
+			return readValue(value, propertyPlan.typeInformation());
+		}
+
+		private void logUnconvertedTemporalAccessor(ElasticsearchPersistentProperty property) {
+
+			// log at most 5 times
+			String propertyName = property.getOwner().getType().getSimpleName() + '.' + property.getName();
+			String key = propertyName + "-read";
+			int count = propertyWarnings.computeIfAbsent(key, k -> 0);
+			if (count < 5) {
+				LOGGER.warn(String.format(
+						"Type %s of property %s is a TemporalAccessor class but has neither a @Field annotation defining the date type nor a registered converter for reading!"
+								+ " It cannot be mapped from a complex object in Elasticsearch!",
+						property.getType().getSimpleName(), propertyName));
+				propertyWarnings.put(key, count + 1);
+			}
+		}
+
 		@Nullable
 		@SuppressWarnings("unchecked")
 		private <T> T readValue(Object value, TypeInformation<?> type) {
@@ -526,8 +656,7 @@ public class MappingElasticsearchConverter
 			return type.isCollectionLike() ? type.getComponentType() : null;
 		}
 
-		private Object propertyConverterRead(ElasticsearchPersistentProperty property, Object source) {
-			PropertyValueConverter propertyValueConverter = Objects.requireNonNull(property.getPropertyValueConverter());
+		private Object propertyConverterRead(PropertyValueConverter propertyValueConverter, Object source) {
 
 			if (source instanceof String[] strings) {
 				// convert to a List
@@ -707,6 +836,19 @@ public class MappingElasticsearchConverter
 
 				return readValue(value, property, property.getTypeInformation());
 			}
+
+			@Nullable
+			<T> T getPropertyValue(PropertyPlan propertyPlan) {
+
+				String expression = propertyPlan.spelExpression();
+				Object value = expression != null ? evaluator.evaluate(expression) : accessor.get(propertyPlan);
+
+				if (value == null) {
+					return null;
+				}
+
+				return readValue(value, propertyPlan);
+			}
 		}
 
 		/**
@@ -755,12 +897,13 @@ public class MappingElasticsearchConverter
 	 */
 	static private class Writer extends Base {
 
-		private boolean writeTypeHints = true;
+		boolean writeTypeHints = true;
 
 		public Writer(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
-				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper) {
-			super(mappingContext, conversionService, conversions, typeMapper);
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				Function<ElasticsearchPersistentEntity<?>, ConversionPlan> conversionPlans) {
+			super(mappingContext, conversionService, conversions, typeMapper, conversionPlans);
 		}
 
 		void write(Object source, Document sink) {
@@ -795,7 +938,7 @@ public class MappingElasticsearchConverter
 		 * @param typeInformation type information for the source
 		 */
 		@SuppressWarnings("unchecked")
-		private void writeInternal(@Nullable Object source, Map<String, Object> sink,
+		void writeInternal(@Nullable Object source, Map<String, Object> sink,
 				@Nullable TypeInformation<?> typeInformation) {
 
 			if (null == source) {
@@ -836,7 +979,7 @@ public class MappingElasticsearchConverter
 		 * @param sink the destination
 		 * @param entity entity for the source
 		 */
-		private void writeInternal(@Nullable Object source, Map<String, Object> sink,
+		void writeInternal(@Nullable Object source, Map<String, Object> sink,
 				@Nullable ElasticsearchPersistentEntity<?> entity) {
 
 			if (source == null) {
@@ -857,17 +1000,17 @@ public class MappingElasticsearchConverter
 		 * @param type must not be {@literal null}.
 		 * @return {@literal true} if not a simple type, {@link Collection} or type with custom write target.
 		 */
-		private boolean requiresTypeHint(Class<?> type) {
+		boolean requiresTypeHint(Class<?> type) {
 
 			return !isSimpleType(type) && !ClassUtils.isAssignable(Collection.class, type)
 					&& !conversions.hasCustomWriteTarget(type, Document.class);
 		}
 
-		private boolean isSimpleType(Object value) {
+		boolean isSimpleType(Object value) {
 			return isSimpleType(value.getClass());
 		}
 
-		private boolean isSimpleType(Class<?> type) {
+		boolean isSimpleType(Class<?> type) {
 			return !Map.class.isAssignableFrom(type) && conversions.isSimpleType(type);
 		}
 
@@ -878,7 +1021,7 @@ public class MappingElasticsearchConverter
 		 * @param sink must not be {@literal null}.
 		 * @param propertyType must not be {@literal null}.
 		 */
-		private Map<String, Object> writeMapInternal(Map<?, ?> source, Map<String, Object> sink,
+		Map<String, Object> writeMapInternal(Map<?, ?> source, Map<String, Object> sink,
 				TypeInformation<?> propertyType) {
 
 			for (Map.Entry<?, ?> entry : source.entrySet()) {
@@ -951,63 +1094,65 @@ public class MappingElasticsearchConverter
 		private void writeProperties(ElasticsearchPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
 				MapValueAccessor sink) {
 
-			for (ElasticsearchPersistentProperty property : entity) {
-
-				if (!property.isWritable() //
-						|| property.isIndexedIndexNameProperty() //
-						|| (property.isIdProperty() && !entity.storeIdInSource()) //
-						|| (property.isVersionProperty() && !entity.storeVersionInSource())) {
-					continue;
-				}
-
-				if (property.isIdProperty() && !entity.storeIdInSource()) {
-					continue;
-				}
+			for (PropertyPlan propertyPlan : getConversionPlan(entity).writeProperties()) {
 
+				ElasticsearchPersistentProperty property = propertyPlan.property();
 				Object value = accessor.getProperty(property);
 
 				if (value == null) {
 
-					if (property.storeNullValue()) {
-						sink.set(property, null);
+					if (propertyPlan.storeNullValue()) {
+						sink.set(propertyPlan, null);
 					}
 
 					continue;
 				}
 
-				if (!property.storeEmptyValue() && hasEmptyValue(value)) {
+				if (!propertyPlan.storeEmptyValue() && hasEmptyValue(value)) {
 					continue;
 				}
 
-				if (property.hasPropertyValueConverter()) {
-					value = propertyConverterWrite(property, value);
-					sink.set(property, value);
-				} else if (TemporalAccessor.class.isAssignableFrom(property.getActualType())
-						&& !conversions.hasCustomWriteTarget(value.getClass())) {
-
-					// log at most 5 times
-					String propertyName = entity.getType().getSimpleName() + '.' + property.getName();
-					String key = propertyName + "-write";
-					int count = propertyWarnings.computeIfAbsent(key, k -> 0);
-					if (count < 5) {
-						LOGGER.warn(String.format(
-								"Type %s of property %s is a TemporalAccessor class but has neither a @Field annotation defining the date type nor a registered converter for writing!"
-										+ " It will be mapped to a complex object in Elasticsearch!",
-								property.getType().getSimpleName(), propertyName));
-						propertyWarnings.put(key, count + 1);
-					}
+				if (propertyPlan.propertyValueConverter() != null) {
+					value = propertyConverterWrite(propertyPlan.propertyValueConverter(), value);
+					sink.set(propertyPlan, value);
+				} else if (isUnconvertedTemporalAccessor(propertyPlan, value)) {
+					logUnconvertedTemporalAccessor(entity, property);
 				} else if (!isSimpleType(value)) {
 					writeProperty(property, value, sink);
 				} else {
 					Object writeSimpleValue = getPotentiallyConvertedSimpleWrite(value, Object.class);
 					if (writeSimpleValue != null) {
-						sink.set(property, writeSimpleValue);
+						sink.set(propertyPlan, writeSimpleValue);
 					}
 				}
 			}
 		}
 
-		private static boolean hasEmptyValue(Object value) {
+		/**
+		 * Checks if the property is a {@link TemporalAccessor} that can neither be converted by a
+		 * {@link PropertyValueConverter} nor by a registered converter. Such a property is not written.
+		 */
+		boolean isUnconvertedTemporalAccessor(PropertyPlan propertyPlan, Object value) {
+			return propertyPlan.temporalAccessorActualType() && !conversions.hasCustomWriteTarget(value.getClass());
+		}
+
+		void logUnconvertedTemporalAccessor(ElasticsearchPersistentEntity<?> entity,
+				ElasticsearchPersistentProperty property) {
+
+			// log at most 5 times
+			String propertyName = entity.getType().getSimpleName() + '.' + property.getName();
+			String key = propertyName + "-write";
+			int count = propertyWarnings.computeIfAbsent(key, k -> 0);
+			if (count < 5) {
+				LOGGER.warn(String.format(
+						"Type %s of property %s is a TemporalAccessor class but has neither a @Field annotation defining the date type nor a registered converter for writing!"
+								+ " It will be mapped to a complex object in Elasticsearch!",
+						property.getType().getSimpleName(), propertyName));
+				propertyWarnings.put(key, count + 1);
+			}
+		}
+
+		static boolean hasEmptyValue(Object value) {
 
 			return value instanceof String s && s.isEmpty() || value instanceof Collection<?> c && c.isEmpty()
 					|| value instanceof Map<?, ?> m && m.isEmpty();
@@ -1073,8 +1218,15 @@ public class MappingElasticsearchConverter
 		private void addCustomTypeKeyIfNecessary(Object source, Map<String, Object> sink,
 				@Nullable TypeInformation<?> type) {
 
+			if (requiresCustomTypeKey(source, type)) {
+				typeMapper.writeType(ClassUtils.getUserClass(source.getClass()), sink);
+			}
+		}
+
+		boolean requiresCustomTypeKey(Object source, @Nullable TypeInformation<?> type) {
+
 			if (!writeTypeHints) {
-				return;
+				return false;
 			}
 
 			Class<?> reference;
@@ -1087,10 +1239,7 @@ public class MappingElasticsearchConverter
 			}
 			Class<?> valueType = ClassUtils.getUserClass(source.getClass());
 
-			boolean notTheSameClass = !valueType.equals(reference);
-			if (notTheSameClass) {
-				typeMapper.writeType(valueType, sink);
-			}
+			return !valueType.equals(reference);
 		}
 
 		/**
@@ -1098,7 +1247,7 @@ public class MappingElasticsearchConverter
 		 *
 		 * @param key the key to convert
 		 */
-		private String potentiallyConvertMapKey(Object key) {
+		String potentiallyConvertMapKey(Object key) {
 
 			if (key instanceof String) {
 				return (String) key;
@@ -1123,7 +1272,7 @@ public class MappingElasticsearchConverter
 		 * @param value value to convert
 		 */
 		@Nullable
-		private Object getPotentiallyConvertedSimpleWrite(@Nullable Object value, @Nullable Class<?> typeHint) {
+		Object getPotentiallyConvertedSimpleWrite(@Nullable Object value, @Nullable Class<?> typeHint) {
 
 			if (value == null) {
 				return null;
@@ -1157,8 +1306,7 @@ public class MappingElasticsearchConverter
 			return Enum.class.isAssignableFrom(value.getClass()) ? ((Enum<?>) value).name() : value;
 		}
 
-		private Object propertyConverterWrite(ElasticsearchPersistentProperty property, Object value) {
-			PropertyValueConverter propertyValueConverter = Objects.requireNonNull(property.getPropertyValueConverter());
+		Object propertyConverterWrite(PropertyValueConverter propertyValueConverter, Object value) {
 
 			if (value instanceof List) {
 				value = ((List<?>) value).stream().map(propertyValueConverter::write).collect(Collectors.toList());
@@ -1201,7 +1349,7 @@ public class MappingElasticsearchConverter
 		 *
 		 * @param source object to convert
 		 */
-		private static Collection<?> asCollection(Object source) {
+		static Collection<?> asCollection(Object source) {
 
 			if (source instanceof Collection<?> collection) {
 				return collection;
@@ -1210,6 +1358,651 @@ public class MappingElasticsearchConverter
 			return source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singleton(source);
 		}
 	}
+
+	/**
+	 * A {@link Writer} that writes an entity directly to a {@link JsonGenerator} instead of creating a {@link Document}
+	 * first. The produced JSON is the same as the one that is produced by rendering the {@link Document} created by the
+	 * {@link Writer} with the generator's {@link ObjectMapper}. For parts that cannot be streamed - for example values
+	 * created by custom {@link Map} converters or entities with duplicate field names - the {@link Writer} is used and
+	 * the resulting {@link Map} is rendered by the {@link ObjectMapper}.
+	 *
+	 * @since 5.3
+	 */
+	static private class StreamingWriter extends Writer {
+
+		private final JsonWriteSettings settings;
+		private final JsonGenerator generator;
+		private final DefaultSerializerProvider serializerProvider;
+
+		StreamingWriter(
+				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				Function<ElasticsearchPersistentEntity<?>, ConversionPlan> conversionPlans, JsonWriteSettings settings,
+				JsonGenerator generator) {
+
+			super(mappingContext, conversionService, conversions, typeMapper, conversionPlans);
+
+			this.settings = settings;
+			this.generator = generator;
+			this.serializerProvider = settings.createSerializerProvider();
+		}
+
+		void write(Object source) throws IOException {
+
+			Class<?> entityType = ClassUtils.getUserClass(source.getClass());
+
+			if (source instanceof Map || source instanceof Collection
+					|| conversions.getCustomWriteTarget(source.getClass(), Map.class).isPresent()) {
+				Document document = Document.create();
+				write(source, document);
+				writeJsonValue(document);
+				return;
+			}
+
+			ElasticsearchPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+
+			if (entity != null) {
+				writeTypeHints = entity.writeTypeHints();
+			}
+
+			TypeInformation<?> typeInformation = TypeInformation.of(entityType);
+			Map<String, Object> typeHints = new LinkedHashMap<>(2);
+
+			if (writeTypeHints && requiresTypeHint(entityType)) {
+				typeMapper.writeType(typeInformation, typeHints);
+			}
+
+			writeEntity(source, mappingContext.getRequiredPersistentEntity(source.getClass()), typeInformation, typeHints);
+		}
+
+		/**
+		 * Streaming counterpart of {@link #writeInternal(Object, Map, TypeInformation)}, always writes a JSON object.
+		 */
+		private void writeObject(Object source, @Nullable TypeInformation<?> typeInformation) throws IOException {
+
+			Class<?> entityType = source.getClass();
+
+			if (Map.class.isAssignableFrom(entityType)
+					&& conversions.getCustomWriteTarget(entityType, Map.class).isEmpty()) {
+				writeMap((Map<?, ?>) source, TypeInformation.MAP);
+				return;
+			}
+
+			if (Map.class.isAssignableFrom(entityType) || Collection.class.isAssignableFrom(entityType)
+					|| conversions.getCustomWriteTarget(entityType, Map.class).isPresent()) {
+				Document document = Document.create();
+				writeInternal(source, document, typeInformation);
+				writeJsonValue(document);
+				return;
+			}
+
+			writeEntity(source, mappingContext.getRequiredPersistentEntity(entityType), typeInformation,
+					new LinkedHashMap<>(2));
+		}
+
+		private void writeEntity(Object source, ElasticsearchPersistentEntity<?> entity,
+				@Nullable TypeInformation<?> typeInformation, Map<String, Object> typeHints) throws IOException {
+
+			if (requiresCustomTypeKey(source, typeInformation)) {
+				typeMapper.writeType(ClassUtils.getUserClass(source.getClass()), typeHints);
+			}
+
+			if (!getConversionPlan(entity).streamable()) {
+				Document document = Document.create();
+				document.putAll(typeHints);
+				writeInternal(source, document, entity);
+				writeJsonValue(document);
+				return;
+			}
+
+			generator.writeStartObject();
+
+			for (Map.Entry<String, Object> typeHint : typeHints.entrySet()) {
+				writeField(typeHint.getKey(), typeHint.getValue());
+			}
+
+			writeProperties(entity, entity.getPropertyAccessor(source));
+			generator.writeEndObject();
+		}
+
+		private void writeProperties(ElasticsearchPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor)
+				throws IOException {
+
+			for (PropertyPlan propertyPlan : getConversionPlan(entity).writeProperties()) {
+
+				ElasticsearchPersistentProperty property = propertyPlan.property();
+				Object value = accessor.getProperty(property);
+
+				if (value == null) {
+
+					if (propertyPlan.storeNullValue()) {
+						writeField(propertyPlan.fieldName(), null);
+					}
+
+					continue;
+				}
+
+				if (!propertyPlan.storeEmptyValue() && hasEmptyValue(value)) {
+					continue;
+				}
+
+				if (propertyPlan.propertyValueConverter() != null) {
+					writeField(propertyPlan.fieldName(), propertyConverterWrite(propertyPlan.propertyValueConverter(), value));
+				} else if (isUnconvertedTemporalAccessor(propertyPlan, value)) {
+					logUnconvertedTemporalAccessor(entity, property);
+				} else if (!isSimpleType(value)) {
+					writeProperty(property, value);
+				} else {
+					Object writeSimpleValue = getPotentiallyConvertedSimpleWrite(value, Object.class);
+					if (writeSimpleValue != null) {
+						writeField(propertyPlan.fieldName(), writeSimpleValue);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Streaming counterpart of {@link #writeProperty(ElasticsearchPersistentProperty, Object, MapValueAccessor)}.
+		 */
+		private void writeProperty(ElasticsearchPersistentProperty property, Object value) throws IOException {
+
+			Optional<Class<?>> customWriteTarget = conversions.getCustomWriteTarget(value.getClass());
+
+			if (customWriteTarget.isPresent()) {
+				writeField(property.getFieldName(), conversionService.convert(value, customWriteTarget.get()));
+				return;
+			}
+
+			TypeInformation<?> valueType = TypeInformation.of(value.getClass());
+			TypeInformation<?> type = property.getTypeInformation();
+
+			generator.writeFieldName(property.getFieldName());
+
+			if (valueType.isCollectionLike()) {
+				writeCollection(asCollection(value), type);
+				return;
+			}
+
+			if (valueType.isMap()) {
+				writeMap((Map<?, ?>) value, type);
+				return;
+			}
+
+			ElasticsearchPersistentEntity<?> entity = valueType.isSubTypeOf(property.getType())
+					? mappingContext.getRequiredPersistentEntity(value.getClass())
+					: mappingContext.getRequiredPersistentEntity(type);
+
+			writeEntity(value, entity, TypeInformation.of(property.getRawType()), new LinkedHashMap<>(2));
+		}
+
+		/**
+		 * Streaming counterpart of {@link #writeMapInternal(Map, Map, TypeInformation)}.
+		 */
+		private void writeMap(Map<?, ?> source, TypeInformation<?> propertyType) throws IOException {
+
+			List<String> keys = new ArrayList<>(source.size());
+
+			for (Object key : source.keySet()) {
+
+				if (!isSimpleType(key.getClass())) {
+					throw new MappingException("Cannot use a complex object as a key value.");
+				}
+
+				keys.add(potentiallyConvertMapKey(key));
+			}
+
+			if (new HashSet<>(keys).size() != keys.size()) {
+				// different keys are converted to the same value, the last one wins
+				writeJsonValue(writeMapInternal(source, new LinkedHashMap<>(source.size()), propertyType));
+				return;
+			}
+
+			generator.writeStartObject();
+
+			Iterator<String> keyIterator = keys.iterator();
+			for (Object value : source.values()) {
+
+				String key = keyIterator.next();
+
+				if (value == null || isSimpleType(value)) {
+					writeField(key, getPotentiallyConvertedSimpleWrite(value, Object.class));
+				} else if (value instanceof Collection || value.getClass().isArray()) {
+					generator.writeFieldName(key);
+					writeCollection(asCollection(value), propertyType.getMapValueType());
+				} else {
+					generator.writeFieldName(key);
+					writeObject(value, propertyType.isMap() ? propertyType.getMapValueType() : TypeInformation.OBJECT);
+				}
+			}
+
+			generator.writeEndObject();
+		}
+
+		/**
+		 * Streaming counterpart of {@link #writeCollectionInternal(Collection, TypeInformation, Collection)}.
+		 */
+		private void writeCollection(Collection<?> source, @Nullable TypeInformation<?> type) throws IOException {
+
+			TypeInformation<?> componentType = type != null ? type.getComponentType() : null;
+
+			generator.writeStartArray();
+
+			for (Object element : source) {
+
+				Class<?> elementType = element == null ? null : element.getClass();
+
+				if (elementType == null || isSimpleType(elementType)) {
+					writeJsonValue(getPotentiallyConvertedSimpleWrite(element,
+							componentType != null ? componentType.getType() : Object.class));
+				} else if (element instanceof Collection || elementType.isArray()) {
+					writeCollection(asCollection(element), componentType);
+				} else {
+					writeObject(element, componentType);
+				}
+			}
+
+			generator.writeEndArray();
+		}
+
+		/**
+		 * Writes a field like the {@link ObjectMapper} would write a {@link Map} entry.
+		 */
+		private void writeField(String name, @Nullable Object value) throws IOException {
+
+			if (value == null && settings.suppressNullMapValues()) {
+				return;
+			}
+
+			generator.writeFieldName(name);
+			writeJsonValue(value);
+		}
+
+		/**
+		 * Writes an already converted value. The common scalar types are written directly if the {@link ObjectMapper} uses
+		 * the standard serializers for them, everything else is rendered by the {@link ObjectMapper}.
+		 */
+		private void writeJsonValue(@Nullable Object value) throws IOException {
+
+			if (value == null) {
+				generator.writeNull();
+			} else if (settings.standardScalarSerializers() && value instanceof String s) {
+				generator.writeString(s);
+			} else if (settings.standardScalarSerializers() && value instanceof Integer i) {
+				generator.writeNumber(i);
+			} else if (settings.standardScalarSerializers() && value instanceof Long l) {
+				generator.writeNumber(l);
+			} else if (settings.standardScalarSerializers() && value instanceof Double d) {
+				generator.writeNumber(d);
+			} else if (settings.standardScalarSerializers() && value instanceof Boolean b) {
+				generator.writeBoolean(b);
+			} else {
+				serializerProvider.serializeValue(generator, value);
+			}
+		}
+	}
+
+	/**
+	 * The properties of an entity together with the decisions about reading and writing them that only depend on the
+	 * mapping metadata. A plan is created once per entity, the {@link Reader} and the {@link Writer} then only iterate
+	 * over the prepared arrays.
+	 *
+	 * @param readProperties the properties that are set after the entity is instantiated
+	 * @param writeProperties the properties that are written to the document source
+	 * @param streamable if the entity can be written by the {@link StreamingWriter}
+	 * @since 5.3
+	 */
+	private record ConversionPlan(PropertyPlan[] readProperties, PropertyPlan[] writeProperties, boolean streamable) {
+
+		static ConversionPlan of(ElasticsearchPersistentEntity<?> entity, @Nullable String typeKey) {
+
+			List<PropertyPlan> readProperties = new ArrayList<>();
+			List<PropertyPlan> writeProperties = new ArrayList<>();
+
+			// An entity can only be streamed if no two of its properties and no property and the type hint share the same
+			// field name, in a Document the last written value would win. Dotted field names are excluded as well, they are
+			// resolved as paths when reading existing values.
+			boolean streamable = true;
+			Set<String> fieldNames = new HashSet<>();
+
+			if (typeKey != null) {
+				fieldNames.add(typeKey);
+			}
+
+			for (ElasticsearchPersistentProperty property : entity) {
+
+				PropertyPlan propertyPlan = PropertyPlan.of(property);
+
+				if (!entity.isCreatorArgument(property) && property.isReadable()
+						&& !property.isSeqNoPrimaryTermProperty() && !property.isIndexedIndexNameProperty()) {
+					readProperties.add(propertyPlan);
+				}
+
+				if (!isSkippedOnWrite(entity, property)) {
+					writeProperties.add(propertyPlan);
+				}
+
+				if (property.getFieldName().contains(".") || !fieldNames.add(property.getFieldName())) {
+					streamable = false;
+				}
+			}
+
+			return new ConversionPlan(readProperties.toArray(new PropertyPlan[0]),
+					writeProperties.toArray(new PropertyPlan[0]), streamable);
+		}
+
+		/**
+		 * Checks if the properties of the given entity must be written by the {@link Writer}.
+		 */
+		private static boolean isSkippedOnWrite(ElasticsearchPersistentEntity<?> entity,
+				ElasticsearchPersistentProperty property) {
+			return !property.isWritable() //
+					|| property.isIndexedIndexNameProperty() //
+					|| (property.isIdProperty() && !entity.storeIdInSource()) //
+					|| (property.isVersionProperty() && !entity.storeVersionInSource());
+		}
+	}
+
+	/**
+	 * The mapping information of a single property as it is needed by the {@link Reader} and the {@link Writer}.
+	 *
+	 * @param fieldNamePath the parts of a dotted field name that is resolved as path, {@literal null} otherwise
+	 * @param temporalAccessor if the type of the property is a {@link TemporalAccessor}
+	 * @param temporalAccessorActualType if the actual type of the property is a {@link TemporalAccessor}
+	 * @since 5.3
+	 */
+	private record PropertyPlan(ElasticsearchPersistentProperty property, String fieldName,
+			@Nullable String[] fieldNamePath, TypeInformation<?> typeInformation,
+			@Nullable PropertyValueConverter propertyValueConverter, @Nullable String spelExpression,
+			boolean temporalAccessor, boolean temporalAccessorActualType, boolean storeNullValue, boolean storeEmptyValue,
+			boolean idProperty, boolean versionProperty) {
+
+		static PropertyPlan of(ElasticsearchPersistentProperty property) {
+
+			String fieldName = property.getFieldName();
+			String[] fieldNamePath = property.hasExplicitFieldName() || !fieldName.contains(".") ? null
+					: fieldName.split("\\.");
+
+			return new PropertyPlan(property, fieldName, fieldNamePath, property.getTypeInformation(),
+					property.getPropertyValueConverter(), property.getSpelExpression(),
+					TemporalAccessor.class.isAssignableFrom(property.getType()),
+					TemporalAccessor.class.isAssignableFrom(property.getActualType()), property.storeNullValue(),
+					property.storeEmptyValue(), property.isIdProperty(), property.isVersionProperty());
+		}
+	}
+
+	/**
+	 * Describes how an {@link ObjectMapper} renders a {@link Document}. An {@link ObjectMapper} can only be used for
+	 * streaming if it renders maps and collections unmodified - no indentation, no sorting, no type information - and if
+	 * null values in maps are either always written or always omitted.
+	 *
+	 * @since 5.3
+	 */
+	private record JsonWriteSettings(ObjectMapper objectMapper, boolean suppressNullMapValues,
+			boolean standardScalarSerializers) {
+
+		private static final String PROBE_JSON = "{\"b\":null,\"a\":\"\",\"c\":[null]}";
+		private static final String PROBE_JSON_WITHOUT_NULLS = "{\"a\":\"\",\"c\":[null]}";
+
+		@Nullable
+		static JsonWriteSettings of(ObjectMapper objectMapper) {
+
+			if (!(objectMapper.getSerializerProvider() instanceof DefaultSerializerProvider)
+					|| objectMapper.getSerializationConfig().getDefaultTyper(null) != null) {
+				return null;
+			}
+
+			JsonInclude.Include contentInclusion = objectMapper.getSerializationConfig().getDefaultPropertyInclusion(Map.class)
+					.getContentInclusion();
+
+			if (contentInclusion != JsonInclude.Include.ALWAYS && contentInclusion != JsonInclude.Include.USE_DEFAULTS
+					&& contentInclusion != JsonInclude.Include.NON_NULL) {
+				return null;
+			}
+
+			Map<String, Object> probe = new LinkedHashMap<>();
+			probe.put("b", null);
+			probe.put("a", "");
+			probe.put("c", Collections.singletonList(null));
+
+			try {
+				String json = objectMapper.writeValueAsString(probe);
+
+				if (!PROBE_JSON.equals(json) && !PROBE_JSON_WITHOUT_NULLS.equals(json)) {
+					return null;
+				}
+
+				return new JsonWriteSettings(objectMapper, PROBE_JSON_WITHOUT_NULLS.equals(json),
+						hasStandardScalarSerializers(objectMapper));
+			} catch (JsonProcessingException e) {
+				return null;
+			}
+		}
+
+		private static boolean hasStandardScalarSerializers(ObjectMapper objectMapper) throws JsonMappingException {
+
+			SerializerProvider serializerProvider = objectMapper.getSerializerProviderInstance();
+
+			return serializerProvider.findValueSerializer(String.class) instanceof StringSerializer
+					&& serializerProvider.findValueSerializer(Integer.class) instanceof NumberSerializers.IntegerSerializer
+					&& serializerProvider.findValueSerializer(Long.class) instanceof NumberSerializers.LongSerializer
+					&& serializerProvider.findValueSerializer(Double.class) instanceof NumberSerializers.DoubleSerializer
+					&& serializerProvider.findValueSerializer(Boolean.class) instanceof BooleanSerializer;
+		}
+
+		DefaultSerializerProvider createSerializerProvider() {
+			return ((DefaultSerializerProvider) objectMapper.getSerializerProvider())
+					.createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
+		}
+	}
+
+	/**
+	 * Describes which fields of a document source are needed to read an entity. Fields that are mapped to a property
+	 * with an entity type store this type so that their values can be read with the plan for that type.
+	 *
+	 * @since 5.3
+	 */
+	private record SourceReadPlan(Class<?> type, boolean polymorphic, Map<String, SourceField> fields) {
+
+		@Nullable
+		static SourceReadPlan of(Class<?> type,
+				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
+				CustomConversions conversions) {
+
+			if (Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type) || Object.class.equals(type)
+					|| conversions.isSimpleType(type) || conversions.hasCustomReadTarget(Map.class, type)) {
+				return null;
+			}
+
+			ElasticsearchPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+			if (entity == null) {
+				return null;
+			}
+
+			InstanceCreatorMetadata<?> creatorMetadata = entity.getInstanceCreatorMetadata();
+			if (creatorMetadata != null && creatorMetadata.hasParameters()) {
+				for (Parameter<?, ?> parameter : creatorMetadata.getParameters()) {
+					if (parameter.hasValueExpression()) {
+						return null;
+					}
+				}
+			}
+
+			Map<String, SourceField> fields = new HashMap<>();
+
+			for (ElasticsearchPersistentProperty property : entity) {
+
+				if (property.getSpelExpression() != null) {
+					return null;
+				}
+
+				String fieldName = property.getFieldName();
+
+				if (!property.hasExplicitFieldName() && fieldName.contains(".")) {
+					// the value is read from a nested map
+					String mapFieldName = fieldName.substring(0, fieldName.indexOf('.'));
+					fields.put(mapFieldName, new SourceField(mapFieldName, null));
+				} else if (property.isEntity() && !property.isMap() && !property.hasPropertyValueConverter()
+						&& !fields.containsKey(fieldName)) {
+					fields.put(fieldName, new SourceField(fieldName, property.getActualType()));
+				} else {
+					fields.put(fieldName, new SourceField(fieldName, null));
+				}
+			}
+
+			return new SourceReadPlan(type, !Modifier.isFinal(type.getModifiers()), fields);
+		}
+	}
+
+	/**
+	 * A field of a {@link SourceReadPlan}. The name is the field name instance of the mapped property, it is used as key
+	 * in the maps that are read so that these do not hold the key instances created by the parser.
+	 *
+	 * @param name the field name
+	 * @param entityType the entity type of the field's value, {@literal null} if it is not an entity
+	 * @since 5.3
+	 */
+	private record SourceField(String name, @Nullable Class<?> entityType) {
+	}
+
+	/**
+	 * Reads a document source from a {@link JsonParser} into {@link Map} and {@link List} objects like an
+	 * {@link ObjectMapper} would do, omitting the values that are not needed according to a {@link SourceReadPlan}.
+	 *
+	 * @since 5.3
+	 */
+	static private class SourceReader {
+
+		private final JsonParser parser;
+		private final ElasticsearchTypeMapper typeMapper;
+		private final Function<Class<?>, SourceReadPlan> sourceReadPlans;
+		@Nullable private final ObjectCodec codec;
+
+		SourceReader(JsonParser parser, ElasticsearchTypeMapper typeMapper,
+				Function<Class<?>, SourceReadPlan> sourceReadPlans) {
+
+			this.parser = parser;
+			this.typeMapper = typeMapper;
+			this.sourceReadPlans = sourceReadPlans;
+			this.codec = usesPlainValues(parser.getCodec()) ? null : parser.getCodec();
+		}
+
+		/**
+		 * @return {@literal true} if the codec reads untyped values as {@link Map}, {@link List}, {@link String},
+		 *         {@link Boolean} and the natural number types so that the values can be read without it.
+		 */
+		private static boolean usesPlainValues(@Nullable ObjectCodec codec) {
+
+			if (codec == null) {
+				return true;
+			}
+
+			return codec instanceof ObjectMapper objectMapper //
+					&& objectMapper.getRegisteredModuleIds().isEmpty() //
+					&& objectMapper.mixInCount() == 0 //
+					&& !objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS) //
+					&& !objectMapper.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS) //
+					&& !objectMapper.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS) //
+					&& !objectMapper.isEnabled(DeserializationFeature.USE_JAVA_ARRAY_FOR_JSON_ARRAY);
+		}
+
+		void read(@Nullable SourceReadPlan sourceReadPlan, Map<String, Object> sink) throws IOException {
+
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "expected the start of an object but got " + parser.currentToken());
+			}
+
+			readObject(sourceReadPlan, sink);
+		}
+
+		private void readObject(@Nullable SourceReadPlan sourceReadPlan, Map<String, Object> sink) throws IOException {
+
+			// values of unknown fields can only be skipped when the type of the entity is known
+			boolean skipUnknownFields = sourceReadPlan != null && !sourceReadPlan.polymorphic();
+			boolean firstField = true;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String fieldName = parser.currentName();
+				parser.nextToken();
+
+				if (sourceReadPlan == null) {
+					sink.put(fieldName, readValue(null));
+				} else if (typeMapper.isTypeKey(fieldName)) {
+					sink.put(fieldName, readValue(null));
+
+					if (firstField) {
+						Class<?> typeToUse = typeMapper.readType(sink, TypeInformation.of(sourceReadPlan.type())).getType();
+						sourceReadPlan = sourceReadPlans.apply(typeToUse);
+						skipUnknownFields = true;
+					}
+				} else {
+					SourceField field = sourceReadPlan.fields().get(fieldName);
+
+					if (field != null) {
+						sink.put(field.name(), readValue(field.entityType()));
+					} else if (skipUnknownFields) {
+						parser.skipChildren();
+					} else {
+						sink.put(fieldName, readValue(null));
+					}
+				}
+
+				firstField = false;
+			}
+		}
+
+		@Nullable
+		private Object readValue(@Nullable Class<?> entityType) throws IOException {
+
+			JsonToken token = parser.currentToken();
+
+			if (entityType != null && token == JsonToken.START_OBJECT) {
+				Map<String, Object> map = new CompactMap<>();
+				readObject(sourceReadPlans.apply(entityType), map);
+				return map;
+			}
+
+			if (entityType != null && token == JsonToken.START_ARRAY) {
+				List<Object> list = new ArrayList<>();
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					list.add(readValue(entityType));
+				}
+				return list;
+			}
+
+			if (codec != null) {
+				return codec.readValue(parser, Object.class);
+			}
+
+			return switch (token) {
+				case START_OBJECT -> {
+					Map<String, Object> map = new CompactMap<>();
+					readObject(null, map);
+					yield map;
+				}
+				case START_ARRAY -> {
+					List<Object> list = new ArrayList<>();
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						list.add(readValue(null));
+					}
+					yield list;
+				}
+				case VALUE_STRING -> parser.getText();
+				case VALUE_NUMBER_INT -> parser.getNumberValue();
+				case VALUE_NUMBER_FLOAT -> switch (parser.getNumberType()) {
+					case BIG_DECIMAL -> parser.getDecimalValue();
+					case FLOAT -> parser.getFloatValue();
+					default -> parser.getDoubleValue();
+				};
+				case VALUE_TRUE -> Boolean.TRUE;
+				case VALUE_FALSE -> Boolean.FALSE;
+				case VALUE_NULL -> null;
+				case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+				default -> throw new JsonParseException(parser, "unexpected token " + token);
+			};
+		}
+	}
 	// endregion
 
 	// region queries
@@ -1280,17 +2073,45 @@ public class MappingElasticsearchConverter
 
 	/**
 	 * relaces the fieldName with the property name of a property of the persistentEntity with the corresponding
-	 * fieldname. If no such property exists, the original fieldName is kept.
+	 * fieldname. Property paths into nested entities are mapped segment by segment. If no such property exists, the
+	 * original fieldName is kept.
 	 *
 	 * @param fieldNames list of fieldnames
 	 * @param persistentEntity the persistent entity to check
 	 * @return an updated list of field names
 	 */
 	private List<String> updateFieldNames(List<String> fieldNames, ElasticsearchPersistentEntity<?> persistentEntity) {
-		return fieldNames.stream().map(fieldName -> updateFieldName(persistentEntity, fieldName))
+		return fieldNames.stream().map(fieldName -> updateFieldNamePath(persistentEntity, fieldName))
 				.collect(Collectors.toList());
 	}
 
+	private String updateFieldNamePath(ElasticsearchPersistentEntity<?> persistentEntity, String fieldName) {
+
+		ElasticsearchPersistentProperty persistentProperty = persistentEntity.getPersistentProperty(fieldName);
+
+		if (persistentProperty != null) {
+			return persistentProperty.getFieldName();
+		}
+
+		int dotIndex = fieldName.indexOf('.');
+
+		if (dotIndex > 0) {
+			ElasticsearchPersistentProperty pathProperty = persistentEntity
+					.getPersistentProperty(fieldName.substring(0, dotIndex));
+
+			if (pathProperty != null) {
+				ElasticsearchPersistentEntity<?> nestedPersistentEntity = mappingContext.getPersistentEntity(pathProperty);
+
+				if (nestedPersistentEntity != null) {
+					return pathProperty.getFieldName() + '.'
+							+ updateFieldNamePath(nestedPersistentEntity, fieldName.substring(dotIndex + 1));
+				}
+			}
+		}
+
+		return fieldName;
+	}
+
 	@NotNull
 	private String updateFieldName(ElasticsearchPersistentEntity<?> persistentEntity, String fieldName) {
 		ElasticsearchPersistentProperty persistentProperty = persistentEntity.getPersistentProperty(fieldName);
@@ -1445,12 +2266,27 @@ public class MappingElasticsearchConverter
 		public Object get(ElasticsearchPersistentProperty property) {
 
 			String fieldName = property.getFieldName();
+			String[] fieldNamePath = property.hasExplicitFieldName() || !fieldName.contains(".") ? null
+					: fieldName.split("\\.");
+
+			return get(fieldName, fieldNamePath, property.isIdProperty(), property.isVersionProperty());
+		}
+
+		@Nullable
+		Object get(PropertyPlan propertyPlan) {
+			return get(propertyPlan.fieldName(), propertyPlan.fieldNamePath(), propertyPlan.idProperty(),
+					propertyPlan.versionProperty());
+		}
+
+		@Nullable
+		private Object get(String fieldName, @Nullable String[] fieldNamePath, boolean idProperty,
+				boolean versionProperty) {
 
 			if (target instanceof Document document) {
 				// nested objects may have properties like 'id' which are recognized as isIdProperty() but they are not
 				// Documents
 
-				if (property.isIdProperty() && document.hasId()) {
+				if (idProperty && document.hasId()) {
 					Object id = null;
 
 					// take the id property from the document source if available
@@ -1460,17 +2296,17 @@ public class MappingElasticsearchConverter
 					return id != null ? id : document.getId();
 				}
 
-				if (property.isVersionProperty() && document.hasVersion()) {
+				if (versionProperty && document.hasVersion()) {
 					return document.getVersion();
 				}
 
 			}
 
-			if (property.hasExplicitFieldName() || !fieldName.contains(".")) {
+			if (fieldNamePath == null) {
 				return target.get(fieldName);
 			}
 
-			Iterator<String> parts = Arrays.asList(fieldName.split("\\.")).iterator();
+			Iterator<String> parts = Arrays.asList(fieldNamePath).iterator();
 			Map<String, Object> source = target;
 			Object result = null;
 
@@ -1487,19 +2323,27 @@ public class MappingElasticsearchConverter
 		}
 
 		public void set(ElasticsearchPersistentProperty property, @Nullable Object value) {
+			set(property.getFieldName(), property.isIdProperty(), property.isVersionProperty(), value);
+		}
+
+		void set(PropertyPlan propertyPlan, @Nullable Object value) {
+			set(propertyPlan.fieldName(), propertyPlan.idProperty(), propertyPlan.versionProperty(), value);
+		}
+
+		private void set(String fieldName, boolean idProperty, boolean versionProperty, @Nullable Object value) {
 
 			if (value != null) {
 
-				if (property.isIdProperty()) {
+				if (idProperty) {
 					((Document) target).setId(value.toString());
 				}
 
-				if (property.isVersionProperty()) {
+				if (versionProperty) {
 					((Document) target).setVersion((Long) value);
 				}
 			}
 
-			target.put(property.getFieldName(), value);
+			target.put(fieldName, value);
 		}
 
 		private Map<String, Object> getAsMap(Object result) {
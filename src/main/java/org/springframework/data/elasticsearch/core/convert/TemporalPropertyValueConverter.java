@@ -47,6 +47,12 @@ public class TemporalPropertyValueConverter extends AbstractPropertyValueConvert
 		Class<?> actualType = getProperty().getActualType();
 
 		for (ElasticsearchDateConverter dateConverter : dateConverters) {
+
+			// skip the formats that cannot match without trying them
+			if (!dateConverter.mayParse(s)) {
+				continue;
+			}
+
 			try {
 				return dateConverter.parse(s, (Class<? extends TemporalAccessor>) actualType);
 			} catch (Exception e) {
@@ -52,6 +52,12 @@ public class TemporalRangePropertyValueConverter extends AbstractRangePropertyVa
 
 		Class<?> type = getGenericType();
 		for (ElasticsearchDateConverter converters : dateConverters) {
+
+			// skip the formats that cannot match without trying them
+			if (!converters.mayParse(value)) {
+				continue;
+			}
+
 			try {
 				return converters.parse(value, (Class<? extends TemporalAccessor>) type);
 			} catch (Exception e) {
@@ -16,7 +16,6 @@
 package org.springframework.data.elasticsearch.core.document;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -60,11 +59,8 @@ public interface Document extends StringObjectMap<Document> {
 
 		Assert.notNull(map, "Map must not be null");
 
-		if (map instanceof LinkedHashMap) {
-			return new MapDocument(map);
-		}
-
-		return new MapDocument(new LinkedHashMap<>(map));
+		// MapDocument copies the map into a DefaultStringObjectMap
+		return new MapDocument(map);
 	}
 
 	/**
@@ -242,6 +238,31 @@ public interface Document extends StringObjectMap<Document> {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the unparsed source of this {@link Document} if it was kept when reading it from Elasticsearch.
+	 * <p>
+	 * The default implementation returns {@literal null}.
+	 *
+	 * @return the raw source, {@literal null} if it is not available.
+	 * @since 5.3
+	 */
+	@Nullable
+	default RawJson getRawSource() {
+		return null;
+	}
+
+	/**
+	 * Set the unparsed source of this {@link Document}.
+	 * <p>
+	 * The default implementation throws {@link UnsupportedOperationException}.
+	 *
+	 * @param rawSource the raw source, may be {@literal null}
+	 * @since 5.3
+	 */
+	default void setRawSource(@Nullable RawJson rawSource) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * This method allows the application of a function to {@code this} {@link Document}. The function should expect a
 	 * single {@link Document} argument and produce an {@code R} result.
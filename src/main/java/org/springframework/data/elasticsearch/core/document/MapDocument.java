@@ -16,7 +16,6 @@
 package org.springframework.data.elasticsearch.core.document;
 
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -30,7 +29,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * {@link Document} implementation backed by a {@link LinkedHashMap}.
+ * {@link Document} implementation backed by a {@link DefaultStringObjectMap}.
  *
  * @author Mark Paluch
  * @author Roman Puchkovskiy
@@ -47,9 +46,10 @@ class MapDocument implements Document {
 	private @Nullable Long version;
 	private @Nullable Long seqNo;
 	private @Nullable Long primaryTerm;
+	private @Nullable RawJson rawSource;
 
 	MapDocument() {
-		this(new LinkedHashMap<>());
+		this.documentAsMap = new DefaultStringObjectMap<>();
 	}
 
 	MapDocument(Map<String, ?> documentAsMap) {
@@ -67,6 +67,17 @@ class MapDocument implements Document {
 		return index;
 	}
 
+	@Nullable
+	@Override
+	public RawJson getRawSource() {
+		return rawSource;
+	}
+
+	@Override
+	public void setRawSource(@Nullable RawJson rawSource) {
+		this.rawSource = rawSource;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.elasticsearch.core.document.Document#hasId()
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.document;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * The unparsed JSON {@code _source} of a document. Using this class as the result type of a search, get or multiget
+ * operation returns the source as UTF-8 encoded bytes without mapping it into an entity, which is useful when the
+ * documents are only passed on, for example written to an HTTP response.
+ * <p>
+ * Instances are immutable as long as the byte array they were created from is not modified.
+ *
+ * @since 5.3
+ */
+public final class RawJson {
+
+	private final byte[] bytes;
+	private final int offset;
+	private final int length;
+
+	private RawJson(byte[] bytes, int offset, int length) {
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Creates a {@link RawJson} backed by the given array, the array is not copied.
+	 *
+	 * @param bytes the UTF-8 encoded JSON, must not be {@literal null}
+	 * @return the new instance
+	 */
+	public static RawJson of(byte[] bytes) {
+
+		Assert.notNull(bytes, "bytes must not be null");
+
+		return new RawJson(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Creates a {@link RawJson} backed by a range of the given array, the array is not copied.
+	 *
+	 * @param bytes the array containing the UTF-8 encoded JSON, must not be {@literal null}
+	 * @param offset the start of the JSON in the array
+	 * @param length the number of bytes of the JSON
+	 * @return the new instance
+	 */
+	public static RawJson of(byte[] bytes, int offset, int length) {
+
+		Assert.notNull(bytes, "bytes must not be null");
+		Assert.isTrue(offset >= 0 && length >= 0 && offset + length <= bytes.length,
+				"offset and length must be within the bounds of the array");
+
+		return new RawJson(bytes, offset, length);
+	}
+
+	/**
+	 * @param json the JSON, must not be {@literal null}
+	 * @return a {@link RawJson} containing the UTF-8 encoding of the given string
+	 */
+	public static RawJson of(String json) {
+
+		Assert.notNull(json, "json must not be null");
+
+		return of(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return the number of bytes
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @return a read-only {@link ByteBuffer} view of the bytes
+	 */
+	public ByteBuffer asByteBuffer() {
+		return ByteBuffer.wrap(bytes, offset, length).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * @return a copy of the bytes
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOfRange(bytes, offset, offset + length);
+	}
+
+	/**
+	 * Writes the bytes to the given stream without copying them.
+	 *
+	 * @param outputStream the stream to write to, must not be {@literal null}
+	 * @throws IOException when writing fails
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+
+		Assert.notNull(outputStream, "outputStream must not be null");
+
+		outputStream.write(bytes, offset, length);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		return o instanceof RawJson that
+				&& Arrays.equals(bytes, offset, offset + length, that.bytes, that.offset, that.offset + that.length);
+	}
+
+	@Override
+	public int hashCode() {
+
+		int result = 1;
+		for (int i = offset; i < offset + length; i++) {
+			result = 31 * result + bytes[i];
+		}
+		return result;
+	}
+
+	/**
+	 * @return the JSON as string
+	 */
+	@Override
+	public String toString() {
+		return new String(bytes, offset, length, StandardCharsets.UTF_8);
+	}
+}
@@ -93,6 +93,17 @@ public class SearchDocumentAdapter implements SearchDocument {
 		return delegate.getIndex();
 	}
 
+	@Nullable
+	@Override
+	public RawJson getRawSource() {
+		return delegate.getRawSource();
+	}
+
+	@Override
+	public void setRawSource(@Nullable RawJson rawSource) {
+		delegate.setRawSource(rawSource);
+	}
+
 	@Override
 	public boolean hasId() {
 		return delegate.hasId();
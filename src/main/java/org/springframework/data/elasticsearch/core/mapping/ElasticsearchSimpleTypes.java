@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.RawJson;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 
 /**
@@ -35,7 +36,7 @@ public class ElasticsearchSimpleTypes {
 	static {
 		AUTOGENERATED_ID_TYPES = Set.of(String.class);
 
-		ELASTICSEARCH_SIMPLE_TYPES = Set.of(Document.class, Map.class);
+		ELASTICSEARCH_SIMPLE_TYPES = Set.of(Document.class, Map.class, RawJson.class);
 	}
 
 	private static final Set<Class<?>> ELASTICSEARCH_SIMPLE_TYPES;
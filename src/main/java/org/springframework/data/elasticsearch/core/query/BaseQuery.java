@@ -81,6 +81,8 @@ public class BaseQuery implements Query {
 	private EnumSet<IndicesOptions.WildcardStates> expandWildcards;
 	private List<DocValueField> docValueFields = new ArrayList<>();
 	private List<ScriptedField> scriptedFields = new ArrayList<>();
+	@Nullable private Boolean parallelEntityConversion = null;
+	@Nullable private Boolean lazyEntityConversion = null;
 
 	public BaseQuery() {}
 
@@ -117,6 +119,8 @@ public class BaseQuery implements Query {
 		this.docValueFields = builder.getDocValueFields();
 		this.scriptedFields = builder.getScriptedFields();
 		this.runtimeFields = builder.getRuntimeFields();
+		this.parallelEntityConversion = builder.getParallelEntityConversion();
+		this.lazyEntityConversion = builder.getLazyEntityConversion();
 	}
 
 	/**
@@ -561,4 +565,40 @@ public class BaseQuery implements Query {
 	public List<ScriptedField> getScriptedFields() {
 		return scriptedFields;
 	}
+
+	/**
+	 * @since 5.3
+	 */
+	@Nullable
+	@Override
+	public Boolean getParallelEntityConversion() {
+		return parallelEntityConversion;
+	}
+
+	/**
+	 * @param parallelEntityConversion if the hits returned for this query should be converted in parallel,
+	 *          {@literal null} to use the setting of the template.
+	 * @since 5.3
+	 */
+	public void setParallelEntityConversion(@Nullable Boolean parallelEntityConversion) {
+		this.parallelEntityConversion = parallelEntityConversion;
+	}
+
+	/**
+	 * @since 5.3
+	 */
+	@Nullable
+	@Override
+	public Boolean getLazyEntityConversion() {
+		return lazyEntityConversion;
+	}
+
+	/**
+	 * @param lazyEntityConversion if the entities of the hits returned for this query should be created when the content
+	 *          of a hit is accessed, {@literal null} to use the setting of the template.
+	 * @since 5.3
+	 */
+	public void setLazyEntityConversion(@Nullable Boolean lazyEntityConversion) {
+		this.lazyEntityConversion = lazyEntityConversion;
+	}
 }
@@ -71,6 +71,8 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 	@Nullable Integer reactiveBatchSize;
 	private final List<DocValueField> docValueFields = new ArrayList<>();
 	private final List<ScriptedField> scriptedFields = new ArrayList<>();
+	@Nullable private Boolean parallelEntityConversion;
+	@Nullable private Boolean lazyEntityConversion;
 
 	@Nullable
 	public Sort getSort() {
@@ -231,6 +233,22 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return scriptedFields;
 	}
 
+	/**
+	 * @since 5.3
+	 */
+	@Nullable
+	public Boolean getParallelEntityConversion() {
+		return parallelEntityConversion;
+	}
+
+	/**
+	 * @since 5.3
+	 */
+	@Nullable
+	public Boolean getLazyEntityConversion() {
+		return lazyEntityConversion;
+	}
+
 	public SELF withPageable(Pageable pageable) {
 		this.pageable = pageable;
 		return self();
@@ -472,6 +490,26 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return self();
 	}
 
+	/**
+	 * @param parallelEntityConversion if the hits returned for the query should be converted in parallel,
+	 *          {@literal null} to use the setting of the template.
+	 * @since 5.3
+	 */
+	public SELF withParallelEntityConversion(@Nullable Boolean parallelEntityConversion) {
+		this.parallelEntityConversion = parallelEntityConversion;
+		return self();
+	}
+
+	/**
+	 * @param lazyEntityConversion if the entities of the hits returned for the query should be created when the content
+	 *          of a hit is accessed, {@literal null} to use the setting of the template.
+	 * @since 5.3
+	 */
+	public SELF withLazyEntityConversion(@Nullable Boolean lazyEntityConversion) {
+		this.lazyEntityConversion = lazyEntityConversion;
+		return self();
+	}
+
 	public abstract Q build();
 
 	private SELF self() {
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.time.Duration;
+
+import org.springframework.data.elasticsearch.core.BulkIngester;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options for a {@link BulkIngester} created with
+ * {@link org.springframework.data.elasticsearch.core.DocumentOperations#bulkIngester(IndexCoordinates, BulkIngesterOptions)}.
+ * The buffered operations are sent when there are {@code maxOperations} of them, when their estimated size reaches
+ * {@code maxBytes} or, if set, every {@code flushInterval}. <br/>
+ * Use {@link BulkIngesterOptions#builder()} to obtain a builder, then set the desired properties and call
+ * {@link BulkIngesterOptionsBuilder#build()} to get the BulkIngesterOptions object.
+ *
+ * @since 5.3
+ */
+public class BulkIngesterOptions {
+
+	private static final BulkIngesterOptions defaultOptions = builder().build();
+
+	private final int maxOperations;
+	private final long maxBytes;
+	@Nullable private final Duration flushInterval;
+	private final int maxConcurrentRequests;
+	private final BulkOptions bulkOptions;
+	private final BulkIngester.Listener listener;
+
+	private BulkIngesterOptions(int maxOperations, long maxBytes, @Nullable Duration flushInterval,
+			int maxConcurrentRequests, BulkOptions bulkOptions, BulkIngester.Listener listener) {
+		this.maxOperations = maxOperations;
+		this.maxBytes = maxBytes;
+		this.flushInterval = flushInterval;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.bulkOptions = bulkOptions;
+		this.listener = listener;
+	}
+
+	public int getMaxOperations() {
+		return maxOperations;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	@Nullable
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	public BulkOptions getBulkOptions() {
+		return bulkOptions;
+	}
+
+	public BulkIngester.Listener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Create a new {@link BulkIngesterOptionsBuilder} to build {@link BulkIngesterOptions}.
+	 *
+	 * @return a new {@link BulkIngesterOptionsBuilder} to build {@link BulkIngesterOptions}.
+	 */
+	public static BulkIngesterOptionsBuilder builder() {
+		return new BulkIngesterOptionsBuilder();
+	}
+
+	/**
+	 * Return default {@link BulkIngesterOptions}: 1000 operations or 5 MB per request, no flush interval, one request
+	 * in flight, the default {@link BulkOptions} and no listener.
+	 *
+	 * @return default {@link BulkIngesterOptions}.
+	 */
+	public static BulkIngesterOptions defaultOptions() {
+		return defaultOptions;
+	}
+
+	/**
+	 * Builder for {@link BulkIngesterOptions}.
+	 */
+	public static class BulkIngesterOptionsBuilder {
+
+		private int maxOperations = 1000;
+		private long maxBytes = 5 * 1024 * 1024;
+		@Nullable private Duration flushInterval;
+		private int maxConcurrentRequests = 1;
+		private BulkOptions bulkOptions = BulkOptions.defaultOptions();
+		private BulkIngester.Listener listener = new BulkIngester.Listener() {};
+
+		private BulkIngesterOptionsBuilder() {}
+
+		/**
+		 * @param maxOperations the number of operations that are sent in one bulk request, at least 1
+		 */
+		public BulkIngesterOptionsBuilder withMaxOperations(int maxOperations) {
+
+			Assert.isTrue(maxOperations >= 1, "maxOperations must be at least 1");
+
+			this.maxOperations = maxOperations;
+			return this;
+		}
+
+		/**
+		 * @param maxBytes the estimated size of the operations at which they are sent, at least 1
+		 */
+		public BulkIngesterOptionsBuilder withMaxBytes(long maxBytes) {
+
+			Assert.isTrue(maxBytes >= 1, "maxBytes must be at least 1");
+
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		/**
+		 * @param flushInterval the interval at which the buffered operations are sent regardless of their number and
+		 *          size, {@literal null} to only send them when one of the limits is reached
+		 */
+		public BulkIngesterOptionsBuilder withFlushInterval(@Nullable Duration flushInterval) {
+
+			Assert.isTrue(flushInterval == null || (!flushInterval.isNegative() && !flushInterval.isZero()),
+					"flushInterval must be positive");
+
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		/**
+		 * @param maxConcurrentRequests the number of bulk requests that may be in flight at the same time, at least 1.
+		 *          Adding operations blocks while this number is reached and another request would be sent.
+		 */
+		public BulkIngesterOptionsBuilder withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+			Assert.isTrue(maxConcurrentRequests >= 1, "maxConcurrentRequests must be at least 1");
+
+			this.maxConcurrentRequests = maxConcurrentRequests;
+			return this;
+		}
+
+		/**
+		 * @param bulkOptions the options of the bulk requests
+		 */
+		public BulkIngesterOptionsBuilder withBulkOptions(BulkOptions bulkOptions) {
+
+			Assert.notNull(bulkOptions, "bulkOptions must not be null");
+
+			this.bulkOptions = bulkOptions;
+			return this;
+		}
+
+		/**
+		 * @param listener the listener that is called with the outcome of each operation
+		 */
+		public BulkIngesterOptionsBuilder withListener(BulkIngester.Listener listener) {
+
+			Assert.notNull(listener, "listener must not be null");
+
+			this.listener = listener;
+			return this;
+		}
+
+		public BulkIngesterOptions build() {
+			return new BulkIngesterOptions(maxOperations, maxBytes, flushInterval, maxConcurrentRequests, bulkOptions,
+					listener);
+		}
+	}
+}
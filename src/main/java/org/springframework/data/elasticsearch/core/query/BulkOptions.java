@@ -18,10 +18,12 @@ package org.springframework.data.elasticsearch.core.query;
 import java.time.Duration;
 import java.util.List;
 
+import org.springframework.data.elasticsearch.client.RetryPolicy;
 import org.springframework.data.elasticsearch.core.ActiveShardCount;
 import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Options that may be passed to an
@@ -29,6 +31,14 @@ import org.springframework.lang.Nullable;
  * or
  * {@link org.springframework.data.elasticsearch.core.DocumentOperations#bulkUpdate(List, BulkOptions, IndexCoordinates)}
  * call. <br/>
+ * The imperative templates split the operations into several bulk requests when there are more than
+ * {@link #getMaxOperations() maxOperations} of them or their estimated size exceeds {@link #getMaxBytes() maxBytes}.
+ * The requests are sent one after the other, or up to {@link #getMaxConcurrentRequests() maxConcurrentRequests} at the
+ * same time; the results are returned in the order of the operations in either case. <br/>
+ * When an {@link #getItemRetryPolicy() item retry policy} is set, the bulk operations returning the result of each
+ * operation, like
+ * {@link org.springframework.data.elasticsearch.core.DocumentOperations#bulkIndexWithItemResults(List, BulkOptions, IndexCoordinates)},
+ * send the operations that failed with one of its retryable status codes again. <br/>
  * Use {@link BulkOptions#builder()} to obtain a builder, then set the desired properties and call
  * {@link BulkOptionsBuilder#build()} to get the BulkOptions object.
  *
@@ -45,14 +55,24 @@ public class BulkOptions {
 	private final @Nullable ActiveShardCount waitForActiveShards;
 	private final @Nullable String pipeline;
 	private final @Nullable String routingId;
+	private final @Nullable Integer maxOperations;
+	private final @Nullable Long maxBytes;
+	private final int maxConcurrentRequests;
+	private final @Nullable RetryPolicy itemRetryPolicy;
 
 	private BulkOptions(@Nullable Duration timeout, @Nullable RefreshPolicy refreshPolicy,
-			@Nullable ActiveShardCount waitForActiveShards, @Nullable String pipeline, @Nullable String routingId) {
+			@Nullable ActiveShardCount waitForActiveShards, @Nullable String pipeline, @Nullable String routingId,
+			@Nullable Integer maxOperations, @Nullable Long maxBytes, int maxConcurrentRequests,
+			@Nullable RetryPolicy itemRetryPolicy) {
 		this.timeout = timeout;
 		this.refreshPolicy = refreshPolicy;
 		this.waitForActiveShards = waitForActiveShards;
 		this.pipeline = pipeline;
 		this.routingId = routingId;
+		this.maxOperations = maxOperations;
+		this.maxBytes = maxBytes;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.itemRetryPolicy = itemRetryPolicy;
 	}
 
 	@Nullable
@@ -80,6 +100,41 @@ public class BulkOptions {
 		return routingId;
 	}
 
+	/**
+	 * @return the maximum number of operations in one bulk request, {@literal null} if not limited
+	 * @since 5.3
+	 */
+	@Nullable
+	public Integer getMaxOperations() {
+		return maxOperations;
+	}
+
+	/**
+	 * @return the maximum estimated size in bytes of one bulk request, {@literal null} if not limited
+	 * @since 5.3
+	 */
+	@Nullable
+	public Long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * @return the number of bulk requests that are sent at the same time when the operations are split
+	 * @since 5.3
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * @return the policy for sending failed operations again, {@literal null} if they are not retried
+	 * @since 5.3
+	 */
+	@Nullable
+	public RetryPolicy getItemRetryPolicy() {
+		return itemRetryPolicy;
+	}
+
 	/**
 	 * Create a new {@link BulkOptionsBuilder} to build {@link BulkOptions}.
 	 *
@@ -108,6 +163,10 @@ public class BulkOptions {
 		private @Nullable ActiveShardCount waitForActiveShards;
 		private @Nullable String pipeline;
 		private @Nullable String routingId;
+		private @Nullable Integer maxOperations;
+		private @Nullable Long maxBytes;
+		private int maxConcurrentRequests = 1;
+		private @Nullable RetryPolicy itemRetryPolicy;
 
 		private BulkOptionsBuilder() {}
 
@@ -136,8 +195,60 @@ public class BulkOptions {
 			return this;
 		}
 
+		/**
+		 * @param maxOperations the maximum number of operations in one bulk request, at least 1
+		 * @since 5.3
+		 */
+		public BulkOptionsBuilder withMaxOperations(int maxOperations) {
+
+			Assert.isTrue(maxOperations >= 1, "maxOperations must be at least 1");
+
+			this.maxOperations = maxOperations;
+			return this;
+		}
+
+		/**
+		 * @param maxBytes the maximum estimated size in bytes of one bulk request, at least 1. A single operation that is
+		 *          larger is sent in a request of its own.
+		 * @since 5.3
+		 */
+		public BulkOptionsBuilder withMaxBytes(long maxBytes) {
+
+			Assert.isTrue(maxBytes >= 1, "maxBytes must be at least 1");
+
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		/**
+		 * @param maxConcurrentRequests the number of bulk requests that are sent at the same time when the operations
+		 *          are split, at least 1
+		 * @since 5.3
+		 */
+		public BulkOptionsBuilder withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+			Assert.isTrue(maxConcurrentRequests >= 1, "maxConcurrentRequests must be at least 1");
+
+			this.maxConcurrentRequests = maxConcurrentRequests;
+			return this;
+		}
+
+		/**
+		 * @param itemRetryPolicy the policy for sending failed operations again. Only its maximum number of attempts,
+		 *          backoff and retryable status codes are used; add 409 to the status codes to retry version conflicts.
+		 * @since 5.3
+		 */
+		public BulkOptionsBuilder withItemRetryPolicy(RetryPolicy itemRetryPolicy) {
+
+			Assert.notNull(itemRetryPolicy, "itemRetryPolicy must not be null");
+
+			this.itemRetryPolicy = itemRetryPolicy;
+			return this;
+		}
+
 		public BulkOptions build() {
-			return new BulkOptions(timeout, refreshPolicy, waitForActiveShards, pipeline, routingId);
+			return new BulkOptions(timeout, refreshPolicy, waitForActiveShards, pipeline, routingId, maxOperations, maxBytes,
+					maxConcurrentRequests, itemRetryPolicy);
 		}
 	}
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * Options for saving entities in chunks with
+ * {@link org.springframework.data.elasticsearch.core.DocumentOperations#save(Stream, IndexCoordinates, ChunkedSaveOptions)}.
+ * The entities are read, converted and sent in bulk requests of {@code chunkSize} entities, so that only one chunk is
+ * held in memory at a time. When the saved entities are not returned, the memory needed does not depend on the number
+ * of entities at all. <br/>
+ * Use {@link ChunkedSaveOptions#builder()} to obtain a builder, then set the desired properties and call
+ * {@link ChunkedSaveOptionsBuilder#build()} to get the ChunkedSaveOptions object.
+ *
+ * @since 5.3
+ */
+public class ChunkedSaveOptions {
+
+	private static final ChunkedSaveOptions defaultOptions = builder().build();
+
+	private final int chunkSize;
+	private final boolean returnSavedEntities;
+	private final BulkOptions bulkOptions;
+
+	private ChunkedSaveOptions(int chunkSize, boolean returnSavedEntities, BulkOptions bulkOptions) {
+		this.chunkSize = chunkSize;
+		this.returnSavedEntities = returnSavedEntities;
+		this.bulkOptions = bulkOptions;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public boolean isReturnSavedEntities() {
+		return returnSavedEntities;
+	}
+
+	public BulkOptions getBulkOptions() {
+		return bulkOptions;
+	}
+
+	/**
+	 * Create a new {@link ChunkedSaveOptionsBuilder} to build {@link ChunkedSaveOptions}.
+	 *
+	 * @return a new {@link ChunkedSaveOptionsBuilder} to build {@link ChunkedSaveOptions}.
+	 */
+	public static ChunkedSaveOptionsBuilder builder() {
+		return new ChunkedSaveOptionsBuilder();
+	}
+
+	/**
+	 * Return default {@link ChunkedSaveOptions}: chunks of 500 entities, returning the saved entities and the default
+	 * {@link BulkOptions}.
+	 *
+	 * @return default {@link ChunkedSaveOptions}.
+	 */
+	public static ChunkedSaveOptions defaultOptions() {
+		return defaultOptions;
+	}
+
+	/**
+	 * Builder for {@link ChunkedSaveOptions}.
+	 */
+	public static class ChunkedSaveOptionsBuilder {
+
+		private int chunkSize = 500;
+		private boolean returnSavedEntities = true;
+		private BulkOptions bulkOptions = BulkOptions.defaultOptions();
+
+		private ChunkedSaveOptionsBuilder() {}
+
+		/**
+		 * @param chunkSize the number of entities that are converted and sent in one bulk operation, at least 1
+		 */
+		public ChunkedSaveOptionsBuilder withChunkSize(int chunkSize) {
+
+			Assert.isTrue(chunkSize >= 1, "chunkSize must be at least 1");
+
+			this.chunkSize = chunkSize;
+			return this;
+		}
+
+		/**
+		 * @param returnSavedEntities {@literal false} to return an empty list instead of collecting the saved entities
+		 */
+		public ChunkedSaveOptionsBuilder withReturnSavedEntities(boolean returnSavedEntities) {
+			this.returnSavedEntities = returnSavedEntities;
+			return this;
+		}
+
+		/**
+		 * @param bulkOptions the options of the bulk operations
+		 */
+		public ChunkedSaveOptionsBuilder withBulkOptions(BulkOptions bulkOptions) {
+
+			Assert.notNull(bulkOptions, "bulkOptions must not be null");
+
+			this.bulkOptions = bulkOptions;
+			return this;
+		}
+
+		public ChunkedSaveOptions build() {
+			return new ChunkedSaveOptions(chunkSize, returnSavedEntities, bulkOptions);
+		}
+	}
+}
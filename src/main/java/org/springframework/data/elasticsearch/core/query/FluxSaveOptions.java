@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.time.Duration;
+
+import org.springframework.data.elasticsearch.core.ReactiveDocumentOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * Options for saving the entities of a {@link reactor.core.publisher.Flux} with
+ * {@link ReactiveDocumentOperations#save(reactor.core.publisher.Flux, IndexCoordinates, FluxSaveOptions)}. The entities
+ * are collected into batches of {@code bulkSize}, a batch is sent early when {@code flushInterval} has passed since its
+ * first entity arrived. Up to {@code maxInFlightBulks} bulk requests are sent at the same time; when the emission is
+ * {@code ordered}, the saved entities are emitted in the order of the input, otherwise as soon as their bulk request
+ * completes. <br/>
+ * Use {@link FluxSaveOptions#builder()} to obtain a builder, then set the desired properties and call
+ * {@link FluxSaveOptionsBuilder#build()} to get the FluxSaveOptions object.
+ *
+ * @since 5.3
+ */
+public class FluxSaveOptions {
+
+	private static final FluxSaveOptions defaultOptions = builder().build();
+
+	private final int bulkSize;
+	private final int maxInFlightBulks;
+	private final boolean ordered;
+	private final Duration flushInterval;
+
+	private FluxSaveOptions(int bulkSize, int maxInFlightBulks, boolean ordered, Duration flushInterval) {
+		this.bulkSize = bulkSize;
+		this.maxInFlightBulks = maxInFlightBulks;
+		this.ordered = ordered;
+		this.flushInterval = flushInterval;
+	}
+
+	public int getBulkSize() {
+		return bulkSize;
+	}
+
+	public int getMaxInFlightBulks() {
+		return maxInFlightBulks;
+	}
+
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * Create a new {@link FluxSaveOptionsBuilder} to build {@link FluxSaveOptions}.
+	 *
+	 * @return a new {@link FluxSaveOptionsBuilder} to build {@link FluxSaveOptions}.
+	 */
+	public static FluxSaveOptionsBuilder builder() {
+		return new FluxSaveOptionsBuilder();
+	}
+
+	/**
+	 * Return default {@link FluxSaveOptions}: batches of {@link ReactiveDocumentOperations#FLUX_SAVE_BULK_SIZE}
+	 * entities, a flush interval of 200 ms and one bulk request in flight, emitting the saved entities in order.
+	 *
+	 * @return default {@link FluxSaveOptions}.
+	 */
+	public static FluxSaveOptions defaultOptions() {
+		return defaultOptions;
+	}
+
+	/**
+	 * Builder for {@link FluxSaveOptions}.
+	 */
+	public static class FluxSaveOptionsBuilder {
+
+		private int bulkSize = ReactiveDocumentOperations.FLUX_SAVE_BULK_SIZE;
+		private int maxInFlightBulks = 1;
+		private boolean ordered = true;
+		private Duration flushInterval = Duration.ofMillis(200);
+
+		private FluxSaveOptionsBuilder() {}
+
+		/**
+		 * @param bulkSize the maximum number of entities in one bulk request, at least 1
+		 */
+		public FluxSaveOptionsBuilder withBulkSize(int bulkSize) {
+
+			Assert.isTrue(bulkSize >= 1, "bulkSize must be at least 1");
+
+			this.bulkSize = bulkSize;
+			return this;
+		}
+
+		/**
+		 * @param maxInFlightBulks the number of bulk requests that may be in flight at the same time, at least 1
+		 */
+		public FluxSaveOptionsBuilder withMaxInFlightBulks(int maxInFlightBulks) {
+
+			Assert.isTrue(maxInFlightBulks >= 1, "maxInFlightBulks must be at least 1");
+
+			this.maxInFlightBulks = maxInFlightBulks;
+			return this;
+		}
+
+		/**
+		 * @param ordered {@literal true} to emit the saved entities in the order of the input, {@literal false} to emit
+		 *          them as soon as their bulk request completes
+		 */
+		public FluxSaveOptionsBuilder withOrdered(boolean ordered) {
+			this.ordered = ordered;
+			return this;
+		}
+
+		/**
+		 * @param flushInterval the maximum time a batch is filled before it is sent, must be positive
+		 */
+		public FluxSaveOptionsBuilder withFlushInterval(Duration flushInterval) {
+
+			Assert.notNull(flushInterval, "flushInterval must not be null");
+			Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "flushInterval must be positive");
+
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		public FluxSaveOptions build() {
+			return new FluxSaveOptions(bulkSize, maxInFlightBulks, ordered, flushInterval);
+		}
+	}
+}
@@ -484,6 +484,30 @@ public interface Query {
 	 */
 	List<ScriptedField> getScriptedFields();
 
+	/**
+	 * Returns whether the hits returned for this query should be converted into entities in parallel. A {@literal null}
+	 * value means that the setting of the template executing the query is used.
+	 *
+	 * @return the parallel entity conversion setting for this query, may be {@literal null}
+	 * @since 5.3
+	 */
+	@Nullable
+	default Boolean getParallelEntityConversion() {
+		return null;
+	}
+
+	/**
+	 * Returns whether the entities of the hits returned for this query should only be created when the content of a hit
+	 * is accessed. A {@literal null} value means that the setting of the template executing the query is used.
+	 *
+	 * @return the lazy entity conversion setting for this query, may be {@literal null}
+	 * @since 5.3
+	 */
+	@Nullable
+	default Boolean getLazyEntityConversion() {
+		return null;
+	}
+
 	/**
 	 * @since 4.3
 	 */
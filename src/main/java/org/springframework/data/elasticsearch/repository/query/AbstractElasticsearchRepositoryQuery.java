@@ -29,6 +29,7 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -125,9 +126,17 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 			result = elasticsearchOperations.searchOne(query, clazz, index);
 		}
 
-		return (queryMethod.isNotSearchHitMethod() && queryMethod.isNotSearchPageMethod())
-				? SearchHitSupport.unwrapSearchHits(result)
-				: result;
+		if (queryMethod.isNotSearchHitMethod() && queryMethod.isNotSearchPageMethod()) {
+			result = SearchHitSupport.unwrapSearchHits(result);
+
+			// interface projections are created from the entities that were read with the projection's source filter
+			ReturnedType returnedType = resultProcessor.getReturnedType();
+			if (returnedType.isProjecting() && returnedType.getReturnedType().isInterface()) {
+				result = resultProcessor.processResult(result);
+			}
+		}
+
+		return result;
 	}
 
 	public Query createQuery(Object[] parameters) {
@@ -98,6 +98,11 @@ abstract class AbstractReactiveElasticsearchRepositoryQuery implements Repositor
 		Class<?> domainType = returnedType.getDomainType();
 		Class<?> typeToRead = returnedType.getTypeToRead();
 
+		// closed interface projections are read as domain type and then projected by the result processor
+		if (typeToRead == null) {
+			typeToRead = domainType;
+		}
+
 		if (SearchHit.class.isAssignableFrom(typeToRead)) {
 			typeToRead = queryMethod.unwrappedReturnType;
 		}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
@@ -45,11 +46,13 @@ import org.springframework.data.elasticsearch.core.query.SourceFilter;
 import org.springframework.data.elasticsearch.repository.support.QueryStringProcessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersSource;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.util.QueryExecutionConverters;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.data.util.TypeInformation;
@@ -84,6 +87,7 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 	@Nullable private final Query queryAnnotation;
 	@Nullable private final Highlight highlightAnnotation;
 	@Nullable private final SourceFilters sourceFilters;
+	private final ProjectionFactory projectionFactory;
 
 	public ElasticsearchQueryMethod(Method method, RepositoryMetadata repositoryMetadata, ProjectionFactory factory,
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext) {
@@ -94,6 +98,7 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 
 		this.method = method;
 		this.mappingContext = mappingContext;
+		this.projectionFactory = factory;
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
 		this.highlightAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Highlight.class);
 		this.sourceFilters = AnnotatedElementUtils.findMergedAnnotation(method, SourceFilters.class);
@@ -325,6 +330,76 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 		return fetchSourceFilterBuilder.build();
 	}
 
+	/**
+	 * Creates a {@link SourceFilter} that only includes the properties needed by the projection that is returned by the
+	 * method. Properties of nested closed interface projections are added as property paths, these are mapped to the
+	 * Elasticsearch field names when the query is converted.
+	 *
+	 * @param returnedType the type returned by the query method, possibly a dynamic projection
+	 * @return source filter with the includes for the projection, {@literal null} if the method does not return a
+	 *         projection or the projection needs the whole entity.
+	 * @since 5.3
+	 */
+	@Nullable
+	SourceFilter getProjectionSourceFilter(ReturnedType returnedType) {
+
+		if (!returnedType.isProjecting() || isSearchHitMethod() || isSearchPageMethod()) {
+			return null;
+		}
+
+		ElasticsearchPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(returnedType.getDomainType());
+		List<String> includes = new ArrayList<>();
+
+		if (returnedType.getReturnedType().isInterface()) {
+			ProjectionInformation projectionInformation = projectionFactory
+					.getProjectionInformation(returnedType.getReturnedType());
+
+			if (!projectionInformation.isClosed()) {
+				return null;
+			}
+
+			addProjectionPropertyPaths(includes, "", projectionInformation, persistentEntity);
+		} else {
+			includes.addAll(returnedType.getInputProperties());
+		}
+
+		if (includes.isEmpty()) {
+			return null;
+		}
+
+		return new FetchSourceFilterBuilder().withIncludes(includes.toArray(new String[0])).build();
+	}
+
+	private void addProjectionPropertyPaths(List<String> propertyPaths, String prefix,
+			ProjectionInformation projectionInformation, @Nullable ElasticsearchPersistentEntity<?> persistentEntity) {
+
+		for (PropertyDescriptor propertyDescriptor : projectionInformation.getInputProperties()) {
+
+			String propertyName = propertyDescriptor.getName();
+			ElasticsearchPersistentProperty property = persistentEntity != null
+					? persistentEntity.getPersistentProperty(propertyName)
+					: null;
+			Method readMethod = propertyDescriptor.getReadMethod();
+
+			if (property != null && property.isEntity() && readMethod != null) {
+				Class<?> projectedType = TypeInformation.fromReturnTypeOf(readMethod).getRequiredActualType().getType();
+
+				if (projectedType.isInterface() && !projectedType.isAssignableFrom(property.getActualType())) {
+					ProjectionInformation nestedProjectionInformation = projectionFactory
+							.getProjectionInformation(projectedType);
+
+					if (nestedProjectionInformation.isClosed()) {
+						addProjectionPropertyPaths(propertyPaths, prefix + propertyName + '.', nestedProjectionInformation,
+								mappingContext.getPersistentEntity(property));
+						continue;
+					}
+				}
+			}
+
+			propertyPaths.add(prefix + propertyName);
+		}
+	}
+
 	private String[] mapParameters(String[] source, ElasticsearchParametersParameterAccessor parameterAccessor,
 			ConversionService conversionService, QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
@@ -388,6 +463,12 @@ public class ElasticsearchQueryMethod extends QueryMethod {
 		}
 
 		var sourceFilter = getSourceFilter(parameterAccessor, elasticsearchConverter, evaluationContextProvider);
+
+		if (sourceFilter == null && query.getSourceFilter() == null) {
+			sourceFilter = getProjectionSourceFilter(
+					getResultProcessor().withDynamicProjection(parameterAccessor).getReturnedType());
+		}
+
 		if (sourceFilter != null) {
 			query.addSourceFilter(sourceFilter);
 		}
@@ -0,0 +1,515 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.support;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link Map} with {@link String} keys that stores its keys and values in two flat arrays in insertion order. Small
+ * maps are searched linearly, larger maps additionally maintain an open addressing hash index into the arrays. Compared
+ * to a {@link java.util.LinkedHashMap} no entry object is allocated per mapping, which makes this map well suited for
+ * the many small maps that are created when reading documents from Elasticsearch. As the lookup starts with an identity
+ * check of the key, lookups are fastest when the keys are shared {@link String} instances, for example the field names
+ * of the mapped entities.
+ * <p>
+ * This map permits {@literal null} keys and values and is not thread-safe.
+ *
+ * @param <V> the value type
+ * @since 5.3
+ */
+public class CompactMap<V> extends AbstractMap<String, V> {
+
+	private static final String[] EMPTY_KEYS = new String[0];
+	private static final Object[] EMPTY_VALUES = new Object[0];
+	private static final int DEFAULT_CAPACITY = 8;
+	// maps with more entries than this get a hash index
+	private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+	private String[] keys;
+	private Object[] values;
+	private int size;
+	// slots contain the array position + 1, 0 marks an empty slot
+	@Nullable private int[] index;
+	private int modCount;
+
+	@Nullable private Set<Entry<String, V>> entrySet;
+	@Nullable private Set<String> keySet;
+	@Nullable private Collection<V> valuesCollection;
+
+	public CompactMap() {
+		this.keys = EMPTY_KEYS;
+		this.values = EMPTY_VALUES;
+	}
+
+	/**
+	 * @param initialCapacity the number of mappings that can be stored without growing the arrays
+	 */
+	public CompactMap(int initialCapacity) {
+
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative");
+		}
+
+		this.keys = initialCapacity == 0 ? EMPTY_KEYS : new String[initialCapacity];
+		this.values = initialCapacity == 0 ? EMPTY_VALUES : new Object[initialCapacity];
+	}
+
+	/**
+	 * Creates a new map containing the mappings of the given map in its iteration order.
+	 *
+	 * @param map the mappings to copy, must not be {@literal null}
+	 */
+	public CompactMap(Map<? extends String, ? extends V> map) {
+
+		if (map instanceof CompactMap<?> compactMap) {
+			this.size = compactMap.size;
+			this.keys = Arrays.copyOf(compactMap.keys, size);
+			this.values = Arrays.copyOf(compactMap.values, size);
+			this.index = compactMap.index != null ? compactMap.index.clone() : null;
+		} else {
+			this.keys = EMPTY_KEYS;
+			this.values = EMPTY_VALUES;
+			ensureCapacity(map.size());
+			map.forEach(this::put);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+
+		for (int i = 0; i < size; i++) {
+			if (Objects.equals(values[i], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Nullable
+	@Override
+	public V get(Object key) {
+
+		int i = indexOf(key);
+		return i >= 0 ? value(i) : null;
+	}
+
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+
+		int i = indexOf(key);
+		return i >= 0 ? value(i) : defaultValue;
+	}
+
+	@Nullable
+	@Override
+	public V put(String key, V value) {
+
+		int i = indexOf(key);
+
+		if (i >= 0) {
+			V oldValue = value(i);
+			values[i] = value;
+			return oldValue;
+		}
+
+		ensureCapacity(size + 1);
+		keys[size] = key;
+		values[size] = value;
+		size++;
+		modCount++;
+
+		if (index != null) {
+			insertIntoIndex(size - 1);
+		} else if (size > LINEAR_SEARCH_THRESHOLD) {
+			rebuildIndex();
+		}
+
+		return null;
+	}
+
+	@Nullable
+	@Override
+	public V remove(Object key) {
+
+		int i = indexOf(key);
+
+		if (i < 0) {
+			return null;
+		}
+
+		V oldValue = value(i);
+		removeAt(i);
+		return oldValue;
+	}
+
+	@Override
+	public void clear() {
+
+		Arrays.fill(keys, 0, size, null);
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		index = null;
+		modCount++;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super V> action) {
+
+		int expectedModCount = modCount;
+
+		for (int i = 0; i < size; i++) {
+			action.accept(keys[i], value(i));
+
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<String, V>> entrySet() {
+
+		if (entrySet == null) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, V>> iterator() {
+					return new ArrayIterator<>(MapEntry::new);
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					CompactMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Set<String> keySet() {
+
+		if (keySet == null) {
+			keySet = new AbstractSet<>() {
+				@Override
+				public Iterator<String> iterator() {
+					return new ArrayIterator<>(i -> keys[i]);
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey(o);
+				}
+
+				@Override
+				public boolean remove(Object o) {
+
+					int i = indexOf(o);
+
+					if (i < 0) {
+						return false;
+					}
+
+					removeAt(i);
+					return true;
+				}
+
+				@Override
+				public void clear() {
+					CompactMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+
+		if (valuesCollection == null) {
+			valuesCollection = new AbstractCollection<>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new ArrayIterator<>(CompactMap.this::value);
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsValue(o);
+				}
+
+				@Override
+				public void clear() {
+					CompactMap.this.clear();
+				}
+			};
+		}
+		return valuesCollection;
+	}
+
+	// region internal
+	@SuppressWarnings("unchecked")
+	private V value(int i) {
+		return (V) values[i];
+	}
+
+	private int indexOf(@Nullable Object key) {
+
+		if (index == null) {
+			// identity first, the keys often are the same instances as the ones that are looked up
+			for (int i = 0; i < size; i++) {
+				if (keys[i] == key) {
+					return i;
+				}
+			}
+
+			if (key != null) {
+				for (int i = 0; i < size; i++) {
+					if (key.equals(keys[i])) {
+						return i;
+					}
+				}
+			}
+			return -1;
+		}
+
+		int mask = index.length - 1;
+		int slot = hash(key) & mask;
+
+		while (index[slot] != 0) {
+			int i = index[slot] - 1;
+			String k = keys[i];
+
+			if (k == key || (key != null && key.equals(k))) {
+				return i;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void removeAt(int i) {
+
+		int numMoved = size - i - 1;
+
+		if (numMoved > 0) {
+			System.arraycopy(keys, i + 1, keys, i, numMoved);
+			System.arraycopy(values, i + 1, values, i, numMoved);
+		}
+
+		size--;
+		keys[size] = null;
+		values[size] = null;
+		modCount++;
+
+		if (index != null) {
+			if (size > LINEAR_SEARCH_THRESHOLD) {
+				rebuildIndex();
+			} else {
+				index = null;
+			}
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+
+		if (capacity > keys.length) {
+			int newCapacity = Math.max(Math.max(capacity, DEFAULT_CAPACITY), keys.length + (keys.length >> 1));
+			keys = Arrays.copyOf(keys, newCapacity);
+			values = Arrays.copyOf(values, newCapacity);
+		}
+	}
+
+	private void rebuildIndex() {
+
+		// keep the load factor at or below 0.5
+		index = new int[Integer.highestOneBit(Math.max(size, keys.length) * 2 - 1) << 1];
+
+		for (int i = 0; i < size; i++) {
+			insertIntoIndex(i);
+		}
+	}
+
+	private void insertIntoIndex(int i) {
+
+		// noinspection ConstantConditions
+		if (size * 2 > index.length) {
+			rebuildIndex();
+			return;
+		}
+
+		int mask = index.length - 1;
+		int slot = hash(keys[i]) & mask;
+
+		while (index[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		index[slot] = i + 1;
+	}
+
+	private static int hash(@Nullable Object key) {
+
+		if (key == null) {
+			return 0;
+		}
+
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private class ArrayIterator<E> implements Iterator<E> {
+
+		private final IntFunction<E> elementAt;
+		private int next = 0;
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		ArrayIterator(IntFunction<E> elementAt) {
+			this.elementAt = elementAt;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < size;
+		}
+
+		@Override
+		public E next() {
+
+			checkForComodification();
+
+			if (next >= size) {
+				throw new NoSuchElementException();
+			}
+
+			last = next++;
+			return elementAt.apply(last);
+		}
+
+		@Override
+		public void remove() {
+
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+
+			checkForComodification();
+			removeAt(last);
+			next = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	private class MapEntry implements Entry<String, V> {
+
+		private final int i;
+		private final int expectedModCount = modCount;
+		private final String key;
+
+		MapEntry(int i) {
+			this.i = i;
+			this.key = keys[i];
+		}
+
+		@Override
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return expectedModCount == modCount ? value(i) : get(key);
+		}
+
+		@Override
+		public V setValue(V value) {
+
+			if (expectedModCount == modCount) {
+				V oldValue = value(i);
+				values[i] = value;
+				return oldValue;
+			}
+			return put(key, value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Entry<?, ?> entry && Objects.equals(key, entry.getKey())
+					&& Objects.equals(getValue(), entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+	// endregion
+}
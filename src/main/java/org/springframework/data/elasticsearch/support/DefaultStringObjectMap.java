@@ -17,7 +17,6 @@ package org.springframework.data.elasticsearch.support;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -34,14 +33,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class DefaultStringObjectMap<T extends StringObjectMap<T>> implements StringObjectMap<T> {
 
 	static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-	private final LinkedHashMap<String, Object> delegate;
+	private final CompactMap<Object> delegate;
 
 	public DefaultStringObjectMap() {
-		this(new LinkedHashMap<>());
+		this.delegate = new CompactMap<>();
 	}
 
 	public DefaultStringObjectMap(Map<String, ?> map) {
-		this.delegate = new LinkedHashMap<>(map);
+		this.delegate = new CompactMap<>(map instanceof DefaultStringObjectMap<?> other ? other.delegate : map);
 	}
 
 	@Override
@@ -169,4 +169,25 @@ public class ClientConfigurationUnitTests {
 		((ClientConfiguration.ClientConfigurationCallback<Object>) clientConfigurer).configure(new Object());
 		assertThat(callCounter.get()).isEqualTo(1);
 	}
+
+	@Test
+	@DisplayName("should provide no-op metrics for configurations that do not record metrics")
+	void shouldProvideNoOpMetricsForConfigurationsThatDoNotRecordMetrics() {
+
+		ClientConfiguration clientConfiguration = mock(ClientConfiguration.class, CALLS_REAL_METHODS);
+
+		ClientMetrics clientMetrics = clientConfiguration.getClientMetrics();
+		clientMetrics.recordCompressedRequest(100, 10);
+		clientMetrics.recordRetry();
+		clientMetrics.registerConnectionPool(() -> {
+			throw new AssertionError("the pool must not be registered");
+		});
+
+		assertThat(clientMetrics).isSameAs(ClientMetrics.noop());
+		assertThat(clientMetrics.getCompressedRequests()).isZero();
+		assertThat(clientMetrics.getSentRequestBytes()).isZero();
+		assertThat(clientMetrics.getRetries()).isZero();
+		assertThat(clientMetrics.getConnectionPoolStatistics()).isNull();
+		assertThat(ClientConfiguration.create("localhost:9200").getClientMetrics()).isNotSameAs(clientMetrics);
+	}
 }
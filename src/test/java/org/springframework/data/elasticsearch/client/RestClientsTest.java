@@ -29,6 +29,7 @@ import io.specto.hoverfly.junit5.api.HoverflyCapture;
 import io.specto.hoverfly.junit5.api.HoverflyConfig;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -223,6 +224,41 @@ public class RestClientsTest {
 		});
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("clientUnderTestFactorySource")
+	@DisplayName("should use configured connection pool")
+	void shouldUseConfiguredConnectionPool(ClientUnderTestFactory clientUnderTestFactory) {
+
+		wireMockServer(server -> {
+
+			ClientConfiguration clientConfiguration = new ClientConfigurationBuilder() //
+					.connectedTo("localhost:" + server.port()) //
+					.withMaxConnections(7, 3) //
+					.withIoThreadCount(2) //
+					.withKeepAlive(Duration.ofMinutes(1)) //
+					.withIdleConnectionEviction(Duration.ofMillis(200)) //
+					.build();
+			ClientUnderTest clientUnderTest = clientUnderTestFactory.create(clientConfiguration);
+
+			assertThat(clientUnderTest.ping()).isTrue();
+
+			ConnectionPoolStatistics statistics = clientConfiguration.getClientMetrics().getConnectionPoolStatistics();
+			assertThat(statistics).isNotNull();
+			assertThat(statistics.total().max()).isEqualTo(7);
+			assertThat(statistics.total().leased()).isEqualTo(0);
+			assertThat(statistics.routes()).containsOnlyKeys("http://localhost:" + server.port());
+			assertThat(statistics.routes().get("http://localhost:" + server.port()).max()).isEqualTo(3);
+
+			// the idle connection is evicted in the background
+			long deadline = System.currentTimeMillis() + 5_000;
+			while (clientConfiguration.getClientMetrics().getConnectionPoolStatistics().total().available() > 0
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(50);
+			}
+			assertThat(clientConfiguration.getClientMetrics().getConnectionPoolStatistics().total().available()).isZero();
+		});
+	}
+
 	private StubMapping stubForElasticsearchVersionCheck() {
 		return stubFor(get(urlEqualTo("/")) //
 				.willReturn(okJson("""
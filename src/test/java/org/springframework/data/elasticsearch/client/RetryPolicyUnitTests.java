@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RetryPolicy}.
+ */
+class RetryPolicyUnitTests {
+
+	@Test
+	@DisplayName("should grow the backoff exponentially up to the maximum")
+	void shouldGrowTheBackoffExponentiallyUpToTheMaximum() {
+
+		RetryPolicy retryPolicy = RetryPolicy.builder() //
+				.withBackoff(Duration.ofMillis(100), Duration.ofMillis(300), 2) //
+				.withJitter(0) //
+				.build();
+
+		assertThat(retryPolicy.getBackoff(1)).isEqualTo(Duration.ofMillis(100));
+		assertThat(retryPolicy.getBackoff(2)).isEqualTo(Duration.ofMillis(200));
+		assertThat(retryPolicy.getBackoff(3)).isEqualTo(Duration.ofMillis(300));
+	}
+
+	@Test
+	@DisplayName("should shorten the backoff by at most the jitter")
+	void shouldShortenTheBackoffByAtMostTheJitter() {
+
+		RetryPolicy retryPolicy = RetryPolicy.builder() //
+				.withBackoff(Duration.ofMillis(1000), Duration.ofMillis(1000), 1) //
+				.withJitter(0.25) //
+				.build();
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(retryPolicy.getBackoff(1)).isBetween(Duration.ofMillis(750), Duration.ofMillis(1000));
+		}
+	}
+
+	@Test
+	@DisplayName("should only consider idempotent requests")
+	void shouldOnlyConsiderIdempotentRequests() {
+
+		RetryPolicy retryPolicy = RetryPolicy.builder().withIdempotentEndpoints("es/bulk").build();
+
+		assertThat(retryPolicy.isIdempotent("es/get", "GET")).isTrue();
+		assertThat(retryPolicy.isIdempotent("es/search", "POST")).isTrue();
+		assertThat(retryPolicy.isIdempotent("es/index", "PUT")).isTrue();
+		assertThat(retryPolicy.isIdempotent("es/index", "POST")).isFalse();
+		assertThat(retryPolicy.isIdempotent("es/update", "POST")).isFalse();
+		assertThat(retryPolicy.isIdempotent("es/bulk", "POST")).isTrue();
+	}
+
+	@Test
+	@DisplayName("should use the configured status codes and exceptions")
+	void shouldUseTheConfiguredStatusCodesAndExceptions() {
+
+		RetryPolicy retryPolicy = RetryPolicy.builder() //
+				.withRetryableStatusCodes(502) //
+				.withRetryableExceptions(SocketTimeoutException.class) //
+				.build();
+
+		assertThat(retryPolicy.isRetryableStatusCode(502)).isTrue();
+		assertThat(retryPolicy.isRetryableStatusCode(429)).isFalse();
+		assertThat(retryPolicy.isRetryableException(new SocketTimeoutException())).isTrue();
+		assertThat(retryPolicy.isRetryableException(new IOException())).isFalse();
+	}
+
+	@Test
+	@DisplayName("should accept duplicate status codes and endpoints")
+	void shouldAcceptDuplicateStatusCodesAndEndpoints() {
+
+		RetryPolicy retryPolicy = RetryPolicy.builder() //
+				.withRetryableStatusCodes(502, 503, 502) //
+				.withIdempotentEndpoints("es/bulk", "es/bulk") //
+				.build();
+
+		assertThat(retryPolicy.isRetryableStatusCode(502)).isTrue();
+		assertThat(retryPolicy.isRetryableStatusCode(503)).isTrue();
+		assertThat(retryPolicy.isIdempotent("es/bulk", "POST")).isTrue();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Base class for tests that run the templates against a WireMock server. Each test gets an imperative and a reactive
+ * template that are connected to the server with the {@link #clientConfiguration() client configuration}.
+ */
+abstract class AbstractWiremockTemplateTests {
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	protected ElasticsearchTemplate operations;
+	protected ReactiveElasticsearchTemplate reactiveOperations;
+
+	private ElasticsearchClient client;
+	private ReactiveElasticsearchClient reactiveClient;
+
+	@BeforeEach
+	void setUpTemplates() {
+
+		ClientConfiguration clientConfiguration = clientConfiguration();
+
+		client = ElasticsearchClients.createImperative(clientConfiguration);
+		operations = new ElasticsearchTemplate(client);
+		reactiveClient = ElasticsearchClients.createReactive(clientConfiguration);
+		reactiveOperations = new ReactiveElasticsearchTemplate(reactiveClient, operations.getElasticsearchConverter());
+	}
+
+	@AfterEach
+	void closeClients() throws IOException {
+		client._transport().close();
+		reactiveClient._transport().close();
+	}
+
+	/**
+	 * @return the configuration of the clients, connected to the WireMock server by default
+	 */
+	protected ClientConfiguration clientConfiguration() {
+		return ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build();
+	}
+}
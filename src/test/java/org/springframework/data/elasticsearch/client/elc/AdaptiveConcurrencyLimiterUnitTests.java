@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.ConcurrencyLimitExceededException;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.ConcurrencyLimit;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.LimitAlgorithm;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+class AdaptiveConcurrencyLimiterUnitTests {
+
+	private final ClientMetrics clientMetrics = new ClientMetrics();
+
+	@Test
+	@DisplayName("should reject requests over the limit")
+	void shouldRejectRequestsOverTheLimit() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(LimitAlgorithm.AIMD, 2, Duration.ZERO);
+
+		limiter.acquire().join();
+		limiter.acquire().join();
+
+		assertThatThrownBy(() -> limiter.acquire().join()) //
+				.isInstanceOf(CompletionException.class) //
+				.hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+		assertThat(clientMetrics.getConcurrencyLimitRejections()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should hand a released permit to a waiting request")
+	void shouldHandAReleasedPermitToAWaitingRequest() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(LimitAlgorithm.AIMD, 1, Duration.ofSeconds(10));
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire().join();
+
+		CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = limiter.acquire();
+		assertThat(waiting).isNotDone();
+
+		permit.release(false);
+
+		assertThat(waiting).isCompleted();
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should reject a waiting request after the maximum wait time")
+	void shouldRejectAWaitingRequestAfterTheMaximumWaitTime() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(LimitAlgorithm.AIMD, 1, Duration.ofMillis(50));
+		limiter.acquire().join();
+
+		assertThatThrownBy(() -> limiter.acquire().join()) //
+				.hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should increase the AIMD limit when it is used and decrease it on overload")
+	void shouldIncreaseTheAimdLimitWhenItIsUsedAndDecreaseItOnOverload() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(LimitAlgorithm.AIMD, 10, Duration.ZERO);
+
+		// 1 of 10 in flight, the limit is not used
+		limiter.acquire().join().release(false);
+		assertThat(limiter.getLimit()).isEqualTo(10);
+
+		AdaptiveConcurrencyLimiter.Permit[] permits = new AdaptiveConcurrencyLimiter.Permit[5];
+		for (int i = 0; i < permits.length; i++) {
+			permits[i] = limiter.acquire().join();
+		}
+		permits[0].release(false);
+		assertThat(limiter.getLimit()).isEqualTo(11);
+
+		permits[1].release(true);
+		assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("should decrease the Vegas limit on overload")
+	void shouldDecreaseTheVegasLimitOnOverload() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(LimitAlgorithm.VEGAS, 100, Duration.ZERO);
+
+		limiter.acquire().join().release(true);
+
+		assertThat(limiter.getLimit()).isEqualTo(98);
+	}
+
+	@Test
+	@DisplayName("should release a permit only once")
+	void shouldReleaseAPermitOnlyOnce() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(LimitAlgorithm.AIMD, 10, Duration.ZERO);
+		limiter.acquire().join();
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire().join();
+
+		permit.release(false);
+		permit.release(false);
+
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+	}
+
+	private AdaptiveConcurrencyLimiter limiter(LimitAlgorithm algorithm, int limit, Duration maxWait) {
+		return new AdaptiveConcurrencyLimiter("test", new ConcurrencyLimit(algorithm, limit, 1, 200, maxWait),
+				clientMetrics);
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.core.BulkIngester;
+import org.springframework.data.elasticsearch.core.BulkItemResult;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
+import org.springframework.lang.Nullable;
+
+/**
+ * Tests for the {@link BulkIngester}.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class BulkIngesterWiremockTests extends AbstractWiremockTemplateTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("ingest");
+
+	private final RecordingListener listener = new RecordingListener();
+
+	@BeforeEach
+	void setUp() {
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+				.withBody("""
+						{
+						  "took": 1,
+						  "errors": true,
+						  "items": [
+						    {
+						      "index": {
+						        "_index": "ingest",
+						        "_id": "1",
+						        "_version": 1,
+						        "result": "created",
+						        "_seq_no": 0,
+						        "_primary_term": 1,
+						        "status": 201
+						      }
+						    },
+						    {
+						      "index": {
+						        "_index": "ingest",
+						        "_id": "2",
+						        "status": 429,
+						        "error": {
+						          "type": "es_rejected_execution_exception",
+						          "reason": "rejected execution"
+						        }
+						      }
+						    }
+						  ]
+						}
+						""")));
+	}
+
+	@Test
+	@DisplayName("should send the operations in requests of the maximum size and report each outcome")
+	void shouldSendTheOperationsInRequestsOfTheMaximumSizeAndReportEachOutcome() {
+
+		try (BulkIngester ingester = operations.bulkIngester(INDEX, BulkIngesterOptions.builder() //
+				.withMaxOperations(2) //
+				.withMaxConcurrentRequests(2) //
+				.withListener(listener) //
+				.build())) {
+
+			for (int i = 1; i <= 4; i++) {
+				ingester.add(entity(String.valueOf(i)));
+			}
+		}
+
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+		assertThat(listener.succeeded).hasSize(2);
+		assertThat(listener.succeeded.values()).allSatisfy(information -> {
+			assertThat(information.id()).isEqualTo("1");
+			assertThat(information.seqNo()).isEqualTo(0);
+		});
+		assertThat(listener.failed).hasSize(2);
+		assertThat(listener.failed.values()).allSatisfy(result -> {
+			assertThat(result.status()).isEqualTo(429);
+			assertThat(result.failure().getType()).isEqualTo("es_rejected_execution_exception");
+		});
+	}
+
+	@Test
+	@DisplayName("should send the remaining operations on close")
+	void shouldSendTheRemainingOperationsOnClose() {
+
+		BulkIngester ingester = operations.bulkIngester(INDEX, BulkIngesterOptions.builder() //
+				.withListener(listener) //
+				.build());
+		ingester.add(entity("1"));
+		ingester.add(entity("2"));
+
+		wireMock.verify(0, postRequestedFor(urlPathEqualTo("/_bulk")));
+
+		ingester.close();
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_bulk")));
+		assertThat(listener.succeeded).hasSize(1);
+		assertThat(listener.failed).hasSize(1);
+		assertThatThrownBy(() -> ingester.add(entity("3"))).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("should send the operations at the flush interval")
+	void shouldSendTheOperationsAtTheFlushInterval() throws Exception {
+
+		try (BulkIngester ingester = operations.bulkIngester(INDEX, BulkIngesterOptions.builder() //
+				.withFlushInterval(Duration.ofMillis(50)) //
+				.withListener(listener) //
+				.build())) {
+
+			ingester.add(entity("1"));
+			ingester.add(entity("2"));
+
+			long deadline = System.currentTimeMillis() + 2000;
+			while (listener.succeeded.isEmpty() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+
+			wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_bulk")));
+		}
+	}
+
+	@Test
+	@DisplayName("should send the operations when the estimated size is reached")
+	void shouldSendTheOperationsWhenTheEstimatedSizeIsReached() {
+
+		try (BulkIngester ingester = operations.bulkIngester(INDEX, BulkIngesterOptions.builder() //
+				.withMaxBytes(500) //
+				.withListener(listener) //
+				.build())) {
+
+			for (int i = 1; i <= 4; i++) {
+				// each operation is estimated with about 300 bytes
+				ingester.add(entity(String.valueOf(i), "x".repeat(100)));
+			}
+		}
+
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should allow the listener to add operations")
+	void shouldAllowTheListenerToAddOperations() {
+
+		AtomicReference<BulkIngester> ingesterReference = new AtomicReference<>();
+		AtomicBoolean retried = new AtomicBoolean();
+		CountDownLatch added = new CountDownLatch(1);
+		RecordingListener retryingListener = new RecordingListener() {
+			@Override
+			public void onItemFailure(Object operation, BulkItemResult result) {
+				super.onItemFailure(operation, result);
+
+				if (retried.compareAndSet(false, true)) {
+					// fills a batch and sends it from the thread of the ingester
+					ingesterReference.get().add(entity("3"));
+					ingesterReference.get().add(entity("4"));
+					added.countDown();
+				}
+			}
+		};
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			try (BulkIngester ingester = operations.bulkIngester(INDEX, BulkIngesterOptions.builder() //
+					.withMaxOperations(2) //
+					.withMaxConcurrentRequests(1) //
+					.withListener(retryingListener) //
+					.build())) {
+				ingesterReference.set(ingester);
+
+				for (int i = 1; i <= 4; i++) {
+					ingester.add(entity(String.valueOf(i)));
+				}
+
+				// operations added after close are rejected
+				assertThat(added.await(10, TimeUnit.SECONDS)).isTrue();
+			}
+		});
+
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+		assertThat(retryingListener.failed).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("should allow the listener to close the ingester")
+	void shouldAllowTheListenerToCloseTheIngester() throws Exception {
+
+		AtomicReference<BulkIngester> ingesterReference = new AtomicReference<>();
+		CountDownLatch closed = new CountDownLatch(1);
+		RecordingListener closingListener = new RecordingListener() {
+			@Override
+			public void onItemSuccess(Object operation, IndexedObjectInformation indexedObjectInformation) {
+				super.onItemSuccess(operation, indexedObjectInformation);
+				ingesterReference.get().close();
+				closed.countDown();
+			}
+		};
+
+		BulkIngester ingester = operations.bulkIngester(INDEX, BulkIngesterOptions.builder() //
+				.withMaxOperations(2) //
+				.withListener(closingListener) //
+				.build());
+		ingesterReference.set(ingester);
+		ingester.add(entity("1"));
+		ingester.add(entity("2"));
+
+		assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThatThrownBy(() -> ingester.add(entity("3"))).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static IngestEntity entity(String id) {
+		return entity(id, "text " + id);
+	}
+
+	private static IngestEntity entity(String id, String text) {
+
+		IngestEntity entity = new IngestEntity();
+		entity.setId(id);
+		entity.setText(text);
+		return entity;
+	}
+
+	private static class RecordingListener implements BulkIngester.Listener {
+
+		final Map<Object, IndexedObjectInformation> succeeded = new ConcurrentHashMap<>();
+		final Map<Object, BulkItemResult> failed = new ConcurrentHashMap<>();
+		final List<Exception> bulkFailures = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void onItemSuccess(Object operation, IndexedObjectInformation indexedObjectInformation) {
+			succeeded.put(operation, indexedObjectInformation);
+		}
+
+		@Override
+		public void onItemFailure(Object operation, BulkItemResult result) {
+			failed.put(operation, result);
+		}
+
+		@Override
+		public void onBulkFailure(List<Object> operations, Exception exception) {
+			bulkFailures.add(exception);
+		}
+	}
+
+	@Document(indexName = "ingest")
+	static class IngestEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		@Field private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
+import org.springframework.data.elasticsearch.core.BulkItemResult;
+import org.springframework.data.elasticsearch.core.event.ReactiveAfterSaveCallback;
+import org.springframework.data.elasticsearch.core.event.ReactiveBeforeConvertCallback;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
+import org.springframework.lang.Nullable;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+
+/**
+ * Tests for imperative and reactive bulk operations returning the result of each operation and retrying the failed
+ * ones.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class BulkItemRetryWiremockTests extends AbstractWiremockTemplateTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("retry");
+
+	@Test
+	@DisplayName("should return the result of each operation without retry policy")
+	void shouldReturnTheResultOfEachOperationWithoutRetryPolicy() {
+
+		stubBulk(bulkRequest("1"), "1:201", "2:429", "3:409");
+
+		List<BulkItemResult> results = operations.bulkIndexWithItemResults(queries("1", "2", "3"),
+				BulkOptions.defaultOptions(), INDEX);
+
+		assertThat(results).extracting(BulkItemResult::status).containsExactly(201, 429, 409);
+		assertThat(results).extracting(BulkItemResult::isFailed).containsExactly(false, true, true);
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should only retry the operations failed with a retryable status")
+	void shouldOnlyRetryTheOperationsFailedWithARetryableStatus() {
+
+		stubBulk(bulkRequest("1"), "1:201", "2:429", "3:409");
+		stubBulk(bulkRequest("2", "1", "3"), "2:201");
+
+		List<BulkItemResult> results = operations.bulkIndexWithItemResults(queries("1", "2", "3"),
+				BulkOptions.builder().withItemRetryPolicy(retryPolicy(3)).build(), INDEX);
+
+		assertThat(results).extracting(BulkItemResult::status).containsExactly(201, 201, 409);
+		assertThat(results).extracting(result -> result.indexedObjectInformation().id()).containsExactly("1", "2", "3");
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should retry version conflicts when configured")
+	void shouldRetryVersionConflictsWhenConfigured() {
+
+		stubBulk(bulkRequest("1"), "1:201", "2:429", "3:409");
+		stubBulk(bulkRequest("2", "1"), "2:201", "3:200");
+
+		RetryPolicy retryPolicy = RetryPolicy.builder() //
+				.withBackoff(Duration.ofMillis(10), Duration.ofMillis(10), 1) //
+				.withRetryableStatusCodes(429, 503, 409) //
+				.build();
+		List<BulkItemResult> results = operations.bulkIndexWithItemResults(queries("1", "2", "3"),
+				BulkOptions.builder().withItemRetryPolicy(retryPolicy).build(), INDEX);
+
+		assertThat(results).extracting(BulkItemResult::status).containsExactly(201, 201, 200);
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should return the last failure when the attempts are exhausted")
+	void shouldReturnTheLastFailureWhenTheAttemptsAreExhausted() {
+
+		stubBulk(bulkRequest("1"), "1:201", "2:429");
+		stubBulk(bulkRequest("2", "1"), "2:503");
+
+		List<BulkItemResult> results = operations.bulkIndexWithItemResults(queries("1", "2"),
+				BulkOptions.builder().withItemRetryPolicy(retryPolicy(3)).build(), INDEX);
+
+		assertThat(results).extracting(BulkItemResult::status).containsExactly(201, 503);
+		assertThat(results.get(1).isFailed()).isTrue();
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should only retry the operations failed with a retryable status when reactive")
+	void shouldOnlyRetryTheOperationsFailedWithARetryableStatusWhenReactive() {
+
+		stubBulk(bulkRequest("1"), "1:201", "2:429", "3:409");
+		stubBulk(bulkRequest("2", "1", "3"), "2:201");
+
+		reactiveOperations.bulkIndexWithItemResults(queries("1", "2", "3"),
+				BulkOptions.builder().withItemRetryPolicy(retryPolicy(3)).build(), INDEX) //
+				.map(BulkItemResult::status) //
+				.as(StepVerifier::create) //
+				.expectNext(201, 201, 409) //
+				.verifyComplete();
+
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should call the callbacks and update the objects of the successful operations when reactive")
+	void shouldCallTheCallbacksAndUpdateTheObjectsOfTheSuccessfulOperationsWhenReactive() {
+
+		stubBulk(bulkRequest("1"), "1:201", "2:409");
+		List<IndexQuery> queries = queries("1", "2");
+		List<String> savedIds = new CopyOnWriteArrayList<>();
+		ReactiveBeforeConvertCallback<RetryEntity> beforeConvertCallback = (entity, index) -> {
+			entity.setText("converted " + entity.getText());
+			return Mono.just(entity);
+		};
+		ReactiveAfterSaveCallback<RetryEntity> afterSaveCallback = (entity, index) -> {
+			savedIds.add(entity.getId());
+			return Mono.just(entity);
+		};
+		reactiveOperations.setEntityCallbacks(ReactiveEntityCallbacks.create(beforeConvertCallback, afterSaveCallback));
+
+		reactiveOperations.bulkIndexWithItemResults(queries, BulkOptions.defaultOptions(), INDEX) //
+				.map(BulkItemResult::status) //
+				.as(StepVerifier::create) //
+				.expectNext(201, 409) //
+				.verifyComplete();
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(containing("converted text 1")) //
+				.withRequestBody(containing("converted text 2")));
+		assertThat(savedIds).containsExactly("1");
+		assertThat(queries).extracting(query -> ((RetryEntity) query.getObject()).getSeqNoPrimaryTerm())
+				.containsExactly(new SeqNoPrimaryTerm(0, 1), null);
+	}
+
+	private static RetryPolicy retryPolicy(int maxAttempts) {
+		return RetryPolicy.builder() //
+				.withMaxAttempts(maxAttempts) //
+				.withBackoff(Duration.ofMillis(10), Duration.ofMillis(10), 1) //
+				.build();
+	}
+
+	/**
+	 * @return a bulk request containing the first id and none of the others
+	 */
+	private static MappingBuilder bulkRequest(String id, String... absentIds) {
+
+		MappingBuilder request = post(urlPathEqualTo("/_bulk")).withRequestBody(containing("\"_id\":\"" + id + "\""));
+
+		for (String absentId : absentIds) {
+			request = request.withRequestBody(notContaining("\"_id\":\"" + absentId + "\""));
+		}
+
+		return request;
+	}
+
+	/**
+	 * Stubs the request to return an item for each of the given {@code id:status} pairs.
+	 */
+	private static void stubBulk(MappingBuilder request, String... items) {
+
+		String itemsJson = Arrays.stream(items).map(item -> {
+			String[] idAndStatus = item.split(":");
+			int status = Integer.parseInt(idAndStatus[1]);
+
+			return status < 300 ? """
+					{
+					  "index": {
+					    "_index": "retry",
+					    "_id": "%s",
+					    "_version": 1,
+					    "result": "created",
+					    "_seq_no": 0,
+					    "_primary_term": 1,
+					    "status": %d
+					  }
+					}
+					""".formatted(idAndStatus[0], status) : """
+					{
+					  "index": {
+					    "_index": "retry",
+					    "_id": "%s",
+					    "status": %d,
+					    "error": {
+					      "type": "some_exception",
+					      "reason": "failed"
+					    }
+					  }
+					}
+					""".formatted(idAndStatus[0], status);
+		}).collect(Collectors.joining(","));
+
+		wireMock.stubFor(request.willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+				.withBody("""
+						{
+						  "took": 1,
+						  "errors": %s,
+						  "items": [%s]
+						}
+						""".formatted(itemsJson.contains("error"), itemsJson))));
+	}
+
+	private static List<IndexQuery> queries(String... ids) {
+		return Stream.of(ids).map(id -> {
+			RetryEntity entity = new RetryEntity();
+			entity.setId(id);
+			entity.setText("text " + id);
+			return new IndexQueryBuilder().withId(id).withObject(entity).build();
+		}).toList();
+	}
+
+	@Document(indexName = "retry")
+	static class RetryEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		@Field private String text;
+
+		@Nullable private SeqNoPrimaryTerm seqNoPrimaryTerm;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+
+		@Nullable
+		public SeqNoPrimaryTerm getSeqNoPrimaryTerm() {
+			return seqNoPrimaryTerm;
+		}
+
+		public void setSeqNoPrimaryTerm(@Nullable SeqNoPrimaryTerm seqNoPrimaryTerm) {
+			this.seqNoPrimaryTerm = seqNoPrimaryTerm;
+		}
+	}
+}
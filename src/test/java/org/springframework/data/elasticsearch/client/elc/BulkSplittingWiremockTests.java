@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.lang.Nullable;
+
+/**
+ * Tests for splitting bulk operations into several requests.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class BulkSplittingWiremockTests extends AbstractWiremockTemplateTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("split");
+
+	@Test
+	@DisplayName("should split by the number of operations and return the results in order")
+	void shouldSplitByTheNumberOfOperationsAndReturnTheResultsInOrder() {
+
+		stubBulk(0, "1", "2");
+		stubBulk(0, "3", "4");
+		stubBulk(0, "5");
+
+		List<IndexedObjectInformation> results = operations.bulkIndex(queries("1", "2", "3", "4", "5"),
+				BulkOptions.builder().withMaxOperations(2).build(), INDEX);
+
+		assertThat(results).extracting(IndexedObjectInformation::id).containsExactly("1", "2", "3", "4", "5");
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should split by the estimated size")
+	void shouldSplitByTheEstimatedSize() {
+
+		stubBulk(0, "1");
+		stubBulk(0, "2");
+		stubBulk(0, "3");
+
+		List<IndexedObjectInformation> results = operations.bulkIndex(queries("1", "2", "3"),
+				BulkOptions.builder().withMaxBytes(200).build(), INDEX);
+
+		assertThat(results).extracting(IndexedObjectInformation::id).containsExactly("1", "2", "3");
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should keep the order when sending the requests concurrently")
+	void shouldKeepTheOrderWhenSendingTheRequestsConcurrently() {
+
+		// the first request is answered last
+		stubBulk(500, "1", "2");
+		stubBulk(0, "3", "4");
+		stubBulk(0, "5");
+
+		List<IndexedObjectInformation> results = operations.bulkIndex(queries("1", "2", "3", "4", "5"),
+				BulkOptions.builder().withMaxOperations(2).withMaxConcurrentRequests(3).build(), INDEX);
+
+		assertThat(results).extracting(IndexedObjectInformation::id).containsExactly("1", "2", "3", "4", "5");
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should send all requests and report the failures of all of them")
+	void shouldSendAllRequestsAndReportTheFailuresOfAllOfThem() {
+
+		stubBulk(0, "1", "-2");
+		stubBulk(0, "3", "4");
+		stubBulk(0, "-5");
+
+		assertThatThrownBy(() -> operations.bulkIndex(queries("1", "2", "3", "4", "5"),
+				BulkOptions.builder().withMaxOperations(2).build(), INDEX)) //
+				.isInstanceOfSatisfying(BulkFailureException.class,
+						e -> assertThat(e.getFailedDocuments()).containsOnlyKeys("2", "5"));
+
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	/**
+	 * Stubs the request containing the first id to return an item for each id, ids starting with a minus fail.
+	 */
+	private static void stubBulk(int delay, String... ids) {
+
+		String items = Arrays.stream(ids).map(id -> id.startsWith("-") ? """
+				{
+				  "index": {
+				    "_index": "split",
+				    "_id": "%s",
+				    "status": 429,
+				    "error": {
+				      "type": "es_rejected_execution_exception",
+				      "reason": "rejected execution"
+				    }
+				  }
+				}
+				""".formatted(id.substring(1)) : """
+				{
+				  "index": {
+				    "_index": "split",
+				    "_id": "%s",
+				    "_version": 1,
+				    "result": "created",
+				    "_seq_no": 0,
+				    "_primary_term": 1,
+				    "status": 201
+				  }
+				}
+				""".formatted(id)).collect(Collectors.joining(","));
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(containing("\"_id\":\"" + ids[0].replace("-", "") + "\"")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withFixedDelay(delay) //
+						.withHeader("X-elastic-product", "Elasticsearch") //
+						.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+						.withBody("""
+								{
+								  "took": 1,
+								  "errors": %s,
+								  "items": [%s]
+								}
+								""".formatted(items.contains("error"), items))));
+	}
+
+	private static List<IndexQuery> queries(String... ids) {
+		return Stream.of(ids).map(id -> {
+			SplitEntity entity = new SplitEntity();
+			entity.setId(id);
+			entity.setText("text " + id);
+			return new IndexQueryBuilder().withId(id).withObject(entity).build();
+		}).toList();
+	}
+
+	@Document(indexName = "split")
+	static class SplitEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		@Field private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
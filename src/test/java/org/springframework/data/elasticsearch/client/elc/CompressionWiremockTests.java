@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Tests for the compression of request bodies.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class CompressionWiremockTests extends AbstractWiremockTemplateTests {
+
+	private final ClientConfiguration clientConfiguration = ClientConfiguration.builder()
+			.connectedTo("localhost:" + wireMock.getPort())
+			.withCompression(1024)
+			.build();
+
+	@Override
+	protected ClientConfiguration clientConfiguration() {
+		return clientConfiguration;
+	}
+
+	@Test
+	@DisplayName("should compress request bodies above the threshold")
+	void shouldCompressRequestBodiesAboveTheThreshold() {
+
+		wireMock.stubFor(put(urlPathEqualTo("/compression/_doc/small"))
+				.withHeader("Accept-Encoding", equalTo("gzip"))
+				.withHeader("Content-Encoding", absent())
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "compression",
+										  "_id": "small",
+										  "_version": 1,
+										  "result": "created",
+										  "_shards": {
+										    "total": 2,
+										    "successful": 1,
+										    "failed": 0
+										  },
+										  "_seq_no": 1,
+										  "_primary_term": 1
+										}
+										""")));
+
+		wireMock.stubFor(put(urlPathEqualTo("/compression/_doc/large"))
+				.withHeader("Accept-Encoding", equalTo("gzip"))
+				.withHeader("Content-Encoding", equalTo("gzip"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "compression",
+										  "_id": "large",
+										  "_version": 1,
+										  "result": "created",
+										  "_shards": {
+										    "total": 2,
+										    "successful": 1,
+										    "failed": 0
+										  },
+										  "_seq_no": 2,
+										  "_primary_term": 1
+										}
+										""")));
+
+		var small = new CompressedEntity();
+		small.setId("small");
+		small.setText("short text");
+		operations.save(small);
+
+		var large = new CompressedEntity();
+		large.setId("large");
+		large.setText(String.join(" ", IntStream.range(0, 500).mapToObj(i -> "word-" + (i % 10)).toList()));
+		operations.save(large);
+
+		var clientMetrics = clientConfiguration.getClientMetrics();
+		assertThat(clientMetrics.getCompressedRequests()).isEqualTo(1);
+		assertThat(clientMetrics.getUncompressedRequests()).isEqualTo(1);
+		assertThat(clientMetrics.getSentRequestBytes()).isLessThan(clientMetrics.getRawRequestBytes() / 2);
+
+		List<String> requestBodies = wireMock.findAll(putRequestedFor(urlPathEqualTo("/compression/_doc/large"))).stream()
+				.map(request -> request.getBodyAsString()).toList();
+		assertThat(requestBodies).hasSize(1);
+		assertThat(requestBodies.get(0)).contains("word-9");
+	}
+
+	@Document(indexName = "compression")
+	static class CompressedEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		@Field private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
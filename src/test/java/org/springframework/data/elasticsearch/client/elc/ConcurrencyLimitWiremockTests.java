@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.core.IndexResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.ConcurrencyLimitExceededException;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.ConcurrencyLimit;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.LimitAlgorithm;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the concurrency limits of the clients.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class ConcurrencyLimitWiremockTests {
+
+	private static final String JSON_CONTENT_TYPE = "application/vnd.elasticsearch+json;compatible-with=8";
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	@BeforeEach
+	void setUp() {
+		wireMock.stubFor(head(urlPathMatching(".*/")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch")));
+	}
+
+	@Test
+	@DisplayName("should reject writes over the limit and still send reads")
+	void shouldRejectWritesOverTheLimitAndStillSendReads() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/index/_doc")).willReturn(aResponse() //
+				.withStatus(201) //
+				.withFixedDelay(500) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody("""
+						{
+						  "_index": "index",
+						  "_id": "generated",
+						  "_version": 1,
+						  "result": "created",
+						  "_shards": {
+						    "total": 2,
+						    "successful": 1,
+						    "failed": 0
+						  },
+						  "_seq_no": 0,
+						  "_primary_term": 1
+						}
+						""")));
+		wireMock.stubFor(get(urlPathEqualTo("/index/_doc/42")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody("""
+						{
+						  "_index": "index",
+						  "_id": "42",
+						  "found": true,
+						  "_source": {}
+						}
+						""")));
+
+		ConcurrencyLimit limit = new ConcurrencyLimit(LimitAlgorithm.AIMD, 1, 1, 1, Duration.ZERO);
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withConcurrencyLimit(limit, limit) //
+				.build();
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(clientConfiguration);
+
+		Mono<IndexResponse> first = client.index(i -> i.index("index").document(Map.of("text", "first")));
+		Mono<IndexResponse> second = client.index(i -> i.index("index").document(Map.of("text", "second")))
+				.delaySubscription(Duration.ofMillis(100));
+		Mono<Boolean> read = client.get(g -> g.index("index").id("42"), Map.class)
+				.map(response -> response.found())
+				.delaySubscription(Duration.ofMillis(100));
+
+		StepVerifier.create(first.and(read).then()).verifyComplete();
+		StepVerifier.create(Mono.when(client.index(i -> i.index("index").document(Map.of("text", "third"))), second))
+				.verifyError(ConcurrencyLimitExceededException.class);
+
+		assertThat(clientConfiguration.getClientMetrics().getConcurrencyLimitRejections()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.elasticsearch.client.RequestOptions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Tests for the exchange of request and response bodies in the SMILE content format.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class ContentFormatWiremockTests extends AbstractWiremockTemplateTests {
+
+	private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+	private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+	private static final String SMILE_CONTENT_TYPE = "application/vnd.elasticsearch+smile;compatible-with=8";
+
+	@Override
+	protected ClientConfiguration clientConfiguration() {
+		return ClientConfiguration.builder()
+				.connectedTo("localhost:" + wireMock.getPort())
+				.withContentFormat(ClientConfiguration.ContentFormat.SMILE)
+				.build();
+	}
+
+	@Test
+	@DisplayName("should read search responses in SMILE format")
+	void shouldReadSearchResponsesInSmileFormat() throws Exception {
+
+		wireMock.stubFor(post(urlPathEqualTo("/smile/_search"))
+				.withHeader("Accept", containing("smile"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", SMILE_CONTENT_TYPE)
+								.withBody(toSmile("""
+										{
+										  "took": 1,
+										  "timed_out": false,
+										  "_shards": {
+										    "total": 1,
+										    "successful": 1,
+										    "skipped": 0,
+										    "failed": 0
+										  },
+										  "hits": {
+										    "total": {
+										      "value": 1,
+										      "relation": "eq"
+										    },
+										    "max_score": 1.0,
+										    "hits": [
+										      {
+										        "_index": "smile",
+										        "_id": "42",
+										        "_score": 1.0,
+										        "_source": {
+										          "id": "42",
+										          "text": "hello smile"
+										        }
+										      }
+										    ]
+										  }
+										}
+										"""))));
+
+		var searchHits = operations.search(new CriteriaQuery(new Criteria()), SmileEntity.class);
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(1);
+		var entity = searchHits.getSearchHit(0).getContent();
+		assertThat(entity.getId()).isEqualTo("42");
+		assertThat(entity.getText()).isEqualTo("hello smile");
+	}
+
+	@Test
+	@DisplayName("should send bulk requests in SMILE format")
+	void shouldSendBulkRequestsInSmileFormat() throws Exception {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk"))
+				.withHeader("Content-Type", containing("smile"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", SMILE_CONTENT_TYPE)
+								.withBody(toSmile("""
+										{
+										  "took": 1,
+										  "errors": false,
+										  "items": [
+										    {
+										      "index": {
+										        "_index": "smile",
+										        "_id": "42",
+										        "_version": 1,
+										        "result": "created",
+										        "_shards": {
+										          "total": 1,
+										          "successful": 1,
+										          "failed": 0
+										        },
+										        "_seq_no": 0,
+										        "_primary_term": 1,
+										        "status": 201
+										      }
+										    }
+										  ]
+										}
+										"""))));
+
+		var entity = new SmileEntity();
+		entity.setId("42");
+		entity.setText("hello smile");
+
+		operations.save(List.of(entity));
+
+		var requests = wireMock.findAll(postRequestedFor(urlPathEqualTo("/_bulk")));
+		assertThat(requests).hasSize(1);
+
+		List<Map<String, Object>> documents = fromSmileStream(requests.get(0).getBody());
+		assertThat(documents).hasSize(2);
+		assertThat(documents.get(0)).containsKey("index");
+		assertThat(documents.get(1)).containsEntry("id", "42").containsEntry("text", "hello smile");
+	}
+
+	@Test
+	@DisplayName("should use JSON for other requests")
+	void shouldUseJsonForOtherRequests() {
+
+		wireMock.stubFor(put(urlPathEqualTo("/smile/_doc/42"))
+				.withHeader("Content-Type", containing("json"))
+				.withRequestBody(equalToJson("""
+						{
+							"_class": "org.springframework.data.elasticsearch.client.elc.ContentFormatWiremockTests$SmileEntity",
+							"id": "42",
+							"text": "hello json"
+						}
+						"""))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "smile",
+										  "_id": "42",
+										  "_version": 1,
+										  "result": "created",
+										  "_shards": {
+										    "total": 2,
+										    "successful": 1,
+										    "failed": 0
+										  },
+										  "_seq_no": 1,
+										  "_primary_term": 1
+										}
+										""")));
+
+		var entity = new SmileEntity();
+		entity.setId("42");
+		entity.setText("hello json");
+
+		operations.save(entity);
+		// no need to assert anything, if the body is not sent as JSON, we run into a 404 error
+	}
+
+	@Test
+	@DisplayName("should send bulk requests as NDJSON in CBOR format")
+	void shouldSendBulkRequestsAsNdjsonInCborFormat() throws Exception {
+
+		String ndjson = """
+				{"index":{"_index":"cbor","_id":"42"}}
+				{"id":"42","text":"hello cbor"}
+				""";
+		var request = new TransportHttpClient.Request("POST", "/_bulk", Collections.emptyMap(),
+				Map.of("Content-Type", "application/x-ndjson"),
+				List.of(ByteBuffer.wrap(ndjson.getBytes(StandardCharsets.UTF_8))));
+		var delegate = new CapturingHttpClient();
+
+		new ContentFormatHttpClient(delegate, ClientConfiguration.ContentFormat.CBOR).performRequest("es/bulk", null,
+				request, new RestClientOptions(RequestOptions.DEFAULT));
+
+		assertThat(delegate.request).isSameAs(request);
+		assertThat(delegate.options).isNotNull();
+		assertThat(delegate.options.headers()).anySatisfy(header -> {
+			assertThat(header.getKey()).isEqualTo("Accept");
+			assertThat(header.getValue()).contains("cbor");
+		});
+		assertThat(delegate.options.headers()).noneMatch(header -> header.getKey().equals("Content-Type"));
+	}
+
+	private static byte[] toSmile(String json) throws Exception {
+		return SMILE_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(json));
+	}
+
+	private static List<Map<String, Object>> fromSmileStream(byte[] bytes) throws Exception {
+
+		List<Map<String, Object>> documents = new ArrayList<>();
+		int start = 0;
+
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == (byte) 0xFF) {
+				byte[] document = Arrays.copyOfRange(bytes, start, i);
+				assertThat(new String(document, 0, 3)).isEqualTo(":)\n");
+				documents.add(SMILE_MAPPER.readValue(document, new TypeReference<>() {}));
+				start = i + 1;
+			}
+		}
+
+		return documents;
+	}
+
+	/**
+	 * A {@link TransportHttpClient} that captures the request it is asked to send.
+	 */
+	private static class CapturingHttpClient implements TransportHttpClient {
+
+		@Nullable TransportHttpClient.Request request;
+		@Nullable TransportOptions options;
+
+		@Override
+		public TransportHttpClient.Response performRequest(String endpointId, @Nullable Node node,
+				TransportHttpClient.Request request, TransportOptions options) {
+			this.request = request;
+			this.options = options;
+			return null;
+		}
+
+		@Override
+		public CompletableFuture<TransportHttpClient.Response> performRequestAsync(String endpointId, @Nullable Node node,
+				TransportHttpClient.Request request, TransportOptions options) {
+			return CompletableFuture.completedFuture(performRequest(endpointId, node, request, options));
+		}
+
+		@Override
+		public void close() {}
+	}
+
+	@Document(indexName = "smile")
+	static class SmileEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		@Field private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
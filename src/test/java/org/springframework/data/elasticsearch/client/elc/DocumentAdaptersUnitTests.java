@@ -15,21 +15,32 @@
  */
 package org.springframework.data.elasticsearch.client.elc;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.JsonpDeserializer;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Explanation;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Peter-Josef Meisch
@@ -157,4 +168,115 @@ class DocumentAdaptersUnitTests {
 		softly.assertThat(matchedQueries).isEqualTo(Arrays.asList("query1", "query2"));
 		softly.assertAll();
 	}
+
+	@Test
+	@DisplayName("should convert hit fields without serializing them")
+	void shouldConvertHitFieldsWithoutSerializingThem() {
+
+		String json = """
+				{
+				  "_index": "index",
+				  "_id": "42",
+				  "fields": {
+				    "string": ["one", "two"],
+				    "int": [42],
+				    "long": [1714557600000],
+				    "double": [3.14],
+				    "boolean": [true],
+				    "object": [{"key": "value", "nested": [1, null]}]
+				  }
+				}
+				""";
+		JsonpDeserializer<Hit<EntityAsMap>> deserializer = Hit
+				.createHitDeserializer(JsonpDeserializer.of(EntityAsMap.class));
+		Hit<EntityAsMap> hit = deserializer.deserialize(jsonpMapper.jsonProvider().createParser(new StringReader(json)),
+				jsonpMapper);
+		JsonpMapper unusedMapper = mock(JsonpMapper.class);
+
+		SearchDocument document = DocumentAdapters.from(hit, unusedMapper);
+
+		verifyNoInteractions(unusedMapper);
+		Map<String, List<Object>> fields = document.getFields();
+		assertThat(fields).containsOnlyKeys("string", "int", "long", "double", "boolean", "object");
+		assertThat(fields.get("string")).containsExactly("one", "two");
+		assertThat(fields.get("int")).containsExactly(42);
+		assertThat(fields.get("long")).containsExactly(1714557600000L);
+		assertThat(fields.get("double")).containsExactly(3.14);
+		assertThat(fields.get("boolean")).containsExactly(true);
+		Map<String, Object> object = new LinkedHashMap<>();
+		object.put("key", "value");
+		object.put("nested", Arrays.asList(1, null));
+		assertThat(fields.get("object")).containsExactly(object);
+		assertThat(document.get("long")).isEqualTo(List.of(1714557600000L));
+	}
+
+	@Test
+	@DisplayName("should adapt search Hit without fields")
+	void shouldAdaptSearchHitWithoutFields() {
+
+		Hit<EntityAsMap> searchHit = new Hit.Builder<EntityAsMap>() //
+				.index("index") //
+				.id("42") //
+				.build();
+
+		SearchDocument document = DocumentAdapters.from(searchHit, jsonpMapper);
+
+		assertThat(document.getFields()).isEmpty();
+		assertThat(document).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should adapt search Hit with source read for an entity")
+	void shouldAdaptSearchHitWithSourceReadForAnEntity() {
+
+		String json = """
+				{
+				  "took": 1,
+				  "timed_out": false,
+				  "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+				  "hits": {
+				    "total": {"value": 2, "relation": "eq"},
+				    "hits": [
+				      {
+				        "_index": "index",
+				        "_id": "1",
+				        "_source": {"name": "one", "unknown": {"nested": [1, 2]}},
+				        "_seq_no": 1,
+				        "_primary_term": 2
+				      },
+				      {
+				        "_index": "index",
+				        "_id": "2",
+				        "_source": {"unknown": "value", "name": "two"}
+				      }
+				    ]
+				  }
+				}
+				""";
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		JsonpDeserializer<SearchResponse<EntityAsMap>> deserializer = SearchResponse
+				.createSearchResponseDeserializer(new EntityAsMapDeserializer(converter, SourceEntity.class));
+
+		SearchResponse<EntityAsMap> searchResponse = deserializer
+				.deserialize(jsonpMapper.jsonProvider().createParser(new StringReader(json)), jsonpMapper);
+
+		List<SearchDocument> documents = searchResponse.hits().hits().stream()
+				.map(hit -> DocumentAdapters.from(hit, jsonpMapper)).toList();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(documents).hasSize(2);
+		softly.assertThat(documents.get(0).getId()).isEqualTo("1");
+		softly.assertThat(documents.get(0).getSeqNo()).isEqualTo(1);
+		softly.assertThat(documents.get(0)).containsOnlyKeys("name");
+		softly.assertThat(documents.get(1).getId()).isEqualTo("2");
+		softly.assertThat(documents.get(1)).containsOnlyKeys("name");
+		softly.assertThat(converter.read(SourceEntity.class, documents.get(1)).name).isEqualTo("two");
+		softly.assertAll();
+	}
+
+	static final class SourceEntity {
+		@Nullable String name;
+	}
 }
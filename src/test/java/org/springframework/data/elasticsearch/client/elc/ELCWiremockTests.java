@@ -17,8 +17,20 @@ package org.springframework.data.elasticsearch.client.elc;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -28,10 +40,21 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.document.RawJson;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ChunkedSaveOptions;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.lang.Nullable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 
 /**
@@ -102,6 +125,458 @@ public class ELCWiremockTests {
 		// no need to assert anything, if the field1:null is not sent, we run into a 404 error
 	}
 
+	@Test
+	@DisplayName("should keep the order of the hits when converting them in parallel")
+	void shouldKeepTheOrderOfTheHitsWhenConvertingThemInParallel() {
+
+		int numberOfHits = 1200;
+		String hits = IntStream.range(0, numberOfHits) //
+				.mapToObj(i -> """
+						{
+						  "_index": "parallel-conversion",
+						  "_id": "%d",
+						  "_score": 1.0,
+						  "_source": {
+						    "id": "%d",
+						    "field1": "value-%d"
+						  }
+						}
+						""".formatted(i, i, i)) //
+				.collect(Collectors.joining(","));
+
+		wireMock.stubFor(post(urlPathEqualTo("/parallel-conversion/_search"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "took": 1,
+										  "timed_out": false,
+										  "_shards": {
+										    "total": 1,
+										    "successful": 1,
+										    "skipped": 0,
+										    "failed": 0
+										  },
+										  "hits": {
+										    "total": {
+										      "value": %d,
+										      "relation": "eq"
+										    },
+										    "max_score": 1.0,
+										    "hits": [%s]
+										  }
+										}
+										""".formatted(numberOfHits, hits))));
+
+		var query = CriteriaQuery.builder(new Criteria()) //
+				.withParallelEntityConversion(true) //
+				.build();
+
+		SearchHits<EntityForParallelConversion> searchHits = operations.search(query, EntityForParallelConversion.class);
+
+		assertThat(searchHits.getSearchHits()).hasSize(numberOfHits);
+		for (int i = 0; i < numberOfHits; i++) {
+			var searchHit = searchHits.getSearchHit(i);
+			assertThat(searchHit.getId()).isEqualTo(String.valueOf(i));
+			assertThat(searchHit.getContent().getId()).isEqualTo(String.valueOf(i));
+			assertThat(searchHit.getContent().getField1()).isEqualTo("value-" + i);
+		}
+	}
+
+	@Test
+	@DisplayName("should return the sources as RawJson")
+	void shouldReturnTheSourcesAsRawJson() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/raw-json/_search"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "took": 1,
+										  "timed_out": false,
+										  "_shards": {
+										    "total": 1,
+										    "successful": 1,
+										    "skipped": 0,
+										    "failed": 0
+										  },
+										  "hits": {
+										    "total": {
+										      "value": 1,
+										      "relation": "eq"
+										    },
+										    "max_score": 1.0,
+										    "hits": [
+										      {
+										        "_index": "raw-json",
+										        "_id": "42",
+										        "_score": 1.0,
+										        "_source": {
+										          "name": "n\\u00e4me",
+										          "numbers": [1, 2.5, -3],
+										          "nested": {
+										            "flag": true,
+										            "empty": null
+										          }
+										        }
+										      }
+										    ]
+										  }
+										}
+										""")));
+		wireMock.stubFor(get(urlPathEqualTo("/raw-json/_doc/42"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "_index": "raw-json",
+										  "_id": "42",
+										  "_version": 1,
+										  "_seq_no": 0,
+										  "_primary_term": 1,
+										  "found": true,
+										  "_source": {
+										    "name": "name"
+										  }
+										}
+										""")));
+
+		var index = IndexCoordinates.of("raw-json");
+
+		SearchHits<RawJson> searchHits = operations.search(operations.matchAllQuery(), RawJson.class, index);
+
+		assertThat(searchHits.getSearchHits()).hasSize(1);
+		var searchHit = searchHits.getSearchHit(0);
+		assertThat(searchHit.getId()).isEqualTo("42");
+		assertThat(searchHit.getContent().toString())
+				.isEqualTo("{\"name\":\"näme\",\"numbers\":[1,2.5,-3],\"nested\":{\"flag\":true,\"empty\":null}}");
+
+		RawJson rawJson = operations.get("42", RawJson.class, index);
+
+		assertThat(rawJson).isEqualTo(RawJson.of("{\"name\":\"name\"}"));
+	}
+
+	@Test
+	@DisplayName("should create the entities of the hits on first access when converting lazily")
+	void shouldCreateTheEntitiesOfTheHitsOnFirstAccessWhenConvertingLazily() {
+
+		String hits = IntStream.range(0, 3) //
+				.mapToObj(i -> """
+						{
+						  "_index": "lazy-conversion",
+						  "_id": "%d",
+						  "_score": 1.0,
+						  "_source": {
+						    "id": "%d",
+						    "field1": "value-%d"
+						  }
+						}
+						""".formatted(i, i, i)) //
+				.collect(Collectors.joining(","));
+
+		wireMock.stubFor(post(urlPathEqualTo("/lazy-conversion/_search"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "took": 1,
+										  "timed_out": false,
+										  "_shards": {
+										    "total": 1,
+										    "successful": 1,
+										    "skipped": 0,
+										    "failed": 0
+										  },
+										  "hits": {
+										    "total": {
+										      "value": 3,
+										      "relation": "eq"
+										    },
+										    "max_score": 1.0,
+										    "hits": [%s]
+										  }
+										}
+										""".formatted(hits))));
+
+		var query = CriteriaQuery.builder(new Criteria()) //
+				.withLazyEntityConversion(true) //
+				.build();
+
+		SearchHits<EntityForParallelConversion> searchHits = operations.search(query, EntityForParallelConversion.class,
+				IndexCoordinates.of("lazy-conversion"));
+
+		assertThat(searchHits.getSearchHits()).hasSize(3) //
+				.allSatisfy(searchHit -> assertThat(searchHit.isContentResolved()).isFalse());
+		assertThat(searchHits.getSearchHit(2).getId()).isEqualTo("2");
+		assertThat(searchHits.getSearchHit(0).toString()).contains("content=<not converted>");
+
+		var searchHit = searchHits.getSearchHit(1);
+		var content = searchHit.getContent();
+
+		assertThat(content.getField1()).isEqualTo("value-1");
+		assertThat(searchHit.isContentResolved()).isTrue();
+		assertThat(searchHit.getContent()).isSameAs(content);
+		assertThat(searchHit.toString()).contains("content=" + content);
+		assertThat(searchHits.getSearchHit(0).isContentResolved()).isFalse();
+	}
+
+	@Test
+	@DisplayName("should convert the hits of all scroll pages lazily when requested by the query")
+	void shouldConvertTheHitsOfAllScrollPagesLazilyWhenRequestedByTheQuery() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/lazy-conversion/_search"))
+				.withQueryParam("scroll", matching(".*"))
+				.willReturn(scrollPage("scroll-1", 0, 1)));
+		wireMock.stubFor(post(urlPathEqualTo("/_search/scroll"))
+				.inScenario("scroll").whenScenarioStateIs(STARTED)
+				.willReturn(scrollPage("scroll-1", 1, 2))
+				.willSetStateTo("last page"));
+		wireMock.stubFor(post(urlPathEqualTo("/_search/scroll"))
+				.inScenario("scroll").whenScenarioStateIs("last page")
+				.willReturn(scrollPage("scroll-1", 2, 2)));
+		wireMock.stubFor(delete(urlPathEqualTo("/_search/scroll"))
+				.willReturn(
+						aResponse()
+								.withStatus(200)
+								.withHeader("X-elastic-product", "Elasticsearch")
+								.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+								.withBody("""
+										{
+										  "succeeded": true,
+										  "num_freed": 1
+										}
+										""")));
+
+		var query = CriteriaQuery.builder(new Criteria()) //
+				.withLazyEntityConversion(true) //
+				.build();
+		List<SearchHit<EntityForParallelConversion>> searchHits = new ArrayList<>();
+
+		try (SearchHitsIterator<EntityForParallelConversion> iterator = operations.searchForStream(query,
+				EntityForParallelConversion.class, IndexCoordinates.of("lazy-conversion"))) {
+			iterator.forEachRemaining(searchHits::add);
+		}
+
+		assertThat(searchHits).hasSize(2) //
+				.allSatisfy(searchHit -> assertThat(searchHit.isContentResolved()).isFalse());
+		assertThat(searchHits.get(1).getContent().getField1()).isEqualTo("value-1");
+	}
+
+	@Test
+	@DisplayName("should propagate the rejection of a parallel conversion batch")
+	void shouldPropagateTheRejectionOfAParallelConversionBatch() {
+
+		int numberOfHits = 1200;
+		wireMock.stubFor(post(urlPathEqualTo("/parallel-conversion/_search"))
+				.willReturn(scrollPage(null, 0, numberOfHits)));
+
+		var template = (AbstractElasticsearchTemplate) operations;
+		AtomicInteger submittedBatches = new AtomicInteger();
+		template.setEntityConversionExecutor(command -> {
+			// the first batch is accepted but never run
+			if (submittedBatches.incrementAndGet() > 1) {
+				throw new RejectedExecutionException("rejected");
+			}
+		});
+
+		try {
+			var query = CriteriaQuery.builder(new Criteria()) //
+					.withParallelEntityConversion(true) //
+					.build();
+
+			assertThatThrownBy(() -> operations.search(query, EntityForParallelConversion.class))
+					.isInstanceOf(RejectedExecutionException.class);
+			assertThat(submittedBatches).hasValue(2);
+		} finally {
+			template.setEntityConversionExecutor(ForkJoinPool.commonPool());
+		}
+	}
+
+	private static ResponseDefinitionBuilder scrollPage(@Nullable String scrollId, int from, int to) {
+
+		String hits = IntStream.range(from, to) //
+				.mapToObj(i -> """
+						{
+						  "_index": "conversion",
+						  "_id": "%d",
+						  "_score": 1.0,
+						  "_source": {
+						    "id": "%d",
+						    "field1": "value-%d"
+						  }
+						}
+						""".formatted(i, i, i)) //
+				.collect(Collectors.joining(","));
+
+		return aResponse()
+				.withStatus(200)
+				.withHeader("X-elastic-product", "Elasticsearch")
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8")
+				.withBody("""
+						{
+						  %s
+						  "took": 1,
+						  "timed_out": false,
+						  "_shards": {
+						    "total": 1,
+						    "successful": 1,
+						    "skipped": 0,
+						    "failed": 0
+						  },
+						  "hits": {
+						    "total": {
+						      "value": %d,
+						      "relation": "eq"
+						    },
+						    "max_score": 1.0,
+						    "hits": [%s]
+						  }
+						}
+						""".formatted(scrollId != null ? "\"_scroll_id\": \"" + scrollId + "\"," : "", to - from, hits));
+	}
+
+	@Nested
+	@DisplayName("saving entities in chunks")
+	class ChunkedSaveTests {
+
+		private static final IndexCoordinates INDEX = IndexCoordinates.of("chunked-save");
+
+		@Test
+		@DisplayName("should save an iterable in a single bulk request by default")
+		void shouldSaveAnIterableInASingleBulkRequestByDefault() {
+
+			// more entities than the default chunk size
+			stubChunk(1, 501);
+
+			Iterable<ChunkedSaveEntity> saved = operations.save(entities(501, new AtomicInteger()).toList(), INDEX);
+
+			assertThat(saved).hasSize(501);
+			wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_bulk")));
+		}
+
+		@Test
+		@DisplayName("should save an iterable in chunks when requested")
+		void shouldSaveAnIterableInChunksWhenRequested() {
+
+			stubChunks();
+
+			Iterable<ChunkedSaveEntity> saved = operations.save(entities(5, new AtomicInteger()).toList(), INDEX,
+					ChunkedSaveOptions.builder().withChunkSize(2).build());
+
+			assertThat(saved).extracting(ChunkedSaveEntity::getId).containsExactly("1", "2", "3", "4", "5");
+			wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+		}
+
+		@Test
+		@DisplayName("should save a stream in chunks and return the saved entities in order")
+		void shouldSaveAStreamInChunksAndReturnTheSavedEntitiesInOrder() {
+
+			stubChunks();
+
+			Iterable<ChunkedSaveEntity> saved = operations.save(entities(5, new AtomicInteger()), INDEX,
+					ChunkedSaveOptions.builder().withChunkSize(2).build());
+
+			assertThat(saved).extracting(ChunkedSaveEntity::getId).containsExactly("1", "2", "3", "4", "5");
+			wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+		}
+
+		@Test
+		@DisplayName("should not collect the saved entities when they are not returned")
+		void shouldNotCollectTheSavedEntitiesWhenTheyAreNotReturned() {
+
+			stubChunks();
+
+			Iterable<ChunkedSaveEntity> saved = operations.save(entities(5, new AtomicInteger()), INDEX,
+					ChunkedSaveOptions.builder().withChunkSize(2).withReturnSavedEntities(false).build());
+
+			assertThat(saved).isEmpty();
+			wireMock.verify(3, postRequestedFor(urlPathEqualTo("/_bulk")));
+		}
+
+		@Test
+		@DisplayName("should read the stream lazily and stop at a failed chunk")
+		void shouldReadTheStreamLazilyAndStopAtAFailedChunk() {
+
+			stubChunk(1, 2);
+			wireMock.stubFor(chunkRequest(3).willReturn(aResponse().withStatus(500)));
+
+			AtomicInteger read = new AtomicInteger();
+
+			assertThatThrownBy(() -> operations.save(entities(100, read), INDEX,
+					ChunkedSaveOptions.builder().withChunkSize(2).build())).isInstanceOf(RuntimeException.class);
+
+			assertThat(read).hasValue(4);
+			wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+		}
+
+		private void stubChunks() {
+			stubChunk(1, 2);
+			stubChunk(3, 4);
+			stubChunk(5, 5);
+		}
+
+		/**
+		 * Stubs the bulk request starting with the entity {@code from} to successfully index the entities up to and
+		 * including {@code to}.
+		 */
+		private void stubChunk(int from, int to) {
+
+			String items = IntStream.rangeClosed(from, to) //
+					.mapToObj(id -> """
+							{
+							  "index": {
+							    "_index": "chunked-save",
+							    "_id": "%d",
+							    "_version": 1,
+							    "result": "created",
+							    "_seq_no": 0,
+							    "_primary_term": 1,
+							    "status": 201
+							  }
+							}
+							""".formatted(id)) //
+					.collect(Collectors.joining(","));
+
+			wireMock.stubFor(chunkRequest(from).willReturn(aResponse() //
+					.withStatus(200) //
+					.withHeader("X-elastic-product", "Elasticsearch") //
+					.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+					.withBody("""
+							{
+							  "took": 1,
+							  "errors": false,
+							  "items": [%s]
+							}
+							""".formatted(items))));
+		}
+
+		private MappingBuilder chunkRequest(int firstId) {
+			return post(urlPathEqualTo("/_bulk")).withRequestBody(containing("\"_id\":\"" + firstId + "\""));
+		}
+
+		private Stream<ChunkedSaveEntity> entities(int count, AtomicInteger read) {
+			return IntStream.rangeClosed(1, count).mapToObj(i -> {
+				read.incrementAndGet();
+				ChunkedSaveEntity entity = new ChunkedSaveEntity();
+				entity.setId(String.valueOf(i));
+				entity.setText("text " + i);
+				return entity;
+			});
+		}
+	}
+
 	@Document(indexName = "null-fields")
 	static class EntityWithNullFields {
 		@Nullable
@@ -138,4 +613,56 @@ public class ELCWiremockTests {
 			this.field2 = field2;
 		}
 	}
+
+	@Document(indexName = "parallel-conversion")
+	static class EntityForParallelConversion {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field private String field1;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getField1() {
+			return field1;
+		}
+
+		public void setField1(@Nullable String field1) {
+			this.field1 = field1;
+		}
+	}
+
+	@Document(indexName = "chunked-save")
+	static class ChunkedSaveEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
 }
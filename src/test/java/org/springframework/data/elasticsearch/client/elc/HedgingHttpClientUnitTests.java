@@ -0,0 +1,212 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.transport.DefaultTransportOptions;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.HedgedReads;
+import org.springframework.data.elasticsearch.client.ClientMetrics;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link HedgingHttpClient}.
+ */
+class HedgingHttpClientUnitTests {
+
+	private static final TransportOptions OPTIONS = new DefaultTransportOptions();
+
+	private final ClientMetrics clientMetrics = new ClientMetrics();
+	private final RecordingHttpClient delegate = new RecordingHttpClient();
+
+	@Test
+	@DisplayName("should not hedge before enough response times are known")
+	void shouldNotHedgeBeforeEnoughResponseTimesAreKnown() throws Exception {
+
+		HedgingHttpClient client = new HedgingHttpClient(delegate, new HedgedReads(0.9, Duration.ZERO, 1), clientMetrics);
+
+		client.performRequestAsync("es/search", null, search(), OPTIONS);
+		Thread.sleep(50);
+
+		assertThat(delegate.requests).hasSize(1);
+		assertThat(clientMetrics.getHedges()).isZero();
+	}
+
+	@Test
+	@DisplayName("should hedge a slow read and use the response that arrives first")
+	void shouldHedgeASlowReadAndUseTheResponseThatArrivesFirst() throws Exception {
+
+		HedgingHttpClient client = new HedgingHttpClient(delegate, new HedgedReads(0.9, Duration.ofMillis(20), 1),
+				clientMetrics);
+		warmUp(client);
+
+		CompletableFuture<TransportHttpClient.Response> result = client.performRequestAsync("es/search", null, search(),
+				OPTIONS);
+		awaitRequests(2);
+
+		SentRequest primary = delegate.requests.get(0);
+		SentRequest hedge = delegate.requests.get(1);
+		assertThat(primary.request.queryParams()).doesNotContainKey("preference");
+		assertThat(hedge.request.queryParams()).containsKey("preference");
+
+		TransportHttpClient.Response response = mock(TransportHttpClient.Response.class);
+		hedge.future.complete(response);
+
+		assertThat(result.get(1, TimeUnit.SECONDS)).isSameAs(response);
+		assertThat(primary.future).isCancelled();
+		assertThat(clientMetrics.getHedges()).isEqualTo(1);
+		assertThat(clientMetrics.getHedgeWins()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should close the response of the request that lost")
+	void shouldCloseTheResponseOfTheRequestThatLost() throws Exception {
+
+		HedgingHttpClient client = new HedgingHttpClient(delegate, new HedgedReads(0.9, Duration.ofMillis(20), 1),
+				clientMetrics);
+		warmUp(client);
+
+		// like clients that cannot abort a request
+		delegate.ignoreCancel = true;
+		CompletableFuture<TransportHttpClient.Response> result = client.performRequestAsync("es/get", null, get(),
+				OPTIONS);
+		awaitRequests(2);
+
+		TransportHttpClient.Response winner = mock(TransportHttpClient.Response.class);
+		TransportHttpClient.Response loser = mock(TransportHttpClient.Response.class);
+		delegate.requests.get(0).future.complete(winner);
+		delegate.requests.get(1).future.complete(loser);
+
+		assertThat(result.get(1, TimeUnit.SECONDS)).isSameAs(winner);
+		verify(loser).close();
+		verify(winner, never()).close();
+		assertThat(clientMetrics.getHedgeWins()).isZero();
+	}
+
+	@Test
+	@DisplayName("should not hedge more than the budget allows")
+	void shouldNotHedgeMoreThanTheBudgetAllows() throws Exception {
+
+		HedgingHttpClient client = new HedgingHttpClient(delegate, new HedgedReads(0.9, Duration.ofMillis(20), 0.25),
+				clientMetrics);
+		warmUp(client);
+
+		for (int i = 0; i < 20; i++) {
+			client.performRequestAsync("es/search", null, search(), OPTIONS);
+		}
+		Thread.sleep(200);
+
+		// the warm up filled the budget up to its maximum of 10 hedges
+		assertThat(clientMetrics.getHedges()).isEqualTo(10);
+		assertThat(delegate.requests).hasSize(30);
+	}
+
+	@Test
+	@DisplayName("should not hedge writes and scrolling searches")
+	void shouldNotHedgeWritesAndScrollingSearches() throws Exception {
+
+		HedgingHttpClient client = new HedgingHttpClient(delegate, new HedgedReads(0.9, Duration.ZERO, 1), clientMetrics);
+		warmUp(client);
+
+		client.performRequestAsync("es/index", null,
+				new TransportHttpClient.Request("POST", "/index/_doc", Map.of(), Map.of(), null), OPTIONS);
+		client.performRequestAsync("es/search", null,
+				new TransportHttpClient.Request("POST", "/index/_search", Map.of("scroll", "1m"), Map.of(), null), OPTIONS);
+		Thread.sleep(50);
+
+		assertThat(delegate.requests).hasSize(2);
+		assertThat(clientMetrics.getHedgeableReads()).isEqualTo(200);
+	}
+
+	/**
+	 * Sends enough fast reads to the search and get endpoints so that hedging starts.
+	 */
+	private void warmUp(HedgingHttpClient client) throws Exception {
+
+		delegate.completeImmediately = true;
+		for (int i = 0; i < 100; i++) {
+			client.performRequestAsync("es/search", null, search(), OPTIONS).get();
+			client.performRequestAsync("es/get", null, get(), OPTIONS).get();
+		}
+		delegate.completeImmediately = false;
+		delegate.requests.clear();
+	}
+
+	private void awaitRequests(int count) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + 1000;
+		while (delegate.requests.size() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(delegate.requests).hasSize(count);
+	}
+
+	private static TransportHttpClient.Request search() {
+		return new TransportHttpClient.Request("POST", "/index/_search", Map.of(), Map.of(), List.of());
+	}
+
+	private static TransportHttpClient.Request get() {
+		return new TransportHttpClient.Request("GET", "/index/_doc/42", Map.of(), Map.of(), null);
+	}
+
+	private record SentRequest(TransportHttpClient.Request request, CompletableFuture<TransportHttpClient.Response> future) {}
+
+	private static class RecordingHttpClient implements TransportHttpClient {
+
+		final List<SentRequest> requests = new CopyOnWriteArrayList<>();
+		volatile boolean completeImmediately;
+		volatile boolean ignoreCancel;
+
+		@Override
+		public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request,
+				TransportOptions options) {
+
+			CompletableFuture<Response> future = ignoreCancel ? new CompletableFuture<>() {
+				@Override
+				public boolean cancel(boolean mayInterruptIfRunning) {
+					return false;
+				}
+			} : new CompletableFuture<>();
+			requests.add(new SentRequest(request, future));
+
+			if (completeImmediately) {
+				future.complete(mock(Response.class));
+			}
+			return future;
+		}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.TransportType;
+import org.springframework.data.elasticsearch.support.HttpHeaders;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the transport on the JDK {@code HttpClient}.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class JdkHttpClientTransportWiremockTests {
+
+	private static final String JSON_CONTENT_TYPE = "application/vnd.elasticsearch+json;compatible-with=8";
+	private static final String INDEX_RESPONSE = """
+			{
+			  "_index": "index",
+			  "_id": "42",
+			  "_version": 1,
+			  "result": "created",
+			  "_shards": {
+			    "total": 2,
+			    "successful": 1,
+			    "failed": 0
+			  },
+			  "_seq_no": 0,
+			  "_primary_term": 1
+			}
+			""";
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	@BeforeEach
+	void setUp() {
+		wireMock.stubFor(head(urlPathMatching(".*/")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch")));
+	}
+
+	@Test
+	@DisplayName("should send requests with the configured headers and path prefix")
+	void shouldSendRequestsWithTheConfiguredHeadersAndPathPrefix() throws Exception {
+
+		wireMock.stubFor(put(urlPathEqualTo("/prefix/index/_doc/42")).willReturn(aResponse() //
+				.withStatus(201) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody(INDEX_RESPONSE)));
+
+		HttpHeaders defaultHeaders = new HttpHeaders();
+		defaultHeaders.add("def1", "def1-1");
+
+		ElasticsearchClient client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withPathPrefix("/prefix/") //
+				.withBasicAuth("user", "password") //
+				.withDefaultHeaders(defaultHeaders) //
+				.withHeaders(() -> {
+					HttpHeaders httpHeaders = new HttpHeaders();
+					httpHeaders.add("supplied", "val0");
+					return httpHeaders;
+				}) //
+				.withTransportType(TransportType.JDK_HTTP_CLIENT) //
+				.build());
+
+		var response = client.index(i -> i.index("index").id("42").document(Map.of("text", "hello jdk")));
+
+		assertThat(response.id()).isEqualTo("42");
+		wireMock.verify(putRequestedFor(urlEqualTo("/prefix/index/_doc/42")) //
+				.withHeader("Authorization", matching("Basic .*")) //
+				.withHeader("def1", equalTo("def1-1")) //
+				.withHeader("supplied", equalTo("val0")) //
+				.withHeader("X-SpringDataElasticsearch-Client", equalTo(ElasticsearchClients.IMPERATIVE_CLIENT)) //
+				.withHeader("Content-Type", containing("application/vnd.elasticsearch+json")) //
+				.withRequestBody(equalToJson("""
+						{
+						  "text": "hello jdk"
+						}
+						""")));
+	}
+
+	@Test
+	@DisplayName("should send bulk request bodies")
+	void shouldSendBulkRequestBodies() throws Exception {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody("""
+						{
+						  "took": 1,
+						  "errors": false,
+						  "items": []
+						}
+						""")));
+
+		ElasticsearchClient client = ElasticsearchClients.createImperative(configuration().build());
+
+		var response = client.bulk(b -> b //
+				.operations(o -> o.index(i -> i.index("index").id("1").document(Map.of("text", "one")))) //
+				.operations(o -> o.index(i -> i.index("index").id("2").document(Map.of("text", "two")))));
+
+		assertThat(response.errors()).isFalse();
+		var requests = wireMock.findAll(postRequestedFor(urlPathEqualTo("/_bulk")));
+		assertThat(requests).hasSize(1);
+		assertThat(requests.get(0).getBodyAsString().split("\n")).containsExactly( //
+				"{\"index\":{\"_id\":\"1\",\"_index\":\"index\"}}", //
+				"{\"text\":\"one\"}", //
+				"{\"index\":{\"_id\":\"2\",\"_index\":\"index\"}}", //
+				"{\"text\":\"two\"}");
+	}
+
+	@Test
+	@DisplayName("should decompress responses when compression is enabled")
+	void shouldDecompressResponsesWhenCompressionIsEnabled() throws Exception {
+
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+			outputStream.write(INDEX_RESPONSE.getBytes(StandardCharsets.UTF_8));
+		}
+
+		wireMock.stubFor(put(urlPathEqualTo("/index/_doc/42")) //
+				.withHeader("Accept-Encoding", containing("gzip")) //
+				.willReturn(aResponse() //
+						.withStatus(201) //
+						.withHeader("X-elastic-product", "Elasticsearch") //
+						.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+						.withHeader("Content-Encoding", "gzip") //
+						.withBody(compressed.toByteArray())));
+
+		ElasticsearchClient client = ElasticsearchClients.createImperative(configuration().withCompression().build());
+
+		var response = client.index(i -> i.index("index").id("42").document(Map.of("text", "hello gzip")));
+
+		assertThat(response.id()).isEqualTo("42");
+	}
+
+	@Test
+	@DisplayName("should send the request to the next node when a node cannot be reached")
+	void shouldSendTheRequestToTheNextNodeWhenANodeCannotBeReached() throws Exception {
+
+		int stoppedPort;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			stoppedPort = socket.getLocalPort();
+		}
+
+		ElasticsearchClient client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + stoppedPort, "localhost:" + wireMock.getPort()) //
+				.withTransportType(TransportType.JDK_HTTP_CLIENT) //
+				.build());
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(client.ping().value()).isTrue();
+		}
+
+		wireMock.verify(4, headRequestedFor(urlEqualTo("/")));
+	}
+
+	@Test
+	@DisplayName("should be usable from the reactive client")
+	void shouldBeUsableFromTheReactiveClient() {
+
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(configuration().build());
+
+		client.ping() //
+				.as(StepVerifier::create) //
+				.assertNext(response -> assertThat(response.value()).isTrue()) //
+				.verifyComplete();
+
+		wireMock.verify(headRequestedFor(urlEqualTo("/")) //
+				.withHeader("X-SpringDataElasticsearch-Client", equalTo(ElasticsearchClients.REACTIVE_CLIENT)));
+	}
+
+	private static ClientConfiguration.TerminalClientConfigurationBuilder configuration() {
+		return ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withTransportType(TransportType.JDK_HTTP_CLIENT);
+	}
+}
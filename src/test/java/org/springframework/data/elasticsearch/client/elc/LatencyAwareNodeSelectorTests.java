@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.LatencyAwareNodeSelection;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.Fault;
+
+/**
+ * Tests for the {@link LatencyAwareNodeSelector} against several stub servers with different response times.
+ */
+class LatencyAwareNodeSelectorTests {
+
+	private static final int SLOW_SERVER_DELAY_MILLIS = 150;
+
+	private final List<WireMockServer> servers = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+
+		for (int i = 0; i < 3; i++) {
+			WireMockServer server = new WireMockServer(options() //
+					.dynamicPort() //
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"));
+			server.start();
+			// the last server is the slow one
+			server.stubFor(get(urlEqualTo("/")).willReturn(okJson("{}") //
+					.withFixedDelay(i == 2 ? SLOW_SERVER_DELAY_MILLIS : 0)));
+			servers.add(server);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		servers.forEach(WireMockServer::shutdown);
+	}
+
+	@Test
+	@DisplayName("should avoid the slow node")
+	void shouldAvoidTheSlowNode() throws Exception {
+
+		sendRequests(new LatencyAwareNodeSelection(0.3, 0.1), 100);
+
+		// with round-robin the slow server would get about 33 requests, some reach it by exploration
+		assertThat(requestCount(servers.get(0)) + requestCount(servers.get(1))).isGreaterThan(85);
+		assertThat(requestCount(servers.get(2))).isLessThan(15);
+	}
+
+	@Test
+	@DisplayName("should send requests to all nodes when exploring")
+	void shouldSendRequestsToAllNodesWhenExploring() throws Exception {
+
+		sendRequests(new LatencyAwareNodeSelection(0.3, 1), 15);
+
+		// the client distributes the requests round-robin when no node is excluded
+		servers.forEach(server -> assertThat(requestCount(server)).isEqualTo(5));
+	}
+
+	@Test
+	@DisplayName("should drop cancelled requests")
+	void shouldDropCancelledRequests() throws Exception {
+
+		LatencyAwareNodeSelector nodeSelector = new LatencyAwareNodeSelector(new LatencyAwareNodeSelection(0.3, 0));
+		WireMockServer server = servers.get(2);
+		server.stubFor(get(urlEqualTo("/hang")).willReturn(okJson("{}").withFixedDelay(10_000)));
+		HttpHost host = new HttpHost("localhost", server.port());
+
+		try (RestClient restClient = restClient(nodeSelector, host)) {
+			Cancellable cancellable = restClient.performRequestAsync(new Request("GET", "/hang"), NO_OP_LISTENER);
+
+			await(() -> nodeSelector.inFlight(host) == 1);
+			cancellable.cancel();
+
+			await(() -> nodeSelector.score(host) == 0);
+			assertThat(nodeSelector.inFlight(host)).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("should record failed requests")
+	void shouldRecordFailedRequests() throws Exception {
+
+		LatencyAwareNodeSelector nodeSelector = new LatencyAwareNodeSelector(new LatencyAwareNodeSelection(0.3, 0));
+		WireMockServer server = servers.get(0);
+		server.stubFor(get(urlEqualTo("/fail")).willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+		HttpHost host = new HttpHost("localhost", server.port());
+
+		try (RestClient restClient = restClient(nodeSelector, host)) {
+			assertThatThrownBy(() -> restClient.performRequest(new Request("GET", "/fail")));
+
+			assertThat(nodeSelector.inFlight(host)).isZero();
+			assertThat(nodeSelector.score(host)).isGreaterThan(0);
+		}
+	}
+
+	private static final ResponseListener NO_OP_LISTENER = new ResponseListener() {
+		@Override
+		public void onSuccess(Response response) {}
+
+		@Override
+		public void onFailure(Exception exception) {}
+	};
+
+	private static RestClient restClient(LatencyAwareNodeSelector nodeSelector, HttpHost host) {
+		return RestClient.builder(host) //
+				.setNodeSelector(nodeSelector) //
+				.setFailureListener(nodeSelector.failureListener()) //
+				.setHttpClientConfigCallback(builder -> builder //
+						.addInterceptorFirst(nodeSelector.requestInterceptor()) //
+						.addInterceptorFirst(nodeSelector.responseInterceptor())) //
+				.build();
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).describedAs("condition not met in time").isLessThan(deadline);
+			Thread.sleep(20);
+		}
+	}
+
+	private void sendRequests(LatencyAwareNodeSelection nodeSelection, int count) throws Exception {
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo(servers.stream().map(server -> "localhost:" + server.port()).toArray(String[]::new)) //
+				.withLatencyAwareNodeSelection(nodeSelection) //
+				.build();
+
+		try (RestClient restClient = ElasticsearchClients.getRestClient(clientConfiguration)) {
+			for (int i = 0; i < count; i++) {
+				restClient.performRequest(new Request("GET", "/"));
+			}
+		}
+	}
+
+	private static int requestCount(WireMockServer server) {
+		return server.findAll(getRequestedFor(urlEqualTo("/"))).size();
+	}
+}
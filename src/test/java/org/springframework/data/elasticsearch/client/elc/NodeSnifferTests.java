@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.NodeSniffing;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+/**
+ * Tests for the {@link NodeSniffer}.
+ */
+class NodeSnifferTests {
+
+	private final List<WireMockServer> servers = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+
+		for (int i = 0; i < 2; i++) {
+			WireMockServer server = new WireMockServer(options() //
+					.dynamicPort() //
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"));
+			server.start();
+			server.stubFor(get(urlEqualTo("/")).willReturn(okJson("{}")));
+			servers.add(server);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		servers.forEach(WireMockServer::shutdown);
+	}
+
+	@Test
+	@DisplayName("should replace the configured nodes with the discovered ones")
+	void shouldReplaceTheConfiguredNodesWithTheDiscoveredOnes() throws Exception {
+
+		int masterPort = freePort();
+		stubNodes(servers.get(0), node("data", servers.get(1).port(), "data_hot", "ingest"),
+				node("master", masterPort, "master"));
+
+		try (RestClient restClient = ElasticsearchClients.getRestClient(configuration(servers.get(0)))) {
+
+			awaitHosts(restClient, List.of(new HttpHost("localhost", servers.get(1).port())));
+
+			restClient.performRequest(new Request("GET", "/"));
+			assertThat(servers.get(1).findAll(getRequestedFor(urlEqualTo("/")))).hasSize(1);
+		}
+	}
+
+	@Test
+	@DisplayName("should discover the nodes again after a request failed")
+	void shouldDiscoverTheNodesAgainAfterARequestFailed() throws Exception {
+
+		int stoppedPort = freePort();
+		stubNodes(servers.get(0), node("running", servers.get(1).port(), "data"), node("stopped", stoppedPort, "data"));
+		stubNodes(servers.get(1), node("running", servers.get(1).port(), "data"));
+
+		try (RestClient restClient = ElasticsearchClients.getRestClient(configuration(servers.get(0)))) {
+
+			awaitHosts(restClient,
+					List.of(new HttpHost("localhost", servers.get(1).port()), new HttpHost("localhost", stoppedPort)));
+
+			// the failed request to the stopped node triggers the discovery, which then goes to the running node
+			awaitHosts(restClient, List.of(new HttpHost("localhost", servers.get(1).port())), () -> {
+				try {
+					restClient.performRequest(new Request("GET", "/"));
+				} catch (Exception ignored) {}
+				return null;
+			});
+		}
+	}
+
+	@Test
+	@DisplayName("should read the nodes from a _nodes/http response")
+	void shouldReadTheNodesFromANodesHttpResponse() throws Exception {
+
+		String json = """
+				{
+				  "nodes": {
+				    "a": {
+				      "name": "node-a",
+				      "version": "8.13.0",
+				      "roles": ["data_content", "master"],
+				      "http": { "publish_address": "es-a.local/10.0.0.1:9200" }
+				    },
+				    "b": {
+				      "name": "node-b",
+				      "roles": ["master", "voting_only"],
+				      "http": { "publish_address": "10.0.0.2:9200" }
+				    },
+				    "c": {
+				      "name": "node-c",
+				      "roles": [],
+				      "http": { "publish_address": "[::1]:9201" }
+				    },
+				    "d": {
+				      "name": "node-d",
+				      "roles": ["data"]
+				    }
+				  }
+				}
+				""";
+
+		List<Node> nodes = NodeSniffer.readNodes(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "https",
+				NodeSniffing.defaults());
+
+		assertThat(nodes).extracting(Node::getName).containsExactlyInAnyOrder("node-a", "node-c");
+		assertThat(nodes).extracting(Node::getHost).containsExactlyInAnyOrder(new HttpHost("es-a.local", 9200, "https"),
+				new HttpHost("[::1]", 9201, "https"));
+	}
+
+	private static ClientConfiguration configuration(WireMockServer server) {
+		return ClientConfiguration.builder() //
+				.connectedTo("localhost:" + server.port()) //
+				.withNodeSniffing(new NodeSniffing(Duration.ofHours(1), Duration.ofHours(1), NodeSniffing.SKIP_DEDICATED_MASTERS)) //
+				.build();
+	}
+
+	private static void stubNodes(WireMockServer server, String... nodes) {
+		server.stubFor(get(urlEqualTo("/_nodes/http")).willReturn(okJson("""
+				{ "nodes": { %s } }
+				""".formatted(String.join(",", nodes)))));
+	}
+
+	private static String node(String name, int port, String... roles) {
+		return """
+				"%s": {
+				  "name": "%s",
+				  "roles": [%s],
+				  "http": { "publish_address": "localhost/127.0.0.1:%d" }
+				}
+				""".formatted(name, name, Arrays.stream(roles).map(role -> '"' + role + '"').collect(Collectors.joining(",")), port);
+	}
+
+	private static void awaitHosts(RestClient restClient, List<HttpHost> expected) throws InterruptedException {
+		awaitHosts(restClient, expected, () -> null);
+	}
+
+	private static void awaitHosts(RestClient restClient, List<HttpHost> expected, Supplier<?> action)
+			throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + 10_000;
+
+		while (!hosts(restClient).containsAll(expected) || hosts(restClient).size() != expected.size()) {
+			assertThat(System.currentTimeMillis()).as("nodes %s not set", expected).isLessThan(deadline);
+			action.get();
+			Thread.sleep(50);
+		}
+	}
+
+	private static List<HttpHost> hosts(RestClient restClient) {
+		return restClient.getNodes().stream().map(Node::getHost).toList();
+	}
+
+	private static int freePort() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.core.query.FluxSaveOptions;
+import org.springframework.lang.Nullable;
+
+/**
+ * Tests for saving a {@link Flux} of entities with concurrent bulk requests.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class ReactiveFluxSaveWiremockTests extends AbstractWiremockTemplateTests {
+
+	@BeforeEach
+	void setUp() {
+		// the bulk request for the first entity is answered late
+		stubBulk("1", 1000);
+		stubBulk("2", 0);
+	}
+
+	@Test
+	@DisplayName("should emit the saved entities in input order when ordered")
+	void shouldEmitTheSavedEntitiesInInputOrderWhenOrdered() {
+
+		var options = FluxSaveOptions.builder().withBulkSize(1).withMaxInFlightBulks(2).build();
+
+		reactiveOperations.save(Flux.just(entity("1"), entity("2")), FluxEntity.class, options) //
+				.map(FluxEntity::getId) //
+				.as(StepVerifier::create) //
+				.expectNext("1", "2") //
+				.verifyComplete();
+
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+	}
+
+	@Test
+	@DisplayName("should send bulk requests concurrently and emit in completion order when unordered")
+	void shouldSendBulkRequestsConcurrentlyAndEmitInCompletionOrderWhenUnordered() {
+
+		var options = FluxSaveOptions.builder() //
+				.withBulkSize(1) //
+				.withMaxInFlightBulks(2) //
+				.withOrdered(false) //
+				.build();
+
+		reactiveOperations.save(Flux.just(entity("1"), entity("2")), FluxEntity.class, options) //
+				.map(FluxEntity::getId) //
+				.as(StepVerifier::create) //
+				.expectNext("2", "1") //
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("should send one bulk request at a time by default")
+	void shouldSendOneBulkRequestAtATimeByDefault() {
+
+		var options = FluxSaveOptions.builder().withBulkSize(1).withOrdered(false).build();
+
+		reactiveOperations.save(Flux.just(entity("1"), entity("2")), FluxEntity.class, options) //
+				.map(FluxEntity::getId) //
+				.as(StepVerifier::create) //
+				.expectNext("1", "2") //
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("should propagate the error of a bulk request")
+	void shouldPropagateTheErrorOfABulkRequest() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(containing("\"id\":\"3\"")) //
+				.willReturn(aResponse().withStatus(500)));
+
+		var options = FluxSaveOptions.builder().withBulkSize(1).withMaxInFlightBulks(2).build();
+
+		reactiveOperations.save(Flux.just(entity("3"), entity("1")), FluxEntity.class, options) //
+				.as(StepVerifier::create) //
+				.verifyError();
+	}
+
+	private static void stubBulk(String id, int delay) {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(containing("\"id\":\"" + id + "\"")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withFixedDelay(delay) //
+						.withHeader("X-elastic-product", "Elasticsearch") //
+						.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+						.withBody("""
+								{
+								  "took": 1,
+								  "errors": false,
+								  "items": [
+								    {
+								      "index": {
+								        "_index": "flux",
+								        "_id": "%s",
+								        "_version": 1,
+								        "result": "created",
+								        "_seq_no": 0,
+								        "_primary_term": 1,
+								        "status": 201
+								      }
+								    }
+								  ]
+								}
+								""".formatted(id))));
+	}
+
+	private static FluxEntity entity(String id) {
+
+		FluxEntity entity = new FluxEntity();
+		entity.setId(id);
+		entity.setText("text " + id);
+		return entity;
+	}
+
+	@Document(indexName = "flux")
+	static class FluxEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		@Field private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
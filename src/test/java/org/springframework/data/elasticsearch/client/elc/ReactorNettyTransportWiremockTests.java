@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.TransportType;
+import org.springframework.data.elasticsearch.support.HttpHeaders;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the transport on the Reactor Netty {@code HttpClient}.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class ReactorNettyTransportWiremockTests {
+
+	private static final String JSON_CONTENT_TYPE = "application/vnd.elasticsearch+json;compatible-with=8";
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	@BeforeEach
+	void setUp() {
+		wireMock.stubFor(head(urlPathMatching(".*/")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch")));
+	}
+
+	@Test
+	@DisplayName("should build the transport bean from the single client configuration bean")
+	void shouldBuildTheTransportBeanFromTheSingleClientConfigurationBean() {
+
+		NettyConfig.clientConfigurations.set(0);
+
+		try (var context = new AnnotationConfigApplicationContext(NettyConfig.class)) {
+			assertThat(context.getBean(ElasticsearchTransport.class)).isInstanceOf(HttpClientTransport.class);
+			assertThat(context.getBean(ReactiveElasticsearchClient.class)).isNotNull();
+			assertThat(NettyConfig.clientConfigurations).hasValue(1);
+		}
+	}
+
+	@Test
+	@DisplayName("should send requests with the configured headers and path prefix")
+	void shouldSendRequestsWithTheConfiguredHeadersAndPathPrefix() {
+
+		wireMock.stubFor(put(urlPathEqualTo("/prefix/index/_doc/42")).willReturn(aResponse() //
+				.withStatus(201) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody("""
+						{
+						  "_index": "index",
+						  "_id": "42",
+						  "_version": 1,
+						  "result": "created",
+						  "_shards": {
+						    "total": 2,
+						    "successful": 1,
+						    "failed": 0
+						  },
+						  "_seq_no": 0,
+						  "_primary_term": 1
+						}
+						""")));
+
+		HttpHeaders defaultHeaders = new HttpHeaders();
+		defaultHeaders.add("def1", "def1-1");
+
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withPathPrefix("prefix") //
+				.withBasicAuth("user", "password") //
+				.withDefaultHeaders(defaultHeaders) //
+				.withHeaders(() -> {
+					HttpHeaders httpHeaders = new HttpHeaders();
+					httpHeaders.add("supplied", "val0");
+					return httpHeaders;
+				}) //
+				.withTransportType(TransportType.REACTOR_NETTY) //
+				.build());
+
+		client.index(i -> i.index("index").id("42").document(Map.of("text", "hello netty"))) //
+				.as(StepVerifier::create) //
+				.assertNext(response -> assertThat(response.id()).isEqualTo("42")) //
+				.verifyComplete();
+
+		wireMock.verify(putRequestedFor(urlEqualTo("/prefix/index/_doc/42")) //
+				.withHeader("Authorization", matching("Basic .*")) //
+				.withHeader("def1", equalTo("def1-1")) //
+				.withHeader("supplied", equalTo("val0")) //
+				.withHeader("X-SpringDataElasticsearch-Client", equalTo(ElasticsearchClients.REACTIVE_CLIENT)) //
+				.withHeader("Content-Type", containing("application/vnd.elasticsearch+json")) //
+				.withRequestBody(equalToJson("""
+						{
+						  "text": "hello netty"
+						}
+						""")));
+	}
+
+	@Test
+	@DisplayName("should send bulk request bodies with their length")
+	void shouldSendBulkRequestBodiesWithTheirLength() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody("""
+						{
+						  "took": 1,
+						  "errors": false,
+						  "items": []
+						}
+						""")));
+
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(configuration(wireMock.getPort()));
+
+		client.bulk(b -> b //
+				.operations(o -> o.index(i -> i.index("index").id("1").document(Map.of("text", "one")))) //
+				.operations(o -> o.index(i -> i.index("index").id("2").document(Map.of("text", "two"))))) //
+				.as(StepVerifier::create) //
+				.assertNext(response -> assertThat(response.errors()).isFalse()) //
+				.verifyComplete();
+
+		var requests = wireMock.findAll(postRequestedFor(urlPathEqualTo("/_bulk")));
+		assertThat(requests).hasSize(1);
+		String body = requests.get(0).getBodyAsString();
+		assertThat(requests.get(0).getHeader("Content-Length")).isEqualTo(String.valueOf(body.length()));
+		assertThat(body.split("\n")).containsExactly( //
+				"{\"index\":{\"_id\":\"1\",\"_index\":\"index\"}}", //
+				"{\"text\":\"one\"}", //
+				"{\"index\":{\"_id\":\"2\",\"_index\":\"index\"}}", //
+				"{\"text\":\"two\"}");
+	}
+
+	@Test
+	@DisplayName("should complete the responses on the event loop")
+	void shouldCompleteTheResponsesOnTheEventLoop() {
+
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(configuration(wireMock.getPort()));
+
+		client.ping() //
+				.map(response -> Thread.currentThread().getName()) //
+				.as(StepVerifier::create) //
+				.assertNext(threadName -> assertThat(threadName).startsWith("reactor-http")) //
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("should send the request to the next node when a node cannot be reached")
+	void shouldSendTheRequestToTheNextNodeWhenANodeCannotBeReached() throws Exception {
+
+		int stoppedPort;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			stoppedPort = socket.getLocalPort();
+		}
+
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + stoppedPort, "localhost:" + wireMock.getPort()) //
+				.withTransportType(TransportType.REACTOR_NETTY) //
+				.build());
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(client.ping().map(response -> response.value()).block()).isTrue();
+		}
+
+		wireMock.verify(4, headRequestedFor(urlEqualTo("/")));
+	}
+
+	@Test
+	@DisplayName("should be usable from the imperative client")
+	void shouldBeUsableFromTheImperativeClient() throws Exception {
+
+		ElasticsearchClient client = ElasticsearchClients.createImperative(configuration(wireMock.getPort()));
+
+		assertThat(Mono.fromCallable(() -> client.ping().value()).block()).isTrue();
+		wireMock.verify(headRequestedFor(urlEqualTo("/")) //
+				.withHeader("X-SpringDataElasticsearch-Client", equalTo(ElasticsearchClients.IMPERATIVE_CLIENT)));
+	}
+
+	private static ClientConfiguration configuration(int port) {
+		return ClientConfiguration.builder() //
+				.connectedTo("localhost:" + port) //
+				.withTransportType(TransportType.REACTOR_NETTY) //
+				.build();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class NettyConfig extends ReactiveElasticsearchConfiguration {
+
+		static final AtomicInteger clientConfigurations = new AtomicInteger();
+
+		@Override
+		public ClientConfiguration clientConfiguration() {
+
+			clientConfigurations.incrementAndGet();
+			return ClientConfiguration.builder() //
+					.connectedTo("localhost:" + wireMock.getPort()) //
+					.withTransportType(TransportType.REACTOR_NETTY) //
+					.build();
+		}
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchC
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
 import org.springframework.data.elasticsearch.core.query.DocValueField;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.lang.Nullable;
 
@@ -72,6 +73,27 @@ class RequestConverterTest {
 		assertThat(fieldAndFormats.get(1).format()).isEqualTo("format2");
 	}
 
+	@Test
+	@DisplayName("should write the same document source when streaming entity writes")
+	void shouldWriteTheSameDocumentSourceWhenStreamingEntityWrites() {
+
+		var entity = new SampleEntity();
+		entity.id = "42";
+		entity.text = "some text";
+		var indexQuery = new IndexQueryBuilder().withObject(entity).build();
+		var indexCoordinates = IndexCoordinates.of("foo");
+
+		var expected = JsonUtils.toJson(requestConverter.documentIndexRequest(indexQuery, indexCoordinates, null).document(),
+				jsonpMapper);
+
+		var streamingRequestConverter = new RequestConverter(converter, jsonpMapper);
+		streamingRequestConverter.setStreamingEntityWrites(true);
+		var indexRequest = streamingRequestConverter.documentIndexRequest(indexQuery, indexCoordinates, null);
+
+		assertThat(indexRequest.document()).isInstanceOf(EntityJsonpSerializable.class);
+		assertThat(JsonUtils.toJson(indexRequest.document(), jsonpMapper)).isEqualTo(expected);
+	}
+
 	@Document(indexName = "does-not-matter")
 	static class SampleEntity {
 		@Nullable
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.*;
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.elasticsearch.client.ResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration.TransportType;
+import org.springframework.data.elasticsearch.client.RetryPolicy;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Tests for the retries of a {@link RetryPolicy}.
+ */
+@SuppressWarnings("UastIncorrectHttpHeaderInspection")
+public class RetryingHttpClientWiremockTests {
+
+	private static final String JSON_CONTENT_TYPE = "application/vnd.elasticsearch+json;compatible-with=8";
+	private static final String SEARCH_RESPONSE = """
+			{
+			  "took": 1,
+			  "timed_out": false,
+			  "_shards": {
+			    "total": 1,
+			    "successful": 1,
+			    "skipped": 0,
+			    "failed": 0
+			  },
+			  "hits": {
+			    "total": {
+			      "value": 0,
+			      "relation": "eq"
+			    },
+			    "hits": []
+			  }
+			}
+			""";
+	private static final String INDEX_RESPONSE = """
+			{
+			  "_index": "index",
+			  "_id": "42",
+			  "_version": 1,
+			  "result": "created",
+			  "_shards": {
+			    "total": 2,
+			    "successful": 1,
+			    "failed": 0
+			  },
+			  "_seq_no": 0,
+			  "_primary_term": 1
+			}
+			""";
+	private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder() //
+			.withMaxAttempts(3) //
+			.withBackoff(Duration.ofMillis(10), Duration.ofMillis(50), 2) //
+			.build();
+
+	@RegisterExtension static WireMockExtension wireMock = WireMockExtension.newInstance()
+			.options(wireMockConfig()
+					.dynamicPort()
+					// needed, otherwise Wiremock goes to test/resources/mappings
+					.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+			.build();
+
+	@BeforeEach
+	void setUp() {
+		wireMock.stubFor(head(urlPathMatching(".*/")).willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch")));
+	}
+
+	@Test
+	@DisplayName("should retry a search that was rejected with 429")
+	void shouldRetryASearchThatWasRejectedWith429() throws Exception {
+
+		stubFailingOnce(post(urlPathEqualTo("/index/_search")), 429, SEARCH_RESPONSE);
+		ClientConfiguration clientConfiguration = clientConfiguration(TransportType.REST_CLIENT);
+		ElasticsearchClient client = ElasticsearchClients.createImperative(clientConfiguration);
+
+		var response = client.search(s -> s.index("index"), Object.class);
+
+		assertThat(response.hits().hits()).isEmpty();
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/index/_search")));
+		assertThat(clientConfiguration.getClientMetrics().getRetries()).isEqualTo(1);
+		assertThat(clientConfiguration.getClientMetrics().getRetriesExhausted()).isZero();
+	}
+
+	@Test
+	@DisplayName("should retry an asynchronous search that was rejected with 429")
+	void shouldRetryAnAsynchronousSearchThatWasRejectedWith429() {
+
+		stubFailingOnce(post(urlPathEqualTo("/index/_search")), 429, SEARCH_RESPONSE);
+		ClientConfiguration clientConfiguration = clientConfiguration(TransportType.REST_CLIENT);
+		ReactiveElasticsearchClient client = ElasticsearchClients.createReactive(clientConfiguration);
+
+		client.search(s -> s.index("index"), Object.class) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(response -> assertThat(response.hits().hits()).isEmpty()) //
+				.verifyComplete();
+
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/index/_search")));
+		assertThat(clientConfiguration.getClientMetrics().getRetries()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should retry an index request with id that was answered with 503")
+	void shouldRetryAnIndexRequestWithIdThatWasAnsweredWith503() throws Exception {
+
+		stubFailingOnce(put(urlPathEqualTo("/index/_doc/42")), 503, INDEX_RESPONSE);
+		ClientConfiguration clientConfiguration = clientConfiguration(TransportType.JDK_HTTP_CLIENT);
+		ElasticsearchClient client = ElasticsearchClients.createImperative(clientConfiguration);
+
+		var response = client.index(i -> i.index("index").id("42").document(Map.of("text", "retried")));
+
+		assertThat(response.id()).isEqualTo("42");
+		wireMock.verify(2, putRequestedFor(urlPathEqualTo("/index/_doc/42")) //
+				.withRequestBody(equalToJson("""
+						{
+						  "text": "retried"
+						}
+						""")));
+		assertThat(clientConfiguration.getClientMetrics().getRetries()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should not retry an index request without id")
+	void shouldNotRetryAnIndexRequestWithoutId() {
+
+		stubFailingOnce(post(urlPathEqualTo("/index/_doc")), 429, INDEX_RESPONSE);
+		ClientConfiguration clientConfiguration = clientConfiguration(TransportType.REST_CLIENT);
+		ElasticsearchClient client = ElasticsearchClients.createImperative(clientConfiguration);
+
+		assertThatThrownBy(() -> client.index(i -> i.index("index").document(Map.of("text", "not retried"))))
+				.isInstanceOf(ResponseException.class);
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/index/_doc")));
+		assertThat(clientConfiguration.getClientMetrics().getRetries()).isZero();
+	}
+
+	@Test
+	@DisplayName("should give up after the maximum number of attempts")
+	void shouldGiveUpAfterTheMaximumNumberOfAttempts() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/index/_search")).willReturn(aResponse() //
+				.withStatus(429) //
+				.withHeader("X-elastic-product", "Elasticsearch")));
+		ClientConfiguration clientConfiguration = clientConfiguration(TransportType.REST_CLIENT);
+		ElasticsearchClient client = ElasticsearchClients.createImperative(clientConfiguration);
+
+		assertThatThrownBy(() -> client.search(s -> s.index("index"), Object.class))
+				.isInstanceOf(ResponseException.class);
+
+		wireMock.verify(3, postRequestedFor(urlPathEqualTo("/index/_search")));
+		assertThat(clientConfiguration.getClientMetrics().getRetries()).isEqualTo(2);
+		assertThat(clientConfiguration.getClientMetrics().getRetriesExhausted()).isEqualTo(1);
+	}
+
+	private static ClientConfiguration clientConfiguration(TransportType transportType) {
+		return ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withTransportType(transportType) //
+				.withRetryPolicy(RETRY_POLICY) //
+				.build();
+	}
+
+	private static void stubFailingOnce(MappingBuilder request, int status, String body) {
+
+		wireMock.stubFor(request.inScenario("retry").whenScenarioStateIs(STARTED).willSetStateTo("failed")
+				.willReturn(aResponse() //
+						.withStatus(status) //
+						.withHeader("X-elastic-product", "Elasticsearch")));
+		wireMock.stubFor(request.inScenario("retry").whenScenarioStateIs("failed").willReturn(aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("Content-Type", JSON_CONTENT_TYPE) //
+				.withBody(body)));
+	}
+}
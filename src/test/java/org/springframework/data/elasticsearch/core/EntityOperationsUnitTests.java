@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
@@ -171,6 +172,68 @@ class EntityOperationsUnitTests {
 		softly.assertAll();
 	}
 
+	@Test
+	@DisplayName("should update indexed information of a sub class with the cached properties")
+	void shouldUpdateIndexedInformationOfASubClassWithTheCachedProperties() {
+
+		var indexedObjectInformation = new IndexedObjectInformation(
+				"id-42",
+				"index-42",
+				1L,
+				2L,
+				3L);
+		var routingResolver = new DefaultRoutingResolver(mappingContext);
+
+		// caches the properties of the super class first
+		entityOperations.updateIndexedObject(new EntityFromClass(), indexedObjectInformation, elasticsearchConverter,
+				routingResolver);
+
+		var cached = entityOperations.updateIndexedObject(subClassEntity(), indexedObjectInformation,
+				elasticsearchConverter, routingResolver);
+		var uncached = new EntityOperations(mappingContext).updateIndexedObject(subClassEntity(),
+				indexedObjectInformation, elasticsearchConverter, routingResolver);
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(cached.getId()).isEqualTo(indexedObjectInformation.id());
+		softly.assertThat(cached.getSeqNoPrimaryTerm().sequenceNumber()).isEqualTo(indexedObjectInformation.seqNo());
+		softly.assertThat(cached.getSeqNoPrimaryTerm().primaryTerm()).isEqualTo(indexedObjectInformation.primaryTerm());
+		softly.assertThat(cached.getVersion()).isEqualTo(indexedObjectInformation.version());
+		softly.assertThat(cached.getIndexName()).isEqualTo(indexedObjectInformation.index());
+		softly.assertThat(cached.getTransientText()).isEqualTo("transient");
+		softly.assertThat(cached).usingRecursiveComparison().isEqualTo(uncached);
+		softly.assertAll();
+	}
+
+	@Test
+	@DisplayName("should not update an id property that is not a String")
+	void shouldNotUpdateAnIdPropertyThatIsNotAString() {
+
+		var indexedObjectInformation = new IndexedObjectInformation(
+				"42",
+				"index-42",
+				null,
+				null,
+				3L);
+		var routingResolver = new DefaultRoutingResolver(mappingContext);
+
+		var first = entityOperations.updateIndexedObject(new EntityWithLongId(), indexedObjectInformation,
+				elasticsearchConverter, routingResolver);
+		var cached = entityOperations.updateIndexedObject(new EntityWithLongId(), indexedObjectInformation,
+				elasticsearchConverter, routingResolver);
+
+		assertThat(first.getId()).isNull();
+		assertThat(first.getVersion()).isEqualTo(3L);
+		assertThat(cached).usingRecursiveComparison().isEqualTo(first);
+	}
+
+	private static EntityFromSubClass subClassEntity() {
+
+		var entity = new EntityFromSubClass();
+		entity.setText("some text");
+		entity.setTransientText("transient");
+		return entity;
+	}
+
 	@Document(indexName = "entity-operations-test")
 	@Routing("routing")
 	static class EntityWithRouting {
@@ -290,6 +353,46 @@ class EntityOperationsUnitTests {
 		}
 	}
 
+	static class EntityFromSubClass extends EntityFromClass {
+		@Transient
+		@Nullable private String transientText;
+
+		@Nullable
+		public String getTransientText() {
+			return transientText;
+		}
+
+		public void setTransientText(@Nullable String transientText) {
+			this.transientText = transientText;
+		}
+	}
+
+	@Document(indexName = "entity-operations-test")
+	static class EntityWithLongId {
+		@Id
+		@Nullable private Long id;
+		@Version
+		@Nullable private Long version;
+
+		@Nullable
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(@Nullable Long id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public Long getVersion() {
+			return version;
+		}
+
+		public void setVersion(@Nullable Long version) {
+			this.version = version;
+		}
+	}
+
 	@Document(indexName = "entity-operations-test")
 	record EntityFromRecord(
 			@Id @Nullable String id,
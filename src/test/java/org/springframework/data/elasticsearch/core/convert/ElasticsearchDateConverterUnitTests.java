@@ -6,19 +6,25 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Peter-Josef Meisch
@@ -418,6 +424,110 @@ class ElasticsearchDateConverterUnitTests {
 		check(ElasticsearchDateConverter.of("basic_date_time ||invalid-pattern"), LocalDateTime.class);
 	}
 
+	@ParameterizedTest
+	@EnumSource(value = DateFormat.class, names = { "date_optional_time", "strict_date_optional_time", "basic_date_time" })
+	@DisplayName("should format and parse like the pattern based formatter")
+	void shouldFormatAndParseLikeThePatternBasedFormatter(DateFormat dateFormat) {
+
+		var isoDateFormatter = new ElasticsearchDateConverter.IsoDateFormatter(dateFormat.getPattern(),
+				dateFormat == DateFormat.basic_date_time);
+		var patternDateFormatter = new ElasticsearchDateConverter.PatternDateFormatter(
+				DateTimeFormatter.ofPattern(dateFormat.getPattern()));
+		var random = new Random(42);
+		List<Class<? extends TemporalAccessor>> types = List.of(Instant.class, LocalDate.class, LocalDateTime.class,
+				OffsetDateTime.class, ZonedDateTime.class, YearMonth.class);
+
+		for (int i = 0; i < 2_000; i++) {
+			// years from 1 to 11000, offsets including ones with seconds
+			Instant instant = Instant.ofEpochMilli(random.nextLong(-62_000_000_000_000L, 285_000_000_000_000L));
+			int offsetSeconds = random.nextInt(-18 * 3600, 18 * 3600 + 1);
+			ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextBoolean() ? offsetSeconds / 900 * 900 : offsetSeconds);
+			var offsetDateTime = OffsetDateTime.ofInstant(instant, offset);
+
+			for (TemporalAccessor accessor : List.of(instant, offsetDateTime, offsetDateTime.atZoneSameInstant(offset),
+					offsetDateTime.toLocalDateTime(), offsetDateTime.toLocalDate())) {
+
+				String expected = formatOrNull(patternDateFormatter, accessor);
+				assertThat(formatOrNull(isoDateFormatter, accessor)).isEqualTo(expected);
+
+				if (expected != null) {
+					for (Class<? extends TemporalAccessor> type : types) {
+						assertThat(parseOrNull(isoDateFormatter, expected, type))
+								.isEqualTo(parseOrNull(patternDateFormatter, expected, type));
+					}
+				}
+			}
+		}
+
+		for (String input : List.of("2020-02-30", "2020-02-30T12:00:00.000Z", "2020-01-02T24:00:00.000Z",
+				"2020-01-02T03:04:05.006+01:00:30", "2020-01-02T03:04:05Z", "+12020-01-02", "20200102T030405.006-05:30",
+				"20200102T030405.006")) {
+			for (Class<? extends TemporalAccessor> type : types) {
+				assertThat(parseOrNull(isoDateFormatter, input, type))
+						.isEqualTo(parseOrNull(patternDateFormatter, input, type));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("should convert legacy dates with the built-in formats")
+	void shouldConvertLegacyDatesWithTheBuiltInFormats() {
+
+		Date date = new Date(1_577_934_245_006L);
+
+		assertThat(ElasticsearchDateConverter.of(DateFormat.date_optional_time).format(date))
+				.isEqualTo("2020-01-02T03:04:05.006Z");
+		assertThat(ElasticsearchDateConverter.of(DateFormat.basic_date_time).format(date))
+				.isEqualTo("20200102T030405.006Z");
+		assertThat(ElasticsearchDateConverter.of(DateFormat.epoch_second).format(date)).isEqualTo("1577934245.006");
+		assertThat(ElasticsearchDateConverter.of(DateFormat.date_optional_time).parse("2020-01-02T04:04:05.006+01:00"))
+				.isEqualTo(date);
+		assertThat(ElasticsearchDateConverter.of(DateFormat.basic_date_time).parse("20200102T030405.006Z"))
+				.isEqualTo(date);
+		assertThat(ElasticsearchDateConverter.of(DateFormat.epoch_millis).parse("1577934245006")).isEqualTo(date);
+	}
+
+	@Test
+	@DisplayName("should detect inputs that cannot be parsed")
+	void shouldDetectInputsThatCannotBeParsed() {
+
+		var epochMillis = ElasticsearchDateConverter.of(DateFormat.epoch_millis);
+		var epochSecond = ElasticsearchDateConverter.of(DateFormat.epoch_second);
+		var dateOptionalTime = ElasticsearchDateConverter.of(DateFormat.date_optional_time);
+		var basicDateTime = ElasticsearchDateConverter.of(DateFormat.basic_date_time);
+
+		assertThat(epochMillis.mayParse("-1577934245006")).isTrue();
+		assertThat(epochMillis.mayParse("1577934245.006")).isFalse();
+		assertThat(epochMillis.mayParse("2020-01-02")).isFalse();
+		assertThat(epochSecond.mayParse("1.5e-3")).isTrue();
+		assertThat(epochSecond.mayParse("2020-01-02")).isFalse();
+		assertThat(epochSecond.mayParse("20200102T030405.006Z")).isFalse();
+		assertThat(dateOptionalTime.mayParse("2020-01-02")).isTrue();
+		assertThat(dateOptionalTime.mayParse("1577934245006")).isFalse();
+		assertThat(basicDateTime.mayParse("20200102T030405.006Z")).isTrue();
+		assertThat(basicDateTime.mayParse("1577934245006")).isFalse();
+		assertThat(ElasticsearchDateConverter.of("dd.MM.uuuu").mayParse("1577934245006")).isTrue();
+	}
+
+	@Nullable
+	private static String formatOrNull(DateFormatter dateFormatter, TemporalAccessor accessor) {
+		try {
+			return dateFormatter.format(accessor);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static Object parseOrNull(DateFormatter dateFormatter, String input,
+			Class<? extends TemporalAccessor> type) {
+		try {
+			return dateFormatter.parse(input, type);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
 	private <T extends TemporalAccessor> void check(ElasticsearchDateConverter converter, Class<T> type) {
 
 		String formatted = converter.format(zdt);
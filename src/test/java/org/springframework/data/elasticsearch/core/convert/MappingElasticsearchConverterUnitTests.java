@@ -19,6 +19,8 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -51,6 +53,7 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.GeoPointField;
 import org.springframework.data.elasticsearch.annotations.ValueConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.RawJson;
 import org.springframework.data.elasticsearch.core.geo.GeoJsonEntity;
 import org.springframework.data.elasticsearch.core.geo.GeoJsonGeometryCollection;
 import org.springframework.data.elasticsearch.core.geo.GeoJsonLineString;
@@ -74,6 +77,12 @@ import org.springframework.data.geo.Polygon;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 /**
  * Unit tests for {@link MappingElasticsearchConverter}.
  *
@@ -1488,6 +1497,340 @@ public class MappingElasticsearchConverterUnitTests {
 
 	}
 
+	@Nested
+	class StreamingWriteTests {
+
+		private final ObjectMapper nonNullObjectMapper = new ObjectMapper()
+				.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		private final ObjectMapper alwaysObjectMapper = new ObjectMapper()
+				.setSerializationInclusion(JsonInclude.Include.ALWAYS);
+
+		@Test
+		@DisplayName("should stream entity with nested entities, collections and maps like the document")
+		void shouldStreamEntityWithNestedEntitiesCollectionsAndMapsLikeTheDocument() throws IOException {
+
+			Person person = new Person();
+			person.setId("sarah");
+			person.setName("Sarah Connor");
+			person.setBirthDate(LocalDate.of(1965, 5, 13));
+			person.setGender(Gender.MAN);
+			person.setAddress(observatoryRoad);
+			person.setCoWorkers(Arrays.asList(kyleReese, t800));
+			person.setInventoryList(Arrays.asList(gun, grenade, rifle, shotGun));
+			Map<String, Inventory> inventoryMap = new LinkedHashMap<>();
+			inventoryMap.put("glock19", gun);
+			inventoryMap.put("shotgun", shotGun);
+			person.setInventoryMap(inventoryMap);
+			person.setShippingAddresses(singletonMap("home", observatoryRoad));
+
+			assertThatStreamedJsonIsEqualToDocumentJson(person);
+		}
+
+		@Test
+		@DisplayName("should stream null values like the document")
+		void shouldStreamNullValuesLikeTheDocument() throws IOException {
+
+			EntityWithNullField entity = new EntityWithNullField();
+			entity.setId("42");
+
+			assertThatStreamedJsonIsEqualToDocumentJson(entity);
+		}
+
+		@Test
+		@DisplayName("should stream generic objects, lists and maps like the document")
+		void shouldStreamGenericObjectsListsAndMapsLikeTheDocument() throws IOException {
+
+			Skynet skynet = new Skynet();
+			skynet.setObject(t800);
+			skynet.setObjectList(Arrays.asList(t800, gun, null, Arrays.asList("one", 2), singletonMap("key", rifle)));
+			Map<String, Object> objectMap = new LinkedHashMap<>();
+			objectMap.put("inventory", gun);
+			objectMap.put("nothing", null);
+			objectMap.put("numbers", new int[] { 1, 2, 3 });
+			objectMap.put("gender", Gender.MACHINE);
+			skynet.setObjectMap(objectMap);
+
+			assertThatStreamedJsonIsEqualToDocumentJson(skynet);
+		}
+
+		@Test
+		@DisplayName("should stream properties with value converters like the document")
+		void shouldStreamPropertiesWithValueConvertersLikeTheDocument() throws IOException {
+
+			EntityWithCustomValueConverters entity = new EntityWithCustomValueConverters();
+			entity.setId("42");
+			entity.setFieldWithClassBasedConverter("classbased");
+			entity.setFieldWithEnumBasedConverter("enumbased");
+			entity.setDontConvert("Monty Python's Flying Circus");
+
+			assertThatStreamedJsonIsEqualToDocumentJson(entity);
+		}
+
+		@Test
+		@DisplayName("should stream map and entity with custom converter like the document")
+		void shouldStreamMapAndEntityWithCustomConverterLikeTheDocument() throws IOException {
+
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("name", "Sarah Connor");
+			map.put("age", 42);
+
+			assertThatStreamedJsonIsEqualToDocumentJson(map);
+			assertThatStreamedJsonIsEqualToDocumentJson(shotGun);
+		}
+
+		@Test
+		@DisplayName("should fall back to the document for object mappers that change the output")
+		void shouldFallBackToTheDocumentForObjectMappersThatChangeTheOutput() throws IOException {
+
+			ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+					.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+			assertThat(streamedJson(sarahConnor, objectMapper))
+					.isEqualTo(objectMapper.writeValueAsString(mappingElasticsearchConverter.mapObject(sarahConnor)));
+		}
+
+		private void assertThatStreamedJsonIsEqualToDocumentJson(Object source) throws IOException {
+
+			for (ObjectMapper objectMapper : List.of(nonNullObjectMapper, alwaysObjectMapper)) {
+				String expected = objectMapper.writeValueAsString(mappingElasticsearchConverter.mapObject(source));
+
+				assertThat(streamedJson(source, objectMapper)).isEqualTo(expected);
+			}
+		}
+
+		private String streamedJson(Object source, ObjectMapper objectMapper) throws IOException {
+
+			StringWriter writer = new StringWriter();
+
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+				mappingElasticsearchConverter.write(source, generator);
+			}
+
+			return writer.toString();
+		}
+	}
+
+	@Nested
+	class SourceReadTests {
+
+		private final ObjectMapper objectMapper = new ObjectMapper();
+
+		@Test
+		@DisplayName("should read entity from source like from the document")
+		void shouldReadEntityFromSourceLikeFromTheDocument() throws IOException {
+
+			String json = objectMapper.writeValueAsString(mappingElasticsearchConverter.mapObject(sarahConnor));
+
+			Person expected = mappingElasticsearchConverter.read(Person.class, Document.parse(json));
+			Person read = mappingElasticsearchConverter.read(Person.class, readSource(Person.class, json));
+
+			assertThat(read).usingRecursiveComparison().isEqualTo(expected);
+		}
+
+		@Test
+		@DisplayName("should skip unknown fields of final types")
+		void shouldSkipUnknownFieldsOfFinalTypes() throws IOException {
+
+			String json = """
+					{
+					  "label": "Glock 19",
+					  "unknown": {"nested": [1, 2, 3]},
+					  "shotsPerMagazine": 33
+					}
+					""";
+
+			Document document = readSource(Gun.class, json);
+
+			assertThat(document).containsOnlyKeys("label", "shotsPerMagazine");
+			assertThat(mappingElasticsearchConverter.read(Gun.class, document)).isEqualTo(gun);
+		}
+
+		@Test
+		@DisplayName("should skip unknown fields when the type hint is the first field")
+		void shouldSkipUnknownFieldsWhenTheTypeHintIsTheFirstField() throws IOException {
+
+			String json = """
+					{
+					  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$Place",
+					  "name": "Observatory",
+					  "unknown": "value",
+					  "street": "2800 East Observatory Road"
+					}
+					""";
+
+			Document document = readSource(Address.class, json);
+
+			assertThat(document).containsOnlyKeys("_class", "name", "street");
+			assertThat(mappingElasticsearchConverter.read(Address.class, document)).isInstanceOf(Place.class);
+		}
+
+		@Test
+		@DisplayName("should keep unknown fields of types that might be subclassed")
+		void shouldKeepUnknownFieldsOfTypesThatMightBeSubclassed() throws IOException {
+
+			String json = """
+					{
+					  "street": "2800 East Observatory Road",
+					  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$Place",
+					  "name": "Observatory"
+					}
+					""";
+
+			Document document = readSource(Address.class, json);
+
+			assertThat(document).containsOnlyKeys("street", "_class", "name");
+			Address address = mappingElasticsearchConverter.read(Address.class, document);
+			assertThat(address).isInstanceOf(Place.class);
+			assertThat(((Place) address).getName()).isEqualTo("Observatory");
+		}
+
+		@Test
+		@DisplayName("should read complete source for types without entity")
+		void shouldReadCompleteSourceForTypesWithoutEntity() throws IOException {
+
+			String json = """
+					{
+					  "name": "Sarah Connor",
+					  "numbers": [1, 2.5, null, true],
+					  "nested": {"key": "value"}
+					}
+					""";
+
+			assertThat(readSource(Map.class, json)).isEqualTo(Document.parse(json));
+		}
+
+		private Document readSource(Class<?> type, String json) throws IOException {
+
+			Document document = Document.create();
+
+			try (JsonParser parser = objectMapper.createParser(json)) {
+				parser.nextToken();
+				mappingElasticsearchConverter.readSource(type, parser, document);
+			}
+
+			return document;
+		}
+	}
+
+	@Nested
+	class ConversionPlanTests {
+
+		private static final String SUB_ENTITY_JSON = """
+				{
+				  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$PlanSubEntity",
+				  "id": "42",
+				  "base-text": "base",
+				  "converted": "cba",
+				  "nullValue": null
+				}
+				""";
+
+		@Test
+		@DisplayName("should write the same document with the cached plan as with a new one")
+		void shouldWriteTheSameDocumentWithTheCachedPlanAsWithANewOne() throws JSONException {
+
+			MappingElasticsearchConverter converter = newConverter();
+			// caches the plan of the super class first
+			converter.write(planBaseEntity(), Document.create());
+
+			Document first = Document.create();
+			converter.write(planSubEntity(), first);
+			Document cached = Document.create();
+			converter.write(planSubEntity(), cached);
+			Document uncached = Document.create();
+			newConverter().write(planSubEntity(), uncached);
+
+			assertEquals(SUB_ENTITY_JSON, first.toJson(), true);
+			assertEquals(uncached.toJson(), cached.toJson(), true);
+			assertEquals(first.toJson(), cached.toJson(), true);
+		}
+
+		@Test
+		@DisplayName("should not write the properties of the sub class with the plan of the super class")
+		void shouldNotWriteThePropertiesOfTheSubClassWithThePlanOfTheSuperClass() throws JSONException {
+
+			MappingElasticsearchConverter converter = newConverter();
+			converter.write(planSubEntity(), Document.create());
+
+			Document document = Document.create();
+			converter.write(planBaseEntity(), document);
+
+			assertEquals("""
+					{
+					  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$PlanBaseEntity",
+					  "id": "41",
+					  "base-text": "base"
+					}
+					""", document.toJson(), true);
+		}
+
+		@Test
+		@DisplayName("should read the same entity with the cached plan as with a new one")
+		void shouldReadTheSameEntityWithTheCachedPlanAsWithANewOne() {
+
+			Document document = Document.parse("""
+					{
+					  "_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$PlanSubEntity",
+					  "id": "42",
+					  "base-text": "base",
+					  "transientText": "not read",
+					  "converted": "cba",
+					  "transientSubText": "not read"
+					}
+					""");
+
+			MappingElasticsearchConverter converter = newConverter();
+			converter.read(PlanBaseEntity.class, Document.parse("""
+					{
+					  "id": "41",
+					  "base-text": "base"
+					}
+					"""));
+
+			PlanBaseEntity cached = converter.read(PlanBaseEntity.class, document);
+			PlanBaseEntity uncached = newConverter().read(PlanBaseEntity.class, document);
+
+			assertThat(cached).isInstanceOf(PlanSubEntity.class);
+			PlanSubEntity subEntity = (PlanSubEntity) cached;
+			assertThat(subEntity.getId()).isEqualTo("42");
+			assertThat(subEntity.getBaseText()).isEqualTo("base");
+			assertThat(subEntity.getTransientText()).isNull();
+			assertThat(subEntity.getConverted()).isEqualTo("abc");
+			assertThat(subEntity.getTransientSubText()).isNull();
+			assertThat(cached).usingRecursiveComparison().isEqualTo(uncached);
+		}
+
+		private MappingElasticsearchConverter newConverter() {
+
+			SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+			mappingContext.afterPropertiesSet();
+			MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext,
+					new GenericConversionService());
+			converter.afterPropertiesSet();
+			return converter;
+		}
+
+		private PlanBaseEntity planBaseEntity() {
+
+			PlanBaseEntity entity = new PlanBaseEntity();
+			entity.setId("41");
+			entity.setBaseText("base");
+			entity.setTransientText("transient");
+			return entity;
+		}
+
+		private PlanSubEntity planSubEntity() {
+
+			PlanSubEntity entity = new PlanSubEntity();
+			entity.setId("42");
+			entity.setBaseText("base");
+			entity.setTransientText("transient");
+			entity.setConverted("abc");
+			entity.setTransientSubText("transient");
+			return entity;
+		}
+	}
+
 	@Test // #1454
 	@DisplayName("should write type hints if configured")
 	void shouldWriteTypeHintsIfConfigured() throws JSONException {
@@ -2092,6 +2435,24 @@ public class MappingElasticsearchConverterUnitTests {
 				.hasCauseInstanceOf(ConversionException.class);
 	}
 
+	@Test
+	@DisplayName("should read RawJson from a document")
+	void shouldReadRawJsonFromADocument() {
+
+		Document document = Document.parse("""
+				{
+				  "name": "value"
+				}""");
+
+		assertThat(mappingElasticsearchConverter.read(RawJson.class, document).toString())
+				.isEqualTo("{\"name\":\"value\"}");
+
+		RawJson rawSource = RawJson.of("{ \"name\" : \"value\" }");
+		document.setRawSource(rawSource);
+
+		assertThat(mappingElasticsearchConverter.read(RawJson.class, document)).isSameAs(rawSource);
+	}
+
 	// region entities
 	public static class Sample {
 		@Nullable public @ReadOnlyProperty String readOnly;
@@ -2871,6 +3232,78 @@ public class MappingElasticsearchConverterUnitTests {
 		}
 	}
 
+	static class PlanBaseEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(name = "base-text") private String baseText;
+		@Nullable
+		@Transient private String transientText;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getBaseText() {
+			return baseText;
+		}
+
+		public void setBaseText(@Nullable String baseText) {
+			this.baseText = baseText;
+		}
+
+		@Nullable
+		public String getTransientText() {
+			return transientText;
+		}
+
+		public void setTransientText(@Nullable String transientText) {
+			this.transientText = transientText;
+		}
+	}
+
+	static class PlanSubEntity extends PlanBaseEntity {
+		@Nullable
+		@ValueConverter(ClassBasedValueConverter.class) private String converted;
+		@Nullable
+		@Transient private String transientSubText;
+		@Nullable
+		@Field(storeNullValue = true) private String nullValue;
+
+		@Nullable
+		public String getConverted() {
+			return converted;
+		}
+
+		public void setConverted(@Nullable String converted) {
+			this.converted = converted;
+		}
+
+		@Nullable
+		public String getTransientSubText() {
+			return transientSubText;
+		}
+
+		public void setTransientSubText(@Nullable String transientSubText) {
+			this.transientSubText = transientSubText;
+		}
+
+		@Nullable
+		public String getNullValue() {
+			return nullValue;
+		}
+
+		public void setNullValue(@Nullable String nullValue) {
+			this.nullValue = nullValue;
+		}
+	}
+
 	private static class ClassBasedValueConverter implements PropertyValueConverter {
 
 		@Override
@@ -23,11 +23,16 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.CountQuery;
 import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -60,6 +65,57 @@ public class ElasticsearchQueryMethodUnitTests {
 		queryMethod(PersonRepository.class, "validCountQueryResult", String.class);
 	}
 
+	@Test
+	@DisplayName("should create source filter for closed interface projection")
+	void shouldCreateSourceFilterForClosedInterfaceProjection() throws Exception {
+
+		var queryMethod = queryMethod(ProjectionRepository.class, "findByName", String.class);
+
+		var sourceFilter = queryMethod.getProjectionSourceFilter(queryMethod.getResultProcessor().getReturnedType());
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).containsExactlyInAnyOrder("name", "address.city");
+	}
+
+	@Test
+	@DisplayName("should map projection source filter to field names")
+	void shouldMapProjectionSourceFilterToFieldNames() throws Exception {
+
+		var queryMethod = queryMethod(ProjectionRepository.class, "findByName", String.class);
+		var query = new CriteriaQuery(new Criteria());
+		query.addSourceFilter(
+				queryMethod.getProjectionSourceFilter(queryMethod.getResultProcessor().getReturnedType()));
+
+		new MappingElasticsearchConverter(mappingContext).updateQuery(query, ProjectedPerson.class);
+
+		assertThat(query.getSourceFilter().getIncludes()).containsExactlyInAnyOrder("last-name", "address.city-name");
+	}
+
+	@Test
+	@DisplayName("should create source filter for DTO projection")
+	void shouldCreateSourceFilterForDtoProjection() throws Exception {
+
+		var queryMethod = queryMethod(ProjectionRepository.class, "findDtoByName", String.class);
+
+		var sourceFilter = queryMethod.getProjectionSourceFilter(queryMethod.getResultProcessor().getReturnedType());
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).containsExactly("name");
+	}
+
+	@Test
+	@DisplayName("should not create source filter for open projection or entity")
+	void shouldNotCreateSourceFilterForOpenProjectionOrEntity() throws Exception {
+
+		var openQueryMethod = queryMethod(ProjectionRepository.class, "findOpenByName", String.class);
+		var entityQueryMethod = queryMethod(ProjectionRepository.class, "findEntityByName", String.class);
+
+		assertThat(openQueryMethod.getProjectionSourceFilter(openQueryMethod.getResultProcessor().getReturnedType()))
+				.isNull();
+		assertThat(entityQueryMethod.getProjectionSourceFilter(entityQueryMethod.getResultProcessor().getReturnedType()))
+				.isNull();
+	}
+
 	private ElasticsearchQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters)
 			throws Exception {
 
@@ -110,4 +166,102 @@ public class ElasticsearchQueryMethodUnitTests {
 			this.firstName = firstName;
 		}
 	}
+
+	interface ProjectionRepository extends Repository<ProjectedPerson, String> {
+		List<NameAndCity> findByName(String name);
+
+		List<NameOnly> findDtoByName(String name);
+
+		List<OpenProjection> findOpenByName(String name);
+
+		List<ProjectedPerson> findEntityByName(String name);
+	}
+
+	interface NameAndCity {
+		String getName();
+
+		CityOnly getAddress();
+	}
+
+	interface CityOnly {
+		String getCity();
+	}
+
+	interface OpenProjection {
+		@Value("#{target.name + ' ' + target.address.city}")
+		String getFullName();
+	}
+
+	record NameOnly(String name) {
+	}
+
+	@Document(indexName = "query-method-unit-tests")
+	static class ProjectedPerson {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(name = "last-name") private String name;
+		@Nullable private String description;
+		@Nullable private Address address;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getName() {
+			return name;
+		}
+
+		public void setName(@Nullable String name) {
+			this.name = name;
+		}
+
+		@Nullable
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(@Nullable String description) {
+			this.description = description;
+		}
+
+		@Nullable
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(@Nullable Address address) {
+			this.address = address;
+		}
+	}
+
+	static class Address {
+		@Nullable
+		@Field(name = "city-name") private String city;
+		@Nullable private String street;
+
+		@Nullable
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(@Nullable String city) {
+			this.city = city;
+		}
+
+		@Nullable
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(@Nullable String street) {
+			this.street = street;
+		}
+	}
 }
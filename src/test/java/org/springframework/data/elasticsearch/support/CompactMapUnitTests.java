@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompactMapUnitTests {
+
+	@Test
+	@DisplayName("should behave like a LinkedHashMap")
+	void shouldBehaveLikeALinkedHashMap() {
+
+		Map<String, Object> expected = new LinkedHashMap<>();
+		CompactMap<Object> map = new CompactMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 10_000; i++) {
+			String key = "key-" + random.nextInt(40);
+
+			switch (random.nextInt(4)) {
+				case 0 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+				case 1 -> assertThat(map.get(key)).isEqualTo(expected.get(key));
+				default -> assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+			}
+
+			assertThat(map.size()).isEqualTo(expected.size());
+		}
+
+		assertThat(map).isEqualTo(expected);
+		assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+		assertThat(map.keySet()).containsExactlyElementsOf(expected.keySet());
+		assertThat(map.values()).containsExactlyElementsOf(expected.values());
+	}
+
+	@Test
+	@DisplayName("should keep insertion order when copied")
+	void shouldKeepInsertionOrderWhenCopied() {
+
+		CompactMap<Object> map = new CompactMap<>();
+		for (int i = 20; i > 0; i--) {
+			map.put("key-" + i, i);
+		}
+
+		CompactMap<Object> copy = new CompactMap<>(map);
+		copy.put("key-0", 0);
+
+		assertThat(copy.keySet()).startsWith("key-20", "key-19").endsWith("key-1", "key-0");
+		assertThat(copy.get("key-7")).isEqualTo(7);
+		assertThat(map).hasSize(20).doesNotContainKey("key-0");
+	}
+
+	@Test
+	@DisplayName("should remove and update entries while iterating")
+	void shouldRemoveAndUpdateEntriesWhileIterating() {
+
+		CompactMap<Object> map = new CompactMap<>();
+		for (int i = 0; i < 12; i++) {
+			map.put("key-" + i, i);
+		}
+
+		Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Object> entry = iterator.next();
+
+			if ((Integer) entry.getValue() % 2 == 0) {
+				iterator.remove();
+			} else {
+				entry.setValue(-(Integer) entry.getValue());
+			}
+		}
+
+		assertThat(map).hasSize(6).containsEntry("key-1", -1).containsEntry("key-11", -11).doesNotContainKey("key-10");
+	}
+
+	@Test
+	@DisplayName("should detect concurrent modifications")
+	void shouldDetectConcurrentModifications() {
+
+		CompactMap<Object> map = new CompactMap<>();
+		map.put("one", 1);
+		map.put("two", 2);
+
+		assertThatThrownBy(() -> {
+			for (String key : map.keySet()) {
+				map.put(key + "-copy", 0);
+			}
+		}).isInstanceOf(ConcurrentModificationException.class);
+	}
+}